@@ -0,0 +1,33 @@
+package com.salmalteam.salmal.application.auth;
+
+import com.salmalteam.salmal.infra.auth.JwtProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TokenExtractorBenchmark {
+
+    private TokenExtractor tokenExtractor;
+    private String authorizationHeader;
+
+    @Setup
+    public void setUp() {
+        final TokenProvider tokenProvider = new JwtProvider(10_800_000L, 1_209_600_000L, "K".repeat(64));
+        tokenExtractor = new TokenExtractor(tokenProvider);
+        authorizationHeader = tokenProvider.getTokenType() + tokenProvider.createAccessToken(32L);
+    }
+
+    @Benchmark
+    public String extractAccessTokenFromHeader() {
+        return tokenExtractor.extractAccessTokenFromHeader(authorizationHeader);
+    }
+}
@@ -0,0 +1,122 @@
+package com.salmalteam.salmal.domain;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+
+/**
+ * 댓글 좋아요처럼 한 트랜잭션에서 여러 행을 저장할 때 IDENTITY 와 TimeOrderedIdGenerator 의 처리량을 비교한다.
+ * IDENTITY 는 persist 마다 INSERT 를 바로 실행하고, TimeOrderedIdGenerator 는 batch_size 만큼 묶어서 실행한다.
+ * 네트워크 왕복이 없는 H2 인메모리 DB 기준이므로 실제 MySQL 에서의 차이는 이보다 크다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class IdGenerationBenchmark {
+
+    @Param({"100", "1000"})
+    private int rows;
+
+    private SessionFactory sessionFactory;
+
+    @Setup
+    public void setUp() {
+        final StandardServiceRegistry registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.URL, "jdbc:h2:mem:id-generation;MODE=MYSQL;DB_CLOSE_DELAY=-1")
+                .applySetting(AvailableSettings.USER, "sa")
+                .applySetting(AvailableSettings.PASS, "")
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, "100")
+                .applySetting(AvailableSettings.ORDER_INSERTS, "true")
+                .applySetting(TimeOrderedIdGenerator.NODE_ID_SETTING, "0")
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(IdentityLike.class)
+                .addAnnotatedClass(TimeOrderedLike.class)
+                .buildMetadata()
+                .buildSessionFactory();
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public void identity() {
+        insert(IdentityLike::new);
+    }
+
+    @Benchmark
+    public void timeOrdered() {
+        insert(TimeOrderedLike::new);
+    }
+
+    private void insert(final LongFunction<Object> entityFactory) {
+        try (Session session = sessionFactory.openSession()) {
+            final Transaction transaction = session.beginTransaction();
+            for (long i = 0; i < rows; i++) {
+                session.persist(entityFactory.apply(i));
+            }
+            transaction.commit();
+        }
+    }
+
+    @Entity(name = "identity_like")
+    public static class IdentityLike {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+        private Long commentId;
+        private Long likerId;
+
+        protected IdentityLike() {
+        }
+
+        private IdentityLike(final long value) {
+            this.commentId = value;
+            this.likerId = value;
+        }
+    }
+
+    @Entity(name = "time_ordered_like")
+    public static class TimeOrderedLike {
+
+        @Id
+        @GeneratedValue(generator = TimeOrderedIdGenerator.NAME)
+        @GenericGenerator(name = TimeOrderedIdGenerator.NAME, strategy = TimeOrderedIdGenerator.STRATEGY)
+        private Long id;
+        private Long commentId;
+        private Long likerId;
+
+        protected TimeOrderedLike() {
+        }
+
+        private TimeOrderedLike(final long value) {
+            this.commentId = value;
+            this.likerId = value;
+        }
+    }
+}
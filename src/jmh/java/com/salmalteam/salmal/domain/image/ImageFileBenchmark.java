@@ -0,0 +1,46 @@
+package com.salmalteam.salmal.domain.image;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * src/test/resources/testImages 의 샘플 이미지로 Tika MIME 타입 검사를 포함한 ImageFile 생성 비용을 측정한다.
+ * 이미지 경로는 build.gradle 의 jmh 설정에서 benchmark.image-dir 시스템 프로퍼티로 전달한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ImageFileBenchmark {
+
+    private static final String IMAGE_DIR_PROPERTY = "benchmark.image-dir";
+    private static final String DEFAULT_IMAGE_DIR = "src/test/resources/testImages";
+
+    @Param({"testImage.jpg", "testImage.jpeg", "testImage.png"})
+    private String fileName;
+
+    private MockMultipartFile multipartFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        final Path imagePath = Paths.get(System.getProperty(IMAGE_DIR_PROPERTY, DEFAULT_IMAGE_DIR), fileName);
+        multipartFile = new MockMultipartFile("imageFile", fileName, null, Files.readAllBytes(imagePath));
+    }
+
+    @Benchmark
+    public ImageFile of() {
+        return ImageFile.of(multipartFile, "vote");
+    }
+}
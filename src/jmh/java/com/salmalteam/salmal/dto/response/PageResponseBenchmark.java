@@ -0,0 +1,95 @@
+package com.salmalteam.salmal.dto.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.salmalteam.salmal.domain.vote.VoteAuthor;
+import com.salmalteam.salmal.domain.vote.VoteCard;
+import com.salmalteam.salmal.domain.vote.VoteCounter;
+import com.salmalteam.salmal.dto.response.comment.CommentPageResponse;
+import com.salmalteam.salmal.dto.response.comment.CommentResponse;
+import com.salmalteam.salmal.dto.response.vote.VotePageResponse;
+import com.salmalteam.salmal.dto.response.vote.VoteResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 피드, 댓글 목록 응답을 조립하고 직렬화하는 비용을 측정한다.
+ * size 는 클라이언트가 실제로 요청하는 페이지 크기 범위
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PageResponseBenchmark {
+
+    @Param({"10", "20", "50"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<VoteCard> voteCards;
+    private List<VoteAuthor> voteAuthors;
+    private List<VoteCounter> voteCounters;
+    private VotePageResponse votePageResponse;
+    private CommentPageResponse commentPageResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        final LocalDateTime now = LocalDateTime.now();
+
+        voteCards = new ArrayList<>(size);
+        voteAuthors = new ArrayList<>(size);
+        voteCounters = new ArrayList<>(size);
+        final List<CommentResponse> commentResponses = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            voteCards.add(new VoteCard(id, id, "https://salmal.s3.ap-northeast-2.amazonaws.com/vote/" + id + ".jpg", now));
+            voteAuthors.add(new VoteAuthor(id, "nickname" + id, "https://salmal.s3.ap-northeast-2.amazonaws.com/member/" + id + ".jpg"));
+            voteCounters.add(new VoteCounter(id, 12, 30, 10, 40, BigDecimal.valueOf(0.75), BigDecimal.valueOf(0.25)));
+            commentResponses.add(new CommentResponse(id, id, "nickname" + id, "https://salmal.s3.ap-northeast-2.amazonaws.com/member/" + id + ".jpg",
+                    false, 3, 1, "댓글 내용입니다. ".repeat(5), now, now));
+        }
+        votePageResponse = VotePageResponse.of(true, assembleVoteResponses());
+        commentPageResponse = CommentPageResponse.of(true, commentResponses);
+    }
+
+    @Benchmark
+    public VotePageResponse assembleVotePage() {
+        return VotePageResponse.of(true, assembleVoteResponses());
+    }
+
+    @Benchmark
+    public String serializeVotePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(votePageResponse);
+    }
+
+    @Benchmark
+    public String serializeCommentPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(commentPageResponse);
+    }
+
+    /**
+     * 캐시된 투표 정보와 카운터를 합친 뒤 조회한 회원의 상태를 덧씌우는 VoteService 의 목록 조회 흐름
+     */
+    private List<VoteResponse> assembleVoteResponses() {
+        final List<VoteResponse> voteResponses = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final VoteResponse shared = VoteResponse.of(voteCards.get(i), voteAuthors.get(i), voteCounters.get(i));
+            final VoteResponse voteResponse = shared.withViewerStatus(i % 2 == 0, "NONE");
+            voteResponse.applyPendingEvaluation(1, 0);
+            voteResponses.add(voteResponse);
+        }
+        return voteResponses;
+    }
+}
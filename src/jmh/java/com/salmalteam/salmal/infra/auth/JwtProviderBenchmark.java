@@ -0,0 +1,55 @@
+package com.salmalteam.salmal.infra.auth;
+
+import com.salmalteam.salmal.infra.auth.dto.MemberPayLoad;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtProviderBenchmark {
+
+    private static final String SECRET_KEY = "K".repeat(64);
+    private static final long ACCESS_TOKEN_EXPIRY = 10_800_000L;
+    private static final long REFRESH_TOKEN_EXPIRY = 1_209_600_000L;
+    private static final Long MEMBER_ID = 32L;
+
+    private JwtProvider jwtProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtProvider = new JwtProvider(ACCESS_TOKEN_EXPIRY, REFRESH_TOKEN_EXPIRY, SECRET_KEY);
+        accessToken = jwtProvider.createAccessToken(MEMBER_ID);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtProvider.createAccessToken(MEMBER_ID);
+    }
+
+    @Benchmark
+    public MemberPayLoad getPayLoad() {
+        return jwtProvider.getPayLoad(accessToken);
+    }
+
+    @Benchmark
+    public boolean isValidAccessToken() {
+        return jwtProvider.isValidAccessToken(accessToken);
+    }
+
+    /**
+     * AuthInterceptor 가 요청마다 호출하는 경로 (검증 결과 캐시 포함)
+     */
+    @Benchmark
+    public MemberPayLoad parseAccessToken() {
+        return jwtProvider.parseAccessToken(accessToken);
+    }
+}
@@ -0,0 +1,195 @@
+package com.salmalteam.salmal.application;
+
+import com.salmalteam.salmal.domain.image.ImageReferenceRepository;
+import com.salmalteam.salmal.domain.image.OrphanImage;
+import com.salmalteam.salmal.domain.image.OrphanImageRepository;
+import com.salmalteam.salmal.domain.image.StoredImage;
+import com.salmalteam.salmal.domain.member.MemberImage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 더 이상 참조되지 않는 이미지를 스토리지에서 삭제한다.
+ * 삭제 대상은 투표/회원 삭제, 프로필 이미지 변경 시 OrphanImage 로 기록되고, 주기적으로 묶음 단위로 삭제한다.
+ * 기록되지 못한 이미지(업로드 이후 반영 실패 등)는 스토리지 목록과 참조 중인 이미지를 비교하여 찾아낸다.
+ */
+@Slf4j
+@Component
+public class ImageGarbageCollector {
+
+    private static final int BATCH_SIZE = 100;
+    private static final int MAX_ATTEMPTS = 10;
+    private static final Duration MAX_RETRY_DELAY = Duration.ofDays(1);
+    private static final String SLASH = "/";
+
+    private final OrphanImageRepository orphanImageRepository;
+    private final ImageReferenceRepository imageReferenceRepository;
+    private final ImageStorage imageStorage;
+    private final TransactionOperations transactionOperations;
+    private final String bucketPath;
+    private final List<String> imagePaths;
+    private final int maxDeletesPerRun;
+    private final Duration retryDelay;
+    private final Duration reconcileGracePeriod;
+
+    public ImageGarbageCollector(final OrphanImageRepository orphanImageRepository,
+                                 final ImageReferenceRepository imageReferenceRepository,
+                                 final ImageStorage imageStorage,
+                                 final TransactionOperations transactionOperations,
+                                 @Value("${cloud.aws.s3.bucket-path}") final String bucketPath,
+                                 @Value("${image.path.vote}") final String voteImagePath,
+                                 @Value("${image.path.member}") final String memberImagePath,
+                                 @Value("${image.gc.max-deletes-per-run:1000}") final int maxDeletesPerRun,
+                                 @Value("${image.gc.retry-delay:60000}") final long retryDelayMillis,
+                                 @Value("${image.gc.reconcile-grace-period:86400000}") final long reconcileGracePeriodMillis) {
+        this.orphanImageRepository = orphanImageRepository;
+        this.imageReferenceRepository = imageReferenceRepository;
+        this.imageStorage = imageStorage;
+        this.transactionOperations = transactionOperations;
+        this.bucketPath = bucketPath;
+        this.imagePaths = List.of(voteImagePath, memberImagePath);
+        this.maxDeletesPerRun = maxDeletesPerRun;
+        this.retryDelay = Duration.ofMillis(retryDelayMillis);
+        this.reconcileGracePeriod = Duration.ofMillis(reconcileGracePeriodMillis);
+    }
+
+    /**
+     * 현재 트랜잭션과 함께 삭제 대상으로 기록한다. 기본 프로필 이미지는 기록하지 않는다.
+     */
+    public void collect(final String imageUrl) {
+        if (imageUrl == null || imageUrl.equals(MemberImage.getMemberImageUrl())) {
+            return;
+        }
+        orphanImageRepository.save(OrphanImage.of(imageUrl));
+    }
+
+    /**
+     * 한 번에 최대 maxDeletesPerRun 개까지만 삭제하여 스토리지 요청 수를 제한한다.
+     */
+    @Scheduled(fixedDelayString = "${image.gc.delete-interval:60000}",
+            initialDelayString = "${image.gc.delete-interval:60000}")
+    public void deleteOrphanImages() {
+        int deleted = 0;
+        while (deleted < maxDeletesPerRun) {
+            final List<OrphanImage> orphanImages;
+            try {
+                orphanImages = orphanImageRepository.findTop100ByNextAttemptAtLessThanEqualOrderByIdAsc(LocalDateTime.now());
+                if (!orphanImages.isEmpty()) {
+                    delete(orphanImages);
+                }
+            } catch (RuntimeException e) {
+                log.error("고아 이미지 삭제에 실패했습니다.", e);
+                return;
+            }
+            deleted += orphanImages.size();
+            if (orphanImages.size() < BATCH_SIZE) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 삭제 직전에 다시 참조되고 있는지 확인하고, 참조 중인 이미지는 삭제하지 않고 기록만 지운다.
+     * 삭제에 실패한 이미지는 지수적으로 늘어나는 간격으로 재시도한다.
+     */
+    private void delete(final List<OrphanImage> orphanImages) {
+        final List<String> imageUrls = orphanImages.stream()
+                .map(OrphanImage::getImageUrl)
+                .distinct()
+                .collect(Collectors.toList());
+        final Set<String> referenced = new HashSet<>(imageReferenceRepository.findReferencedImageUrls(imageUrls));
+        final Set<String> failed = new HashSet<>(imageStorage.deleteImages(imageUrls.stream()
+                .filter(imageUrl -> !referenced.contains(imageUrl))
+                .collect(Collectors.toList())));
+
+        final List<Long> completedIds = new ArrayList<>();
+        final List<OrphanImage> retries = new ArrayList<>();
+        final LocalDateTime now = LocalDateTime.now();
+        for (OrphanImage orphanImage : orphanImages) {
+            if (!failed.contains(orphanImage.getImageUrl())) {
+                completedIds.add(orphanImage.getId());
+            } else if (orphanImage.getAttempts() + 1 >= MAX_ATTEMPTS) {
+                log.warn("이미지 삭제를 포기합니다. 다음 대사 작업에서 다시 수집됩니다. imageUrl={}", orphanImage.getImageUrl());
+                completedIds.add(orphanImage.getId());
+            } else {
+                orphanImage.retryAt(now.plus(retryDelayOf(orphanImage.getAttempts())));
+                retries.add(orphanImage);
+            }
+        }
+
+        transactionOperations.executeWithoutResult(status -> {
+            if (!completedIds.isEmpty()) {
+                orphanImageRepository.deleteAllByIdIn(completedIds);
+            }
+            orphanImageRepository.saveAll(retries);
+        });
+    }
+
+    private Duration retryDelayOf(final int attempts) {
+        final Duration delay = retryDelay.multipliedBy(1L << Math.min(attempts, 20));
+        return delay.compareTo(MAX_RETRY_DELAY) > 0 ? MAX_RETRY_DELAY : delay;
+    }
+
+    /**
+     * 스토리지의 이미지 중 참조되지 않는 이미지를 삭제 대상으로 기록한다.
+     * 원본과 축소 이미지는 같은 {path}/{uuid}/ 디렉터리에 저장되므로 디렉터리 단위로 참조 여부를 판단하고,
+     * 업로드 직후 아직 URL 이 반영되지 않은 이미지를 지우지 않도록 오래된 이미지만 대상으로 한다.
+     */
+    @Scheduled(fixedDelayString = "${image.gc.reconcile-interval:86400000}",
+            initialDelayString = "${image.gc.reconcile-interval:86400000}")
+    public void reconcile() {
+        try {
+            final Set<String> referencedDirectories = new HashSet<>();
+            imageReferenceRepository.forEachReferencedImageUrl(imageUrl -> directoryOf(imageUrl).ifPresent(referencedDirectories::add));
+
+            final LocalDateTime threshold = LocalDateTime.now().minus(reconcileGracePeriod);
+            for (String imagePath : imagePaths) {
+                imageStorage.scanImages(imagePath, storedImages -> {
+                    final List<OrphanImage> orphanImages = storedImages.stream()
+                            .filter(storedImage -> storedImage.getLastModifiedAt().isBefore(threshold))
+                            .filter(storedImage -> directoryOf(storedImage.getImageUrl())
+                                    .map(directory -> !referencedDirectories.contains(directory))
+                                    .orElse(false))
+                            .map(storedImage -> OrphanImage.of(storedImage.getImageUrl()))
+                            .collect(Collectors.toList());
+                    if (!orphanImages.isEmpty()) {
+                        transactionOperations.executeWithoutResult(status -> orphanImageRepository.saveAll(orphanImages));
+                    }
+                });
+            }
+        } catch (RuntimeException e) {
+            log.error("이미지 대사 작업에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * {bucketPath}{path}/{uuid}/... -> {path}/{uuid}
+     * 디렉터리 없이 저장된 이미지(기본 프로필 이미지 등)는 대상이 아니다.
+     */
+    private Optional<String> directoryOf(final String imageUrl) {
+        if (!imageUrl.startsWith(bucketPath)) {
+            return Optional.empty();
+        }
+        final String key = imageUrl.substring(bucketPath.length());
+        for (String imagePath : imagePaths) {
+            final String prefix = imagePath + SLASH;
+            if (key.startsWith(prefix)) {
+                final int slashIndex = key.indexOf(SLASH, prefix.length());
+                return slashIndex == -1 ? Optional.empty() : Optional.of(key.substring(0, slashIndex));
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,18 @@
+package com.salmalteam.salmal.application;
+
+import com.salmalteam.salmal.domain.image.StoredImage;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface ImageStorage {
+    /**
+     * 이미지와 축소 이미지를 삭제하고, 삭제하지 못한 이미지 URL 을 반환한다.
+     */
+    List<String> deleteImages(List<String> imageUrls);
+
+    /**
+     * path 아래에 저장된 이미지를 페이지 단위로 전달한다.
+     */
+    void scanImages(String path, Consumer<List<StoredImage>> pageConsumer);
+}
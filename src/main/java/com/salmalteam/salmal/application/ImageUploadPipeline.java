@@ -0,0 +1,140 @@
+package com.salmalteam.salmal.application;
+
+import com.salmalteam.salmal.domain.image.ImageFile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 이미지 업로드를 트랜잭션 밖의 전용 스레드에서 수행하고, 업로드 결과만 새로운 트랜잭션으로 반영한다.
+ * S3 업로드가 진행되는 동안 DB 커넥션을 점유하지 않기 위함
+ * 결과 반영은 afterCommit 처럼 이미 커밋된 트랜잭션이 남아 있는 스레드에서도 실행될 수 있으므로 항상 REQUIRES_NEW 로 실행한다.
+ */
+@Slf4j
+@Component
+public class ImageUploadPipeline {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30L;
+
+    private final ImageUploader imageUploader;
+    private final TransactionOperations transactionOperations;
+    private final ThreadPoolExecutor imageUploadExecutor;
+
+    public ImageUploadPipeline(final ImageUploader imageUploader,
+                               final PlatformTransactionManager transactionManager,
+                               @Value("${image.upload.pool-size:4}") final int poolSize,
+                               @Value("${image.upload.queue-capacity:100}") final int queueCapacity) {
+        this.imageUploader = imageUploader;
+        this.transactionOperations = requiresNew(transactionManager);
+        // 대기열이 가득 차면 업로드를 받지 않고 실패로 반영한다. 요청 스레드가 S3 업로드를 기다리지 않도록 하기 위함
+        this.imageUploadExecutor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new UploadThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    private static TransactionOperations requiresNew(final PlatformTransactionManager transactionManager) {
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return transactionTemplate;
+    }
+
+    public void uploadAfterCommit(final ImageFile imageFile, final Consumer<String> onUploaded) {
+        uploadAfterCommit(imageFile, onUploaded, () -> {
+        });
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 이후 업로드한다. 롤백되면 업로드하지 않고 임시 파일을 삭제한다.
+     * onUploaded, onFailed 는 각각 새로운 트랜잭션 안에서 실행된다. 대기열이 가득 차 업로드하지 못하면 onFailed 를 실행한다.
+     */
+    public void uploadAfterCommit(final ImageFile imageFile, final Consumer<String> onUploaded, final Runnable onFailed) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(imageFile, onUploaded, onFailed);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                if (status != STATUS_COMMITTED) {
+                    discard(imageFile);
+                    return;
+                }
+                submit(imageFile, onUploaded, onFailed);
+            }
+        });
+    }
+
+    private void submit(final ImageFile imageFile, final Consumer<String> onUploaded, final Runnable onFailed) {
+        try {
+            imageUploadExecutor.execute(() -> upload(imageFile, onUploaded, onFailed));
+        } catch (RejectedExecutionException e) {
+            log.warn("이미지 업로드 대기열이 가득 차 업로드하지 않습니다. size={}", imageUploadExecutor.getQueue().size());
+            discard(imageFile);
+            runInTransaction(onFailed);
+        }
+    }
+
+    private void upload(final ImageFile imageFile, final Consumer<String> onUploaded, final Runnable onFailed) {
+        final String imageUrl;
+        try {
+            imageUrl = imageUploader.uploadImage(imageFile);
+        } catch (RuntimeException e) {
+            log.error("이미지 업로드에 실패했습니다.", e);
+            runInTransaction(onFailed);
+            return;
+        } finally {
+            discard(imageFile);
+        }
+        runInTransaction(() -> onUploaded.accept(imageUrl));
+    }
+
+    private void discard(final ImageFile imageFile) {
+        try {
+            imageFile.discard();
+        } catch (RuntimeException e) {
+            log.warn("업로드할 이미지의 임시 파일을 삭제하지 못했습니다.", e);
+        }
+    }
+
+    private void runInTransaction(final Runnable runnable) {
+        try {
+            transactionOperations.executeWithoutResult(status -> runnable.run());
+        } catch (RuntimeException e) {
+            log.error("이미지 업로드 결과 반영에 실패했습니다.", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        imageUploadExecutor.shutdown();
+        if (!imageUploadExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            log.warn("종료 전까지 완료되지 않은 이미지 업로드가 있습니다. size={}", imageUploadExecutor.getQueue().size());
+        }
+    }
+
+    private static class UploadThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(runnable, "image-upload-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.salmalteam.salmal.application;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * 전체 목록을 한 번에 메모리에 올리지 않고 커서(ID) 기반으로 일정 크기씩 나누어 읽는다.
+ */
+public class KeysetChunkReader<T> {
+
+    private final ChunkLoader<T> chunkLoader;
+    private final Function<T, Long> cursorExtractor;
+    private final Predicate<T> filter;
+
+    private KeysetChunkReader(final ChunkLoader<T> chunkLoader, final Function<T, Long> cursorExtractor, final Predicate<T> filter) {
+        this.chunkLoader = chunkLoader;
+        this.cursorExtractor = cursorExtractor;
+        this.filter = filter;
+    }
+
+    public static <T> KeysetChunkReader<T> of(final ChunkLoader<T> chunkLoader, final Function<T, Long> cursorExtractor) {
+        return new KeysetChunkReader<>(chunkLoader, cursorExtractor, null);
+    }
+
+    /**
+     * 커서는 걸러내기 전의 마지막 항목 기준으로 이동하므로 걸러진 항목 때문에 읽기가 일찍 끝나지 않는다.
+     */
+    public KeysetChunkReader<T> filter(final Predicate<T> predicate) {
+        return new KeysetChunkReader<>(chunkLoader, cursorExtractor, filter == null ? predicate : filter.and(predicate));
+    }
+
+    public void forEachChunk(final int chunkSize, final ChunkConsumer<T> chunkConsumer) throws IOException {
+        Long cursorId = null;
+        while (true) {
+            final List<T> chunk = chunkLoader.load(cursorId, chunkSize);
+            if (chunk.isEmpty()) {
+                return;
+            }
+            final List<T> filtered = filter == null
+                    ? chunk
+                    : chunk.stream().filter(filter).collect(Collectors.toList());
+            if (!filtered.isEmpty()) {
+                chunkConsumer.accept(filtered);
+            }
+            if (chunk.size() < chunkSize) {
+                return;
+            }
+            cursorId = cursorExtractor.apply(chunk.get(chunk.size() - 1));
+        }
+    }
+
+    /**
+     * cursorId 이후부터 걸러지지 않은 항목을 최대 count 개까지 읽는다.
+     * 걸러진 항목이 많아도 count 개를 채우도록 count 의 두 배씩 나누어 더 읽는다.
+     */
+    public List<T> read(final Long cursorId, final int count) {
+        final int chunkSize = count * 2;
+        final List<T> result = new ArrayList<>(count);
+        Long currentCursorId = cursorId;
+        while (result.size() < count) {
+            final List<T> chunk = chunkLoader.load(currentCursorId, chunkSize);
+            for (T item : chunk) {
+                if (result.size() < count && (filter == null || filter.test(item))) {
+                    result.add(item);
+                }
+            }
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+            currentCursorId = cursorExtractor.apply(chunk.get(chunk.size() - 1));
+        }
+        return result;
+    }
+
+    @FunctionalInterface
+    public interface ChunkLoader<T> {
+        /**
+         * cursorId 가 null 이면 처음부터 size 개를 읽는다.
+         */
+        List<T> load(Long cursorId, int size);
+    }
+
+    @FunctionalInterface
+    public interface ChunkConsumer<T> {
+        void accept(List<T> chunk) throws IOException;
+    }
+}
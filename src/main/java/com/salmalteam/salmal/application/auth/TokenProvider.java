@@ -11,4 +11,5 @@ public interface TokenProvider {
     Long getMemberIdFromToken(String token);
     String getTokenType();
     MemberPayLoad getPayLoad(String accessToken);
+    MemberPayLoad parseAccessToken(String accessToken);
 }
@@ -0,0 +1,168 @@
+package com.salmalteam.salmal.application.cache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 최대 개수를 넘으면 가장 오래 사용하지 않은 항목부터 제거하는 메모리 캐시
+ * 다른 서버에서 발생한 변경은 이벤트로 알 수 없으므로 expireAfterWriteMillis 가 지나면 다시 조회한다.
+ */
+public class LruCache<K, V> {
+
+    private final int maximumSize;
+    private final long expireAfterWriteNanos;
+    private final LinkedHashMap<K, Entry<V>> entries;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private long evictionGeneration;
+
+    public LruCache(final int maximumSize, final long expireAfterWriteMillis) {
+        this.maximumSize = maximumSize;
+        this.expireAfterWriteNanos = expireAfterWriteMillis * 1_000_000L;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, Entry<V>> eldest) {
+                return size() > LruCache.this.maximumSize;
+            }
+        };
+    }
+
+    public V get(final K key) {
+        final V value;
+        synchronized (entries) {
+            value = getAlive(key, System.nanoTime());
+        }
+        (value == null ? missCount : hitCount).incrementAndGet();
+        return value;
+    }
+
+    /**
+     * 캐시에 존재하는 항목만 반환한다.
+     */
+    public Map<K, V> getAll(final Collection<K> keys) {
+        final Map<K, V> found = new HashMap<>();
+        final long now = System.nanoTime();
+        synchronized (entries) {
+            for (K key : keys) {
+                final V value = getAlive(key, now);
+                if (value != null) {
+                    found.put(key, value);
+                }
+            }
+        }
+        hitCount.addAndGet(found.size());
+        missCount.addAndGet(keys.size() - found.size());
+        return found;
+    }
+
+    private V getAlive(final K key, final long now) {
+        final Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (now - entry.writtenAt > expireAfterWriteNanos) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.value;
+    }
+
+    /**
+     * 항목이 없으면 mappingFunction 으로 만든 값을 저장하고 반환한다. 생성 비용이 작은 값에만 사용한다.
+     */
+    public V computeIfAbsent(final K key, final Function<K, V> mappingFunction) {
+        final V value;
+        final boolean hit;
+        synchronized (entries) {
+            final long now = System.nanoTime();
+            final V alive = getAlive(key, now);
+            hit = alive != null;
+            if (hit) {
+                value = alive;
+            } else {
+                value = mappingFunction.apply(key);
+                entries.put(key, new Entry<>(value, now));
+            }
+        }
+        (hit ? hitCount : missCount).incrementAndGet();
+        return value;
+    }
+
+    public void put(final K key, final V value) {
+        synchronized (entries) {
+            entries.put(key, new Entry<>(value, System.nanoTime()));
+        }
+    }
+
+    public void putAll(final Map<K, V> values) {
+        final long now = System.nanoTime();
+        synchronized (entries) {
+            values.forEach((key, value) -> entries.put(key, new Entry<>(value, now)));
+        }
+    }
+
+    /**
+     * 조회 전에 읽어 둔 세대 이후로 무효화된 항목이 없을 때만 저장한다.
+     * 조회하는 동안 무효화된 항목을 이전 값으로 다시 채우지 않기 위함이며, 어떤 항목이 무효화되었는지는 구분하지 않는다.
+     */
+    public void putAllIfNotEvictedSince(final Map<K, V> values, final long generation) {
+        final long now = System.nanoTime();
+        synchronized (entries) {
+            if (evictionGeneration != generation) {
+                return;
+            }
+            values.forEach((key, value) -> entries.put(key, new Entry<>(value, now)));
+        }
+    }
+
+    public void evict(final K key) {
+        synchronized (entries) {
+            evictionGeneration++;
+            entries.remove(key);
+        }
+    }
+
+    public void evictAll(final Collection<K> keys) {
+        synchronized (entries) {
+            evictionGeneration++;
+            keys.forEach(entries::remove);
+        }
+    }
+
+    /**
+     * 무효화할 때마다 증가한다. 원본을 조회하기 전에 읽어 두었다가 putAllIfNotEvictedSince 에 전달한다.
+     */
+    public long getEvictionGeneration() {
+        synchronized (entries) {
+            return evictionGeneration;
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    private static class Entry<V> {
+        private final V value;
+        private final long writtenAt;
+
+        private Entry(final V value, final long writtenAt) {
+            this.value = value;
+            this.writtenAt = writtenAt;
+        }
+    }
+}
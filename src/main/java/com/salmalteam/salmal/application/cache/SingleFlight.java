@@ -0,0 +1,178 @@
+package com.salmalteam.salmal.application.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 조회를 하나의 조회로 합친다.
+ * 먼저 요청한 스레드가 직접 조회하고, 그동안 같은 키를 요청한 스레드는 그 결과를 기다려서 함께 사용한다.
+ * 조회가 끝난 결과는 ttlMillis 동안 유지하고, 실패한 조회는 유지하지 않는다.
+ * 조회 결과를 여러 스레드가 공유하므로 반환된 값은 변경하지 않아야 한다.
+ */
+public class SingleFlight<K, V> {
+
+    private final long ttlNanos;
+    private final int maximumSize;
+    private final ConcurrentHashMap<K, Flight<V>> flights = new ConcurrentHashMap<>();
+    private final AtomicLong loadCount = new AtomicLong();
+    private final AtomicLong joinCount = new AtomicLong();
+
+    public SingleFlight(final long ttlMillis, final int maximumSize) {
+        this.ttlNanos = ttlMillis * 1_000_000L;
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * 결과가 null 이면 null 을 반환한다.
+     */
+    public V get(final K key, final Supplier<V> loader) {
+        return getAll(List.of(key), keys -> {
+            final V value = loader.get();
+            final Map<K, V> values = new HashMap<>();
+            if (value != null) {
+                values.put(key, value);
+            }
+            return values;
+        }).get(key);
+    }
+
+    /**
+     * 진행 중이거나 유지 중인 조회가 없는 키만 모아서 loader 로 한 번에 조회한다.
+     * loader 결과에 없는 키는 반환 값에서도 제외된다.
+     */
+    public Map<K, V> getAll(final Collection<K> keys, final Function<List<K>, Map<K, V>> loader) {
+        final Map<K, Flight<V>> owned = new LinkedHashMap<>();
+        final Map<K, Flight<V>> joined = new HashMap<>();
+        final long now = System.nanoTime();
+        for (K key : keys) {
+            if (owned.containsKey(key) || joined.containsKey(key)) {
+                continue;
+            }
+            final Flight<V> created = new Flight<>();
+            final Flight<V> flight = flights.compute(key, (k, existing) ->
+                    existing == null || existing.isExpired(now, ttlNanos) ? created : existing);
+            if (flight == created) {
+                owned.put(key, flight);
+            } else {
+                joined.put(key, flight);
+            }
+        }
+        joinCount.addAndGet(joined.size());
+
+        final Map<K, V> values = new HashMap<>();
+        if (!owned.isEmpty()) {
+            loadCount.addAndGet(owned.size());
+            values.putAll(load(owned, loader));
+            evictExpired();
+        }
+        joined.forEach((key, flight) -> {
+            final V value = flight.join();
+            if (value != null) {
+                values.put(key, value);
+            }
+        });
+        return values;
+    }
+
+    private Map<K, V> load(final Map<K, Flight<V>> owned, final Function<List<K>, Map<K, V>> loader) {
+        final Map<K, V> loaded;
+        try {
+            loaded = loader.apply(new ArrayList<>(owned.keySet()));
+        } catch (RuntimeException | Error e) {
+            owned.forEach((key, flight) -> {
+                flights.remove(key, flight);
+                flight.fail(e);
+            });
+            throw e;
+        }
+
+        final Map<K, V> values = new HashMap<>();
+        owned.forEach((key, flight) -> {
+            final V value = loaded.get(key);
+            flight.complete(value);
+            if (ttlNanos <= 0) {
+                flights.remove(key, flight);
+            }
+            if (value != null) {
+                values.put(key, value);
+            }
+        });
+        return values;
+    }
+
+    /**
+     * 이후 요청부터 다시 조회한다. 이미 결과를 기다리고 있는 요청은 진행 중인 조회 결과를 그대로 사용한다.
+     */
+    public void evict(final K key) {
+        flights.remove(key);
+    }
+
+    public void evictIf(final Predicate<K> predicate) {
+        flights.keySet().removeIf(predicate);
+    }
+
+    private void evictExpired() {
+        if (flights.size() <= maximumSize) {
+            return;
+        }
+        final long now = System.nanoTime();
+        flights.values().removeIf(flight -> flight.isExpired(now, ttlNanos));
+    }
+
+    public int size() {
+        return flights.size();
+    }
+
+    public long getLoadCount() {
+        return loadCount.get();
+    }
+
+    public long getJoinCount() {
+        return joinCount.get();
+    }
+
+    private static class Flight<V> {
+
+        private final CompletableFuture<V> future = new CompletableFuture<>();
+        private volatile long completedAt;
+
+        private void complete(final V value) {
+            completedAt = System.nanoTime();
+            future.complete(value);
+        }
+
+        private void fail(final Throwable cause) {
+            future.completeExceptionally(cause);
+        }
+
+        private boolean isExpired(final long now, final long ttlNanos) {
+            return future.isDone() && (future.isCompletedExceptionally() || now - completedAt > ttlNanos);
+        }
+
+        private V join() {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                final Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
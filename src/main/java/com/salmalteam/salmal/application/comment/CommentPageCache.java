@@ -0,0 +1,77 @@
+package com.salmalteam.salmal.application.comment;
+
+import com.salmalteam.salmal.application.cache.SingleFlight;
+import com.salmalteam.salmal.application.vote.VoteCounterChangeEvent;
+import com.salmalteam.salmal.application.vote.VoteDeleteEvent;
+import com.salmalteam.salmal.domain.comment.CommentRepository;
+import com.salmalteam.salmal.dto.request.comment.CommentPageRequest;
+import com.salmalteam.salmal.dto.response.comment.CommentPageResponse;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.EqualsAndHashCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 모든 회원에게 동일한 댓글 페이지(좋아요 여부 제외)를 짧은 시간 동안 공유한다.
+ * 같은 페이지를 동시에 요청하면 DB 조회는 한 번만 실행하고, 댓글이 추가/삭제된 투표의 페이지는 바로 비운다.
+ */
+@Component
+public class CommentPageCache implements MeterBinder {
+
+    private final CommentRepository commentRepository;
+    private final SingleFlight<PageKey, CommentPageResponse> commentPages;
+
+    public CommentPageCache(final CommentRepository commentRepository,
+                            @Value("${comment.page-cache.ttl:1000}") final long ttl,
+                            @Value("${comment.page-cache.maximum-size:10000}") final int maximumSize) {
+        this.commentRepository = commentRepository;
+        this.commentPages = new SingleFlight<>(ttl, maximumSize);
+    }
+
+    public CommentPageResponse get(final Long voteId, final CommentPageRequest commentPageRequest) {
+        final PageKey pageKey = new PageKey(voteId, commentPageRequest.getCursorId(), commentPageRequest.getSize());
+        return commentPages.get(pageKey, () -> commentRepository.searchSharedList(voteId, commentPageRequest));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleVoteCounterChangeEvent(final VoteCounterChangeEvent event) {
+        evict(event.getVoteIds());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleVoteDeleteEvent(final VoteDeleteEvent event) {
+        evict(List.of(event.getVoteId()));
+    }
+
+    private void evict(final List<Long> voteIds) {
+        commentPages.evictIf(pageKey -> voteIds.contains(pageKey.voteId));
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder("comment.page.cache.loads", commentPages, SingleFlight::getLoadCount)
+                .tag("result", "load")
+                .register(registry);
+        FunctionCounter.builder("comment.page.cache.loads", commentPages, SingleFlight::getJoinCount)
+                .tag("result", "join")
+                .register(registry);
+    }
+
+    @EqualsAndHashCode
+    private static class PageKey {
+        private final Long voteId;
+        private final Long cursorId;
+        private final int size;
+
+        private PageKey(final Long voteId, final Long cursorId, final int size) {
+            this.voteId = voteId;
+            this.cursorId = cursorId;
+            this.size = size;
+        }
+    }
+}
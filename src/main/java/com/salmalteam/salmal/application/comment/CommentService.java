@@ -1,14 +1,18 @@
 package com.salmalteam.salmal.application.comment;
 
+import com.salmalteam.salmal.application.KeysetChunkReader;
+import com.salmalteam.salmal.application.member.BlockedMemberCache;
+import com.salmalteam.salmal.application.member.BlockedMemberIds;
 import com.salmalteam.salmal.application.member.MemberService;
+import com.salmalteam.salmal.application.vote.VoteCounterChangeEvent;
 import com.salmalteam.salmal.domain.comment.Comment;
 import com.salmalteam.salmal.domain.comment.CommentRepository;
-import com.salmalteam.salmal.domain.comment.CommentType;
 import com.salmalteam.salmal.domain.comment.like.CommentLike;
 import com.salmalteam.salmal.domain.comment.like.CommentLikeRepository;
 import com.salmalteam.salmal.domain.comment.report.CommentReport;
 import com.salmalteam.salmal.domain.comment.report.CommentReportRepository;
 import com.salmalteam.salmal.domain.member.Member;
+import com.salmalteam.salmal.domain.member.stats.MemberStatsRepository;
 import com.salmalteam.salmal.domain.vote.Vote;
 import com.salmalteam.salmal.domain.vote.VoteRepository;
 import com.salmalteam.salmal.dto.request.comment.CommentPageRequest;
@@ -27,11 +31,14 @@ import com.salmalteam.salmal.exception.comment.report.CommentReportException;
 import com.salmalteam.salmal.exception.comment.report.CommentReportExceptionType;
 import com.salmalteam.salmal.infra.auth.dto.MemberPayLoad;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -43,11 +50,16 @@ public class CommentService {
     private final CommentReportRepository commentReportRepository;
     private final CommentLikeRepository commentLikeRepository;
     private final VoteRepository voteRepository;
+    private final MemberStatsRepository memberStatsRepository;
+    private final BlockedMemberCache blockedMemberCache;
+    private final CommentPageCache commentPageCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void save(final String content, final Vote vote, final Member member) {
         final Comment comment = Comment.of(content, vote, member);
         commentRepository.save(comment);
+        memberStatsRepository.addCommentCount(member.getId(), 1);
     }
 
     @Transactional
@@ -57,12 +69,15 @@ public class CommentService {
         
         switch (comment.getCommentType()){
             case COMMENT:
+                memberStatsRepository.removeReplies(commentId);
                 commentRepository.deleteAllRepliesByParentCommentId(commentId);
                 voteRepository.decreaseCommentCount(comment.getVote().getId());
+                eventPublisher.publishEvent(VoteCounterChangeEvent.of(comment.getVote().getId()));
             case REPLY:
                 commentRepository.decreaseReplyCount(commentId);
         }
         commentRepository.delete(comment);
+        memberStatsRepository.addCommentCount(comment.getCommenter().getId(), -1);
     }
 
     private void validateDeleteAuthority(final Long commenterId, final Long requesterId){
@@ -81,6 +96,7 @@ public class CommentService {
 
         commentRepository.save(reply);
         commentRepository.increaseReplyCount(commentId);
+        memberStatsRepository.addCommentCount(member.getId(), 1);
     }
 
     @Transactional(readOnly = true)
@@ -89,15 +105,37 @@ public class CommentService {
         final Member member = memberService.findMemberById(memberPayLoad.getId());
         validateCommentExist(commentId);
 
-        return commentRepository.searchReplies(commentId, member.getId(), replyPageRequest);
+        final Long memberId = member.getId();
+        final BlockedMemberIds blockedMemberIds = blockedMemberCache.get(memberId);
+        if (blockedMemberIds.isEmpty()) {
+            return commentRepository.searchReplies(commentId, memberId, replyPageRequest);
+        }
+
+        final int size = replyPageRequest.getSize();
+        final List<ReplyResponse> replyResponses = replyReader(commentId, memberId, blockedMemberIds)
+                .read(replyPageRequest.getCursorId(), size + 1);
+        final boolean hasNext = replyResponses.size() > size;
+        return ReplyPageResponse.of(hasNext, hasNext ? replyResponses.subList(0, size) : replyResponses);
     }
 
+    /**
+     * 존재 여부만 검증하고, 실제 조회는 응답을 쓰는 동안 나누어 진행한다.
+     */
     @Transactional(readOnly = true)
-    public List<ReplyResponse> searchAllReplies(final MemberPayLoad memberPayLoad, final Long commentId){
+    public KeysetChunkReader<ReplyResponse> searchAllReplies(final MemberPayLoad memberPayLoad, final Long commentId){
         final Member member = memberService.findMemberById(memberPayLoad.getId());
         validateCommentExist(commentId);
 
-        return commentRepository.searchAllReplies(commentId, member.getId());
+        final Long memberId = member.getId();
+        return replyReader(commentId, memberId, blockedMemberCache.get(memberId));
+    }
+
+    private KeysetChunkReader<ReplyResponse> replyReader(final Long commentId, final Long memberId, final BlockedMemberIds blockedMemberIds) {
+        final KeysetChunkReader<ReplyResponse> reader = KeysetChunkReader.of(
+                (cursorId, size) -> commentRepository.searchAllReplies(commentId, memberId, cursorId, size), ReplyResponse::getId);
+        return blockedMemberIds.isEmpty()
+                ? reader
+                : reader.filter(replyResponse -> !blockedMemberIds.contains(replyResponse.getMemberId()));
     }
 
     private void validateCommentExist(final Long commentId){
@@ -125,18 +163,53 @@ public class CommentService {
         }
     }
 
+    /**
+     * 1. 모든 회원에게 동일한 댓글 페이지를 조회한다. 같은 페이지를 동시에 요청하면 한 번만 조회한다.
+     * 2. 조회한 댓글 ID 에 대해서만 회원의 좋아요 여부를 조회해서 합친다.
+     */
     @Transactional(readOnly = true)
     public CommentPageResponse searchList(final Long voteId,
                                           final MemberPayLoad memberPayLoad,
                                           final CommentPageRequest commentPageRequest) {
         final Long memberId = memberPayLoad.getId();
-        return commentRepository.searchList(voteId, memberId, commentPageRequest);
+        final BlockedMemberIds blockedMemberIds = blockedMemberCache.get(memberId);
+        if (blockedMemberIds.isEmpty()) {
+            final CommentPageResponse sharedCommentPage = commentPageCache.get(voteId, commentPageRequest);
+            return CommentPageResponse.of(sharedCommentPage.isHasNext(), overlayLiked(memberId, sharedCommentPage.getComments()));
+        }
+
+        // 차단한 회원의 댓글을 걸러낸 뒤에도 한 페이지를 채우도록 더 읽는다.
+        final int size = commentPageRequest.getSize();
+        final List<CommentResponse> commentResponses = commentReader(voteId, memberId, blockedMemberIds)
+                .read(commentPageRequest.getCursorId(), size + 1);
+        final boolean hasNext = commentResponses.size() > size;
+        return CommentPageResponse.of(hasNext, hasNext ? commentResponses.subList(0, size) : commentResponses);
     }
 
-    @Transactional(readOnly = true)
-    public List<CommentResponse> searchAllList(final Long voteId, final MemberPayLoad memberPayLoad){
+    private List<CommentResponse> overlayLiked(final Long memberId, final List<CommentResponse> sharedCommentResponses) {
+        if (sharedCommentResponses.isEmpty()) {
+            return new ArrayList<>();
+        }
+        final List<Long> commentIds = sharedCommentResponses.stream()
+                .map(CommentResponse::getId)
+                .collect(Collectors.toList());
+        final Set<Long> likedCommentIds = new HashSet<>(commentLikeRepository.findCommentIdsByLikerIdAndCommentIdIn(memberId, commentIds));
+        return sharedCommentResponses.stream()
+                .map(commentResponse -> commentResponse.withLiked(likedCommentIds.contains(commentResponse.getId())))
+                .collect(Collectors.toList());
+    }
+
+    public KeysetChunkReader<CommentResponse> searchAllList(final Long voteId, final MemberPayLoad memberPayLoad){
         final Long memberId = memberPayLoad.getId();
-        return commentRepository.searchAllList(voteId, memberId);
+        return commentReader(voteId, memberId, blockedMemberCache.get(memberId));
+    }
+
+    private KeysetChunkReader<CommentResponse> commentReader(final Long voteId, final Long memberId, final BlockedMemberIds blockedMemberIds) {
+        final KeysetChunkReader<CommentResponse> reader = KeysetChunkReader.of(
+                (cursorId, size) -> commentRepository.searchAllList(voteId, memberId, cursorId, size), CommentResponse::getId);
+        return blockedMemberIds.isEmpty()
+                ? reader
+                : reader.filter(commentResponse -> !blockedMemberIds.contains(commentResponse.getMemberId()));
     }
 
     @Transactional
@@ -199,43 +272,4 @@ public class CommentService {
         return commentRepository.findById(commentId)
                 .orElseThrow(() -> new CommentException(CommentExceptionType.NOT_FOUND));
     }
-
-    /**
-     * 회원 삭제 이벤트 : 댓글의 대댓글 개수 감소
-     */
-    @Transactional
-    public void decreaseReplyCountByMemberDelete(final Long memberId) {
-
-        // 회원이 작성한 대댓글 목록 조회
-        final List<Comment> replies = commentRepository.findALlByCommenter_idAndCommentType(memberId, CommentType.REPLY);
-
-        // parent_id 기준으로 Comment 묶기
-        Map<Comment, List<Comment>> commentListMap = replies.stream()
-                .collect(Collectors.groupingBy(Comment::getParentComment));
-
-        // 대댓글 개수 감소
-        commentListMap.forEach((comment, replyList) -> {
-            comment.decreaseReplyCount(replyList.size());
-        });
-
-    }
-
-//    /**
-//     * 회원 삭제 이벤트 : 댓글의 좋아요 개수 감소
-//     */
-//    @Transactional
-//    public void decreaseLikeCountByMemberDelete(final Long memberId){
-//        // 회원이 작성한 좋아요 목록 조회
-//        final List<CommentLike> commentLikes = commentLikeRepository.findAllByLiker_Id(memberId);
-//
-//        // vote 기준으로 좋아요 묶기
-//        Map<Comment, List<CommentLike>> commentListMap = commentLikes.stream()
-//                .collect(Collectors.groupingBy(CommentLike::getComment));
-//
-//        // 좋아요 개수 감소
-//        commentListMap.forEach((comment, commentLikeList) -> {
-//            comment.decreaseLikeCount(commentLikeList.size());
-//        });
-//    }
-
 }
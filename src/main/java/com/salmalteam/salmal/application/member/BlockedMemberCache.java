@@ -0,0 +1,46 @@
+package com.salmalteam.salmal.application.member;
+
+import com.salmalteam.salmal.application.cache.LruCache;
+import com.salmalteam.salmal.domain.member.block.MemberBlockedRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 회원별 차단한 회원 ID 집합 캐시
+ * 피드와 댓글 조회마다 NOT IN 서브쿼리를 실행하지 않도록 처음 조회할 때 한 번 적재하고,
+ * 차단/차단 해제 이벤트가 발생하면 무효화한다.
+ */
+@Component
+public class BlockedMemberCache {
+
+    private final MemberBlockedRepository memberBlockedRepository;
+    private final LruCache<Long, BlockedMemberIds> blockedMemberIds;
+
+    public BlockedMemberCache(final MemberBlockedRepository memberBlockedRepository,
+                              @Value("${member.blocked-cache.maximum-size:10000}") final int maximumSize,
+                              @Value("${member.blocked-cache.expire-after-write:600000}") final long expireAfterWrite) {
+        this.memberBlockedRepository = memberBlockedRepository;
+        this.blockedMemberIds = new LruCache<>(maximumSize, expireAfterWrite);
+    }
+
+    public BlockedMemberIds get(final Long blockerId) {
+        final BlockedMemberIds cached = blockedMemberIds.get(blockerId);
+        if (cached != null) {
+            return cached;
+        }
+        final BlockedMemberIds loaded = BlockedMemberIds.of(memberBlockedRepository.findTargetIdsByBlockerId(blockerId));
+        blockedMemberIds.put(blockerId, loaded);
+        return loaded;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleMemberBlockEvent(final MemberBlockEvent event) {
+        blockedMemberIds.evict(event.getBlockerId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleMemberDeleteEvent(final MemberDeleteEvent event) {
+        blockedMemberIds.evict(event.getMemberId());
+    }
+}
@@ -0,0 +1,47 @@
+package com.salmalteam.salmal.application.member;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 회원이 차단한 회원 ID 집합
+ * 정렬된 long 배열로 보관해서 Long 객체 없이 이진 탐색으로 포함 여부를 확인한다.
+ */
+public class BlockedMemberIds {
+
+    private static final BlockedMemberIds EMPTY = new BlockedMemberIds(new long[0]);
+
+    private final long[] memberIds;
+
+    private BlockedMemberIds(final long[] memberIds) {
+        this.memberIds = memberIds;
+    }
+
+    public static BlockedMemberIds of(final Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return EMPTY;
+        }
+        final long[] sorted = memberIds.stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .distinct()
+                .toArray();
+        return new BlockedMemberIds(sorted);
+    }
+
+    public static BlockedMemberIds empty() {
+        return EMPTY;
+    }
+
+    public boolean contains(final Long memberId) {
+        return memberId != null && Arrays.binarySearch(memberIds, memberId) >= 0;
+    }
+
+    public boolean isEmpty() {
+        return memberIds.length == 0;
+    }
+
+    public int size() {
+        return memberIds.length;
+    }
+}
@@ -0,0 +1,76 @@
+package com.salmalteam.salmal.application.member;
+
+import com.salmalteam.salmal.domain.lock.JobLockRepository;
+import com.salmalteam.salmal.domain.member.activity.MemberActivityBackfillRepository;
+import com.salmalteam.salmal.domain.member.activity.MemberActivityType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 활동 기록 도입 전에 저장된 평가/북마크를 원본 ID 순서대로 묶음 단위로 옮긴다.
+ * 한 서버에서만 실행하도록 잠금을 잡고, 진행 상황은 DB 에 남기므로 실패하거나 서버가 다시 떠도 이어서 진행한다.
+ * 모두 옮긴 것을 확인한 서버는 더 이상 실행하지 않는다.
+ */
+@Slf4j
+@Component
+public class MemberActivityBackfill {
+
+    static final String LOCK_NAME = "member-activity-backfill";
+    private static final List<MemberActivityType> SOURCE_TYPES = List.of(MemberActivityType.EVALUATION, MemberActivityType.BOOKMARK);
+
+    private final MemberActivityBackfillRepository memberActivityBackfillRepository;
+    private final JobLockRepository jobLockRepository;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final Duration lockLeaseTime;
+    private boolean completed;
+
+    public MemberActivityBackfill(final MemberActivityBackfillRepository memberActivityBackfillRepository,
+                                  final JobLockRepository jobLockRepository,
+                                  @Value("${member.activity.backfill-enabled:true}") final boolean enabled,
+                                  @Value("${member.activity.backfill-chunk-size:1000}") final int chunkSize,
+                                  @Value("${member.activity.backfill-lock-lease:300000}") final long lockLeaseMillis) {
+        this.memberActivityBackfillRepository = memberActivityBackfillRepository;
+        this.jobLockRepository = jobLockRepository;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.lockLeaseTime = Duration.ofMillis(lockLeaseMillis);
+    }
+
+    @Scheduled(fixedDelayString = "${member.activity.backfill-interval:600000}",
+            initialDelayString = "${member.activity.backfill-initial-delay:60000}")
+    public void backfill() {
+        if (!enabled || completed || !jobLockRepository.acquire(LOCK_NAME, lockLeaseTime)) {
+            return;
+        }
+        try {
+            completed = backfillAll();
+            if (completed) {
+                log.info("회원 활동 기록 이전을 완료했습니다.");
+            }
+        } catch (RuntimeException e) {
+            log.error("회원 활동 기록 이전에 실패하여 다음 주기에 이어서 진행합니다.", e);
+        } finally {
+            jobLockRepository.release(LOCK_NAME);
+        }
+    }
+
+    /**
+     * 묶음마다 잠금 기간을 늘리고, 그 사이 잠금을 빼앗겼다면 멈추고 false 를 반환한다.
+     */
+    boolean backfillAll() {
+        for (MemberActivityType activityType : SOURCE_TYPES) {
+            do {
+                if (!jobLockRepository.acquire(LOCK_NAME, lockLeaseTime)) {
+                    return false;
+                }
+            } while (memberActivityBackfillRepository.backfill(activityType, chunkSize));
+        }
+        return true;
+    }
+}
@@ -0,0 +1,17 @@
+package com.salmalteam.salmal.application.member;
+
+import lombok.Getter;
+
+/**
+ * 회원 차단 또는 차단 해제 이벤트
+ */
+@Getter
+public class MemberBlockEvent {
+    private final Long blockerId;
+    private MemberBlockEvent(final Long blockerId){
+        this.blockerId = blockerId;
+    }
+    public static MemberBlockEvent of(final Long blockerId){
+        return new MemberBlockEvent(blockerId);
+    }
+}
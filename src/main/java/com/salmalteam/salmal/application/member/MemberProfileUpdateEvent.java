@@ -0,0 +1,14 @@
+package com.salmalteam.salmal.application.member;
+
+import lombok.Getter;
+
+@Getter
+public class MemberProfileUpdateEvent {
+    private final Long memberId;
+    private MemberProfileUpdateEvent(final Long memberId){
+        this.memberId = memberId;
+    }
+    public static MemberProfileUpdateEvent of(final Long memberId){
+        return new MemberProfileUpdateEvent(memberId);
+    }
+}
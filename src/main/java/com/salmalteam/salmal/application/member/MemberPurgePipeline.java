@@ -0,0 +1,195 @@
+package com.salmalteam.salmal.application.member;
+
+import com.salmalteam.salmal.application.vote.VoteDeletionPipeline;
+import com.salmalteam.salmal.domain.member.purge.MemberPurgeJob;
+import com.salmalteam.salmal.domain.member.purge.MemberPurgeJobRepository;
+import com.salmalteam.salmal.domain.member.purge.MemberPurgeRepository;
+import com.salmalteam.salmal.domain.member.purge.MemberPurgeStage;
+import com.salmalteam.salmal.domain.vote.VoteDeletionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * 탈퇴 회원의 데이터를 단계별로 묶음 단위 UPDATE/DELETE 로 정리한다.
+ * 탈퇴 요청에서는 회원과 투표를 숨기고 정리 작업만 등록하며, 정리는 커밋 이후 전용 스레드에서 진행한다.
+ * 진행 단계는 MemberPurgeJob 에 기록되므로 서버가 중단되어도 주기적인 재시도에서 이어서 정리된다.
+ */
+@Slf4j
+@Component
+public class MemberPurgePipeline {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30L;
+
+    private final MemberPurgeJobRepository memberPurgeJobRepository;
+    private final MemberPurgeRepository memberPurgeRepository;
+    private final VoteDeletionRepository voteDeletionRepository;
+    private final VoteDeletionPipeline voteDeletionPipeline;
+    private final TransactionOperations transactionOperations;
+    private final int chunkSize;
+    private final ThreadPoolExecutor memberPurgeExecutor;
+
+    public MemberPurgePipeline(final MemberPurgeJobRepository memberPurgeJobRepository,
+                               final MemberPurgeRepository memberPurgeRepository,
+                               final VoteDeletionRepository voteDeletionRepository,
+                               final VoteDeletionPipeline voteDeletionPipeline,
+                               final TransactionOperations transactionOperations,
+                               @Value("${member.purge.chunk-size:500}") final int chunkSize) {
+        this.memberPurgeJobRepository = memberPurgeJobRepository;
+        this.memberPurgeRepository = memberPurgeRepository;
+        this.voteDeletionRepository = voteDeletionRepository;
+        this.voteDeletionPipeline = voteDeletionPipeline;
+        this.transactionOperations = transactionOperations;
+        this.chunkSize = chunkSize;
+        this.memberPurgeExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    final Thread thread = new Thread(runnable, "member-purge");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 회원의 투표를 숨기고 정리 작업을 등록한다. 정리는 현재 트랜잭션이 커밋된 이후 시작한다.
+     * @return 숨긴 투표 ID 목록
+     */
+    public List<Long> start(final Long memberId) {
+        final List<Long> hiddenVoteIds = memberPurgeRepository.hideVotesByMemberId(memberId);
+        final Long jobId = memberPurgeJobRepository.save(MemberPurgeJob.of(memberId)).getId();
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(jobId);
+            return hiddenVoteIds;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit(jobId);
+            }
+        });
+        return hiddenVoteIds;
+    }
+
+    @Scheduled(fixedDelayString = "${member.purge.sweep-interval:600000}",
+            initialDelayString = "${member.purge.sweep-interval:600000}")
+    public void sweep() {
+        try {
+            memberPurgeJobRepository.findTop100ByOrderByIdAsc()
+                    .forEach(job -> submit(job.getId()));
+        } catch (RuntimeException e) {
+            log.error("진행 중인 회원 정리 작업 조회에 실패했습니다.", e);
+        }
+    }
+
+    private void submit(final Long jobId) {
+        memberPurgeExecutor.execute(() -> {
+            try {
+                purge(jobId);
+            } catch (RuntimeException e) {
+                log.error("회원 정리에 실패하여 다음 주기에 재시도합니다. jobId={}", jobId, e);
+            }
+        });
+    }
+
+    /**
+     * 기록된 단계부터 이어서 정리한다. 단계마다 남은 데이터가 없을 때까지 묶음 단위로 삭제한 뒤 다음 단계로 넘어간다.
+     */
+    void purge(final Long jobId) {
+        final MemberPurgeJob job = memberPurgeJobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return;
+        }
+        final Long memberId = job.getMemberId();
+        MemberPurgeStage stage = job.getStage();
+        while (stage != MemberPurgeStage.MEMBER) {
+            int purged;
+            do {
+                purged = purgeChunk(jobId, memberId, stage);
+            } while (purged >= chunkSize);
+            stage = nextStage(jobId);
+        }
+        transactionOperations.executeWithoutResult(status -> {
+            memberPurgeRepository.deleteMember(memberId);
+            memberPurgeJobRepository.findById(jobId).ifPresent(memberPurgeJobRepository::delete);
+        });
+    }
+
+    private int purgeChunk(final Long jobId, final Long memberId, final MemberPurgeStage stage) {
+        switch (stage) {
+            case VOTES:
+                // 투표 정리는 자체적으로 묶음 단위 트랜잭션을 사용하므로 진행 상황만 따로 기록한다.
+                final List<Long> voteIds = memberPurgeRepository.findVoteIdsByMemberId(memberId, chunkSize);
+                voteIds.forEach(voteDeletionPipeline::purge);
+                return recordProgress(jobId, voteIds::size);
+            case VOTE_EVALUATIONS:
+                return recordProgress(jobId, () -> memberPurgeRepository.deleteVoteEvaluations(memberId, chunkSize));
+            case VOTE_BOOKMARKS:
+                return recordProgress(jobId, () -> memberPurgeRepository.deleteVoteBookmarks(memberId, chunkSize));
+            case VOTE_REPORTS:
+                return recordProgress(jobId, () -> memberPurgeRepository.deleteVoteReports(memberId, chunkSize));
+            case COMMENT_LIKES:
+                return recordProgress(jobId, () -> memberPurgeRepository.deleteCommentLikes(memberId, chunkSize));
+            case COMMENT_REPORTS:
+                return recordProgress(jobId, () -> memberPurgeRepository.deleteCommentReports(memberId, chunkSize));
+            case REPLIES:
+                return recordProgress(jobId, () -> memberPurgeRepository.deleteReplies(memberId, chunkSize));
+            case COMMENTS:
+                final List<Long> commentIds = memberPurgeRepository.findCommentIdsByMemberId(memberId, chunkSize);
+                deleteReplies(commentIds);
+                return recordProgress(jobId, () -> memberPurgeRepository.deleteComments(commentIds));
+            case MEMBER_BLOCKS:
+                return recordProgress(jobId, () -> memberPurgeRepository.deleteMemberBlocks(memberId, chunkSize));
+            case MEMBER_ACTIVITIES:
+                return recordProgress(jobId, () -> memberPurgeRepository.deleteMemberActivities(memberId, chunkSize));
+            default:
+                throw new IllegalStateException("정리할 수 없는 단계입니다. stage=" + stage);
+        }
+    }
+
+    /**
+     * 다른 회원이 단 답글은 댓글과 함께 삭제되므로 답글 수를 보정하지 않는다.
+     */
+    private void deleteReplies(final List<Long> commentIds) {
+        List<Long> replyIds;
+        while (!(replyIds = voteDeletionRepository.findReplyIdsByParentCommentIds(commentIds, chunkSize)).isEmpty()) {
+            voteDeletionRepository.deleteComments(replyIds);
+        }
+    }
+
+    private int recordProgress(final Long jobId, final IntSupplier purgeChunk) {
+        final Integer purged = transactionOperations.execute(status -> {
+            final int count = purgeChunk.getAsInt();
+            memberPurgeJobRepository.findById(jobId).ifPresent(job -> job.addPurgedCount(count));
+            return count;
+        });
+        return purged == null ? 0 : purged;
+    }
+
+    private MemberPurgeStage nextStage(final Long jobId) {
+        return transactionOperations.execute(status -> {
+            final MemberPurgeJob job = memberPurgeJobRepository.findById(jobId)
+                    .orElseThrow(() -> new IllegalStateException("회원 정리 작업이 존재하지 않습니다. jobId=" + jobId));
+            job.nextStage();
+            return job.getStage();
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        memberPurgeExecutor.shutdown();
+        if (!memberPurgeExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            log.warn("종료 전까지 끝나지 않은 회원 정리는 다음 정리 주기에 이어서 진행됩니다. size={}", memberPurgeExecutor.getQueue().size());
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.salmalteam.salmal.application.member;
 
-import com.salmalteam.salmal.application.ImageUploader;
+import com.salmalteam.salmal.application.ImageGarbageCollector;
+import com.salmalteam.salmal.application.ImageUploadPipeline;
 import com.salmalteam.salmal.application.comment.CommentService;
+import com.salmalteam.salmal.application.vote.VoteDeleteEvent;
 import com.salmalteam.salmal.application.vote.VoteService;
 import com.salmalteam.salmal.domain.image.ImageFile;
 import com.salmalteam.salmal.domain.member.Member;
@@ -10,6 +12,7 @@ import com.salmalteam.salmal.domain.member.MemberRepository;
 import com.salmalteam.salmal.domain.member.NickName;
 import com.salmalteam.salmal.domain.member.block.MemberBlocked;
 import com.salmalteam.salmal.domain.member.block.MemberBlockedRepository;
+import com.salmalteam.salmal.domain.member.stats.MemberStatsRepository;
 import com.salmalteam.salmal.domain.vote.VoteRepository;
 import com.salmalteam.salmal.dto.request.auth.SignUpRequest;
 import com.salmalteam.salmal.dto.request.member.MemberImageUpdateRequest;
@@ -37,28 +40,41 @@ import org.springframework.transaction.annotation.Transactional;
 public class MemberService {
     private final MemberRepository memberRepository;
     private final MemberBlockedRepository memberBlockedRepository;
-    private final ImageUploader imageUploader;
+    private final MemberStatsRepository memberStatsRepository;
+    private final BlockedMemberCache blockedMemberCache;
+    private final ImageUploadPipeline imageUploadPipeline;
+    private final ImageGarbageCollector imageGarbageCollector;
     private final String memberImagePath;
     private final VoteRepository voteRepository;
+    private final MemberPurgePipeline memberPurgePipeline;
     private final ApplicationEventPublisher eventPublisher;
 
     public MemberService(final MemberRepository memberRepository,
                          final MemberBlockedRepository memberBlockedRepository,
-                         final ImageUploader imageUploader,
+                         final MemberStatsRepository memberStatsRepository,
+                         final BlockedMemberCache blockedMemberCache,
+                         final ImageUploadPipeline imageUploadPipeline,
+                         final ImageGarbageCollector imageGarbageCollector,
                          @Value("${image.path.member}") final String memberImagePath,
                          final VoteRepository voteRepository,
+                         final MemberPurgePipeline memberPurgePipeline,
                          final ApplicationEventPublisher eventPublisher) {
         this.memberRepository = memberRepository;
         this.memberBlockedRepository = memberBlockedRepository;
-        this.imageUploader = imageUploader;
+        this.memberStatsRepository = memberStatsRepository;
+        this.blockedMemberCache = blockedMemberCache;
+        this.imageUploadPipeline = imageUploadPipeline;
+        this.imageGarbageCollector = imageGarbageCollector;
         this.memberImagePath = memberImagePath;
         this.voteRepository = voteRepository;
+        this.memberPurgePipeline = memberPurgePipeline;
         this.eventPublisher = eventPublisher;
     }
 
     @Transactional(readOnly = true)
     public Long findMemberIdByProviderId(final String providerId) {
         final Member member = memberRepository.findByProviderId(providerId)
+                .filter(it -> !it.isDeleted())
                 .orElseThrow(() -> new MemberException(MemberExceptionType.NOT_FOUND));
         return member.getId();
     }
@@ -68,19 +84,23 @@ public class MemberService {
         validateNickNameExists(signUpRequest.getNickName());
         final Member member = memberRepository.save(Member.of(signUpRequest.getProviderId(), signUpRequest.getNickName(),
                 provider, signUpRequest.getMarketingInformationConsent()));
+        memberStatsRepository.create(member.getId());
         return member.getId();
     }
 
     /**
-     * TODO: S3 스토리지에 올라가있는 회원 데이터(이미지) 삭제
+     * 회원과 회원의 투표는 숨김 처리만 하고, 회원 데이터와 이미지는 커밋 이후 단계별로 정리한다.
      */
+    @Transactional
     public void delete(final MemberPayLoad memberPayLoad, final Long memberId){
 
         final Member member = findMemberById(memberId);
         validateDeleteAuthority(memberId, memberPayLoad.getId());
 
+        member.delete();
+        memberPurgePipeline.start(member.getId())
+                .forEach(voteId -> eventPublisher.publishEvent(VoteDeleteEvent.of(voteId)));
         eventPublisher.publishEvent(MemberDeleteEvent.of(member.getId()));
-        memberRepository.delete(member);
     }
 
     private void validateDeleteAuthority(final Long memberId, final Long requesterId){
@@ -90,10 +110,16 @@ public class MemberService {
     }
 
 
+    /**
+     * 통계는 member_stats 에서 기본 키로 조회하고, 차단 여부는 조회한 회원의 차단 목록 캐시로 판단한다.
+     */
     @Transactional(readOnly = true)
-    public MyPageResponse findMyPage(final Long memberId) {
-        validateExistsById(memberId);
-        return memberRepository.searchMyPage(memberId);
+    public MyPageResponse findMyPage(final MemberPayLoad memberPayLoad, final Long memberId) {
+        final MyPageResponse myPageResponse = memberRepository.searchMyPage(memberId);
+        if (myPageResponse == null) {
+            throw new MemberException(MemberExceptionType.NOT_FOUND);
+        }
+        return myPageResponse.withBlocked(blockedMemberCache.get(memberPayLoad.getId()).contains(memberId));
     }
 
     @Transactional
@@ -106,6 +132,7 @@ public class MemberService {
         validateDuplicateMemberBlocked(blocker, target);
 
         memberBlockedRepository.save(blockedMember);
+        eventPublisher.publishEvent(MemberBlockEvent.of(blocker.getId()));
     }
 
     private void validateDuplicateMemberBlocked(final Member blocker, final Member target) {
@@ -124,6 +151,7 @@ public class MemberService {
         validateMemberBlockedExists(blocker, target);
 
         memberBlockedRepository.deleteByBlockerAndTarget(blocker, target);
+        eventPublisher.publishEvent(MemberBlockEvent.of(blocker.getId()));
     }
 
     private void validateMemberBlockedExists(final Member blocker, final Member target) {
@@ -143,6 +171,7 @@ public class MemberService {
 
         member.updateMyPage(myPageUpdateRequest.getNickName(), myPageUpdateRequest.getIntroduction());
         memberRepository.save(member);
+        eventPublisher.publishEvent(MemberProfileUpdateEvent.of(member.getId()));
     }
 
     private void validateNickNameChangeValidity(final String requestNickName, final String currentNickName){
@@ -151,7 +180,10 @@ public class MemberService {
         }
     }
 
-    @Transactional
+    /**
+     * 업로드가 끝날 때까지는 기존 프로필 이미지를 유지하고, 업로드가 끝나면 새로운 트랜잭션에서 URL 을 반영한다.
+     */
+    @Transactional(readOnly = true)
     public void updateImage(final MemberPayLoad memberPayLoad, final Long memberId, final MemberImageUpdateRequest memberImageUpdateRequest){
 
         final Member member = findMemberById(memberPayLoad.getId());
@@ -160,14 +192,21 @@ public class MemberService {
         validateUpdateAuthority(member, targetMember);
 
         final ImageFile imageFile = ImageFile.of(memberImageUpdateRequest.getImageFile(), memberImagePath);
-        final String imageUrl = imageUploader.uploadImage(imageFile);
+        final Long requesterId = member.getId();
+        imageUploadPipeline.uploadAfterCommit(imageFile, imageUrl -> completeImageUpload(requesterId, imageUrl));
+    }
 
-        member.updateImage(imageUrl);
-        memberRepository.save(member);
+    private void completeImageUpload(final Long memberId, final String imageUrl) {
+        memberRepository.findById(memberId).ifPresent(member -> {
+            imageGarbageCollector.collect(member.getMemberImage().getImageUrl());
+            member.updateImage(imageUrl);
+            memberRepository.save(member);
+            eventPublisher.publishEvent(MemberProfileUpdateEvent.of(memberId));
+        });
     }
 
     /**
-     * TODO: S3 비동기 삭제 로직 구현
+     * 기존 이미지는 삭제 대상으로 기록하고 ImageGarbageCollector 에서 비동기로 삭제한다.
      */
     @Transactional
     public void deleteImage(final MemberPayLoad memberPayLoad, final Long memberId){
@@ -176,8 +215,10 @@ public class MemberService {
 
         validateUpdateAuthority(member, targetMember);
 
+        imageGarbageCollector.collect(member.getMemberImage().getImageUrl());
         member.updateImage(MemberImage.getMemberImageUrl());
         memberRepository.save(member);
+        eventPublisher.publishEvent(MemberProfileUpdateEvent.of(member.getId()));
     }
 
     private void validateNickNameExists(final String nickName) {
@@ -220,6 +261,7 @@ public class MemberService {
     @Transactional(readOnly = true)
     public Member findMemberById(final Long memberId) {
         final Member member = memberRepository.findById(memberId)
+                .filter(it -> !it.isDeleted())
                 .orElseThrow(() -> new MemberException(MemberExceptionType.NOT_FOUND));
         return member;
     }
@@ -242,7 +284,7 @@ public class MemberService {
 
 
     private void validateExistsById(final Long memberId) {
-        if (!memberRepository.existsById(memberId)) {
+        if (!memberRepository.existsByIdAndDeletedFalse(memberId)) {
             throw new MemberException(MemberExceptionType.NOT_FOUND);
         }
     }
@@ -0,0 +1,71 @@
+package com.salmalteam.salmal.application.member;
+
+import com.salmalteam.salmal.domain.lock.JobLockRepository;
+import com.salmalteam.salmal.domain.member.stats.MemberStatsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 회원 통계를 회원 ID 범위 단위로 원본 테이블에서 다시 집계한다.
+ * 투표 정리, 회원 탈퇴처럼 다른 회원의 데이터가 함께 삭제되는 경우와 증감 누락을 보정한다.
+ * 한 서버에서만 실행하도록 잠금을 잡고, 범위마다 트랜잭션을 나눠서 증감 UPDATE 와 행 잠금을 짧게 다툰다.
+ */
+@Slf4j
+@Component
+public class MemberStatsReconciler {
+
+    static final String LOCK_NAME = "member-stats-reconcile";
+
+    private final MemberStatsRepository memberStatsRepository;
+    private final JobLockRepository jobLockRepository;
+    private final int chunkSize;
+    private final Duration lockLeaseTime;
+
+    public MemberStatsReconciler(final MemberStatsRepository memberStatsRepository,
+                                 final JobLockRepository jobLockRepository,
+                                 @Value("${member.stats.reconcile-chunk-size:100}") final int chunkSize,
+                                 @Value("${member.stats.reconcile-lock-lease:300000}") final long lockLeaseMillis) {
+        this.memberStatsRepository = memberStatsRepository;
+        this.jobLockRepository = jobLockRepository;
+        this.chunkSize = chunkSize;
+        this.lockLeaseTime = Duration.ofMillis(lockLeaseMillis);
+    }
+
+    @Scheduled(fixedDelayString = "${member.stats.reconcile-interval:3600000}",
+            initialDelayString = "${member.stats.reconcile-initial-delay:60000}")
+    public void reconcile() {
+        if (!jobLockRepository.acquire(LOCK_NAME, lockLeaseTime)) {
+            return;
+        }
+        try {
+            reconcileAll();
+        } catch (RuntimeException e) {
+            log.error("회원 통계 보정에 실패하여 다음 주기에 재시도합니다.", e);
+        } finally {
+            jobLockRepository.release(LOCK_NAME);
+        }
+    }
+
+    /**
+     * 마지막 범위는 이후에 가입한 회원과 삭제된 회원의 통계까지 포함하도록 끝을 열어 둔다.
+     * 범위마다 잠금 기간을 늘리고, 그 사이 잠금을 빼앗겼다면 멈춘다.
+     */
+    void reconcileAll() {
+        Long cursorId = 0L;
+        while (jobLockRepository.acquire(LOCK_NAME, lockLeaseTime)) {
+            final List<Long> memberIds = memberStatsRepository.findMemberIds(cursorId, chunkSize);
+            if (memberIds.size() < chunkSize) {
+                memberStatsRepository.reconcile(cursorId, Long.MAX_VALUE);
+                return;
+            }
+            final Long lastMemberId = memberIds.get(memberIds.size() - 1);
+            memberStatsRepository.reconcile(cursorId, lastMemberId);
+            cursorId = lastMemberId;
+        }
+    }
+}
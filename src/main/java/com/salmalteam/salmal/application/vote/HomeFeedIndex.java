@@ -0,0 +1,217 @@
+package com.salmalteam.salmal.application.vote;
+
+import com.salmalteam.salmal.domain.vote.VoteRepository;
+import com.salmalteam.salmal.domain.vote.evaluation.MemberVoteEvaluation;
+import com.salmalteam.salmal.domain.vote.evaluation.VoteEvaluationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * HOME 피드용 무작위 후보 풀
+ * 투표 ID 를 seed 로 섞은 해시 값 순서로 정렬해 두고, 회원마다 다른 위치에서 시작해 한 바퀴 순회한다.
+ * 투표의 순서가 해시 값으로 고정되므로 재적재 후에도 커서(마지막 투표 ID) 이후의 위치가 바뀌지 않는다.
+ * 이미 보여준 투표와 평가한 투표는 SeenVoteFilter 와 평가 조회로 걸러낸다.
+ */
+@Slf4j
+@Component
+public class HomeFeedIndex {
+
+    private static final int MAX_SCAN_MULTIPLIER = 20;
+
+    private final VoteRepository voteRepository;
+    private final VoteEvaluationRepository voteEvaluationRepository;
+    private final SeenVoteFilter seenVoteFilter;
+    private final long seed;
+    private volatile NavigableSet<Candidate> candidates;
+
+    public HomeFeedIndex(final VoteRepository voteRepository,
+                         final VoteEvaluationRepository voteEvaluationRepository,
+                         final SeenVoteFilter seenVoteFilter,
+                         @Value("${vote.home.seed:20230901}") final long seed) {
+        this.voteRepository = voteRepository;
+        this.voteEvaluationRepository = voteEvaluationRepository;
+        this.seenVoteFilter = seenVoteFilter;
+        this.seed = seed;
+    }
+
+    /**
+     * 커서 이후 위치부터 회원이 보지 않았고 평가하지 않은 투표 ID 를 size + 1 개까지 반환한다.
+     * 반환하는 앞의 size 개는 본 투표로 기록한다.
+     */
+    public List<Long> searchVoteIds(final Long memberId, final Long cursorId, final int size) {
+        return searchVoteIds(memberId, cursorId, size, UnaryOperator.identity());
+    }
+
+    /**
+     * voteIdFilter 는 보지 않았고 평가하지 않은 후보에 추가로 적용된다.
+     */
+    public List<Long> searchVoteIds(final Long memberId, final Long cursorId, final int size,
+                                    final UnaryOperator<List<Long>> voteIdFilter) {
+        final Iterator<Long> voteIdIterator = iterate(memberId, cursorId);
+        final List<Long> voteIds = new ArrayList<>(size + 1);
+        final int maxScanCount = (size + 1) * MAX_SCAN_MULTIPLIER;
+        int scanCount = 0;
+
+        while (voteIds.size() <= size && scanCount < maxScanCount && voteIdIterator.hasNext()) {
+            final int batchSize = (size + 1 - voteIds.size()) * 2;
+            final List<Long> unseenVoteIds = new ArrayList<>(batchSize);
+            while (unseenVoteIds.size() < batchSize && scanCount < maxScanCount && voteIdIterator.hasNext()) {
+                final Long voteId = voteIdIterator.next();
+                scanCount++;
+                if (!seenVoteFilter.mightContain(memberId, voteId)) {
+                    unseenVoteIds.add(voteId);
+                }
+            }
+            voteIds.addAll(voteIdFilter.apply(excludeEvaluated(memberId, unseenVoteIds)));
+        }
+
+        final List<Long> result = voteIds.size() > size + 1 ? new ArrayList<>(voteIds.subList(0, size + 1)) : voteIds;
+        seenVoteFilter.putAll(memberId, result.subList(0, Math.min(size, result.size())));
+        return result;
+    }
+
+    public void markSeen(final Long memberId, final Long voteId) {
+        seenVoteFilter.put(memberId, voteId);
+    }
+
+    private List<Long> excludeEvaluated(final Long memberId, final List<Long> voteIds) {
+        if (voteIds.isEmpty()) {
+            return voteIds;
+        }
+        final Set<Long> evaluatedVoteIds = voteEvaluationRepository.findAllByEvaluatorIdAndVoteIdIn(memberId, voteIds).stream()
+                .map(MemberVoteEvaluation::getVoteId)
+                .collect(Collectors.toSet());
+        // 다음 조회부터는 DB 를 거치지 않고 필터에서 걸러진다.
+        seenVoteFilter.putAll(memberId, evaluatedVoteIds);
+        return voteIds.stream()
+                .filter(voteId -> !evaluatedVoteIds.contains(voteId))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 회원의 시작 위치에서 한 바퀴 도는 순서로 순회한다. 커서가 있으면 커서 다음 위치부터 시작한다.
+     */
+    private Iterator<Long> iterate(final Long memberId, final Long cursorId) {
+        final NavigableSet<Candidate> current = getCandidates();
+        final Candidate start = Candidate.start(SeenVoteFilter.mix(memberId ^ seed));
+
+        final Stream<Candidate> ordered;
+        if (cursorId == null) {
+            ordered = Stream.concat(current.tailSet(start, true).stream(), current.headSet(start, false).stream());
+        } else {
+            final Candidate cursor = Candidate.of(cursorId, seed);
+            ordered = cursor.compareTo(start) >= 0
+                    ? Stream.concat(current.tailSet(cursor, false).stream(), current.headSet(start, false).stream())
+                    : current.subSet(cursor, false, start, false).stream();
+        }
+        return ordered.map(candidate -> candidate.voteId).iterator();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleVoteRegisterEvent(final VoteRegisterEvent event) {
+        final NavigableSet<Candidate> current = this.candidates;
+        if (current != null && event.getVoteId() != null) {
+            current.add(Candidate.of(event.getVoteId(), seed));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleVoteDeleteEvent(final VoteDeleteEvent event) {
+        final NavigableSet<Candidate> current = this.candidates;
+        if (current != null) {
+            current.remove(Candidate.of(event.getVoteId(), seed));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${vote.home.rebuild-interval:300000}",
+            initialDelayString = "${vote.home.rebuild-interval:300000}")
+    public void rebuild() {
+        if (this.candidates == null) {
+            return;
+        }
+        try {
+            this.candidates = load();
+        } catch (RuntimeException e) {
+            log.error("HOME 후보 풀 재적재에 실패했습니다.", e);
+        }
+    }
+
+    private NavigableSet<Candidate> getCandidates() {
+        NavigableSet<Candidate> current = this.candidates;
+        if (current == null) {
+            synchronized (this) {
+                current = this.candidates;
+                if (current == null) {
+                    current = load();
+                    this.candidates = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private NavigableSet<Candidate> load() {
+        final NavigableSet<Candidate> loaded = new ConcurrentSkipListSet<>();
+        for (Long voteId : voteRepository.findAllVisibleIds()) {
+            loaded.add(Candidate.of(voteId, seed));
+        }
+        return loaded;
+    }
+
+    private static class Candidate implements Comparable<Candidate> {
+
+        private static final Comparator<Candidate> ORDER = Comparator.<Candidate>comparingLong(candidate -> candidate.position)
+                .thenComparingLong(candidate -> candidate.voteId);
+
+        private final long position;
+        private final long voteId;
+
+        private Candidate(final long position, final long voteId) {
+            this.position = position;
+            this.voteId = voteId;
+        }
+
+        private static Candidate of(final Long voteId, final long seed) {
+            return new Candidate(SeenVoteFilter.mix(voteId ^ seed), voteId);
+        }
+
+        /**
+         * 위치가 같은 후보보다 앞에 오도록 가장 작은 투표 ID 를 사용한다.
+         */
+        private static Candidate start(final long position) {
+            return new Candidate(position, Long.MIN_VALUE);
+        }
+
+        @Override
+        public int compareTo(final Candidate other) {
+            return ORDER.compare(this, other);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Candidate)) return false;
+            final Candidate other = (Candidate) o;
+            return position == other.position && voteId == other.voteId;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(position) * 31 + Long.hashCode(voteId);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.salmalteam.salmal.application.vote;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 고유 조회자 수 추정용 HyperLogLog
+ * 1024 개의 6 비트 레지스터를 long 하나에 8 개씩 바이트 단위로 담아 1KB 만 사용하고, 표준 오차는 약 3.25% 이다.
+ * 레지스터 갱신은 CAS 로 처리해서 락 없이 여러 스레드가 동시에 추가할 수 있다.
+ */
+class HyperLogLog {
+
+    private static final int PRECISION = 10;
+    private static final int REGISTER_COUNT = 1 << PRECISION;
+    private static final int REGISTERS_PER_WORD = Long.BYTES;
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTER_COUNT);
+
+    private final AtomicLongArray words = new AtomicLongArray(REGISTER_COUNT / REGISTERS_PER_WORD);
+
+    void add(final long value) {
+        final long hash = SeenVoteFilter.mix(value);
+        final int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        final int rank = Long.numberOfLeadingZeros((hash << PRECISION) | (1L << (PRECISION - 1))) + 1;
+
+        final int wordIndex = index / REGISTERS_PER_WORD;
+        final int shift = (index % REGISTERS_PER_WORD) * Byte.SIZE;
+        while (true) {
+            final long word = words.get(wordIndex);
+            final int current = (int) ((word >>> shift) & 0xFF);
+            if (current >= rank) {
+                return;
+            }
+            final long updated = (word & ~(0xFFL << shift)) | ((long) rank << shift);
+            if (words.compareAndSet(wordIndex, word, updated)) {
+                return;
+            }
+        }
+    }
+
+    long estimate() {
+        double sum = 0;
+        int zeroCount = 0;
+        for (int wordIndex = 0; wordIndex < words.length(); wordIndex++) {
+            final long word = words.get(wordIndex);
+            for (int i = 0; i < REGISTERS_PER_WORD; i++) {
+                final int register = (int) ((word >>> (i * Byte.SIZE)) & 0xFF);
+                sum += 1.0 / (1L << register);
+                if (register == 0) {
+                    zeroCount++;
+                }
+            }
+        }
+
+        final double estimate = ALPHA * REGISTER_COUNT * REGISTER_COUNT / sum;
+        // 작은 값은 선형 카운팅으로 보정한다.
+        if (estimate <= 2.5 * REGISTER_COUNT && zeroCount > 0) {
+            return Math.round(REGISTER_COUNT * Math.log((double) REGISTER_COUNT / zeroCount));
+        }
+        return Math.round(estimate);
+    }
+}
@@ -0,0 +1,34 @@
+package com.salmalteam.salmal.application.vote;
+
+import java.util.Map;
+
+/**
+ * 조회 시점에 DB 에 반영되지 않은 투표별 좋아요 수와, 그 값에 포함된 마지막 변경 순번
+ */
+public class PendingLikeCounts {
+
+    static final PendingLikeCounts EMPTY = new PendingLikeCounts(Map.of(), Map.of());
+
+    private final Map<Long, Integer> likeCounts;
+    private final Map<Long, Long> sequences;
+
+    private PendingLikeCounts(final Map<Long, Integer> likeCounts, final Map<Long, Long> sequences) {
+        this.likeCounts = likeCounts;
+        this.sequences = sequences;
+    }
+
+    public static PendingLikeCounts of(final Map<Long, Integer> likeCounts, final Map<Long, Long> sequences) {
+        return new PendingLikeCounts(likeCounts, sequences);
+    }
+
+    public int getLikeCount(final Long voteId) {
+        return likeCounts.getOrDefault(voteId, 0);
+    }
+
+    /**
+     * 해당 순번의 변경이 이미 이 좋아요 수에 포함되어 있는지 확인한다.
+     */
+    public boolean contains(final Long voteId, final long sequence) {
+        return sequence <= sequences.getOrDefault(voteId, 0L);
+    }
+}
@@ -0,0 +1,114 @@
+package com.salmalteam.salmal.application.vote;
+
+import com.salmalteam.salmal.application.cache.LruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 회원별로 HOME 피드에서 이미 보여주었거나 평가한 투표 ID 를 기록하는 블룸 필터
+ * 회원당 두 세대(각 1KB)만 유지하고, 현재 세대가 가득 차면 이전 세대를 버려서 오래전에 본 투표는 다시 노출될 수 있다.
+ * 오탐(약 2%)이 발생하면 보지 않은 투표가 한 번 건너뛰어질 뿐이므로 허용한다.
+ */
+@Component
+public class SeenVoteFilter {
+
+    private static final int BITS = 8192;
+    private static final int HASH_COUNT = 6;
+    private static final int CAPACITY = 1000;
+
+    private final LruCache<Long, SeenVotes> seenVotesByMember;
+
+    public SeenVoteFilter(@Value("${vote.home.seen-filter.maximum-members:10000}") final int maximumMembers,
+                          @Value("${vote.home.seen-filter.expire-after-write:86400000}") final long expireAfterWrite) {
+        this.seenVotesByMember = new LruCache<>(maximumMembers, expireAfterWrite);
+    }
+
+    public boolean mightContain(final Long memberId, final Long voteId) {
+        final SeenVotes seenVotes = seenVotesByMember.get(memberId);
+        return seenVotes != null && seenVotes.mightContain(voteId);
+    }
+
+    public void put(final Long memberId, final Long voteId) {
+        seenVotesByMember.computeIfAbsent(memberId, id -> new SeenVotes()).put(voteId);
+    }
+
+    public void putAll(final Long memberId, final Collection<Long> voteIds) {
+        if (voteIds.isEmpty()) {
+            return;
+        }
+        final SeenVotes seenVotes = seenVotesByMember.computeIfAbsent(memberId, id -> new SeenVotes());
+        voteIds.forEach(seenVotes::put);
+    }
+
+    private static class SeenVotes {
+
+        private volatile Generation current = new Generation();
+        private volatile Generation previous;
+
+        private boolean mightContain(final long voteId) {
+            final Generation previousGeneration = this.previous;
+            return current.mightContain(voteId) || (previousGeneration != null && previousGeneration.mightContain(voteId));
+        }
+
+        private void put(final long voteId) {
+            if (current.put(voteId) >= CAPACITY) {
+                rotate();
+            }
+        }
+
+        private synchronized void rotate() {
+            if (current.size() < CAPACITY) {
+                return;
+            }
+            previous = current;
+            current = new Generation();
+        }
+    }
+
+    private static class Generation {
+
+        private final AtomicLongArray bits = new AtomicLongArray(BITS / Long.SIZE);
+        private final AtomicInteger size = new AtomicInteger();
+
+        private boolean mightContain(final long voteId) {
+            final long hash1 = mix(voteId);
+            final long hash2 = mix(hash1) | 1;
+            for (int i = 0; i < HASH_COUNT; i++) {
+                final int index = (int) Long.remainderUnsigned(hash1 + i * hash2, BITS);
+                if ((bits.get(index / Long.SIZE) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int put(final long voteId) {
+            final long hash1 = mix(voteId);
+            final long hash2 = mix(hash1) | 1;
+            for (int i = 0; i < HASH_COUNT; i++) {
+                final int index = (int) Long.remainderUnsigned(hash1 + i * hash2, BITS);
+                final long mask = 1L << index;
+                bits.accumulateAndGet(index / Long.SIZE, mask, (word, bit) -> word | bit);
+            }
+            return size.incrementAndGet();
+        }
+
+        private int size() {
+            return size.get();
+        }
+    }
+
+    /**
+     * SplitMix64 의 마무리 단계
+     */
+    static long mix(final long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
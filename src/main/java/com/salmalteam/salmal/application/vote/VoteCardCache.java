@@ -0,0 +1,302 @@
+package com.salmalteam.salmal.application.vote;
+
+import com.salmalteam.salmal.application.cache.LruCache;
+import com.salmalteam.salmal.application.cache.SingleFlight;
+import com.salmalteam.salmal.application.member.MemberDeleteEvent;
+import com.salmalteam.salmal.application.member.MemberProfileUpdateEvent;
+import com.salmalteam.salmal.domain.vote.VoteAuthor;
+import com.salmalteam.salmal.domain.vote.VoteCard;
+import com.salmalteam.salmal.domain.vote.VoteCounter;
+import com.salmalteam.salmal.domain.vote.VoteRepository;
+import com.salmalteam.salmal.dto.response.vote.VoteResponse;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 투표 응답 조립용 캐시
+ * 변하지 않는 투표 정보(VoteCard), 작성자 정보(VoteAuthor), 통계(VoteCounter)를 나눠서 보관하고
+ * 변경 이벤트가 발생한 부분만 무효화한다.
+ * 캐시가 비어 있는 투표를 여러 요청이 동시에 조회하면 DB 조회는 한 번만 실행하고 결과를 함께 사용한다.
+ */
+@Slf4j
+@Component
+public class VoteCardCache implements MeterBinder {
+
+    private final VoteRepository voteRepository;
+    private final Optional<VoteCardRemoteCache> remoteCache;
+    private final LruCache<Long, VoteCard> voteCards;
+    private final LruCache<Long, VoteAuthor> voteAuthors;
+    private final LruCache<Long, VoteCounter> voteCounters;
+    private final SingleFlight<Long, VoteCard> voteCardLoads;
+    private final SingleFlight<Long, VoteCounter> voteCounterLoads;
+
+    public VoteCardCache(final VoteRepository voteRepository,
+                         final Optional<VoteCardRemoteCache> remoteCache,
+                         @Value("${vote.card-cache.maximum-size:10000}") final int maximumSize,
+                         @Value("${vote.card-cache.expire-after-write:600000}") final long expireAfterWrite,
+                         @Value("${vote.card-cache.counter-expire-after-write:60000}") final long counterExpireAfterWrite,
+                         @Value("${vote.card-cache.single-flight-ttl:1000}") final long singleFlightTtl) {
+        this.voteRepository = voteRepository;
+        this.remoteCache = remoteCache;
+        this.voteCards = new LruCache<>(maximumSize, expireAfterWrite);
+        this.voteAuthors = new LruCache<>(maximumSize, expireAfterWrite);
+        this.voteCounters = new LruCache<>(maximumSize, counterExpireAfterWrite);
+        this.voteCardLoads = new SingleFlight<>(singleFlightTtl, maximumSize);
+        this.voteCounterLoads = new SingleFlight<>(singleFlightTtl, maximumSize);
+    }
+
+    /**
+     * 전달받은 투표 ID 순서대로 회원 상태가 포함되지 않은 투표 응답을 반환한다. 존재하지 않는 투표는 제외된다.
+     */
+    public List<VoteResponse> getVoteResponses(final List<Long> voteIds) {
+        if (voteIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        final Map<Long, VoteCard> cards = loadVoteCards(voteIds);
+        final Map<Long, VoteCounter> counters = loadVoteCounters(cards.keySet());
+        final Set<Long> memberIds = cards.values().stream()
+                .map(VoteCard::getMemberId)
+                .collect(Collectors.toSet());
+        final Map<Long, VoteAuthor> authors = loadVoteAuthors(memberIds);
+
+        final List<VoteResponse> voteResponses = new ArrayList<>(voteIds.size());
+        for (Long voteId : voteIds) {
+            final VoteCard card = cards.get(voteId);
+            if (card == null) {
+                continue;
+            }
+            final VoteCounter counter = counters.get(voteId);
+            final VoteAuthor author = authors.get(card.getMemberId());
+            if (counter == null || author == null) {
+                continue;
+            }
+            voteResponses.add(VoteResponse.of(card, author, counter));
+        }
+        return voteResponses;
+    }
+
+    private Map<Long, VoteCard> loadVoteCards(final List<Long> voteIds) {
+        final Map<Long, VoteCard> cards = new HashMap<>(voteCards.getAll(voteIds));
+        final List<Long> missIds = missingKeys(voteIds, cards.keySet());
+        if (missIds.isEmpty()) {
+            return cards;
+        }
+
+        final Map<Long, VoteCard> remoteCards = getRemote(remote -> remote.getVoteCards(missIds));
+        voteCards.putAll(remoteCards);
+        cards.putAll(remoteCards);
+        final List<Long> dbMissIds = missingKeys(missIds, cards.keySet());
+        if (dbMissIds.isEmpty()) {
+            return cards;
+        }
+
+        cards.putAll(voteCardLoads.getAll(dbMissIds, this::searchVoteCards));
+        return cards;
+    }
+
+    /**
+     * 캐시에 전혀 없는 투표는 작성자, 통계까지 한 번에 조회해서 함께 채운다.
+     * 조회하는 동안 무효화가 일어난 캐시에는 조회한 값을 채우지 않는다.
+     */
+    private Map<Long, VoteCard> searchVoteCards(final List<Long> voteIds) {
+        final long cardGeneration = voteCards.getEvictionGeneration();
+        final long authorGeneration = voteAuthors.getEvictionGeneration();
+        final long counterGeneration = voteCounters.getEvictionGeneration();
+        final List<VoteResponse> loaded = voteRepository.searchListByIds(voteIds);
+        final Map<Long, VoteCard> cards = new HashMap<>(loaded.size() * 2);
+        final Map<Long, VoteAuthor> authors = new HashMap<>(loaded.size() * 2);
+        final Map<Long, VoteCounter> counters = new HashMap<>(loaded.size() * 2);
+        final List<VoteAuthor> loadedAuthors = new ArrayList<>(loaded.size());
+        for (VoteResponse voteResponse : loaded) {
+            final VoteCard card = new VoteCard(voteResponse.getId(), voteResponse.getMemberId(), voteResponse.getImageUrl(), voteResponse.getCreatedAt());
+            final VoteAuthor author = new VoteAuthor(voteResponse.getMemberId(), voteResponse.getNickName(), voteResponse.getMemberImageUrl());
+            final VoteCounter counter = new VoteCounter(voteResponse.getId(), voteResponse.getCommentCount(), voteResponse.getLikeCount(),
+                    voteResponse.getDisLikeCount(), voteResponse.getTotalEvaluationCnt(), voteResponse.getLikeRatio(), voteResponse.getDisLikeRatio());
+            cards.put(card.getVoteId(), card);
+            authors.put(author.getMemberId(), author);
+            counters.put(counter.getVoteId(), counter);
+            loadedAuthors.add(author);
+        }
+        voteCards.putAllIfNotEvictedSince(cards, cardGeneration);
+        voteAuthors.putAllIfNotEvictedSince(authors, authorGeneration);
+        voteCounters.putAllIfNotEvictedSince(counters, counterGeneration);
+        runRemote(remote -> {
+            remote.putVoteCards(new ArrayList<>(cards.values()));
+            remote.putVoteAuthors(loadedAuthors);
+        });
+        return cards;
+    }
+
+    private Map<Long, VoteCounter> loadVoteCounters(final Collection<Long> voteIds) {
+        final Map<Long, VoteCounter> counters = new HashMap<>(voteCounters.getAll(voteIds));
+        final List<Long> missIds = missingKeys(voteIds, counters.keySet());
+        if (missIds.isEmpty()) {
+            return counters;
+        }
+        counters.putAll(voteCounterLoads.getAll(missIds, this::searchVoteCounters));
+        return counters;
+    }
+
+    private Map<Long, VoteCounter> searchVoteCounters(final List<Long> voteIds) {
+        final long generation = voteCounters.getEvictionGeneration();
+        final Map<Long, VoteCounter> counters = new HashMap<>(voteIds.size() * 2);
+        for (VoteCounter counter : voteRepository.searchVoteCounters(voteIds)) {
+            counters.put(counter.getVoteId(), counter);
+        }
+        voteCounters.putAllIfNotEvictedSince(counters, generation);
+        return counters;
+    }
+
+    private Map<Long, VoteAuthor> loadVoteAuthors(final Collection<Long> memberIds) {
+        final Map<Long, VoteAuthor> authors = new HashMap<>(voteAuthors.getAll(memberIds));
+        final List<Long> missIds = missingKeys(memberIds, authors.keySet());
+        if (missIds.isEmpty()) {
+            return authors;
+        }
+
+        final Map<Long, VoteAuthor> remoteAuthors = getRemote(remote -> remote.getVoteAuthors(missIds));
+        voteAuthors.putAll(remoteAuthors);
+        authors.putAll(remoteAuthors);
+        final List<Long> dbMissIds = missingKeys(missIds, authors.keySet());
+        if (dbMissIds.isEmpty()) {
+            return authors;
+        }
+
+        final long generation = voteAuthors.getEvictionGeneration();
+        final List<VoteAuthor> loadedAuthors = voteRepository.searchVoteAuthors(dbMissIds);
+        final Map<Long, VoteAuthor> dbAuthors = new HashMap<>(loadedAuthors.size() * 2);
+        for (VoteAuthor author : loadedAuthors) {
+            dbAuthors.put(author.getMemberId(), author);
+        }
+        authors.putAll(dbAuthors);
+        voteAuthors.putAllIfNotEvictedSince(dbAuthors, generation);
+        runRemote(remote -> remote.putVoteAuthors(loadedAuthors));
+        return authors;
+    }
+
+    private List<Long> missingKeys(final Collection<Long> keys, final Set<Long> foundKeys) {
+        return keys.stream()
+                .filter(key -> !foundKeys.contains(key))
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 이미지 업로드가 끝나기 전에 조회되어 이미지 URL 없이 캐시된 투표 정보를 비운다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleVoteRegisterEvent(final VoteRegisterEvent event) {
+        final Long voteId = event.getVoteId();
+        voteCards.evict(voteId);
+        voteCardLoads.evict(voteId);
+        runRemote(remote -> remote.evictVoteCard(voteId));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleVoteDeleteEvent(final VoteDeleteEvent event) {
+        final Long voteId = event.getVoteId();
+        voteCards.evict(voteId);
+        voteCounters.evict(voteId);
+        voteCardLoads.evict(voteId);
+        voteCounterLoads.evict(voteId);
+        runRemote(remote -> remote.evictVoteCard(voteId));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleVoteCounterChangeEvent(final VoteCounterChangeEvent event) {
+        voteCounters.evictAll(event.getVoteIds());
+        event.getVoteIds().forEach(voteCounterLoads::evict);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleMemberProfileUpdateEvent(final MemberProfileUpdateEvent event) {
+        evictVoteAuthor(event.getMemberId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleMemberDeleteEvent(final MemberDeleteEvent event) {
+        evictVoteAuthor(event.getMemberId());
+    }
+
+    private void evictVoteAuthor(final Long memberId) {
+        voteAuthors.evict(memberId);
+        runRemote(remote -> remote.evictVoteAuthor(memberId));
+    }
+
+    /**
+     * 2차 캐시 장애가 조회 실패로 이어지지 않도록 예외를 기록만 하고 DB 조회로 대체한다.
+     */
+    private <T> Map<Long, T> getRemote(final Function<VoteCardRemoteCache, Map<Long, T>> operation) {
+        if (remoteCache.isEmpty()) {
+            return new HashMap<>();
+        }
+        try {
+            return operation.apply(remoteCache.get());
+        } catch (RuntimeException e) {
+            log.warn("투표 카드 2차 캐시 조회에 실패했습니다.", e);
+            return new HashMap<>();
+        }
+    }
+
+    private void runRemote(final Consumer<VoteCardRemoteCache> operation) {
+        remoteCache.ifPresent(remote -> {
+            try {
+                operation.accept(remote);
+            } catch (RuntimeException e) {
+                log.warn("투표 카드 2차 캐시 반영에 실패했습니다.", e);
+            }
+        });
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        bindCache(registry, "card", voteCards);
+        bindCache(registry, "author", voteAuthors);
+        bindCache(registry, "counter", voteCounters);
+        bindSingleFlight(registry, "card", voteCardLoads);
+        bindSingleFlight(registry, "counter", voteCounterLoads);
+    }
+
+    private void bindCache(final MeterRegistry registry, final String name, final LruCache<?, ?> cache) {
+        FunctionCounter.builder("vote.card.cache.gets", cache, LruCache::getHitCount)
+                .tag("cache", name)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("vote.card.cache.gets", cache, LruCache::getMissCount)
+                .tag("cache", name)
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("vote.card.cache.size", cache, LruCache::size)
+                .tag("cache", name)
+                .register(registry);
+    }
+
+    private void bindSingleFlight(final MeterRegistry registry, final String name, final SingleFlight<?, ?> singleFlight) {
+        FunctionCounter.builder("vote.card.cache.loads", singleFlight, SingleFlight::getLoadCount)
+                .tag("cache", name)
+                .tag("result", "load")
+                .register(registry);
+        FunctionCounter.builder("vote.card.cache.loads", singleFlight, SingleFlight::getJoinCount)
+                .tag("cache", name)
+                .tag("result", "join")
+                .register(registry);
+    }
+}
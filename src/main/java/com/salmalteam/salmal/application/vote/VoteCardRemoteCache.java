@@ -0,0 +1,19 @@
+package com.salmalteam.salmal.application.vote;
+
+import com.salmalteam.salmal.domain.vote.VoteAuthor;
+import com.salmalteam.salmal.domain.vote.VoteCard;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 서버 간에 공유하는 투표 카드 2차 캐시
+ */
+public interface VoteCardRemoteCache {
+    Map<Long, VoteCard> getVoteCards(Collection<Long> voteIds);
+    void putVoteCards(Collection<VoteCard> voteCards);
+    void evictVoteCard(Long voteId);
+    Map<Long, VoteAuthor> getVoteAuthors(Collection<Long> memberIds);
+    void putVoteAuthors(Collection<VoteAuthor> voteAuthors);
+    void evictVoteAuthor(Long memberId);
+}
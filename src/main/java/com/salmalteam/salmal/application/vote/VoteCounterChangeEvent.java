@@ -0,0 +1,19 @@
+package com.salmalteam.salmal.application.vote;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class VoteCounterChangeEvent {
+    private final List<Long> voteIds;
+    private VoteCounterChangeEvent(final List<Long> voteIds){
+        this.voteIds = voteIds;
+    }
+    public static VoteCounterChangeEvent of(final List<Long> voteIds){
+        return new VoteCounterChangeEvent(voteIds);
+    }
+    public static VoteCounterChangeEvent of(final Long voteId){
+        return new VoteCounterChangeEvent(List.of(voteId));
+    }
+}
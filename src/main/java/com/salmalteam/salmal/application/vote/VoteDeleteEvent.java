@@ -0,0 +1,14 @@
+package com.salmalteam.salmal.application.vote;
+
+import lombok.Getter;
+
+@Getter
+public class VoteDeleteEvent {
+    private final Long voteId;
+    private VoteDeleteEvent(final Long voteId){
+        this.voteId = voteId;
+    }
+    public static VoteDeleteEvent of(final Long voteId){
+        return new VoteDeleteEvent(voteId);
+    }
+}
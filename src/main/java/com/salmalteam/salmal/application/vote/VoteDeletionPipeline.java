@@ -0,0 +1,116 @@
+package com.salmalteam.salmal.application.vote;
+
+import com.salmalteam.salmal.domain.vote.VoteDeletionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * 숨김 처리된 투표의 하위 데이터(답글, 댓글, 댓글 좋아요/신고, 평가, 북마크, 신고)를 묶음 단위 DELETE 로 정리한 뒤 투표를 삭제한다.
+ * 삭제 요청은 투표를 숨김 처리만 하고 커밋 이후 전용 스레드에서 정리하며,
+ * 서버 종료 등으로 정리되지 못한 투표는 주기적으로 다시 정리한다.
+ */
+@Slf4j
+@Component
+public class VoteDeletionPipeline {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30L;
+    private static final int SWEEP_SIZE = 100;
+
+    private final VoteDeletionRepository voteDeletionRepository;
+    private final int chunkSize;
+    private final ThreadPoolExecutor voteDeletionExecutor;
+
+    public VoteDeletionPipeline(final VoteDeletionRepository voteDeletionRepository,
+                                @Value("${vote.deletion.chunk-size:500}") final int chunkSize) {
+        this.voteDeletionRepository = voteDeletionRepository;
+        this.chunkSize = chunkSize;
+        this.voteDeletionExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    final Thread thread = new Thread(runnable, "vote-deletion");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 이후 정리한다. 롤백되면 정리하지 않는다.
+     */
+    public void purgeAfterCommit(final Long voteId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(voteId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit(voteId);
+            }
+        });
+    }
+
+    private void submit(final Long voteId) {
+        voteDeletionExecutor.execute(() -> {
+            try {
+                purge(voteId);
+            } catch (RuntimeException e) {
+                log.error("투표 삭제에 실패하여 다음 주기에 재시도합니다. voteId={}", voteId, e);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${vote.deletion.sweep-interval:600000}",
+            initialDelayString = "${vote.deletion.sweep-interval:600000}")
+    public void sweep() {
+        try {
+            final List<Long> voteIds = voteDeletionRepository.findDeletedVoteIds(SWEEP_SIZE);
+            voteIds.forEach(this::submit);
+        } catch (RuntimeException e) {
+            log.error("삭제 대기 중인 투표 조회에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 외래 키 순서대로 답글 -> 댓글 -> 평가/북마크/신고 -> 투표 순으로 삭제한다.
+     * 각 묶음은 별도의 트랜잭션이므로 중간에 실패하면 남은 데이터는 다음 정리에서 이어서 삭제된다.
+     */
+    public void purge(final Long voteId) {
+        List<Long> commentIds;
+        while (!(commentIds = voteDeletionRepository.findCommentIdsByVoteId(voteId, chunkSize)).isEmpty()) {
+            List<Long> replyIds;
+            while (!(replyIds = voteDeletionRepository.findReplyIdsByParentCommentIds(commentIds, chunkSize)).isEmpty()) {
+                voteDeletionRepository.deleteComments(replyIds);
+            }
+            voteDeletionRepository.deleteComments(commentIds);
+        }
+        deleteInChunks(() -> voteDeletionRepository.deleteEvaluationsByVoteId(voteId, chunkSize));
+        deleteInChunks(() -> voteDeletionRepository.deleteBookmarksByVoteId(voteId, chunkSize));
+        deleteInChunks(() -> voteDeletionRepository.deleteReportsByVoteId(voteId, chunkSize));
+        voteDeletionRepository.deleteVote(voteId);
+    }
+
+    private void deleteInChunks(final IntSupplier deleteChunk) {
+        int deleted;
+        do {
+            deleted = deleteChunk.getAsInt();
+        } while (deleted >= chunkSize);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        voteDeletionExecutor.shutdown();
+        if (!voteDeletionExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            log.warn("종료 전까지 삭제되지 않은 투표는 다음 정리 주기에 삭제됩니다. size={}", voteDeletionExecutor.getQueue().size());
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.salmalteam.salmal.application.vote;
+
+import com.salmalteam.salmal.domain.vote.VoteEvaluationCountDelta;
+import com.salmalteam.salmal.domain.vote.VoteStatisticsRepository;
+import com.salmalteam.salmal.domain.vote.evaluation.VoteEvaluationType;
+import com.salmalteam.salmal.dto.response.vote.VoteResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 투표 평가 통계(좋아요, 싫어요, 평가 수)를 투표 단위로 메모리에 모아 두었다가 주기적으로 한 번에 반영한다.
+ * 인기 투표의 vote 행에 평가마다 UPDATE 를 날려 row lock 이 몰리는 것을 막기 위함
+ */
+@Slf4j
+@Component
+public class VoteEvaluationCountAggregator {
+
+    private final ConcurrentHashMap<Long, PendingCount> pendingCounts = new ConcurrentHashMap<>();
+    // 투표별로 DB 에 반영된 마지막 변경 순번. 반영된 변경의 이벤트가 늦게 도착해도 DB 값에 포함된 것인지 알 수 있다.
+    private final ConcurrentHashMap<Long, Long> flushedSequences = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Object flushLock = new Object();
+    private final VoteStatisticsRepository voteStatisticsRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public VoteEvaluationCountAggregator(final VoteStatisticsRepository voteStatisticsRepository,
+                                         final ApplicationEventPublisher eventPublisher) {
+        this.voteStatisticsRepository = voteStatisticsRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public void increase(final Long voteId, final VoteEvaluationType voteEvaluationType) {
+        change(voteId, null, voteEvaluationType);
+    }
+
+    public void decrease(final Long voteId, final VoteEvaluationType voteEvaluationType) {
+        change(voteId, voteEvaluationType, null);
+    }
+
+    /**
+     * 평가 타입이 바뀐 만큼을 한 번에 누적한다. 새로 평가했다면 previousType, 취소했다면 currentType 이 null 이다.
+     * 평가 저장 트랜잭션이 롤백되면 통계도 반영되지 않아야 하므로 커밋 이후에 누적한다.
+     */
+    public void change(final Long voteId, final VoteEvaluationType previousType, final VoteEvaluationType currentType) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(voteId, previousType, currentType);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(voteId, previousType, currentType);
+            }
+        });
+    }
+
+    private void record(final Long voteId, final VoteEvaluationType previousType, final VoteEvaluationType currentType) {
+        final long[] changeSequence = new long[1];
+        pendingCounts.compute(voteId, (id, pendingCount) -> {
+            final PendingCount count = pendingCount == null ? new PendingCount() : pendingCount;
+            if (previousType != null) {
+                count.add(previousType, -1);
+            }
+            if (currentType != null) {
+                count.add(currentType, 1);
+            }
+            // 같은 투표의 변경 순서와 순번이 일치하도록 잠금 안에서 순번을 정한다.
+            changeSequence[0] = sequence.incrementAndGet();
+            count.lastSequence = changeSequence[0];
+            return count;
+        });
+        if (previousType != null) {
+            eventPublisher.publishEvent(VoteEvaluationCountChangeEvent.of(voteId, previousType, -1, changeSequence[0]));
+        }
+        if (currentType != null) {
+            eventPublisher.publishEvent(VoteEvaluationCountChangeEvent.of(voteId, currentType, 1, changeSequence[0]));
+        }
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 증감량을 조회 결과에 합쳐서 반환한다.
+     */
+    public VoteResponse merge(final VoteResponse voteResponse) {
+        if (voteResponse == null) {
+            return null;
+        }
+        final PendingCount pendingCount = pendingCounts.get(voteResponse.getId());
+        if (pendingCount == null) {
+            return voteResponse;
+        }
+        voteResponse.applyPendingEvaluation(pendingCount.likeCount.intValue(), pendingCount.dislikeCount.intValue());
+        return voteResponse;
+    }
+
+    public List<VoteResponse> merge(final List<VoteResponse> voteResponses) {
+        voteResponses.forEach(this::merge);
+        return voteResponses;
+    }
+
+    /**
+     * 투표별 좋아요 수는 변경 순번과 함께 투표 단위로 원자적으로 읽는다.
+     * 순번은 DB 에 반영된 변경과 메모리에 남아 있는 변경 중 마지막 순번이다.
+     * DB 조회 결과와 합칠 때는 withFlushPaused 안에서 DB 를 먼저 조회한 뒤 호출해야 한다.
+     */
+    public PendingLikeCounts getPendingLikeCounts() {
+        final Map<Long, Integer> likeCounts = new HashMap<>();
+        final Map<Long, Long> sequences = new HashMap<>(flushedSequences);
+        for (Long voteId : pendingCounts.keySet()) {
+            pendingCounts.computeIfPresent(voteId, (id, pendingCount) -> {
+                likeCounts.put(id, pendingCount.likeCount.intValue());
+                sequences.merge(id, pendingCount.lastSequence, Math::max);
+                return pendingCount;
+            });
+        }
+        return PendingLikeCounts.of(likeCounts, sequences);
+    }
+
+    /**
+     * 반영 중인 증감량은 메모리와 DB 어느 쪽에서도 보이지 않거나 양쪽에서 모두 보일 수 있으므로,
+     * 실행하는 동안에는 반영을 멈춰서 DB 와 메모리의 합이 정확하게 맞도록 한다.
+     */
+    public <T> T withFlushPaused(final Supplier<T> action) {
+        synchronized (flushLock) {
+            return action.get();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${vote.evaluation.flush-interval:1000}")
+    public void flush() {
+        synchronized (flushLock) {
+            final Map<Long, Long> drainedSequences = new HashMap<>();
+            final List<VoteEvaluationCountDelta> deltas = drain(drainedSequences);
+            if (deltas.isEmpty()) {
+                markFlushed(drainedSequences);
+                return;
+            }
+
+            try {
+                voteStatisticsRepository.updateEvaluationStatistics(deltas);
+                markFlushed(drainedSequences);
+                eventPublisher.publishEvent(VoteCounterChangeEvent.of(deltas.stream()
+                        .map(VoteEvaluationCountDelta::getVoteId)
+                        .collect(Collectors.toList())));
+            } catch (RuntimeException e) {
+                log.error("투표 평가 통계 반영에 실패하여 다음 주기에 재시도합니다. size={}", deltas.size(), e);
+                deltas.forEach(delta -> restore(delta, drainedSequences.get(delta.getVoteId())));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private List<VoteEvaluationCountDelta> drain(final Map<Long, Long> drainedSequences) {
+        final List<VoteEvaluationCountDelta> deltas = new ArrayList<>();
+        for (Long voteId : pendingCounts.keySet()) {
+            pendingCounts.computeIfPresent(voteId, (id, pendingCount) -> {
+                drainedSequences.put(id, pendingCount.lastSequence);
+                final VoteEvaluationCountDelta delta = pendingCount.drain(id);
+                if (!delta.isEmpty()) {
+                    deltas.add(delta);
+                }
+                return null;
+            });
+        }
+        return deltas;
+    }
+
+    private void markFlushed(final Map<Long, Long> drainedSequences) {
+        drainedSequences.forEach((voteId, lastSequence) -> flushedSequences.merge(voteId, lastSequence, Math::max));
+    }
+
+    private void restore(final VoteEvaluationCountDelta delta, final long lastSequence) {
+        pendingCounts.compute(delta.getVoteId(), (id, pendingCount) -> {
+            final PendingCount count = pendingCount == null ? new PendingCount() : pendingCount;
+            count.likeCount.add(delta.getLikeDelta());
+            count.dislikeCount.add(delta.getDislikeDelta());
+            count.lastSequence = Math.max(count.lastSequence, lastSequence);
+            return count;
+        });
+    }
+
+    private static class PendingCount {
+
+        private final LongAdder likeCount = new LongAdder();
+        private final LongAdder dislikeCount = new LongAdder();
+        private long lastSequence;
+
+        private void add(final VoteEvaluationType voteEvaluationType, final int delta) {
+            switch (voteEvaluationType) {
+                case LIKE:
+                    likeCount.add(delta);
+                    break;
+                case DISLIKE:
+                    dislikeCount.add(delta);
+                    break;
+            }
+        }
+
+        private VoteEvaluationCountDelta drain(final Long voteId) {
+            return VoteEvaluationCountDelta.of(voteId, (int) likeCount.sumThenReset(), (int) dislikeCount.sumThenReset());
+        }
+    }
+}
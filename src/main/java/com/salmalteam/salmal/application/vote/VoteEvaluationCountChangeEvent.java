@@ -0,0 +1,21 @@
+package com.salmalteam.salmal.application.vote;
+
+import com.salmalteam.salmal.domain.vote.evaluation.VoteEvaluationType;
+import lombok.Getter;
+
+@Getter
+public class VoteEvaluationCountChangeEvent {
+    private final Long voteId;
+    private final VoteEvaluationType voteEvaluationType;
+    private final int delta;
+    private final long sequence;
+    private VoteEvaluationCountChangeEvent(final Long voteId, final VoteEvaluationType voteEvaluationType, final int delta, final long sequence){
+        this.voteId = voteId;
+        this.voteEvaluationType = voteEvaluationType;
+        this.delta = delta;
+        this.sequence = sequence;
+    }
+    public static VoteEvaluationCountChangeEvent of(final Long voteId, final VoteEvaluationType voteEvaluationType, final int delta, final long sequence){
+        return new VoteEvaluationCountChangeEvent(voteId, voteEvaluationType, delta, sequence);
+    }
+}
@@ -0,0 +1,269 @@
+package com.salmalteam.salmal.application.vote;
+
+import com.salmalteam.salmal.domain.vote.VoteLikeCount;
+import com.salmalteam.salmal.domain.vote.VoteRepository;
+import com.salmalteam.salmal.domain.vote.evaluation.VoteEvaluationType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * BEST 피드용 (좋아요 수 DESC, 투표 ID DESC) 정렬 인덱스
+ * 최초 조회 시 한 번 적재한 뒤 평가/등록/삭제 이벤트로 증분 갱신하고,
+ * 다른 서버에서 발생한 변경을 맞추기 위해 주기적으로 다시 적재한다.
+ */
+@Slf4j
+@Component
+public class VoteRankingIndex {
+
+    private final VoteRepository voteRepository;
+    private final VoteEvaluationCountAggregator voteEvaluationCountAggregator;
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private volatile Ranking ranking;
+    private Queue<BiConsumer<Ranking, PendingLikeCounts>> changesDuringLoad;
+
+    public VoteRankingIndex(final VoteRepository voteRepository,
+                            final VoteEvaluationCountAggregator voteEvaluationCountAggregator) {
+        this.voteRepository = voteRepository;
+        this.voteEvaluationCountAggregator = voteEvaluationCountAggregator;
+    }
+
+    /**
+     * 커서 (cursorLikes, cursorId) 다음 위치부터 size + 1 개의 투표 ID 를 순서대로 반환한다.
+     * 다음 페이지 존재 여부는 호출하는 쪽에서 size 를 초과하는지로 판단한다.
+     */
+    public List<Long> searchVoteIds(final Long cursorId, final Integer cursorLikes, final int size) {
+        return searchVoteIds(cursorId, cursorLikes, size, UnaryOperator.identity());
+    }
+
+    /**
+     * voteIdFilter 로 걸러진 투표를 제외하고 size + 1 개를 채울 때까지 필요한 만큼의 두 배씩 나누어 더 읽는다.
+     */
+    public List<Long> searchVoteIds(final Long cursorId, final Integer cursorLikes, final int size,
+                                    final UnaryOperator<List<Long>> voteIdFilter) {
+        final NavigableSet<VoteRank> ranks = getRanking().ranks;
+        final NavigableSet<VoteRank> candidates = (cursorId == null || cursorLikes == null)
+                ? ranks
+                : ranks.tailSet(VoteRank.of(cursorId, cursorLikes), false);
+
+        final List<Long> voteIds = new ArrayList<>(size + 1);
+        final Set<Long> visited = new HashSet<>();
+        final Iterator<VoteRank> iterator = candidates.iterator();
+        while (voteIds.size() <= size && iterator.hasNext()) {
+            final int batchSize = (size + 1 - voteIds.size()) * 2;
+            final List<Long> batch = new ArrayList<>(batchSize);
+            while (batch.size() < batchSize && iterator.hasNext()) {
+                final VoteRank voteRank = iterator.next();
+                // 갱신 중에는 같은 투표가 잠시 두 위치에 존재할 수 있다.
+                if (visited.add(voteRank.voteId)) {
+                    batch.add(voteRank.voteId);
+                }
+            }
+            voteIds.addAll(voteIdFilter.apply(batch));
+        }
+        return voteIds.size() > size + 1 ? new ArrayList<>(voteIds.subList(0, size + 1)) : voteIds;
+    }
+
+    @EventListener
+    public void handleVoteEvaluationCountChangeEvent(final VoteEvaluationCountChangeEvent event) {
+        if (event.getVoteEvaluationType() != VoteEvaluationType.LIKE) {
+            return;
+        }
+        apply((ranking, pendingLikeCounts) -> {
+            // 재적재한 좋아요 수에 이미 포함된 변경은 다시 반영하지 않는다.
+            if (!pendingLikeCounts.contains(event.getVoteId(), event.getSequence())) {
+                ranking.changeLikeCount(event.getVoteId(), event.getDelta());
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleVoteRegisterEvent(final VoteRegisterEvent event) {
+        if (event.getVoteId() != null) {
+            apply((ranking, pendingLikeCounts) -> ranking.addIfAbsent(VoteRank.of(event.getVoteId(), 0)));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleVoteDeleteEvent(final VoteDeleteEvent event) {
+        apply((ranking, pendingLikeCounts) -> ranking.remove(event.getVoteId()));
+    }
+
+    @Scheduled(fixedDelayString = "${vote.ranking.rebuild-interval:300000}",
+            initialDelayString = "${vote.ranking.rebuild-interval:300000}")
+    public void rebuild() {
+        if (this.ranking == null) {
+            return;
+        }
+        try {
+            load();
+        } catch (RuntimeException e) {
+            log.error("BEST 랭킹 인덱스 재적재에 실패했습니다.", e);
+        }
+    }
+
+    private Ranking getRanking() {
+        Ranking current = this.ranking;
+        if (current == null) {
+            synchronized (this) {
+                current = this.ranking;
+                if (current == null) {
+                    current = load();
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 적재하는 동안 들어온 변경은 기존 랭킹에 반영하면서 따로 모아 두었다가, 교체하기 전에 새 랭킹에도 반영한다.
+     */
+    private void apply(final BiConsumer<Ranking, PendingLikeCounts> change) {
+        swapLock.readLock().lock();
+        try {
+            if (changesDuringLoad != null) {
+                changesDuringLoad.add(change);
+            }
+            final Ranking current = this.ranking;
+            if (current != null) {
+                change.accept(current, PendingLikeCounts.EMPTY);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private synchronized Ranking load() {
+        final Queue<BiConsumer<Ranking, PendingLikeCounts>> changes = new ConcurrentLinkedQueue<>();
+        setChangesDuringLoad(changes);
+        try {
+            // 아직 DB 에 반영되지 않은 좋아요 수까지 합쳐서 적재한다.
+            final List<VoteLikeCount> voteLikeCounts = new ArrayList<>();
+            final PendingLikeCounts pendingLikeCounts = voteEvaluationCountAggregator.withFlushPaused(() -> {
+                voteLikeCounts.addAll(voteRepository.findAllLikeCounts());
+                return voteEvaluationCountAggregator.getPendingLikeCounts();
+            });
+            final Ranking loaded = new Ranking();
+            for (VoteLikeCount voteLikeCount : voteLikeCounts) {
+                final Long voteId = voteLikeCount.getVoteId();
+                loaded.add(VoteRank.of(voteId, voteLikeCount.getLikeCount() + pendingLikeCounts.getLikeCount(voteId)));
+            }
+
+            swapLock.writeLock().lock();
+            try {
+                changes.forEach(change -> change.accept(loaded, pendingLikeCounts));
+                this.ranking = loaded;
+                this.changesDuringLoad = null;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+            return loaded;
+        } catch (RuntimeException e) {
+            setChangesDuringLoad(null);
+            throw e;
+        }
+    }
+
+    private void setChangesDuringLoad(final Queue<BiConsumer<Ranking, PendingLikeCounts>> changes) {
+        swapLock.writeLock().lock();
+        try {
+            this.changesDuringLoad = changes;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    private static class Ranking {
+
+        private final ConcurrentSkipListSet<VoteRank> ranks = new ConcurrentSkipListSet<>();
+        private final ConcurrentHashMap<Long, VoteRank> ranksById = new ConcurrentHashMap<>();
+
+        private void add(final VoteRank voteRank) {
+            ranksById.compute(voteRank.voteId, (id, previous) -> {
+                ranks.add(voteRank);
+                if (previous != null && !previous.equals(voteRank)) {
+                    ranks.remove(previous);
+                }
+                return voteRank;
+            });
+        }
+
+        private void addIfAbsent(final VoteRank voteRank) {
+            ranksById.computeIfAbsent(voteRank.voteId, id -> {
+                ranks.add(voteRank);
+                return voteRank;
+            });
+        }
+
+        private void changeLikeCount(final Long voteId, final int delta) {
+            ranksById.computeIfPresent(voteId, (id, previous) -> {
+                final VoteRank changed = VoteRank.of(voteId, previous.likeCount + delta);
+                ranks.add(changed);
+                ranks.remove(previous);
+                return changed;
+            });
+        }
+
+        private void remove(final Long voteId) {
+            ranksById.computeIfPresent(voteId, (id, previous) -> {
+                ranks.remove(previous);
+                return null;
+            });
+        }
+    }
+
+    private static class VoteRank implements Comparable<VoteRank> {
+
+        private static final Comparator<VoteRank> ORDER = Comparator.<VoteRank>comparingInt(rank -> rank.likeCount)
+                .thenComparingLong(rank -> rank.voteId)
+                .reversed();
+
+        private final Long voteId;
+        private final int likeCount;
+
+        private VoteRank(final Long voteId, final int likeCount) {
+            this.voteId = voteId;
+            this.likeCount = likeCount;
+        }
+
+        private static VoteRank of(final Long voteId, final int likeCount) {
+            return new VoteRank(voteId, likeCount);
+        }
+
+        @Override
+        public int compareTo(final VoteRank other) {
+            return ORDER.compare(this, other);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (!(o instanceof VoteRank)) return false;
+            final VoteRank other = (VoteRank) o;
+            return likeCount == other.likeCount && voteId.equals(other.voteId);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * voteId.hashCode() + likeCount;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.salmalteam.salmal.application.vote;
+
+import lombok.Getter;
+
+@Getter
+public class VoteRegisterEvent {
+    private final Long voteId;
+    private VoteRegisterEvent(final Long voteId){
+        this.voteId = voteId;
+    }
+    public static VoteRegisterEvent of(final Long voteId){
+        return new VoteRegisterEvent(voteId);
+    }
+}
@@ -1,20 +1,25 @@
 package com.salmalteam.salmal.application.vote;
 
-import com.salmalteam.salmal.application.ImageUploader;
+import com.salmalteam.salmal.application.ImageUploadPipeline;
+import com.salmalteam.salmal.application.KeysetChunkReader;
 import com.salmalteam.salmal.application.comment.CommentService;
+import com.salmalteam.salmal.application.member.BlockedMemberCache;
+import com.salmalteam.salmal.application.member.BlockedMemberIds;
 import com.salmalteam.salmal.application.member.MemberService;
-import com.salmalteam.salmal.domain.comment.Comment;
 import com.salmalteam.salmal.domain.comment.CommentRepository;
-import com.salmalteam.salmal.domain.comment.CommentType;
 import com.salmalteam.salmal.domain.image.ImageFile;
 import com.salmalteam.salmal.domain.member.Member;
+import com.salmalteam.salmal.domain.member.activity.MemberActivityRepository;
+import com.salmalteam.salmal.domain.member.activity.MemberActivityType;
+import com.salmalteam.salmal.domain.member.stats.MemberStatsRepository;
 import com.salmalteam.salmal.domain.vote.Vote;
 import com.salmalteam.salmal.domain.vote.VoteRepository;
 import com.salmalteam.salmal.domain.vote.bookmark.VoteBookMark;
 import com.salmalteam.salmal.domain.vote.bookmark.VoteBookMarkRepository;
-import com.salmalteam.salmal.domain.vote.evaluation.VoteEvaluation;
+import com.salmalteam.salmal.domain.vote.evaluation.MemberVoteEvaluation;
 import com.salmalteam.salmal.domain.vote.evaluation.VoteEvaluationRepository;
 import com.salmalteam.salmal.domain.vote.evaluation.VoteEvaluationType;
+import com.salmalteam.salmal.domain.vote.evaluation.VoteEvaluationWriteRepository;
 import com.salmalteam.salmal.domain.vote.report.VoteReport;
 import com.salmalteam.salmal.domain.vote.report.VoteReportRepository;
 import com.salmalteam.salmal.dto.request.comment.CommentPageRequest;
@@ -34,13 +39,18 @@ import com.salmalteam.salmal.presentation.vote.SearchTypeConstant;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 @Service
@@ -50,42 +60,96 @@ public class VoteService {
     private final MemberService memberService;
     private final VoteRepository voteRepository;
     private final VoteEvaluationRepository voteEvaluationRepository;
+    private final VoteEvaluationWriteRepository voteEvaluationWriteRepository;
     private final VoteBookMarkRepository voteBookMarkRepository;
     private final VoteReportRepository voteReportRepository;
+    private final MemberStatsRepository memberStatsRepository;
+    private final MemberActivityRepository memberActivityRepository;
     private final CommentService commentService;
     private final CommentRepository commentRepository;
-    private final ImageUploader imageUploader;
+    private final ImageUploadPipeline imageUploadPipeline;
+    private final VoteEvaluationCountAggregator voteEvaluationCountAggregator;
+    private final VoteRankingIndex voteRankingIndex;
+    private final HomeFeedIndex homeFeedIndex;
+    private final VoteTrendingIndex voteTrendingIndex;
+    private final BlockedMemberCache blockedMemberCache;
+    private final VoteCardCache voteCardCache;
+    private final VoteViewCountBuffer voteViewCountBuffer;
+    private final VoteDeletionPipeline voteDeletionPipeline;
+    private final ApplicationEventPublisher eventPublisher;
     private final String voteImagePath;
     public VoteService(final MemberService memberService,
                        final VoteRepository voteRepository,
                        final VoteEvaluationRepository voteEvaluationRepository,
+                       final VoteEvaluationWriteRepository voteEvaluationWriteRepository,
                        final VoteBookMarkRepository voteBookMarkRepository,
                        final VoteReportRepository voteReportRepository,
+                       final MemberStatsRepository memberStatsRepository,
+                       final MemberActivityRepository memberActivityRepository,
                        final CommentService commentService,
                        final CommentRepository commentRepository,
-                       final ImageUploader imageUploader,
+                       final ImageUploadPipeline imageUploadPipeline,
+                       final VoteEvaluationCountAggregator voteEvaluationCountAggregator,
+                       final VoteRankingIndex voteRankingIndex,
+                       final HomeFeedIndex homeFeedIndex,
+                       final VoteTrendingIndex voteTrendingIndex,
+                       final BlockedMemberCache blockedMemberCache,
+                       final VoteCardCache voteCardCache,
+                       final VoteViewCountBuffer voteViewCountBuffer,
+                       final VoteDeletionPipeline voteDeletionPipeline,
+                       final ApplicationEventPublisher eventPublisher,
                        @Value("${image.path.vote}") String voteImagePath){
         this.memberService = memberService;
         this.voteRepository = voteRepository;
         this.voteEvaluationRepository = voteEvaluationRepository;
+        this.voteEvaluationWriteRepository = voteEvaluationWriteRepository;
         this.voteBookMarkRepository = voteBookMarkRepository;
         this.voteReportRepository = voteReportRepository;
+        this.memberStatsRepository = memberStatsRepository;
+        this.memberActivityRepository = memberActivityRepository;
         this.commentService = commentService;
         this.commentRepository = commentRepository;
-        this.imageUploader = imageUploader;
+        this.imageUploadPipeline = imageUploadPipeline;
+        this.voteEvaluationCountAggregator = voteEvaluationCountAggregator;
+        this.voteRankingIndex = voteRankingIndex;
+        this.homeFeedIndex = homeFeedIndex;
+        this.voteTrendingIndex = voteTrendingIndex;
+        this.blockedMemberCache = blockedMemberCache;
+        this.voteCardCache = voteCardCache;
+        this.voteViewCountBuffer = voteViewCountBuffer;
+        this.voteDeletionPipeline = voteDeletionPipeline;
+        this.eventPublisher = eventPublisher;
         this.voteImagePath = voteImagePath;
     }
 
+    /**
+     * 투표는 이미지 업로드 대기 상태로 먼저 저장하고, 커밋 이후 업로드가 끝나면 이미지 URL 을 반영한다.
+     */
     @Transactional
     public void register(final MemberPayLoad memberPayLoad, final VoteCreateRequest voteCreateRequest){
         final MultipartFile multipartFile = voteCreateRequest.getImageFile();
-        final String imageUrl = imageUploader.uploadImage(ImageFile.of(multipartFile, voteImagePath));
+        final ImageFile imageFile = ImageFile.of(multipartFile, voteImagePath);
         final Member member = memberService.findMemberById(memberPayLoad.getId());
-        voteRepository.save(Vote.of(imageUrl, member));
+        final Vote vote = Vote.ofPendingImage(member);
+        voteRepository.save(vote);
+        memberStatsRepository.addVoteCount(memberPayLoad.getId(), 1);
+
+        final Long voteId = vote.getId();
+        imageUploadPipeline.uploadAfterCommit(imageFile,
+                imageUrl -> completeImageUpload(voteId, imageUrl),
+                () -> voteRepository.findById(voteId).ifPresent(Vote::failImageUpload));
+    }
+
+    private void completeImageUpload(final Long voteId, final String imageUrl){
+        voteRepository.findById(voteId).ifPresent(vote -> {
+            vote.completeImageUpload(imageUrl);
+            eventPublisher.publishEvent(VoteRegisterEvent.of(voteId));
+        });
     }
 
     /**
-     * TODO: 비동기로 S3 에 올라가있는 투표 이미지 삭제하기
+     * 투표는 숨김 처리만 하고, 하위 데이터와 투표는 커밋 이후 묶음 단위로 삭제한다.
+     * 투표 이미지는 투표가 삭제될 때 삭제 대상으로 기록된다.
      */
     @Transactional
     public void delete(final MemberPayLoad memberPayLoad, final Long voteId){
@@ -95,7 +159,10 @@ public class VoteService {
         final Long requesterId = memberPayLoad.getId();
         validateDeleteAuthority(writerId, requesterId);
 
-        voteRepository.delete(vote);
+        memberStatsRepository.removeVote(voteId);
+        vote.delete();
+        voteDeletionPipeline.purgeAfterCommit(voteId);
+        eventPublisher.publishEvent(VoteDeleteEvent.of(voteId));
     }
     private void validateDeleteAuthority(final Long writerId, final Long requesterId){
         if(writerId == null || writerId != requesterId){
@@ -104,99 +171,67 @@ public class VoteService {
     }
 
     /**
-     * 회원 삭제 이벤트 : 투표의 평가 개수 변경
-     */
-//    @Transactional
-//    public void decreaseEvaluationCountByMemberDelete(final Long memberId){
-//
-//        // 회원이 평가한 평가 목록 조회
-//        final List<VoteEvaluation> voteEvaluations = voteEvaluationRepository.findAllByEvaluator_Id(memberId);
-//
-//        // 회원 평가 모두 취소 후 Count 변경
-//        for(VoteEvaluation voteEvaluation : voteEvaluations){
-//            final Vote vote = voteEvaluation.getVote();
-//            final VoteEvaluationType voteEvaluationType = voteEvaluation.getVoteEvaluationType();
-//            if(voteEvaluationType.equals(VoteEvaluationType.LIKE)){
-//                voteRepository.updateVoteEvaluationsStatisticsForEvaluationLikeDelete(vote.getId());
-//            }else {
-//                voteRepository.updateVoteEvaluationsStatisticsForEvaluationDisLikeDelete(vote.getId());
-//            }
-//        }
-//
-//    }
-
-    /**
-     * 회원 삭제 이벤트 : 투표의 댓글 개수 변경
+     * 다른 타입으로 평가한 기록이 있으면 타입만 바꾸고, 없으면 저장한다.
+     * 같은 타입으로 이미 평가했다면 유니크 키 위반으로 판단한다.
      */
-    @Transactional
-    public void decreaseCommentCountByMemberDelete(final Long memberId){
-        // 회원이 작성한 댓글 목록 모두 조회
-        final List<Comment> comments = commentRepository.findALlByCommenter_idAndCommentType(memberId, CommentType.COMMENT);
-
-        // 투표 기준으로 매핑
-        final Map<Vote, List<Comment>> voteCommentsMap = comments.stream()
-                .collect(Collectors.groupingBy(Comment::getVote));
-
-        // 투표 댓글 개수 변경
-        voteCommentsMap.forEach((vote, commentList) -> {
-            vote.decreaseCommentCount(commentList.size());
-        });
-
-    }
-
     @Transactional
     public void evaluate(final MemberPayLoad memberPayLoad, final Long voteId, final VoteEvaluationType voteEvaluationType){
 
-        final Member member = memberService.findMemberById(memberPayLoad.getId());
-        final Vote vote = getVoteById(voteId);
-
-        validateEvaluationVoteDuplicated(member, vote, voteEvaluationType);
-        deleteExistsEvaluation(member, vote);
-
-        switch (voteEvaluationType){
-            case LIKE:
-                voteRepository.updateVoteEvaluationStatisticsForEvaluationLikeInsert(voteId);
-                break;
-            case DISLIKE:
-                voteRepository.updateVoteEvaluationStatisticsForEvaluationDisLikeInsert(voteId);
-                break;
+        final Long memberId = memberPayLoad.getId();
+        if (!changeEvaluationType(memberId, voteId, voteEvaluationType)) {
+            insertEvaluation(memberId, voteId, voteEvaluationType);
         }
+        recordActivity(memberId, voteId, MemberActivityType.EVALUATION);
+        homeFeedIndex.markSeen(memberId, voteId);
+    }
 
-        voteEvaluationRepository.save(VoteEvaluation.of(vote, member, voteEvaluationType));
+    private boolean changeEvaluationType(final Long memberId, final Long voteId, final VoteEvaluationType voteEvaluationType) {
+        if (!voteEvaluationWriteRepository.changeType(memberId, voteId, voteEvaluationType)) {
+            return false;
+        }
+        voteEvaluationCountAggregator.change(voteId, voteEvaluationType.opposite(), voteEvaluationType);
+        return true;
     }
 
-    private void validateEvaluationVoteDuplicated(final Member member,final Vote vote, final VoteEvaluationType voteEvaluationType) {
-        if(voteEvaluationRepository.existsByEvaluatorAndVoteAndVoteEvaluationType(member, vote, voteEvaluationType)){
-            throw new VoteException(VoteExceptionType.DUPLICATED_VOTE_EVALUATION);
+    /**
+     * 동시에 들어온 첫 평가에 밀려 유니크 키 위반이 나면, 먼저 저장된 평가가 다른 타입일 수 있으므로 타입 변경을 한 번 더 시도한다.
+     */
+    private void insertEvaluation(final Long memberId, final Long voteId, final VoteEvaluationType voteEvaluationType) {
+        final boolean inserted;
+        try {
+            inserted = voteEvaluationWriteRepository.insert(memberId, voteId, voteEvaluationType);
+        } catch (DuplicateKeyException e) {
+            if (!changeEvaluationType(memberId, voteId, voteEvaluationType)) {
+                throw new VoteException(VoteExceptionType.DUPLICATED_VOTE_EVALUATION);
+            }
+            return;
         }
+        if (!inserted) {
+            validateEvaluationTarget(memberId, voteId);
+            return;
+        }
+        voteEvaluationCountAggregator.increase(voteId, voteEvaluationType);
+        memberStatsRepository.addEvaluationCount(memberId, 1);
+    }
+
+    /**
+     * 평가 대상이 없을 때만 호출되므로 어느 쪽이 없는지 이때 조회한다.
+     */
+    private void validateEvaluationTarget(final Long memberId, final Long voteId) {
+        getVoteById(voteId);
+        memberService.findMemberById(memberId);
     }
 
     @Transactional
     public void cancelEvaluation(final MemberPayLoad memberPayLoad, final Long voteId){
 
-        final Member member = memberService.findMemberById(memberPayLoad.getId());
-        final Vote vote = getVoteById(voteId);
-
-        deleteExistsEvaluation(member, vote);
-        voteEvaluationRepository.deleteByEvaluatorAndVote(member, vote);
-    }
-
-    private void deleteExistsEvaluation(final Member member, final Vote vote){
-
-        final Optional<VoteEvaluation> evaluationOptional = voteEvaluationRepository.findByEvaluatorAndVote(member, vote);
-        if(evaluationOptional.isPresent()){
-            final VoteEvaluation voteEvaluation = evaluationOptional.get();
-            final VoteEvaluationType voteEvaluationType = voteEvaluation.getVoteEvaluationType();
-            final Long voteId = vote.getId();
-            switch(voteEvaluationType){
-                case LIKE:
-                    voteRepository.updateVoteEvaluationsStatisticsForEvaluationLikeDelete(voteId);
-                    break;
-                case DISLIKE:
-                    voteRepository.updateVoteEvaluationsStatisticsForEvaluationDisLikeDelete(voteId);
-                    break;
-            }
-            voteEvaluationRepository.deleteByEvaluatorAndVote(member, vote);
+        final Optional<VoteEvaluationType> canceledType = voteEvaluationWriteRepository.delete(memberPayLoad.getId(), voteId);
+        if (canceledType.isPresent()) {
+            voteEvaluationCountAggregator.decrease(voteId, canceledType.get());
+            memberStatsRepository.addEvaluationCount(memberPayLoad.getId(), -1);
+            recordActivity(memberPayLoad.getId(), voteId, MemberActivityType.EVALUATION_CANCEL);
+        } else {
+            getVoteById(voteId);
         }
     }
 
@@ -211,6 +246,8 @@ public class VoteService {
                 .orElse(VoteBookMark.of(member, vote));
 
         voteBookMarkRepository.save(voteBookMark);
+        memberStatsRepository.addBookmarkCount(memberPayLoad.getId(), 1);
+        recordActivity(memberPayLoad.getId(), voteId, MemberActivityType.BOOKMARK);
     }
 
     private void validateBookmarkExist(final Vote vote, final Member member){
@@ -225,7 +262,18 @@ public class VoteService {
         final Member member = memberService.findMemberById(memberPayLoad.getId());
         final Vote vote = getVoteById(voteId);
 
-        voteBookMarkRepository.deleteByVoteAndBookmaker(vote, member);
+        if (voteBookMarkRepository.deleteByVoteAndBookmaker(vote, member) > 0) {
+            memberStatsRepository.addBookmarkCount(memberPayLoad.getId(), -1);
+            recordActivity(memberPayLoad.getId(), voteId, MemberActivityType.BOOKMARK_CANCEL);
+        }
+    }
+
+    /**
+     * 같은 투표에 대한 이전 활동을 비활성화하고 새 활동을 기록한다.
+     * 평가 타입만 바꾼 경우에도 다시 기록해서 평가 목록의 맨 앞으로 올린다.
+     */
+    private void recordActivity(final Long memberId, final Long voteId, final MemberActivityType activityType) {
+        memberActivityRepository.record(memberId, voteId, activityType);
     }
 
     @Transactional
@@ -255,6 +303,7 @@ public class VoteService {
 
         voteRepository.increaseCommentCount(voteId);
         commentService.save(content, vote, member);
+        eventPublisher.publishEvent(VoteCounterChangeEvent.of(voteId));
     }
 
     @Transactional(readOnly = true)
@@ -264,7 +313,7 @@ public class VoteService {
     }
 
     @Transactional(readOnly = true)
-    public List<CommentResponse> searchAllComments(final Long voteId, final MemberPayLoad memberPayLoad){
+    public KeysetChunkReader<CommentResponse> searchAllComments(final Long voteId, final MemberPayLoad memberPayLoad){
         validateVoteExist(voteId);
         return commentService.searchAllList(voteId, memberPayLoad);
     }
@@ -272,10 +321,14 @@ public class VoteService {
     @Transactional(readOnly = true)
     public VoteResponse search(final MemberPayLoad memberPayLoad, final Long voteId){
 
-        final Long memberId = memberPayLoad.getId();
-        validateVoteExist(voteId);
+        final List<VoteResponse> sharedVoteResponses = voteCardCache.getVoteResponses(List.of(voteId));
+        if (sharedVoteResponses.isEmpty()) {
+            throw new VoteException(VoteExceptionType.NOT_FOUND);
+        }
+        voteViewCountBuffer.record(voteId, memberPayLoad.getId());
 
-        return voteRepository.search(voteId, memberId);
+        final List<VoteResponse> voteResponses = overlayViewerStatus(memberPayLoad.getId(), sharedVoteResponses);
+        return voteEvaluationCountAggregator.merge(voteResponses.get(0));
     }
 
     private void validateVoteExist(final Long voteId){
@@ -289,10 +342,80 @@ public class VoteService {
                 .orElseThrow(() -> new VoteException(VoteExceptionType.NOT_FOUND));
     }
 
+    /**
+     * 1. 모든 회원에게 동일한 투표 페이지를 조회한다.
+     * 2. 조회한 투표 ID 에 대해서만 회원의 북마크, 평가 상태를 조회해서 합친다.
+     */
     @Transactional(readOnly = true)
     public VotePageResponse searchList(final MemberPayLoad memberPayLoad, final VotePageRequest votePageRequest, final SearchTypeConstant searchTypeConstant){
 
-        final Long memberId = memberPayLoad.getId();
-        return voteRepository.searchList(memberId, votePageRequest, searchTypeConstant);
+        final VotePageResponse sharedVotePage = searchSharedList(memberPayLoad.getId(), votePageRequest, searchTypeConstant);
+        final List<VoteResponse> voteResponses = overlayViewerStatus(memberPayLoad.getId(), sharedVotePage.getVotes());
+        voteEvaluationCountAggregator.merge(voteResponses);
+        return VotePageResponse.of(sharedVotePage.isHasNext(), voteResponses);
+    }
+
+    private VotePageResponse searchSharedList(final Long memberId, final VotePageRequest votePageRequest, final SearchTypeConstant searchTypeConstant) {
+        final int size = votePageRequest.getSize();
+        final List<Long> voteIds = searchVoteIds(memberId, votePageRequest, searchTypeConstant);
+
+        final boolean hasNext = voteIds.size() > size;
+        final List<Long> pageVoteIds = hasNext ? voteIds.subList(0, size) : voteIds;
+
+        return VotePageResponse.of(hasNext, voteCardCache.getVoteResponses(pageVoteIds));
+    }
+
+    /**
+     * BEST : 랭킹 인덱스에서 투표 ID 를 범위 조회한다.
+     * HOME : 무작위 후보 풀에서 회원이 보지 않은 투표 ID 를 조회한다.
+     * TRENDING : 주기적으로 계산한 시간 감쇠 점수 순서대로 조회한다.
+     * 모두 차단한 회원의 투표를 제외하고 size + 1 개를 조회해서 다음 페이지 존재 여부를 판단한다.
+     */
+    private List<Long> searchVoteIds(final Long memberId, final VotePageRequest votePageRequest, final SearchTypeConstant searchTypeConstant) {
+        final UnaryOperator<List<Long>> blockedAuthorFilter = blockedAuthorFilter(memberId);
+        switch (searchTypeConstant) {
+            case BEST:
+                return voteRankingIndex.searchVoteIds(votePageRequest.getCursorId(), votePageRequest.getCursorLikes(), votePageRequest.getSize(), blockedAuthorFilter);
+            case TRENDING:
+                return voteTrendingIndex.searchVoteIds(votePageRequest.getCursorId(), votePageRequest.getSize(), blockedAuthorFilter);
+            default:
+                return homeFeedIndex.searchVoteIds(memberId, votePageRequest.getCursorId(), votePageRequest.getSize(), blockedAuthorFilter);
+        }
+    }
+
+    /**
+     * 작성자 확인에 필요한 투표 정보는 VoteCardCache 에서 가져오므로 이후 페이지 조립 시 다시 조회하지 않는다.
+     */
+    private UnaryOperator<List<Long>> blockedAuthorFilter(final Long memberId) {
+        final BlockedMemberIds blockedMemberIds = blockedMemberCache.get(memberId);
+        if (blockedMemberIds.isEmpty()) {
+            return UnaryOperator.identity();
+        }
+        return voteIds -> voteIds.isEmpty() ? voteIds : voteCardCache.getVoteResponses(voteIds).stream()
+                .filter(voteResponse -> !blockedMemberIds.contains(voteResponse.getMemberId()))
+                .map(VoteResponse::getId)
+                .collect(Collectors.toList());
+    }
+
+    private List<VoteResponse> overlayViewerStatus(final Long memberId, final List<VoteResponse> sharedVoteResponses) {
+        if (sharedVoteResponses.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        final List<Long> voteIds = sharedVoteResponses.stream()
+                .map(VoteResponse::getId)
+                .collect(Collectors.toList());
+        final Set<Long> bookmarkedVoteIds = new HashSet<>(voteBookMarkRepository.findVoteIdsByBookmakerIdAndVoteIdIn(memberId, voteIds));
+        final Map<Long, VoteEvaluationType> evaluationTypes = voteEvaluationRepository.findAllByEvaluatorIdAndVoteIdIn(memberId, voteIds).stream()
+                .collect(Collectors.toMap(MemberVoteEvaluation::getVoteId, MemberVoteEvaluation::getVoteEvaluationType, (first, second) -> first));
+
+        return sharedVoteResponses.stream()
+                .map(voteResponse -> {
+                    final VoteEvaluationType voteEvaluationType = evaluationTypes.get(voteResponse.getId());
+                    return voteResponse.withViewerStatus(
+                            bookmarkedVoteIds.contains(voteResponse.getId()),
+                            voteEvaluationType == null ? null : voteEvaluationType.name());
+                })
+                .collect(Collectors.toList());
     }
 }
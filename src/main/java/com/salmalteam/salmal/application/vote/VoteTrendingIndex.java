@@ -0,0 +1,173 @@
+package com.salmalteam.salmal.application.vote;
+
+import com.salmalteam.salmal.domain.comment.CommentRepository;
+import com.salmalteam.salmal.domain.vote.VoteActivityCount;
+import com.salmalteam.salmal.domain.vote.evaluation.VoteEvaluationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * TRENDING 피드용 시간 감쇠 점수 인덱스
+ * 주기적으로 직전 계산 이후의 평가/댓글 수만 조회해서 기존 점수를 반감기에 맞춰 줄인 뒤 더하고,
+ * 점수 순서의 스냅샷을 만들어 둔다. 요청에서는 스냅샷을 범위 조회만 한다.
+ */
+@Slf4j
+@Component
+public class VoteTrendingIndex {
+
+    private static final double EVALUATION_WEIGHT = 1.0;
+    private static final double COMMENT_WEIGHT = 2.0;
+    private static final double MIN_SCORE = 0.01;
+    private static final Duration MAX_WINDOW = Duration.ofHours(1);
+    /**
+     * 생성 시각은 커밋 이전에 정해지므로 아직 커밋되지 않은 활동을 놓치지 않도록 약간 이전까지만 반영한다.
+     */
+    private static final Duration COMMIT_LAG = Duration.ofSeconds(10);
+
+    private final VoteEvaluationRepository voteEvaluationRepository;
+    private final CommentRepository commentRepository;
+    private final long halfLifeMillis;
+    private final Duration lookback;
+    private final Map<Long, Double> scores = new HashMap<>();
+    private LocalDateTime scoredUntil;
+    private volatile Snapshot snapshot;
+
+    public VoteTrendingIndex(final VoteEvaluationRepository voteEvaluationRepository,
+                             final CommentRepository commentRepository,
+                             @Value("${vote.trending.half-life:21600000}") final long halfLifeMillis,
+                             @Value("${vote.trending.lookback:172800000}") final long lookbackMillis) {
+        this.voteEvaluationRepository = voteEvaluationRepository;
+        this.commentRepository = commentRepository;
+        this.halfLifeMillis = halfLifeMillis;
+        this.lookback = Duration.ofMillis(lookbackMillis);
+    }
+
+    /**
+     * 커서 투표 다음 순위부터 voteIdFilter 로 걸러진 투표를 제외하고 size + 1 개의 투표 ID 를 반환한다.
+     * 커서 투표가 점수가 낮아져 스냅샷에서 빠졌다면 마지막 페이지로 보고 빈 목록을 반환한다.
+     */
+    public List<Long> searchVoteIds(final Long cursorId, final int size, final UnaryOperator<List<Long>> voteIdFilter) {
+        final Snapshot current = getSnapshot();
+        int position = 0;
+        if (cursorId != null) {
+            final Integer cursorPosition = current.positions.get(cursorId);
+            if (cursorPosition == null) {
+                return new ArrayList<>();
+            }
+            position = cursorPosition + 1;
+        }
+
+        final List<Long> voteIds = new ArrayList<>(size + 1);
+        while (voteIds.size() <= size && position < current.voteIds.size()) {
+            final int batchEnd = Math.min(position + (size + 1 - voteIds.size()) * 2, current.voteIds.size());
+            voteIds.addAll(voteIdFilter.apply(new ArrayList<>(current.voteIds.subList(position, batchEnd))));
+            position = batchEnd;
+        }
+        return voteIds.size() > size + 1 ? new ArrayList<>(voteIds.subList(0, size + 1)) : voteIds;
+    }
+
+    @Scheduled(fixedDelayString = "${vote.trending.rescore-interval:60000}",
+            initialDelayString = "${vote.trending.rescore-interval:60000}")
+    public void rescore() {
+        if (this.snapshot == null) {
+            return;
+        }
+        try {
+            rescore(LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.error("TRENDING 점수 계산에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 처음에는 lookback 기간을, 이후에는 직전 계산 이후 기간만 최대 1시간 단위로 나누어 반영한다.
+     */
+    synchronized void rescore(final LocalDateTime now) {
+        final LocalDateTime until = now.minus(COMMIT_LAG);
+        LocalDateTime from = scoredUntil == null ? until.minus(lookback) : scoredUntil;
+        while (from.isBefore(until)) {
+            final LocalDateTime to = from.plus(MAX_WINDOW).isBefore(until) ? from.plus(MAX_WINDOW) : until;
+            decay(Duration.between(from, to).toMillis());
+            addActivities(voteEvaluationRepository.countByVoteBetween(from, to), EVALUATION_WEIGHT);
+            addActivities(commentRepository.countByVoteBetween(from, to), COMMENT_WEIGHT);
+            from = to;
+        }
+        scoredUntil = from.isAfter(until) ? from : until;
+        scores.values().removeIf(score -> score < MIN_SCORE);
+        this.snapshot = Snapshot.of(scores);
+    }
+
+    private void decay(final long elapsedMillis) {
+        if (scores.isEmpty() || elapsedMillis <= 0) {
+            return;
+        }
+        final double factor = Math.pow(0.5, (double) elapsedMillis / halfLifeMillis);
+        scores.replaceAll((voteId, score) -> score * factor);
+    }
+
+    private void addActivities(final List<VoteActivityCount> activityCounts, final double weight) {
+        activityCounts.forEach(activityCount -> scores.merge(activityCount.getVoteId(), activityCount.getCount() * weight, Double::sum));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void handleVoteDeleteEvent(final VoteDeleteEvent event) {
+        if (scores.remove(event.getVoteId()) != null) {
+            this.snapshot = Snapshot.of(scores);
+        }
+    }
+
+    private Snapshot getSnapshot() {
+        Snapshot current = this.snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = this.snapshot;
+                if (current == null) {
+                    rescore(LocalDateTime.now());
+                    current = this.snapshot;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static class Snapshot {
+
+        private final List<Long> voteIds;
+        private final Map<Long, Integer> positions;
+
+        private Snapshot(final List<Long> voteIds, final Map<Long, Integer> positions) {
+            this.voteIds = voteIds;
+            this.positions = positions;
+        }
+
+        /**
+         * 점수 DESC, 투표 ID DESC 순서
+         */
+        private static Snapshot of(final Map<Long, Double> scores) {
+            final List<Long> voteIds = scores.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Double>comparingByValue()
+                            .thenComparing(Map.Entry.comparingByKey())
+                            .reversed())
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+            final Map<Long, Integer> positions = new HashMap<>(voteIds.size() * 2);
+            for (int i = 0; i < voteIds.size(); i++) {
+                positions.put(voteIds.get(i), i);
+            }
+            return new Snapshot(Collections.unmodifiableList(voteIds), positions);
+        }
+    }
+}
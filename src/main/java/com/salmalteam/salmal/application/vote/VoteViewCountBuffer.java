@@ -0,0 +1,109 @@
+package com.salmalteam.salmal.application.vote;
+
+import com.salmalteam.salmal.domain.vote.VoteStatisticsRepository;
+import com.salmalteam.salmal.domain.vote.VoteViewCountDelta;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 투표 조회 수를 메모리에 모아 두었다가 주기적으로 한 번에 반영한다.
+ * 조회 API 에서 UPDATE 를 실행하지 않도록 조회 기록은 락 없이 LongAdder 와 HyperLogLog 에만 남긴다.
+ * 고유 조회자 추정용 HyperLogLog 는 반영 이후에도 유지하고, 일정 시간 조회가 없는 투표만 정리한다.
+ */
+@Slf4j
+@Component
+public class VoteViewCountBuffer {
+
+    private final ConcurrentHashMap<Long, ViewCount> viewCounts = new ConcurrentHashMap<>();
+    private final VoteStatisticsRepository voteStatisticsRepository;
+    private final long idleTimeoutMillis;
+
+    public VoteViewCountBuffer(final VoteStatisticsRepository voteStatisticsRepository,
+                               @Value("${vote.view.idle-timeout:3600000}") final long idleTimeoutMillis) {
+        this.voteStatisticsRepository = voteStatisticsRepository;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+    }
+
+    public void record(final Long voteId, final Long memberId) {
+        ViewCount viewCount = viewCounts.get(voteId);
+        if (viewCount == null) {
+            viewCount = viewCounts.computeIfAbsent(voteId, id -> new ViewCount());
+        }
+        viewCount.record(memberId);
+    }
+
+    @Scheduled(fixedDelayString = "${vote.view.flush-interval:5000}")
+    public void flush() {
+        final List<VoteViewCountDelta> deltas = drain();
+        if (!deltas.isEmpty()) {
+            try {
+                voteStatisticsRepository.updateViewCounts(deltas);
+            } catch (RuntimeException e) {
+                log.error("투표 조회 수 반영에 실패하여 다음 주기에 재시도합니다. size={}", deltas.size(), e);
+                deltas.forEach(this::restore);
+            }
+        }
+        evictIdle(System.currentTimeMillis());
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleVoteDeleteEvent(final VoteDeleteEvent event) {
+        viewCounts.remove(event.getVoteId());
+    }
+
+    private List<VoteViewCountDelta> drain() {
+        final List<VoteViewCountDelta> deltas = new ArrayList<>();
+        viewCounts.forEach((voteId, viewCount) -> {
+            final long viewDelta = viewCount.views.sumThenReset();
+            if (viewDelta != 0) {
+                deltas.add(VoteViewCountDelta.of(voteId, (int) viewDelta, (int) viewCount.viewers.estimate()));
+            }
+        });
+        return deltas;
+    }
+
+    private void restore(final VoteViewCountDelta delta) {
+        viewCounts.computeIfAbsent(delta.getVoteId(), id -> new ViewCount()).views.add(delta.getViewDelta());
+    }
+
+    private void evictIdle(final long now) {
+        for (Map.Entry<Long, ViewCount> entry : viewCounts.entrySet()) {
+            final ViewCount viewCount = entry.getValue();
+            if (now - viewCount.lastViewedAt > idleTimeoutMillis && viewCounts.remove(entry.getKey(), viewCount)) {
+                // 제거하는 사이에 기록된 조회는 다음 주기에 반영되도록 되돌린다.
+                final long missed = viewCount.views.sum();
+                if (missed != 0) {
+                    restore(VoteViewCountDelta.of(entry.getKey(), (int) missed, 0));
+                }
+            }
+        }
+    }
+
+    private static class ViewCount {
+
+        private final LongAdder views = new LongAdder();
+        private final HyperLogLog viewers = new HyperLogLog();
+        private volatile long lastViewedAt = System.currentTimeMillis();
+
+        private void record(final Long memberId) {
+            views.increment();
+            viewers.add(memberId);
+            lastViewedAt = System.currentTimeMillis();
+        }
+    }
+}
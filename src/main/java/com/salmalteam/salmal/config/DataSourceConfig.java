@@ -0,0 +1,89 @@
+package com.salmalteam.salmal.config;
+
+import com.salmalteam.salmal.infra.auth.dto.MemberPayLoad;
+import com.salmalteam.salmal.infra.datasource.ReadYourWritesWindow;
+import com.salmalteam.salmal.infra.datasource.ReplicationRoutingDataSource;
+import com.salmalteam.salmal.presentation.AuthInterceptor;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * datasource.replica.urls 가 설정된 경우에만 읽기 전용 트랜잭션을 레플리카로 보낸다.
+ * 레플리카 커넥션 풀은 프라이머리와 같은 계정, 드라이버, 최대 크기를 사용한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.urls")
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(final DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicationRoutingDataSource replicationRoutingDataSource(
+            final HikariDataSource primaryDataSource,
+            final ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${datasource.replica.urls}") final List<String> replicaUrls,
+            @Value("${datasource.replica.lag-query:SHOW REPLICA STATUS}") final String lagQuery,
+            @Value("${datasource.replica.max-lag:5000}") final long maxLagMillis,
+            @Value("${datasource.replica.read-your-writes-window:0}") final long readYourWritesWindowMillis) {
+        final List<DataSource> replicas = IntStream.range(0, replicaUrls.size())
+                .mapToObj(i -> createReplica(primaryDataSource, replicaUrls.get(i), i + 1, meterRegistry.getIfAvailable()))
+                .collect(Collectors.toList());
+        return new ReplicationRoutingDataSource(primaryDataSource, replicas, lagQuery, maxLagMillis,
+                ReadYourWritesWindow.of(readYourWritesWindowMillis), DataSourceConfig::currentMemberId);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(final ReplicationRoutingDataSource replicationRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicationRoutingDataSource);
+    }
+
+    /**
+     * 레플리카 풀은 빈이 아니어서 actuator 가 커넥션 풀 메트릭을 등록하지 않으므로 직접 등록한다.
+     */
+    private static DataSource createReplica(final HikariDataSource primary, final String url, final int index,
+                                            final MeterRegistry meterRegistry) {
+        final HikariDataSource replica = new HikariDataSource();
+        replica.setPoolName("replica-" + index);
+        replica.setJdbcUrl(url.trim());
+        replica.setUsername(primary.getUsername());
+        replica.setPassword(primary.getPassword());
+        replica.setDriverClassName(primary.getDriverClassName());
+        replica.setMaximumPoolSize(primary.getMaximumPoolSize());
+        replica.setReadOnly(true);
+        if (meterRegistry != null) {
+            replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        }
+        return replica;
+    }
+
+    private static Long currentMemberId() {
+        final RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        final Object memberPayLoad = attributes.getAttribute(AuthInterceptor.MEMBER_PAYLOAD_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return memberPayLoad == null ? null : ((MemberPayLoad) memberPayLoad).getId();
+    }
+}
@@ -0,0 +1,28 @@
+package com.salmalteam.salmal.config;
+
+import com.salmalteam.salmal.infra.metrics.IdTagValueFilter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * MeterFilter 빈은 actuator 가 MeterRegistry 에 등록한다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    private static final int MAX_URI_TAGS = 200;
+
+    @Bean
+    public MeterFilter idTagValueFilter() {
+        return new IdTagValueFilter();
+    }
+
+    /**
+     * 매핑되지 않은 경로 등으로 uri 태그가 계속 늘어나면 더 이상 기록하지 않는다.
+     */
+    @Bean
+    public MeterFilter uriTagLimitFilter() {
+        return MeterFilter.maximumAllowableTags("http.server.requests", "uri", MAX_URI_TAGS, MeterFilter.deny());
+    }
+}
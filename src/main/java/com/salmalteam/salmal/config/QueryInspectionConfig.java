@@ -0,0 +1,28 @@
+package com.salmalteam.salmal.config;
+
+import com.salmalteam.salmal.infra.query.QueryCountingDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class QueryInspectionConfig {
+
+    /**
+     * 애플리케이션이 사용하는 dataSource 빈만 감싼다. 레플리카 라우팅이 켜져 있어도 라우팅 이전에 한 번만 센다.
+     */
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                if (bean instanceof DataSource && "dataSource".equals(beanName) && !(bean instanceof QueryCountingDataSource)) {
+                    return new QueryCountingDataSource((DataSource) bean);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,111 @@
+package com.salmalteam.salmal.domain;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Properties;
+import java.util.function.LongSupplier;
+
+/**
+ * IDENTITY 와 달리 INSERT 전에 ID 를 정할 수 있어서 Hibernate 가 INSERT 를 모아서 배치로 보낼 수 있다.
+ * ID 는 [타임스탬프(ms) 41비트 | 노드 5비트 | 시퀀스 7비트] 로 구성되어 시간 순으로 증가하고,
+ * JSON 숫자로 내려가도 정밀도가 손실되지 않도록 53비트 이내로 제한한다.
+ * 기존 AUTO_INCREMENT ID 보다 항상 크므로 기존 데이터가 있는 테이블에도 그대로 적용할 수 있다.
+ */
+public class TimeOrderedIdGenerator implements IdentifierGenerator {
+
+    public static final String NAME = "time_ordered_id";
+    public static final String STRATEGY = "com.salmalteam.salmal.domain.TimeOrderedIdGenerator";
+    /**
+     * spring.jpa.properties.id.node-id 로 설정하고, 설정하지 않으면 서버가 뜰 때 예외를 발생시킨다.
+     */
+    public static final String NODE_ID_SETTING = "id.node-id";
+
+    static final long EPOCH = Instant.parse("2023-01-01T00:00:00Z").toEpochMilli();
+    static final int NODE_BITS = 5;
+    static final int SEQUENCE_BITS = 7;
+    static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    private static final int MAX_SEQUENCE = (1 << SEQUENCE_BITS) - 1;
+
+    private final LongSupplier clock;
+    private long nodeId;
+    private long lastTimestamp = -1;
+    private long sequence;
+
+    public TimeOrderedIdGenerator() {
+        this(System::currentTimeMillis);
+    }
+
+    TimeOrderedIdGenerator(final LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    TimeOrderedIdGenerator(final LongSupplier clock, final long nodeId) {
+        this(clock);
+        this.nodeId = validateNodeId(nodeId);
+    }
+
+    /**
+     * Hibernate 를 거치지 않고 JDBC 로 저장하는 테이블의 ID 를 만들 때 사용한다.
+     * 같은 노드에서 한 테이블의 ID 는 한 인스턴스로만 만들어야 겹치지 않는다.
+     */
+    public static TimeOrderedIdGenerator of(final Object nodeIdSetting) {
+        return new TimeOrderedIdGenerator(System::currentTimeMillis, parseNodeId(nodeIdSetting));
+    }
+
+    @Override
+    public void configure(final Type type, final Properties params, final ServiceRegistry serviceRegistry) {
+        this.nodeId = parseNodeId(serviceRegistry.getService(ConfigurationService.class).getSettings().get(NODE_ID_SETTING));
+    }
+
+    @Override
+    public Serializable generate(final SharedSessionContractImplementor session, final Object object) {
+        return nextId();
+    }
+
+    /**
+     * 시계가 뒤로 가거나 1ms 안에 시퀀스를 다 쓰면 마지막 타임스탬프를 이어서 증가시킨다.
+     * 기다리지 않고도 같은 노드 안에서 ID 가 중복되거나 감소하지 않는다.
+     */
+    public synchronized long nextId() {
+        final long now = clock.getAsLong() - EPOCH;
+        if (now > lastTimestamp) {
+            lastTimestamp = now;
+            sequence = 0;
+        } else if (sequence < MAX_SEQUENCE) {
+            sequence++;
+        } else {
+            lastTimestamp++;
+            sequence = 0;
+        }
+        return (lastTimestamp << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    /**
+     * 기존 데이터를 옮길 때 원래 생성 시각으로 ID 를 만든다. 노드와 시퀀스 자리(하위 12비트)는 호출하는 쪽이 정한다.
+     * 지나간 시각으로 만들기 때문에 이후에 생성되는 ID 보다 항상 작다.
+     */
+    public static long idAt(final long epochMillis, final long lowBits) {
+        final long timestamp = Math.max(epochMillis - EPOCH, 0);
+        return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (lowBits & ((1L << (NODE_BITS + SEQUENCE_BITS)) - 1));
+    }
+
+    private static long parseNodeId(final Object nodeIdSetting) {
+        if (nodeIdSetting == null || nodeIdSetting.toString().isBlank()) {
+            throw new IllegalStateException("노드 ID 가 설정되지 않았습니다. " + NODE_ID_SETTING + " 를 설정해주세요.");
+        }
+        return validateNodeId(Long.parseLong(nodeIdSetting.toString().trim()));
+    }
+
+    private static long validateNodeId(final long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID 는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다. nodeId=" + nodeId);
+        }
+        return nodeId;
+    }
+}
@@ -1,6 +1,7 @@
 package com.salmalteam.salmal.domain.comment;
 
 import com.salmalteam.salmal.domain.BaseEntity;
+import com.salmalteam.salmal.domain.TimeOrderedIdGenerator;
 import com.salmalteam.salmal.domain.comment.like.CommentLike;
 import com.salmalteam.salmal.domain.comment.report.CommentReport;
 import com.salmalteam.salmal.domain.member.Member;
@@ -9,6 +10,7 @@ import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.*;
 import java.util.ArrayList;
@@ -22,7 +24,8 @@ import java.util.List;
 public class Comment extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = TimeOrderedIdGenerator.NAME)
+    @GenericGenerator(name = TimeOrderedIdGenerator.NAME, strategy = TimeOrderedIdGenerator.STRATEGY)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
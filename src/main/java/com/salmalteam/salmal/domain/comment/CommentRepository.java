@@ -1,10 +1,12 @@
 package com.salmalteam.salmal.domain.comment;
 
+import com.salmalteam.salmal.domain.vote.VoteActivityCount;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -42,4 +44,8 @@ public interface CommentRepository extends Repository<Comment, Long>, CommentRep
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query(value = "update Comment c set c.replyCount = c.replyCount + 1 where c.id = :id")
     void increaseReplyCount(Long id);
+
+    @Query("select new com.salmalteam.salmal.domain.vote.VoteActivityCount(c.vote.id, count(c)) " +
+            "from Comment c where c.vote.id is not null and c.createAt > :from and c.createAt <= :to group by c.vote.id")
+    List<VoteActivityCount> countByVoteBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
@@ -10,8 +10,8 @@ import com.salmalteam.salmal.dto.response.comment.ReplyResponse;
 import java.util.List;
 
 public interface CommentRepositoryCustom {
-    CommentPageResponse searchList(final Long voteId, final Long memberId, final CommentPageRequest commentPageRequest);
-    List<CommentResponse> searchAllList(final Long voteId, final Long memberId);
+    CommentPageResponse searchSharedList(final Long voteId, final CommentPageRequest commentPageRequest);
+    List<CommentResponse> searchAllList(final Long voteId, final Long memberId, final Long cursorId, final int size);
     ReplyPageResponse searchReplies(final Long parentCommentId, final Long memberId, final ReplyPageRequest replyPageRequest);
-    List<ReplyResponse> searchAllReplies(final Long parentCommentId, final Long memberId);
+    List<ReplyResponse> searchAllReplies(final Long parentCommentId, final Long memberId, final Long cursorId, final int size);
 }
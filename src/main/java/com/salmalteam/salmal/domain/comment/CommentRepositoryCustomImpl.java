@@ -16,23 +16,24 @@ import static com.salmalteam.salmal.domain.comment.like.QCommentLike.commentLike
 public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
 
     private final JPAQueryFactory jpaQueryFactory;
+
+    /**
+     * 모든 회원에게 동일한 댓글 페이지 : 좋아요 여부는 포함하지 않는다.
+     */
     @Override
-    public CommentPageResponse searchList(final Long voteId, final Long memberId, final CommentPageRequest commentPageRequest) {
+    public CommentPageResponse searchSharedList(final Long voteId, final CommentPageRequest commentPageRequest) {
 
         final List<CommentResponse> commentResponses = jpaQueryFactory.select(new QCommentResponse(
                         comment.id,
                         comment.commenter.id,
                         comment.commenter.nickName.value,
                         comment.commenter.memberImage.imageUrl,
-                        commentLike.isNotNull(),
                         comment.likeCount,
                         comment.replyCount,
                         comment.content.value,
                         comment.createAt,
                         comment.updateAt))
                 .from(comment)
-                .leftJoin(commentLike)
-                .on(commentLike.comment.id.eq(comment.id).and(commentLike.liker.id.eq(memberId)))
                 .where(
                         comment.vote.id.eq(voteId),
                         comment.commentType.eq(CommentType.COMMENT),
@@ -63,7 +64,7 @@ public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
                 .on(commentLike.comment.id.eq(comment.id).and(commentLike.liker.id.eq(memberId)))
                 .where(
                         comment.parentComment.id.eq(parentCommentId),
-                        cursorId(replyPageRequest.getCursorId())
+                        afterCursorId(replyPageRequest.getCursorId())
                 )
                 .orderBy(comment.id.asc())
                 .limit(replyPageRequest.getSize() + 1)
@@ -73,8 +74,11 @@ public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
         return ReplyPageResponse.of(hasNext, replyResponses);
     }
 
+    /**
+     * 대댓글 전체 조회 : 오래된 순서로 cursorId 이후의 size 개를 조회한다.
+     */
     @Override
-    public List<ReplyResponse> searchAllReplies(final Long parentCommentId, final Long memberId){
+    public List<ReplyResponse> searchAllReplies(final Long parentCommentId, final Long memberId, final Long cursorId, final int size){
         return jpaQueryFactory.select(new QReplyResponse(
                         comment.id,
                         comment.commenter.id,
@@ -89,18 +93,20 @@ public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
                 .leftJoin(commentLike)
                 .on(commentLike.comment.id.eq(comment.id).and(commentLike.liker.id.eq(memberId)))
                 .where(
-                        comment.parentComment.id.eq(parentCommentId)
+                        comment.parentComment.id.eq(parentCommentId),
+                        afterCursorId(cursorId)
                 )
                 .orderBy(comment.id.asc())
+                .limit(size)
                 .fetch();
     }
 
     /**
      * iOS 요청 (임시) 사항 : 댓글 전체 조회 기능
-     * 페이지네이션 적용 안함
+     * 한 번에 모두 조회하지 않고 최신 순서로 cursorId 이전의 size 개씩 나누어 조회한다.
      */
     @Override
-    public List<CommentResponse> searchAllList(final Long voteId, final Long memberId){
+    public List<CommentResponse> searchAllList(final Long voteId, final Long memberId, final Long cursorId, final int size){
 
         return jpaQueryFactory.select(new QCommentResponse(
                         comment.id,
@@ -118,9 +124,11 @@ public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
                 .on(commentLike.comment.id.eq(comment.id).and(commentLike.liker.id.eq(memberId)))
                 .where(
                         comment.commentType.eq(CommentType.COMMENT),
-                        comment.vote.id.eq(voteId)
+                        comment.vote.id.eq(voteId),
+                        cursorId(cursorId)
                 )
                 .orderBy(comment.id.desc())
+                .limit(size)
                 .fetch();
 
     }
@@ -139,4 +147,8 @@ public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
     private BooleanExpression cursorId(final Long cursorId) {
         return cursorId == null ? null : comment.id.lt(cursorId);
     }
+
+    private BooleanExpression afterCursorId(final Long cursorId) {
+        return cursorId == null ? null : comment.id.gt(cursorId);
+    }
 }
@@ -2,7 +2,9 @@ package com.salmalteam.salmal.domain.comment.like;
 
 import com.salmalteam.salmal.domain.comment.Comment;
 import com.salmalteam.salmal.domain.member.Member;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -12,4 +14,7 @@ public interface CommentLikeRepository extends Repository<CommentLike, Long> {
     List<CommentLike> findAllByLiker_Id(Long memberId);
     boolean existsByCommentAndLiker(Comment comment, Member member);
     void deleteByCommentAndLiker(Comment comment, Member member);
+
+    @Query("select l.comment.id from CommentLike l where l.liker.id = :memberId and l.comment.id in :commentIds")
+    List<Long> findCommentIdsByLikerIdAndCommentIdIn(@Param("memberId") Long memberId, @Param("commentIds") List<Long> commentIds);
 }
@@ -2,53 +2,81 @@ package com.salmalteam.salmal.domain.image;
 
 import com.salmalteam.salmal.exception.image.ImageException;
 import com.salmalteam.salmal.exception.image.ImageExceptionType;
-import lombok.extern.slf4j.Slf4j;
 import org.apache.tika.Tika;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
 
+/**
+ * 업로드는 요청이 끝난 뒤 별도 스레드에서 진행되고 multipart 임시 파일은 요청이 끝나면 삭제되므로, 내용을 별도 임시 파일에 옮겨 둔다.
+ * 대기 중인 이미지가 힙을 차지하지 않도록 내용은 메모리에 올리지 않으며, 다 쓴 뒤에는 discard 로 임시 파일을 삭제해야 한다.
+ */
 public class ImageFile {
     private final static Set<String> IMAGE_EXTENSIONS = new HashSet<>(Set.of("jpg","jpeg", "JPG", "JPEG", "png", "PNG", "heif", "HEIF"));
     private final static Set<String> MIME_TYPES = new HashSet<>(Set.of("image/jpg", "image/jpeg", "image/png", "image/heif"));
     private final static Tika tika = new Tika();
     private final static String DOT = ".";
-    private final MultipartFile multipartFile;
+    private final static String TEMP_FILE_PREFIX = "image-upload-";
+    private final Path content;
+    private final long size;
+    private final String mimeType;
     private final String originalFileName;
     private final String extension;
     private final String path;
-    private ImageFile(final MultipartFile multipartFile, final String originalFileName, final String extension, final String path){
-        this.multipartFile = multipartFile;
+    private ImageFile(final Path content, final long size, final String mimeType, final String originalFileName, final String extension, final String path){
+        this.content = content;
+        this.size = size;
+        this.mimeType = mimeType;
         this.originalFileName = originalFileName;
         this.extension = extension;
         this.path = path;
     }
+    /**
+     * 앞부분(매직 넘버)으로 MIME 타입을 먼저 판별하고, 검증을 통과한 경우에만 임시 파일로 옮긴다.
+     */
     public static ImageFile of(final MultipartFile multipartFile, final String path){
-        validateMimeType(multipartFile);
+        try (InputStream inputStream = new BufferedInputStream(multipartFile.getInputStream())) {
+            final String mimeType = detectMimeType(inputStream);
 
-        final String originalFilename = multipartFile.getOriginalFilename();
-        validateOriginalFileName(originalFilename);
-        final String extension = extractExtension(originalFilename);
-        validateExtension(extension);
-        return new ImageFile(multipartFile, originalFilename, extension, path);
-    }
+            final String originalFilename = multipartFile.getOriginalFilename();
+            validateOriginalFileName(originalFilename);
+            final String extension = extractExtension(originalFilename);
+            validateExtension(extension);
 
-    private static void validateMimeType(final MultipartFile multipartFile){
-        try{
-            final String mimeType = tika.detect(multipartFile.getInputStream());
-            if(!MIME_TYPES.contains(mimeType)){
-                throw new ImageException(ImageExceptionType.NOT_IMAGE_FILE);
+            final Path content = Files.createTempFile(TEMP_FILE_PREFIX, DOT + extension);
+            try {
+                final long size = Files.copy(inputStream, content, StandardCopyOption.REPLACE_EXISTING);
+                return new ImageFile(content, size, mimeType, originalFilename, extension, path);
+            } catch (IOException e) {
+                Files.deleteIfExists(content);
+                throw e;
             }
-        }catch (IOException e){
+        } catch (IOException e) {
             throw new ImageException(ImageExceptionType.IMAGE_FILE_READ_FAILED);
         }
     }
 
+    /**
+     * BufferedInputStream 의 mark/reset 으로 앞부분만 읽고 되돌린다.
+     */
+    private static String detectMimeType(final InputStream inputStream) throws IOException {
+        final String mimeType = tika.detect(inputStream);
+        if(!MIME_TYPES.contains(mimeType)){
+            throw new ImageException(ImageExceptionType.NOT_IMAGE_FILE);
+        }
+        return mimeType;
+    }
+
     private static void validateOriginalFileName(final String originalFileName){
         if(!StringUtils.hasText(originalFileName)){
             throw new ImageException(ImageExceptionType.NO_FILE_NAME);
@@ -73,18 +101,32 @@ public class ImageFile {
     }
 
     public Long getSize(){
-        return multipartFile.getSize();
+        return size;
     }
 
     public String getContentType(){
-        return multipartFile.getContentType();
+        return mimeType;
     }
 
+    /**
+     * 호출할 때마다 임시 파일을 새로 연다. 호출한 쪽에서 닫아야 한다.
+     */
     public InputStream getInputStream(){
         try{
-            return multipartFile.getInputStream();
-        } catch(IOException e){
-            throw new ImageException(ImageExceptionType.INVALID_INPUT_STREAM);
+            return new BufferedInputStream(Files.newInputStream(content));
+        }catch (IOException e){
+            throw new ImageException(ImageExceptionType.IMAGE_FILE_READ_FAILED);
+        }
+    }
+
+    /**
+     * 업로드가 끝났거나 업로드하지 않기로 한 이미지의 임시 파일을 삭제한다.
+     */
+    public void discard(){
+        try{
+            Files.deleteIfExists(content);
+        }catch (IOException e){
+            throw new UncheckedIOException(e);
         }
     }
 
@@ -0,0 +1,9 @@
+package com.salmalteam.salmal.domain.image;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface ImageReferenceRepository {
+    void forEachReferencedImageUrl(Consumer<String> consumer);
+    List<String> findReferencedImageUrls(List<String> imageUrls);
+}
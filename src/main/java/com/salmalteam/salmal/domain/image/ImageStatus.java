@@ -0,0 +1,5 @@
+package com.salmalteam.salmal.domain.image;
+
+public enum ImageStatus {
+    PENDING, UPLOADED, FAILED
+}
@@ -0,0 +1,53 @@
+package com.salmalteam.salmal.domain.image;
+
+/**
+ * 목록, 썸네일 용도로 원본과 함께 업로드하는 축소 이미지
+ * 원본은 {path}/{uuid}/original/{파일명} 에, 축소 이미지는 {path}/{uuid}/{너비}w/{파일명}.jpg 에 저장한다.
+ * original 경로가 아닌 이미지(기본 프로필, 이전에 업로드된 이미지)는 축소 이미지가 없으므로 원본을 그대로 사용한다.
+ */
+public enum ImageVariant {
+    SMALL(160), MEDIUM(480), LARGE(1080);
+
+    public static final String VARIANT_EXTENSION = "jpg";
+    private static final String ORIGINAL_DIRECTORY = "original/";
+    private static final String SLASH = "/";
+    private static final String DOT = ".";
+
+    private final int width;
+
+    ImageVariant(final int width) {
+        this.width = width;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * path/uuid/파일명 -> path/uuid/original/파일명
+     */
+    public static String toOriginalName(final String fullImageName) {
+        final int slashIndex = fullImageName.lastIndexOf(SLASH);
+        return fullImageName.substring(0, slashIndex + 1) + ORIGINAL_DIRECTORY + fullImageName.substring(slashIndex + 1);
+    }
+
+    /**
+     * 원본 이미지 이름 또는 URL 로부터 축소 이미지의 이름 또는 URL 을 만든다.
+     */
+    public String resolve(final String original) {
+        if (original == null) {
+            return null;
+        }
+        final int originalIndex = original.lastIndexOf(SLASH + ORIGINAL_DIRECTORY);
+        if (originalIndex == -1) {
+            return original;
+        }
+        final String fileName = original.substring(originalIndex + ORIGINAL_DIRECTORY.length() + 1);
+        if (fileName.contains(SLASH)) {
+            return original;
+        }
+        final int dotIndex = fileName.lastIndexOf(DOT);
+        final String baseName = dotIndex == -1 ? fileName : fileName.substring(0, dotIndex);
+        return original.substring(0, originalIndex + 1) + width + "w" + SLASH + baseName + DOT + VARIANT_EXTENSION;
+    }
+}
@@ -0,0 +1,48 @@
+package com.salmalteam.salmal.domain.image;
+
+import com.salmalteam.salmal.domain.BaseCreatedTimeEntity;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 더 이상 참조되지 않아 스토리지에서 삭제할 이미지
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EqualsAndHashCode(of = {"id"}, callSuper = true)
+@Table(name = "orphan_image")
+public class OrphanImage extends BaseCreatedTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String imageUrl;
+
+    @Column
+    private int attempts = 0;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    private OrphanImage(final String imageUrl, final LocalDateTime nextAttemptAt) {
+        this.imageUrl = imageUrl;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public static OrphanImage of(final String imageUrl) {
+        return new OrphanImage(imageUrl, LocalDateTime.now());
+    }
+
+    public void retryAt(final LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
@@ -0,0 +1,19 @@
+package com.salmalteam.salmal.domain.image;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OrphanImageRepository extends Repository<OrphanImage, Long> {
+    OrphanImage save(OrphanImage orphanImage);
+    List<OrphanImage> saveAll(Iterable<OrphanImage> orphanImages);
+    List<OrphanImage> findTop100ByNextAttemptAtLessThanEqualOrderByIdAsc(LocalDateTime now);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE from OrphanImage o where o.id in :ids")
+    void deleteAllByIdIn(@Param("ids") List<Long> ids);
+}
@@ -0,0 +1,24 @@
+package com.salmalteam.salmal.domain.image;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스토리지에 저장되어 있는 이미지
+ */
+@Getter
+public class StoredImage {
+
+    private final String imageUrl;
+    private final LocalDateTime lastModifiedAt;
+
+    private StoredImage(final String imageUrl, final LocalDateTime lastModifiedAt) {
+        this.imageUrl = imageUrl;
+        this.lastModifiedAt = lastModifiedAt;
+    }
+
+    public static StoredImage of(final String imageUrl, final LocalDateTime lastModifiedAt) {
+        return new StoredImage(imageUrl, lastModifiedAt);
+    }
+}
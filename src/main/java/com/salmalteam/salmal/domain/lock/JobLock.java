@@ -0,0 +1,32 @@
+package com.salmalteam.salmal.domain.lock;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * 여러 서버에서 도는 배치 작업을 한 서버만 실행하도록 잡는 잠금
+ * lockedUntil 이 지나면 잠금을 잡은 서버가 죽었다고 보고 다른 서버가 가져갈 수 있다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "job_lock")
+public class JobLock {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(nullable = false, length = 64)
+    private String lockedBy;
+}
@@ -0,0 +1,8 @@
+package com.salmalteam.salmal.domain.lock;
+
+import java.time.Duration;
+
+public interface JobLockRepository {
+    boolean acquire(String name, Duration leaseTime);
+    void release(String name);
+}
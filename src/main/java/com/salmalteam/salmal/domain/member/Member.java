@@ -28,25 +28,25 @@ public class Member extends BaseEntity {
     @Column(name = "provider_id", nullable = false)
     private String providerId;
 
-    @OneToMany(mappedBy = "commenter", cascade = CascadeType.REMOVE)
+    @OneToMany(mappedBy = "commenter")
     private List<Comment> comments = new ArrayList<>();
 
-    @OneToMany(mappedBy = "reporter", cascade = CascadeType.REMOVE)
+    @OneToMany(mappedBy = "reporter")
     private List<CommentReport> commentReports = new ArrayList<>();
 
-    @OneToMany(mappedBy = "liker", cascade = CascadeType.REMOVE)
+    @OneToMany(mappedBy = "liker")
     private List<CommentLike> commentLikes = new ArrayList<>();
 
-    @OneToMany(mappedBy = "member", cascade = CascadeType.REMOVE)
+    @OneToMany(mappedBy = "member")
     private List<Vote> votes = new ArrayList<>();
 
-    @OneToMany(mappedBy = "reporter", cascade = CascadeType.REMOVE)
+    @OneToMany(mappedBy = "reporter")
     private List<VoteReport> voteReports = new ArrayList<>();
 
-    @OneToMany(mappedBy = "bookmaker", cascade = CascadeType.REMOVE)
+    @OneToMany(mappedBy = "bookmaker")
     private List<VoteBookMark> voteBookMarks = new ArrayList<>();
 
-    @OneToMany(mappedBy = "evaluator", cascade = CascadeType.REMOVE)
+    @OneToMany(mappedBy = "evaluator")
     private List<VoteEvaluation> voteEvaluations = new ArrayList<>();
 
     @Enumerated(EnumType.STRING)
@@ -64,6 +64,12 @@ public class Member extends BaseEntity {
     @Embedded
     private MemberImage memberImage;
 
+    /**
+     * 탈퇴한 회원은 숨김 처리만 하고, 회원 데이터와 함께 MemberPurgePipeline 에서 삭제한다.
+     */
+    @Column
+    private boolean deleted = false;
+
     @Builder(access = AccessLevel.PRIVATE)
     private Member(final String providerId, final String nickName, final String provider, final Boolean marketingInformationConsent){
         this.providerId = providerId;
@@ -91,4 +97,8 @@ public class Member extends BaseEntity {
         this.memberImage = MemberImage.of(imageUrl);
     }
 
+    public void delete(){
+        this.deleted = true;
+    }
+
 }
@@ -29,4 +29,8 @@ public class MemberImage {
         return MEMBER_IMAGE_URL;
     }
 
+    public String getImageUrl(){
+        return imageUrl;
+    }
+
 }
@@ -9,6 +9,5 @@ public interface MemberRepository extends Repository <Member, Long>, MemberRepos
     Optional<Member> findById(Long id);
     Optional<Member> findByProviderId(String providerId);
     boolean existsByNickName(NickName nickName);
-    boolean existsById(Long memberId);
-    void delete(Member member);
+    boolean existsByIdAndDeletedFalse(Long memberId);
 }
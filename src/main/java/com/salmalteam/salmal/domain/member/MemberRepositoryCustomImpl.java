@@ -1,46 +1,44 @@
 package com.salmalteam.salmal.domain.member;
 
-import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.salmalteam.salmal.dto.response.member.MyPageResponse;
 import com.salmalteam.salmal.dto.response.member.QMyPageResponse;
 import lombok.RequiredArgsConstructor;
 
 import static com.salmalteam.salmal.domain.member.QMember.member;
-import static com.salmalteam.salmal.domain.member.block.QMemberBlocked.memberBlocked;
-import static com.salmalteam.salmal.domain.vote.QVote.vote;
+import static com.salmalteam.salmal.domain.member.stats.QMemberStats.memberStats;
 
 @RequiredArgsConstructor
 public class MemberRepositoryCustomImpl implements MemberRepositoryCustom {
 
     private final JPAQueryFactory jpaQueryFactory;
 
+    /**
+     * 회원과 회원 통계를 기본 키로 조회한다. 탈퇴한 회원이면 null 을 반환한다.
+     * 통계가 아직 만들어지지 않은 회원은 0 으로 조회한다.
+     */
     @Override
     public MyPageResponse searchMyPage(final Long memberId) {
 
-        final BooleanExpression blockedMemberSubQuery = JPAExpressions.selectFrom(memberBlocked)
-                .where(
-                        memberBlocked.target.id.eq(memberId)
-                )
-                .exists();
-
-        final MyPageResponse myPageResponse = jpaQueryFactory.select(new QMyPageResponse(
+        return jpaQueryFactory.select(new QMyPageResponse(
                         member.id,
                         member.memberImage.imageUrl,
                         member.nickName.value,
                         member.introduction.value,
-                        vote.likeCount.sum(),
-                        vote.dislikeCount.sum(),
-                        blockedMemberSubQuery
+                        memberStats.receivedLikeCount.coalesce(0),
+                        memberStats.receivedDislikeCount.coalesce(0),
+                        memberStats.voteCount.coalesce(0),
+                        memberStats.evaluationCount.coalesce(0),
+                        memberStats.bookmarkCount.coalesce(0),
+                        memberStats.commentCount.coalesce(0)
                 ))
                 .from(member)
-                .where(member.id.eq(memberId))
-                .leftJoin(vote)
-                .on(vote.member.id.eq(memberId))
-                .groupBy(member.id)
+                .leftJoin(memberStats)
+                .on(memberStats.memberId.eq(member.id))
+                .where(
+                        member.id.eq(memberId),
+                        member.deleted.isFalse()
+                )
                 .fetchOne();
-
-        return myPageResponse;
     }
 }
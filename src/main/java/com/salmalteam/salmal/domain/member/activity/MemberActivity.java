@@ -0,0 +1,42 @@
+package com.salmalteam.salmal.domain.member.activity;
+
+import com.salmalteam.salmal.domain.BaseCreatedTimeEntity;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+/**
+ * 회원의 평가/북마크 활동 기록
+ * 기록은 추가만 하고, 같은 투표에 대한 새 활동이 기록되면 이전 기록은 active 만 false 로 바꾼다.
+ * ID 가 시간 순으로 증가하므로 (회원, 타입, active, ID) 인덱스 범위만 읽어서 활동 순서대로 페이지를 만든다.
+ * 저장은 MemberActivityRepository 가 JDBC 로 하고, ID 도 그때 정하므로 엔티티는 조회와 테이블 정의에만 사용한다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EqualsAndHashCode(of = {"id"}, callSuper = true)
+@Table(name = "member_activity", indexes = {
+        @Index(name = "idx_member_activity_history", columnList = "memberId, activityType, active, id"),
+        @Index(name = "idx_member_activity_member_vote", columnList = "memberId, voteId")
+})
+public class MemberActivity extends BaseCreatedTimeEntity {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private Long memberId;
+
+    @Column(nullable = false)
+    private Long voteId;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private MemberActivityType activityType;
+
+    @Column(nullable = false)
+    private boolean active = true;
+}
@@ -0,0 +1,43 @@
+package com.salmalteam.salmal.domain.member.activity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * 활동 타입별 기존 데이터 이전 진행 상황
+ * 옮긴 묶음과 같은 트랜잭션에서 갱신하므로 서버가 다시 뜨거나 다른 서버가 이어 받아도 마지막으로 옮긴 위치부터 진행한다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "member_activity_backfill")
+public class MemberActivityBackfillProgress {
+
+    @Id
+    @Column(length = 32)
+    @Enumerated(EnumType.STRING)
+    private MemberActivityType activityType;
+
+    /**
+     * 마지막으로 읽은 원본 ID
+     */
+    @Column(nullable = false)
+    private Long cursorId;
+
+    /**
+     * 마지막으로 만든 활동 ID (원본 테이블 구분 비트 제외)
+     */
+    @Column(nullable = false)
+    private Long lastActivityId;
+
+    @Column(nullable = false)
+    private boolean completed;
+}
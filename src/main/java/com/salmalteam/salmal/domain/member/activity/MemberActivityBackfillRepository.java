@@ -0,0 +1,5 @@
+package com.salmalteam.salmal.domain.member.activity;
+
+public interface MemberActivityBackfillRepository {
+    boolean backfill(MemberActivityType activityType, int size);
+}
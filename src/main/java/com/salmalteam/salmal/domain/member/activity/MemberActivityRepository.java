@@ -0,0 +1,5 @@
+package com.salmalteam.salmal.domain.member.activity;
+
+public interface MemberActivityRepository {
+    void record(Long memberId, Long voteId, MemberActivityType activityType);
+}
@@ -0,0 +1,23 @@
+package com.salmalteam.salmal.domain.member.activity;
+
+import java.util.List;
+
+public enum MemberActivityType {
+    EVALUATION,
+    EVALUATION_CANCEL,
+    BOOKMARK,
+    BOOKMARK_CANCEL;
+
+    /**
+     * 같은 투표에 대한 활동 중 새 활동이 기록되면 더 이상 유효하지 않은 활동 타입
+     */
+    public List<MemberActivityType> related() {
+        switch (this) {
+            case EVALUATION:
+            case EVALUATION_CANCEL:
+                return List.of(EVALUATION, EVALUATION_CANCEL);
+            default:
+                return List.of(BOOKMARK, BOOKMARK_CANCEL);
+        }
+    }
+}
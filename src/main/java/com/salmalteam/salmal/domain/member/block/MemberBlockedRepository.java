@@ -1,10 +1,17 @@
 package com.salmalteam.salmal.domain.member.block;
 
 import com.salmalteam.salmal.domain.member.Member;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface MemberBlockedRepository extends Repository<MemberBlocked, Long>, MemberBlockedRepositoryCustom {
     MemberBlocked save(MemberBlocked memberBlocked);
     void deleteByBlockerAndTarget(Member blocker, Member target);
     boolean existsByBlockerAndTarget(Member blocker, Member target);
+
+    @Query("select b.target.id from MemberBlocked b where b.blocker.id = :blockerId")
+    List<Long> findTargetIdsByBlockerId(@Param("blockerId") Long blockerId);
 }
@@ -0,0 +1,52 @@
+package com.salmalteam.salmal.domain.member.purge;
+
+import com.salmalteam.salmal.domain.BaseEntity;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+/**
+ * 탈퇴 회원 데이터 정리 진행 상황
+ * 정리가 끝나면 회원과 함께 삭제되므로, 남아 있는 작업은 모두 진행 중이거나 중단된 작업이다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EqualsAndHashCode(of = {"id"}, callSuper = true)
+@Table(name = "member_purge_job")
+public class MemberPurgeJob extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private Long memberId;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private MemberPurgeStage stage;
+
+    @Column
+    private long purgedCount = 0;
+
+    private MemberPurgeJob(final Long memberId) {
+        this.memberId = memberId;
+        this.stage = MemberPurgeStage.VOTES;
+    }
+
+    public static MemberPurgeJob of(final Long memberId) {
+        return new MemberPurgeJob(memberId);
+    }
+
+    public void addPurgedCount(final int count) {
+        this.purgedCount += count;
+    }
+
+    public void nextStage() {
+        this.stage = stage.next();
+    }
+}
@@ -0,0 +1,13 @@
+package com.salmalteam.salmal.domain.member.purge;
+
+import org.springframework.data.repository.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface MemberPurgeJobRepository extends Repository<MemberPurgeJob, Long> {
+    MemberPurgeJob save(MemberPurgeJob memberPurgeJob);
+    Optional<MemberPurgeJob> findById(Long id);
+    List<MemberPurgeJob> findTop100ByOrderByIdAsc();
+    void delete(MemberPurgeJob memberPurgeJob);
+}
@@ -0,0 +1,19 @@
+package com.salmalteam.salmal.domain.member.purge;
+
+import java.util.List;
+
+public interface MemberPurgeRepository {
+    List<Long> hideVotesByMemberId(Long memberId);
+    List<Long> findVoteIdsByMemberId(Long memberId, int limit);
+    int deleteVoteEvaluations(Long memberId, int limit);
+    int deleteVoteBookmarks(Long memberId, int limit);
+    int deleteVoteReports(Long memberId, int limit);
+    int deleteCommentLikes(Long memberId, int limit);
+    int deleteCommentReports(Long memberId, int limit);
+    int deleteReplies(Long memberId, int limit);
+    List<Long> findCommentIdsByMemberId(Long memberId, int limit);
+    int deleteComments(List<Long> commentIds);
+    int deleteMemberBlocks(Long memberId, int limit);
+    int deleteMemberActivities(Long memberId, int limit);
+    void deleteMember(Long memberId);
+}
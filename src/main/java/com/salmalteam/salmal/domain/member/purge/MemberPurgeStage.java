@@ -0,0 +1,24 @@
+package com.salmalteam.salmal.domain.member.purge;
+
+/**
+ * 탈퇴 회원 데이터 정리 단계
+ * 외래 키 순서대로 정리하므로 선언 순서대로 진행한다.
+ */
+public enum MemberPurgeStage {
+    VOTES,
+    VOTE_EVALUATIONS,
+    VOTE_BOOKMARKS,
+    VOTE_REPORTS,
+    COMMENT_LIKES,
+    COMMENT_REPORTS,
+    REPLIES,
+    COMMENTS,
+    MEMBER_BLOCKS,
+    MEMBER_ACTIVITIES,
+    MEMBER;
+
+    public MemberPurgeStage next() {
+        final MemberPurgeStage[] stages = values();
+        return this == MEMBER ? MEMBER : stages[ordinal() + 1];
+    }
+}
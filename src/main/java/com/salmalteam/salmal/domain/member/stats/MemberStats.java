@@ -0,0 +1,42 @@
+package com.salmalteam.salmal.domain.member.stats;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * 마이페이지 조회용 회원 통계
+ * 투표/평가/북마크/댓글 저장 시 증감하고, 누락된 증감은 MemberStatsReconciler 가 주기적으로 원본 테이블 기준으로 보정한다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "member_stats")
+public class MemberStats {
+
+    @Id
+    private Long memberId;
+
+    @Column(nullable = false)
+    private int receivedLikeCount;
+
+    @Column(nullable = false)
+    private int receivedDislikeCount;
+
+    @Column(nullable = false)
+    private int voteCount;
+
+    @Column(nullable = false)
+    private int evaluationCount;
+
+    @Column(nullable = false)
+    private int bookmarkCount;
+
+    @Column(nullable = false)
+    private int commentCount;
+}
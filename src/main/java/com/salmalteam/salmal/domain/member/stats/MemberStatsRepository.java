@@ -0,0 +1,15 @@
+package com.salmalteam.salmal.domain.member.stats;
+
+import java.util.List;
+
+public interface MemberStatsRepository {
+    void create(Long memberId);
+    void addVoteCount(Long memberId, int delta);
+    void addEvaluationCount(Long memberId, int delta);
+    void addBookmarkCount(Long memberId, int delta);
+    void addCommentCount(Long memberId, int delta);
+    void removeVote(Long voteId);
+    void removeReplies(Long parentCommentId);
+    List<Long> findMemberIds(Long cursorId, int size);
+    void reconcile(Long fromMemberId, Long toMemberId);
+}
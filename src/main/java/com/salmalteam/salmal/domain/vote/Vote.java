@@ -10,6 +10,7 @@ import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Where;
 
 import javax.persistence.*;
 import java.math.BigDecimal;
@@ -21,6 +22,7 @@ import java.util.List;
 @Entity
 @EqualsAndHashCode(of = {"id"}, callSuper = true)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Where(clause = "deleted = false")
 public class Vote extends BaseCreatedTimeEntity {
 
     @Id
@@ -30,16 +32,16 @@ public class Vote extends BaseCreatedTimeEntity {
     @Embedded
     private VoteImage voteImage;
 
-    @OneToMany(mappedBy = "vote", cascade = CascadeType.REMOVE)
+    @OneToMany(mappedBy = "vote")
     private List<VoteBookMark> voteBookMarks = new ArrayList<>();
 
-    @OneToMany(mappedBy = "vote", cascade = CascadeType.REMOVE)
+    @OneToMany(mappedBy = "vote")
     private List<VoteEvaluation> voteEvaluations = new ArrayList<>();
 
-    @OneToMany(mappedBy = "vote", cascade = CascadeType.REMOVE)
+    @OneToMany(mappedBy = "vote")
     private List<VoteReport> voteReports = new ArrayList<>();
 
-    @OneToMany(mappedBy = "vote", cascade = CascadeType.REMOVE)
+    @OneToMany(mappedBy = "vote")
     private List<Comment> comments = new ArrayList<>();
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -49,6 +51,9 @@ public class Vote extends BaseCreatedTimeEntity {
     @Column
     private int viewCount = 0;
 
+    @Column
+    private int uniqueViewCount = 0;
+
     @Column
     private int commentCount = 0;
 
@@ -67,8 +72,14 @@ public class Vote extends BaseCreatedTimeEntity {
     @Column
     private BigDecimal dislikeRatio = BigDecimal.ZERO;
 
-    private Vote(final String imageUrl, final Member member){
-        this.voteImage = VoteImage.of(imageUrl);
+    /**
+     * 삭제 요청된 투표는 숨김 처리만 하고, 하위 데이터와 함께 VoteDeletionPipeline 에서 삭제한다.
+     */
+    @Column
+    private boolean deleted = false;
+
+    private Vote(final VoteImage voteImage, final Member member){
+        this.voteImage = voteImage;
         this.member = member;
     }
 
@@ -77,6 +88,25 @@ public class Vote extends BaseCreatedTimeEntity {
     }
 
     public static Vote of(final String imageUrl, final Member member){
-        return new Vote(imageUrl, member);
+        return new Vote(VoteImage.of(imageUrl), member);
+    }
+
+    /**
+     * 이미지 업로드가 끝나기 전의 투표
+     */
+    public static Vote ofPendingImage(final Member member){
+        return new Vote(VoteImage.pending(), member);
+    }
+
+    public void completeImageUpload(final String imageUrl){
+        this.voteImage = VoteImage.of(imageUrl);
+    }
+
+    public void failImageUpload(){
+        this.voteImage = VoteImage.failed();
+    }
+
+    public void delete(){
+        this.deleted = true;
     }
 }
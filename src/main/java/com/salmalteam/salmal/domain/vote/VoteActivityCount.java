@@ -0,0 +1,18 @@
+package com.salmalteam.salmal.domain.vote;
+
+import lombok.Getter;
+
+/**
+ * 일정 기간 동안 투표에 발생한 활동(평가, 댓글) 수
+ */
+@Getter
+public class VoteActivityCount {
+
+    private final Long voteId;
+    private final long count;
+
+    public VoteActivityCount(final Long voteId, final long count) {
+        this.voteId = voteId;
+        this.count = count;
+    }
+}
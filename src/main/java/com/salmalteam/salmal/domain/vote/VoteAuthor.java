@@ -0,0 +1,26 @@
+package com.salmalteam.salmal.domain.vote;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+
+import java.io.Serializable;
+
+/**
+ * 투표 작성자 정보 (회원 정보 수정 시 변경된다)
+ */
+@Getter
+public class VoteAuthor implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Long memberId;
+    private final String nickName;
+    private final String memberImageUrl;
+
+    @QueryProjection
+    public VoteAuthor(final Long memberId, final String nickName, final String memberImageUrl) {
+        this.memberId = memberId;
+        this.nickName = nickName;
+        this.memberImageUrl = memberImageUrl;
+    }
+}
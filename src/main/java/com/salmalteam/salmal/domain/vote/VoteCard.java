@@ -0,0 +1,29 @@
+package com.salmalteam.salmal.domain.vote;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 생성 이후 변하지 않는 투표 정보
+ */
+@Getter
+public class VoteCard implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Long voteId;
+    private final Long memberId;
+    private final String imageUrl;
+    private final LocalDateTime createdAt;
+
+    @QueryProjection
+    public VoteCard(final Long voteId, final Long memberId, final String imageUrl, final LocalDateTime createdAt) {
+        this.voteId = voteId;
+        this.memberId = memberId;
+        this.imageUrl = imageUrl;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,33 @@
+package com.salmalteam.salmal.domain.vote;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * 댓글, 평가에 따라 계속 변하는 투표 통계
+ */
+@Getter
+public class VoteCounter {
+
+    private final Long voteId;
+    private final int commentCount;
+    private final int likeCount;
+    private final int dislikeCount;
+    private final int evaluationCount;
+    private final BigDecimal likeRatio;
+    private final BigDecimal dislikeRatio;
+
+    @QueryProjection
+    public VoteCounter(final Long voteId, final int commentCount, final int likeCount, final int dislikeCount,
+                       final int evaluationCount, final BigDecimal likeRatio, final BigDecimal dislikeRatio) {
+        this.voteId = voteId;
+        this.commentCount = commentCount;
+        this.likeCount = likeCount;
+        this.dislikeCount = dislikeCount;
+        this.evaluationCount = evaluationCount;
+        this.likeRatio = likeRatio;
+        this.dislikeRatio = dislikeRatio;
+    }
+}
@@ -0,0 +1,14 @@
+package com.salmalteam.salmal.domain.vote;
+
+import java.util.List;
+
+public interface VoteDeletionRepository {
+    List<Long> findDeletedVoteIds(int limit);
+    List<Long> findCommentIdsByVoteId(Long voteId, int limit);
+    List<Long> findReplyIdsByParentCommentIds(List<Long> parentCommentIds, int limit);
+    void deleteComments(List<Long> commentIds);
+    int deleteEvaluationsByVoteId(Long voteId, int limit);
+    int deleteBookmarksByVoteId(Long voteId, int limit);
+    int deleteReportsByVoteId(Long voteId, int limit);
+    void deleteVote(Long voteId);
+}
@@ -0,0 +1,32 @@
+package com.salmalteam.salmal.domain.vote;
+
+import lombok.Getter;
+
+/**
+ * 투표 평가 통계에 아직 반영되지 않은 좋아요/싫어요 증감량
+ */
+@Getter
+public class VoteEvaluationCountDelta {
+
+    private final Long voteId;
+    private final int likeDelta;
+    private final int dislikeDelta;
+
+    private VoteEvaluationCountDelta(final Long voteId, final int likeDelta, final int dislikeDelta) {
+        this.voteId = voteId;
+        this.likeDelta = likeDelta;
+        this.dislikeDelta = dislikeDelta;
+    }
+
+    public static VoteEvaluationCountDelta of(final Long voteId, final int likeDelta, final int dislikeDelta) {
+        return new VoteEvaluationCountDelta(voteId, likeDelta, dislikeDelta);
+    }
+
+    public int getEvaluationDelta() {
+        return likeDelta + dislikeDelta;
+    }
+
+    public boolean isEmpty() {
+        return likeDelta == 0 && dislikeDelta == 0;
+    }
+}
@@ -1,10 +1,13 @@
 package com.salmalteam.salmal.domain.vote;
 
+import com.salmalteam.salmal.domain.image.ImageStatus;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
 import javax.persistence.Column;
 import javax.persistence.Embeddable;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
 
 @Embeddable
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -13,11 +16,31 @@ public class VoteImage {
     @Column(name = "image_url")
     private String imageUrl;
 
-    private VoteImage(final String imageUrl){
+    /**
+     * 업로드가 끝나기 전에는 PENDING 상태로 저장되고 image_url 이 비어 있다.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "image_status")
+    private ImageStatus imageStatus;
+
+    private VoteImage(final String imageUrl, final ImageStatus imageStatus){
         this.imageUrl = imageUrl;
+        this.imageStatus = imageStatus;
     }
     public static VoteImage of(final String imageUrl){
-        return new VoteImage(imageUrl);
+        return new VoteImage(imageUrl, ImageStatus.UPLOADED);
+    }
+
+    public static VoteImage pending(){
+        return new VoteImage(null, ImageStatus.PENDING);
+    }
+
+    public static VoteImage failed(){
+        return new VoteImage(null, ImageStatus.FAILED);
+    }
+
+    public ImageStatus getImageStatus(){
+        return imageStatus;
     }
 
 }
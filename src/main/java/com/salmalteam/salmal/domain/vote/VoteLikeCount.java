@@ -0,0 +1,15 @@
+package com.salmalteam.salmal.domain.vote;
+
+import lombok.Getter;
+
+@Getter
+public class VoteLikeCount {
+
+    private final Long voteId;
+    private final int likeCount;
+
+    public VoteLikeCount(final Long voteId, final int likeCount) {
+        this.voteId = voteId;
+        this.likeCount = likeCount;
+    }
+}
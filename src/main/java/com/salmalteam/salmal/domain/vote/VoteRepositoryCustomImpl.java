@@ -1,41 +1,43 @@
 package com.salmalteam.salmal.domain.vote;
 
-import com.querydsl.core.types.Order;
-import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.jpa.JPAExpressions;
-import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.salmalteam.salmal.domain.member.activity.MemberActivityType;
 import com.salmalteam.salmal.dto.request.member.vote.MemberBookmarkVotePageRequest;
 import com.salmalteam.salmal.dto.request.member.vote.MemberEvaluationVotePageRequest;
 import com.salmalteam.salmal.dto.request.member.vote.MemberVotePageRequest;
-import com.salmalteam.salmal.dto.request.vote.VotePageRequest;
 import com.salmalteam.salmal.dto.response.member.vote.*;
 import com.salmalteam.salmal.dto.response.vote.QVoteResponse;
-import com.salmalteam.salmal.dto.response.vote.VotePageResponse;
 import com.salmalteam.salmal.dto.response.vote.VoteResponse;
-import com.salmalteam.salmal.presentation.vote.SearchTypeConstant;
 import lombok.RequiredArgsConstructor;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import static com.salmalteam.salmal.domain.member.QMember.member;
+import static com.salmalteam.salmal.domain.member.activity.QMemberActivity.memberActivity;
 import static com.salmalteam.salmal.domain.vote.QVote.vote;
-import static com.salmalteam.salmal.domain.vote.bookmark.QVoteBookMark.voteBookMark;
-import static com.salmalteam.salmal.domain.vote.evaluation.QVoteEvaluation.voteEvaluation;
 
 @RequiredArgsConstructor
 public class VoteRepositoryCustomImpl implements VoteRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
 
+    /**
+     * 전달받은 투표 ID 순서대로 투표 목록을 조회한다.
+     */
     @Override
-    public VoteResponse search(final Long id, final Long memberId) {
+    public List<VoteResponse> searchListByIds(final List<Long> voteIds) {
 
-        final BooleanExpression bookmarkSubQuery = createBookmarkSubQuery(id, memberId);
-        final JPQLQuery<String> voteEvaluationSubQuery = createVoteEvaluationSubQuery(id, memberId);
+        if (voteIds.isEmpty()) {
+            return new ArrayList<>();
+        }
 
-        return queryFactory.select(new QVoteResponse(
+        final List<VoteResponse> voteResponses = queryFactory.select(new QVoteResponse(
                         vote.id,
                         vote.member.id,
                         vote.voteImage.imageUrl,
@@ -47,83 +49,46 @@ public class VoteRepositoryCustomImpl implements VoteRepositoryCustom {
                         vote.evaluationCount,
                         vote.likeRatio,
                         vote.dislikeRatio,
-                        vote.createdAt,
-                        bookmarkSubQuery,
-                        voteEvaluationSubQuery))
+                        vote.createdAt))
                 .from(vote)
-                .where(vote.id.eq(id))
-                .fetchOne();
-    }
-
-    private BooleanExpression createBookmarkSubQuery(final Long id, final Long memberId) {
-        return JPAExpressions.selectFrom(voteBookMark)
                 .where(
-                        voteBookMark.vote.id.eq(id),
-                        voteBookMark.bookmaker.id.eq(memberId)
+                        vote.id.in(voteIds)
                 )
-                .exists();
-    }
+                .fetch();
 
-    private JPQLQuery<String> createVoteEvaluationSubQuery(final Long id, final Long memberId) {
-        return JPAExpressions.select(
-                        voteEvaluation.voteEvaluationType.stringValue()
-                )
-                .where(
-                        voteEvaluation.vote.id.eq(id),
-                        voteEvaluation.evaluator.id.eq(memberId)
-                )
-                .from(voteEvaluation);
+        final Map<Long, VoteResponse> voteResponseMap = voteResponses.stream()
+                .collect(Collectors.toMap(VoteResponse::getId, Function.identity()));
+
+        return voteIds.stream()
+                .map(voteResponseMap::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
-    /**
-     * TODO
-     * BEST : 내가 차단한 사람 조회 필터링
-     * HOME : 랜덤 조회
-     */
     @Override
-    public VotePageResponse searchList(final Long memberId, final VotePageRequest votePageRequest, final SearchTypeConstant searchTypeConstant) {
-
-        // BEST : 좋아요 기준 내림차순 조회
-        // HOME : 랜덤 조회
-        final List<VoteResponse> voteResponses = queryFactory.select(new QVoteResponse(
+    public List<VoteCounter> searchVoteCounters(final List<Long> voteIds) {
+        return queryFactory.select(new QVoteCounter(
                         vote.id,
-                        vote.member.id,
-                        vote.voteImage.imageUrl,
-                        vote.member.nickName.value,
-                        vote.member.memberImage.imageUrl,
                         vote.commentCount,
                         vote.likeCount,
                         vote.dislikeCount,
                         vote.evaluationCount,
                         vote.likeRatio,
-                        vote.dislikeRatio,
-                        vote.createdAt,
-                        voteBookMark.isNotNull(),
-                        voteEvaluation.voteEvaluationType.stringValue()))
+                        vote.dislikeRatio))
                 .from(vote)
-                .leftJoin(voteEvaluation)
-                .on(vote.id.eq(voteEvaluation.vote.id).and(voteEvaluation.evaluator.id.eq(memberId)))
-                .leftJoin(voteBookMark)
-                .on(vote.id.eq(voteBookMark.vote.id).and(voteBookMark.bookmaker.id.eq(memberId)))
-                .where(
-                        cursorLikeCountAndCursorId(votePageRequest.getCursorId(), votePageRequest.getCursorLikes(), searchTypeConstant)
-                )
-                .orderBy(orderSpecifiers(searchTypeConstant))
-                .limit(votePageRequest.getSize() + 1)
+                .where(vote.id.in(voteIds))
                 .fetch();
-
-        final boolean hasNext = isHasNext(voteResponses, votePageRequest.getSize());
-        return VotePageResponse.of(hasNext, voteResponses);
     }
 
-    private BooleanExpression cursorLikeCountAndCursorId(final Long cursorId, final Integer cursorLikeCount, final SearchTypeConstant searchTypeConstant) {
-
-        if (cursorId != null && searchTypeConstant.equals(SearchTypeConstant.HOME)) return vote.id.lt(cursorId);
-        if (cursorLikeCount == null || cursorId == null) return null;
-
-        return vote.likeCount.eq(cursorLikeCount)
-                .and(vote.id.lt(cursorId))
-                .or(vote.likeCount.lt(cursorLikeCount));
+    @Override
+    public List<VoteAuthor> searchVoteAuthors(final List<Long> memberIds) {
+        return queryFactory.select(new QVoteAuthor(
+                        member.id,
+                        member.nickName.value,
+                        member.memberImage.imageUrl))
+                .from(member)
+                .where(member.id.in(memberIds))
+                .fetch();
     }
 
     @Override
@@ -136,7 +101,8 @@ public class VoteRepositoryCustomImpl implements VoteRepositoryCustom {
                 ))
                 .from(vote)
                 .where(
-                        vote.member.id.eq(memberId)
+                        vote.member.id.eq(memberId),
+                        ltId(memberVotePageRequest.getCursorId())
                 )
                 .orderBy(
                         vote.id.desc()
@@ -148,23 +114,29 @@ public class VoteRepositoryCustomImpl implements VoteRepositoryCustom {
         return MemberVotePageResponse.of(hasNext, memberVoteResponses);
     }
 
+    /**
+     * 회원 활동 기록을 최근 활동 순서로 읽는다. 커서는 이전 페이지 마지막 항목의 활동 ID 이다.
+     */
     @Override
     public MemberEvaluationVotePageResponse searchMemberEvaluationVoteList(final Long memberId, final MemberEvaluationVotePageRequest memberEvaluationVotePageRequest) {
 
         final List<MemberEvaluationVoteResponse> memberEvaluationVoteResponses = queryFactory.select(new QMemberEvaluationVoteResponse(
                         vote.id,
                         vote.voteImage.imageUrl,
-                        voteEvaluation.createdAt
+                        memberActivity.createdAt,
+                        memberActivity.id
                 ))
-                .from(vote)
-                .innerJoin(voteEvaluation)
-                .on(vote.id.eq(voteEvaluation.vote.id))
+                .from(memberActivity)
+                .innerJoin(vote)
+                .on(vote.id.eq(memberActivity.voteId), vote.deleted.isFalse())
                 .where(
-                        voteEvaluation.evaluator.id.eq(memberId),
-                        ltId(memberEvaluationVotePageRequest.getCursorId())
+                        memberActivity.memberId.eq(memberId),
+                        memberActivity.activityType.eq(MemberActivityType.EVALUATION),
+                        memberActivity.active.isTrue(),
+                        ltActivityId(memberEvaluationVotePageRequest.getCursorId())
                 )
                 .orderBy(
-                        vote.id.desc()
+                        memberActivity.id.desc()
                 )
                 .limit(memberEvaluationVotePageRequest.getSize() + 1)
                 .fetch();
@@ -179,17 +151,20 @@ public class VoteRepositoryCustomImpl implements VoteRepositoryCustom {
         final List<MemberBookmarkVoteResponse> memberBookmarkVoteResponses = queryFactory.select(new QMemberBookmarkVoteResponse(
                         vote.id,
                         vote.voteImage.imageUrl,
-                        voteBookMark.createdAt
+                        memberActivity.createdAt,
+                        memberActivity.id
                 ))
-                .from(vote)
-                .innerJoin(voteBookMark)
-                .on(vote.id.eq(voteBookMark.vote.id))
+                .from(memberActivity)
+                .innerJoin(vote)
+                .on(vote.id.eq(memberActivity.voteId), vote.deleted.isFalse())
                 .where(
-                        voteBookMark.bookmaker.id.eq(memberId),
-                        ltId(memberBookmarkVotePageRequest.getCursorId())
+                        memberActivity.memberId.eq(memberId),
+                        memberActivity.activityType.eq(MemberActivityType.BOOKMARK),
+                        memberActivity.active.isTrue(),
+                        ltActivityId(memberBookmarkVotePageRequest.getCursorId())
                 )
                 .orderBy(
-                        vote.id.desc()
+                        memberActivity.id.desc()
                 )
                 .limit(memberBookmarkVotePageRequest.getSize() + 1)
                 .fetch();
@@ -211,21 +186,11 @@ public class VoteRepositoryCustomImpl implements VoteRepositoryCustom {
         return cursorId == null ? null : vote.id.lt(cursorId);
     }
 
-    private OrderSpecifier[] orderSpecifiers(final SearchTypeConstant searchTypeConstant) {
-        final List<OrderSpecifier> orderSpecifierList = new ArrayList<>();
-
-        switch (searchTypeConstant) {
-            case BEST:
-                orderSpecifierList.add(new OrderSpecifier(Order.DESC, vote.likeCount));
-                orderSpecifierList.add(new OrderSpecifier(Order.DESC, vote.id));
-                break;
-
-            case HOME:
-                orderSpecifierList.add(new OrderSpecifier(Order.DESC, vote.id));
-                break;
-        }
-
-        return orderSpecifierList.toArray(new OrderSpecifier[orderSpecifierList.size()]);
+    /**
+     * 커서가 활동 ID 이므로 이전 페이지 조회 이후 커서 투표를 다시 평가하거나 취소해도 위치가 바뀌지 않는다.
+     */
+    private BooleanExpression ltActivityId(final Long cursorId) {
+        return cursorId == null ? null : memberActivity.id.lt(cursorId);
     }
 
 }
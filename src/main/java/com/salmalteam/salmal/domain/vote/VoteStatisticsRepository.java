@@ -0,0 +1,8 @@
+package com.salmalteam.salmal.domain.vote;
+
+import java.util.List;
+
+public interface VoteStatisticsRepository {
+    void updateEvaluationStatistics(List<VoteEvaluationCountDelta> voteEvaluationCountDeltas);
+    void updateViewCounts(List<VoteViewCountDelta> voteViewCountDeltas);
+}
@@ -0,0 +1,24 @@
+package com.salmalteam.salmal.domain.vote;
+
+import lombok.Getter;
+
+/**
+ * 투표 조회 수에 아직 반영되지 않은 증가량과 현재까지 추정한 고유 조회자 수
+ */
+@Getter
+public class VoteViewCountDelta {
+
+    private final Long voteId;
+    private final int viewDelta;
+    private final int uniqueViewerEstimate;
+
+    private VoteViewCountDelta(final Long voteId, final int viewDelta, final int uniqueViewerEstimate) {
+        this.voteId = voteId;
+        this.viewDelta = viewDelta;
+        this.uniqueViewerEstimate = uniqueViewerEstimate;
+    }
+
+    public static VoteViewCountDelta of(final Long voteId, final int viewDelta, final int uniqueViewerEstimate) {
+        return new VoteViewCountDelta(voteId, viewDelta, uniqueViewerEstimate);
+    }
+}
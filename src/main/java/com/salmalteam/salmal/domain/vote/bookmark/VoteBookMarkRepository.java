@@ -2,13 +2,19 @@ package com.salmalteam.salmal.domain.vote.bookmark;
 
 import com.salmalteam.salmal.domain.member.Member;
 import com.salmalteam.salmal.domain.vote.Vote;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface VoteBookMarkRepository extends Repository<VoteBookMark, Long> {
     VoteBookMark save(VoteBookMark voteBookMark);
     Optional<VoteBookMark> findByVoteAndBookmaker(Vote vote, Member member);
     boolean existsByVoteAndBookmaker(Vote vote, Member member);
-    void deleteByVoteAndBookmaker(Vote vote, Member member);
+    long deleteByVoteAndBookmaker(Vote vote, Member member);
+
+    @Query("select b.vote.id from VoteBookMark b where b.bookmaker.id = :memberId and b.vote.id in :voteIds")
+    List<Long> findVoteIdsByBookmakerIdAndVoteIdIn(@Param("memberId") Long memberId, @Param("voteIds") List<Long> voteIds);
 }
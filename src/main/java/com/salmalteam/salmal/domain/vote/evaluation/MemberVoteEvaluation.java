@@ -0,0 +1,15 @@
+package com.salmalteam.salmal.domain.vote.evaluation;
+
+import lombok.Getter;
+
+@Getter
+public class MemberVoteEvaluation {
+
+    private final Long voteId;
+    private final VoteEvaluationType voteEvaluationType;
+
+    public MemberVoteEvaluation(final Long voteId, final VoteEvaluationType voteEvaluationType) {
+        this.voteId = voteId;
+        this.voteEvaluationType = voteEvaluationType;
+    }
+}
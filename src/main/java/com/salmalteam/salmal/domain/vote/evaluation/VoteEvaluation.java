@@ -14,7 +14,9 @@ import javax.persistence.*;
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EqualsAndHashCode(of = {"id"}, callSuper = true)
-@Table(name = "vote_evaluation")
+@Table(name = "vote_evaluation", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_vote_evaluation_evaluator_vote", columnNames = {"evaluator_id", "vote_id"})
+})
 public class VoteEvaluation extends BaseCreatedTimeEntity {
 
     @Id
@@ -1,16 +1,22 @@
 package com.salmalteam.salmal.domain.vote.evaluation;
 
-import com.salmalteam.salmal.domain.member.Member;
-import com.salmalteam.salmal.domain.vote.Vote;
+import com.salmalteam.salmal.domain.vote.VoteActivityCount;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 public interface VoteEvaluationRepository extends Repository<VoteEvaluation, Long> {
     VoteEvaluation save(VoteEvaluation voteEvaluation);
-    void deleteByEvaluatorAndVote(Member member, Vote vote);
-    Optional<VoteEvaluation> findByEvaluatorAndVote(Member member, Vote vote);
-    boolean existsByEvaluatorAndVoteAndVoteEvaluationType(Member member, Vote vote, VoteEvaluationType voteEvaluationType);
     List<VoteEvaluation> findAllByEvaluator_Id(Long memberId);
+
+    @Query("select new com.salmalteam.salmal.domain.vote.evaluation.MemberVoteEvaluation(e.vote.id, e.voteEvaluationType) " +
+            "from VoteEvaluation e where e.evaluator.id = :memberId and e.vote.id in :voteIds")
+    List<MemberVoteEvaluation> findAllByEvaluatorIdAndVoteIdIn(@Param("memberId") Long memberId, @Param("voteIds") List<Long> voteIds);
+
+    @Query("select new com.salmalteam.salmal.domain.vote.VoteActivityCount(e.vote.id, count(e)) " +
+            "from VoteEvaluation e where e.createdAt > :from and e.createdAt <= :to group by e.vote.id")
+    List<VoteActivityCount> countByVoteBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
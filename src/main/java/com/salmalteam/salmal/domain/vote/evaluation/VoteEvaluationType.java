@@ -15,4 +15,8 @@ public enum VoteEvaluationType {
                 .findAny()
                 .orElseThrow(() -> new VoteException(VoteExceptionType.INVALID_VOTE_EVALUATION_TYPE));
     }
+
+    public VoteEvaluationType opposite(){
+        return this == LIKE ? DISLIKE : LIKE;
+    }
 }
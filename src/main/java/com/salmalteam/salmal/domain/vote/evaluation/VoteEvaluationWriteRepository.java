@@ -0,0 +1,9 @@
+package com.salmalteam.salmal.domain.vote.evaluation;
+
+import java.util.Optional;
+
+public interface VoteEvaluationWriteRepository {
+    boolean changeType(Long evaluatorId, Long voteId, VoteEvaluationType voteEvaluationType);
+    boolean insert(Long evaluatorId, Long voteId, VoteEvaluationType voteEvaluationType);
+    Optional<VoteEvaluationType> delete(Long evaluatorId, Long voteId);
+}
@@ -6,6 +6,9 @@ import lombok.Getter;
 public class MemberBookmarkVotePageRequest {
     private final int DEFAULT_SIZE = 8;
 
+    /**
+     * 이전 페이지 마지막 항목의 activityId
+     */
     private Long cursorId;
     private Integer size;
 
@@ -7,6 +7,9 @@ public class MemberEvaluationVotePageRequest {
 
     private final int DEFAULT_SIZE = 8;
 
+    /**
+     * 이전 페이지 마지막 항목의 activityId
+     */
     private Long cursorId;
     private Integer size;
     private MemberEvaluationVotePageRequest(Long cursorId, Integer size){
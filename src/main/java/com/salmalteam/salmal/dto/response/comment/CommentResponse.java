@@ -31,4 +31,16 @@ public class CommentResponse {
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
+
+    @QueryProjection
+    public CommentResponse(Long id, Long memberId, String nickName, String memberImageUrl, int likeCount, int replyCount, String content, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, memberId, nickName, memberImageUrl, false, likeCount, replyCount, content, createdAt, updatedAt);
+    }
+
+    /**
+     * 모든 회원이 공유하는 댓글 정보에 조회한 회원의 좋아요 여부를 더한 새로운 응답을 만든다.
+     */
+    public CommentResponse withLiked(final boolean liked) {
+        return new CommentResponse(id, memberId, nickName, memberImageUrl, liked, likeCount, replyCount, content, createdAt, updatedAt);
+    }
 }
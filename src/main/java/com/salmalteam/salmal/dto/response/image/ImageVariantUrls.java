@@ -0,0 +1,27 @@
+package com.salmalteam.salmal.dto.response.image;
+
+import com.salmalteam.salmal.domain.image.ImageVariant;
+import lombok.Getter;
+
+/**
+ * 클라이언트가 표시할 크기에 맞는 가장 작은 이미지를 고를 수 있도록 축소 이미지 URL 을 함께 내려준다.
+ */
+@Getter
+public class ImageVariantUrls {
+
+    private final String small;
+    private final String medium;
+    private final String large;
+
+    private ImageVariantUrls(final String small, final String medium, final String large) {
+        this.small = small;
+        this.medium = medium;
+        this.large = large;
+    }
+
+    public static ImageVariantUrls from(final String originalUrl) {
+        return new ImageVariantUrls(ImageVariant.SMALL.resolve(originalUrl),
+                ImageVariant.MEDIUM.resolve(originalUrl),
+                ImageVariant.LARGE.resolve(originalUrl));
+    }
+}
@@ -11,16 +11,35 @@ public class MyPageResponse {
     private String introduction;
     private Integer likeCount;
     private Integer disLikeCount;
+    private Integer voteCount;
+    private Integer evaluationCount;
+    private Integer bookmarkCount;
+    private Integer commentCount;
     private boolean blocked;
 
-    @QueryProjection
-    public MyPageResponse(Long id, String imageUrl, String nickName, String introduction, Integer likeCount, Integer disLikeCount, boolean blocked) {
+    public MyPageResponse(Long id, String imageUrl, String nickName, String introduction, Integer likeCount, Integer disLikeCount,
+                          Integer voteCount, Integer evaluationCount, Integer bookmarkCount, Integer commentCount, boolean blocked) {
         this.id = id;
         this.imageUrl = imageUrl;
         this.nickName = nickName;
         this.introduction = introduction;
         this.likeCount = likeCount;
         this.disLikeCount = disLikeCount;
+        this.voteCount = voteCount;
+        this.evaluationCount = evaluationCount;
+        this.bookmarkCount = bookmarkCount;
+        this.commentCount = commentCount;
         this.blocked = blocked;
     }
+
+    @QueryProjection
+    public MyPageResponse(Long id, String imageUrl, String nickName, String introduction, Integer likeCount, Integer disLikeCount,
+                          Integer voteCount, Integer evaluationCount, Integer bookmarkCount, Integer commentCount) {
+        this(id, imageUrl, nickName, introduction, likeCount, disLikeCount, voteCount, evaluationCount, bookmarkCount, commentCount, false);
+    }
+
+    public MyPageResponse withBlocked(final boolean blocked) {
+        return new MyPageResponse(id, imageUrl, nickName, introduction, likeCount, disLikeCount,
+                voteCount, evaluationCount, bookmarkCount, commentCount, blocked);
+    }
 }
@@ -1,6 +1,7 @@
 package com.salmalteam.salmal.dto.response.member.block;
 
 import com.querydsl.core.annotations.QueryProjection;
+import com.salmalteam.salmal.dto.response.image.ImageVariantUrls;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
@@ -19,4 +20,8 @@ public class MemberBlockedResponse {
         this.imageUrl = imageUrl;
         this.blockedDate = blockedDate;
     }
+
+    public ImageVariantUrls getImageVariants() {
+        return ImageVariantUrls.from(imageUrl);
+    }
 }
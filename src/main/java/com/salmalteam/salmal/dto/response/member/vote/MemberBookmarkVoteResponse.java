@@ -1,6 +1,7 @@
 package com.salmalteam.salmal.dto.response.member.vote;
 
 import com.querydsl.core.annotations.QueryProjection;
+import com.salmalteam.salmal.dto.response.image.ImageVariantUrls;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
@@ -10,11 +11,20 @@ public class MemberBookmarkVoteResponse {
     private Long id;
     private String imageUrl;
     private LocalDateTime createdDate;
+    /**
+     * 다음 페이지를 조회할 때 커서로 사용하는 북마크 활동 ID
+     */
+    private Long activityId;
 
     @QueryProjection
-    public MemberBookmarkVoteResponse(Long id, String imageUrl, LocalDateTime createdDate) {
+    public MemberBookmarkVoteResponse(Long id, String imageUrl, LocalDateTime createdDate, Long activityId) {
         this.id = id;
         this.imageUrl = imageUrl;
         this.createdDate = createdDate;
+        this.activityId = activityId;
+    }
+
+    public ImageVariantUrls getImageVariants() {
+        return ImageVariantUrls.from(imageUrl);
     }
 }
@@ -1,6 +1,7 @@
 package com.salmalteam.salmal.dto.response.member.vote;
 
 import com.querydsl.core.annotations.QueryProjection;
+import com.salmalteam.salmal.dto.response.image.ImageVariantUrls;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
@@ -17,4 +18,8 @@ public class MemberVoteResponse {
         this.imageUrl = imageUrl;
         this.createdDate = createdDate;
     }
+
+    public ImageVariantUrls getImageVariants() {
+        return ImageVariantUrls.from(imageUrl);
+    }
 }
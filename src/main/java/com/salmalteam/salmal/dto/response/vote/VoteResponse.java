@@ -1,9 +1,14 @@
 package com.salmalteam.salmal.dto.response.vote;
 
 import com.querydsl.core.annotations.QueryProjection;
+import com.salmalteam.salmal.domain.vote.VoteAuthor;
+import com.salmalteam.salmal.domain.vote.VoteCard;
+import com.salmalteam.salmal.domain.vote.VoteCounter;
+import com.salmalteam.salmal.dto.response.image.ImageVariantUrls;
 import lombok.Getter;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDateTime;
 
 @Getter
@@ -43,4 +48,50 @@ public class VoteResponse {
         this.isBookmarked = isBookmarked;
         this.status = status == null ? NONE : status;
     }
+
+    @QueryProjection
+    public VoteResponse(Long id, Long memberId, String imageUrl, String nickName, String memberImageUrl, int commentCount, int likeCount, int disLikeCount, int totalEvaluationCnt, BigDecimal likeRatio, BigDecimal disLikeRatio, LocalDateTime createdAt) {
+        this(id, memberId, imageUrl, nickName, memberImageUrl, commentCount, likeCount, disLikeCount, totalEvaluationCnt, likeRatio, disLikeRatio, createdAt, false, NONE);
+    }
+
+    public static VoteResponse of(final VoteCard voteCard, final VoteAuthor voteAuthor, final VoteCounter voteCounter) {
+        return new VoteResponse(voteCard.getVoteId(), voteCard.getMemberId(), voteCard.getImageUrl(),
+                voteAuthor.getNickName(), voteAuthor.getMemberImageUrl(),
+                voteCounter.getCommentCount(), voteCounter.getLikeCount(), voteCounter.getDislikeCount(), voteCounter.getEvaluationCount(),
+                voteCounter.getLikeRatio(), voteCounter.getDislikeRatio(), voteCard.getCreatedAt());
+    }
+
+    /**
+     * 모든 회원이 공유하는 투표 정보에 조회한 회원의 북마크, 평가 상태를 더한 새로운 응답을 만든다.
+     */
+    public VoteResponse withViewerStatus(final boolean isBookmarked, final String status) {
+        return new VoteResponse(id, memberId, imageUrl, nickName, memberImageUrl, commentCount, likeCount, disLikeCount,
+                totalEvaluationCnt, likeRatio, disLikeRatio, createdAt, isBookmarked, status);
+    }
+
+    public void applyPendingEvaluation(final int pendingLikeCount, final int pendingDisLikeCount) {
+        if (pendingLikeCount == 0 && pendingDisLikeCount == 0) {
+            return;
+        }
+        this.likeCount += pendingLikeCount;
+        this.disLikeCount += pendingDisLikeCount;
+        this.totalEvaluationCnt += pendingLikeCount + pendingDisLikeCount;
+        this.likeRatio = calculateRatio(this.likeCount);
+        this.disLikeRatio = calculateRatio(this.disLikeCount);
+    }
+
+    private BigDecimal calculateRatio(final int count) {
+        if (totalEvaluationCnt <= 0) {
+            return BigDecimal.ZERO;
+        }
+        return BigDecimal.valueOf(count).divide(BigDecimal.valueOf(totalEvaluationCnt), 2, RoundingMode.HALF_UP);
+    }
+
+    public ImageVariantUrls getImageVariants() {
+        return ImageVariantUrls.from(imageUrl);
+    }
+
+    public ImageVariantUrls getMemberImageVariants() {
+        return ImageVariantUrls.from(memberImageUrl);
+    }
 }
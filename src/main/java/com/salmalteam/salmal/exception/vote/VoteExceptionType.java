@@ -10,7 +10,7 @@ public enum VoteExceptionType implements ExceptionType {
     DUPLICATED_VOTE_EVALUATION(Status.BAD_REQUEST, 3004, "이미 평가를 한 투표입니다.", "중복된 투표 평가 요청"),
     INVALID_VOTE_EVALUATION_TYPE(Status.BAD_REQUEST, 3005, "투표타입은 LIKE 또는 DISLIKE 입니다.", "적절하지 않은 투표 타입 요청"),
     DUPLICATED_VOTE_REPORT(Status.BAD_REQUEST, 3006, "이미 신고한 투표입니다.", "중복 투표 신고 요청"),
-    INVALID_VOTE_SEARCH_TYPE(Status.BAD_REQUEST, 3007, "잘못된 투표 검색 타입입니다. (BEST, HOME)", "잘못된 투표 검색 타입 요청")
+    INVALID_VOTE_SEARCH_TYPE(Status.BAD_REQUEST, 3007, "잘못된 투표 검색 타입입니다. (BEST, HOME, TRENDING)", "잘못된 투표 검색 타입 요청")
     ;
 
     private final Status status;
@@ -1,6 +1,7 @@
 package com.salmalteam.salmal.infra.auth;
 
 import com.salmalteam.salmal.application.auth.TokenProvider;
+import com.salmalteam.salmal.application.cache.LruCache;
 import com.salmalteam.salmal.exception.auth.AuthException;
 import com.salmalteam.salmal.exception.auth.AuthExceptionType;
 import com.salmalteam.salmal.infra.auth.dto.MemberPayLoad;
@@ -10,6 +11,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
+import java.util.Base64;
 import java.util.Date;
 
 @Component
@@ -18,10 +20,18 @@ public class JwtProvider implements TokenProvider {
     private static final String TOKEN_TYPE = "Baerer";
     private static final String ACCESS_TOKEN_SUBJECT = "AccessToken";
     private static final String REFRESH_TOKEN_SUBJECT = "RefreshToken";
+    private static final int VERIFIED_ACCESS_TOKEN_CACHE_SIZE = 10_000;
+    private static final long VERIFIED_ACCESS_TOKEN_CACHE_EXPIRY = 600_000L;
     private final String ID = "id";
     private final long accessTokenExpiry;
     private final long refreshTokenExpiry;
     private final Key secretKey;
+    private final JwtParser jwtParser;
+    /**
+     * 같은 접근 토큰으로 반복되는 요청에서 서명 검증을 다시 하지 않기 위해 검증이 끝난 토큰을 다이제스트로 보관한다.
+     */
+    private final LruCache<String, VerifiedAccessToken> verifiedAccessTokens =
+            new LruCache<>(VERIFIED_ACCESS_TOKEN_CACHE_SIZE, VERIFIED_ACCESS_TOKEN_CACHE_EXPIRY);
 
     public JwtProvider(@Value("${jwt.access-token-expiry}") final long accessTokenExpiry,
                        @Value("${jwt.refresh-token-expiry}") final long refreshTokenExpiry,
@@ -29,6 +39,9 @@ public class JwtProvider implements TokenProvider {
         this.accessTokenExpiry = accessTokenExpiry;
         this.refreshTokenExpiry = refreshTokenExpiry;
         this.secretKey = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(this.secretKey)
+                .build();
     }
 
     @Override
@@ -67,7 +80,10 @@ public class JwtProvider implements TokenProvider {
 
     @Override
     public MemberPayLoad getPayLoad(final String accessToken) {
-        final Claims claims = getClaims(accessToken);
+        return toPayLoad(getClaims(accessToken));
+    }
+
+    private MemberPayLoad toPayLoad(final Claims claims) {
         try{
             final Long memberId = claims.get(ID, Long.class);
             return MemberPayLoad.from(memberId);
@@ -77,11 +93,46 @@ public class JwtProvider implements TokenProvider {
     }
 
 
+    @Override
+    public MemberPayLoad parseAccessToken(final String accessToken) {
+        final String digest = digest(accessToken);
+        final VerifiedAccessToken verifiedAccessToken = verifiedAccessTokens.get(digest);
+        if (verifiedAccessToken != null && verifiedAccessToken.isNotExpired()) {
+            return MemberPayLoad.from(verifiedAccessToken.memberId);
+        }
+
+        final Claims claims;
+        try{
+            claims = getClaims(accessToken);
+        }catch (JwtException | IllegalArgumentException e){
+            throw new AuthException(AuthExceptionType.NOT_VALID_ACCESS_TOKEN);
+        }
+        if(!isAccessToken(claims) || !isNotExpired(claims)){
+            throw new AuthException(AuthExceptionType.NOT_VALID_ACCESS_TOKEN);
+        }
+
+        final MemberPayLoad memberPayLoad = toPayLoad(claims);
+        final long expiresAt = claims.getExpiration().getTime();
+        // 캐시에 머무는 동안 만료되는 토큰은 보관하지 않는다.
+        if (expiresAt - System.currentTimeMillis() > VERIFIED_ACCESS_TOKEN_CACHE_EXPIRY) {
+            verifiedAccessTokens.put(digest, new VerifiedAccessToken(memberPayLoad.getId(), expiresAt));
+        }
+        return memberPayLoad;
+    }
+
     @Override
     public Long getTokenExpiry(final String token) {
+        final String digest = digest(token);
+        final VerifiedAccessToken verifiedAccessToken = verifiedAccessTokens.get(digest);
+        if (verifiedAccessToken != null) {
+            if (verifiedAccessToken.isNotExpired()) {
+                return verifiedAccessToken.expiresAt - System.currentTimeMillis();
+            }
+            verifiedAccessTokens.evict(digest);
+        }
         final Claims claims = getClaims(token);
         final Date expiry = claims.getExpiration();
-        return expiry.getTime() - (new Date().getTime());
+        return Math.max(expiry.getTime() - (new Date().getTime()), 0L);
     }
 
     @Override
@@ -97,9 +148,9 @@ public class JwtProvider implements TokenProvider {
     @Override
     public boolean isValidAccessToken(final String accessToken) {
         try{
-            final Claims claims = getClaims(accessToken);
-            return isAccessToken(claims) && isNotExpired(claims);
-        }catch (JwtException | IllegalArgumentException e){
+            parseAccessToken(accessToken);
+            return true;
+        }catch (AuthException e){
             return false;
         }
     }
@@ -117,10 +168,26 @@ public class JwtProvider implements TokenProvider {
 
 
     private Claims getClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
+        return jwtParser.parseClaimsJws(token)
                 .getBody();
     }
+
+    private String digest(final String token) {
+        return Base64.getEncoder().encodeToString(TokenDigest.of(token));
+    }
+
+    private static class VerifiedAccessToken {
+
+        private final Long memberId;
+        private final long expiresAt;
+
+        private VerifiedAccessToken(final Long memberId, final long expiresAt) {
+            this.memberId = memberId;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isNotExpired() {
+            return expiresAt > System.currentTimeMillis();
+        }
+    }
 }
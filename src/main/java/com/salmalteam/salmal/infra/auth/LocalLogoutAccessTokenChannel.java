@@ -0,0 +1,28 @@
+package com.salmalteam.salmal.infra.auth;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+/**
+ * 단일 서버 환경(테스트 포함)에서 Redis Pub/Sub 대신 사용하는 채널
+ */
+@Component
+@ConditionalOnProperty(name = "auth.logout-token.channel", havingValue = "local")
+public class LocalLogoutAccessTokenChannel implements LogoutAccessTokenChannel {
+
+    private final List<BiConsumer<Long, Long>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(final long tokenHash, final long expiresAt) {
+        listeners.forEach(listener -> listener.accept(tokenHash, expiresAt));
+    }
+
+    @Override
+    public void subscribe(final BiConsumer<Long, Long> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,11 @@
+package com.salmalteam.salmal.infra.auth;
+
+import java.util.function.BiConsumer;
+
+/**
+ * 로그아웃된 접근 토큰을 다른 서버의 near-cache 에 전파하는 채널
+ */
+public interface LogoutAccessTokenChannel {
+    void publish(long tokenHash, long expiresAt);
+    void subscribe(BiConsumer<Long, Long> listener);
+}
@@ -0,0 +1,85 @@
+package com.salmalteam.salmal.infra.auth;
+
+import com.salmalteam.salmal.domain.auth.LogoutAccessToken;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로그아웃된 접근 토큰의 해시를 만료 시각까지 메모리에 보관한다.
+ * 적재가 끝난 이후에는 "로그아웃되지 않음" 을 Redis 조회 없이 판단하고,
+ * 로그아웃되었을 가능성이 있는 토큰만 Redis 에서 확인한다.
+ */
+@Slf4j
+@Component
+public class LogoutAccessTokenNearCache {
+
+    private final ConcurrentHashMap<Long, Long> revokedTokens = new ConcurrentHashMap<>();
+    private final LogoutAccessTokenRepository logoutAccessTokenRepository;
+    private final LogoutAccessTokenChannel logoutAccessTokenChannel;
+    private volatile boolean loaded = false;
+
+    public LogoutAccessTokenNearCache(final LogoutAccessTokenRepository logoutAccessTokenRepository,
+                                      final LogoutAccessTokenChannel logoutAccessTokenChannel) {
+        this.logoutAccessTokenRepository = logoutAccessTokenRepository;
+        this.logoutAccessTokenChannel = logoutAccessTokenChannel;
+        this.logoutAccessTokenChannel.subscribe(this::put);
+    }
+
+    /**
+     * 적재 전이거나 로그아웃 되었을 수 있는 토큰이면 true
+     */
+    public boolean mightBeRevoked(final String accessToken) {
+        if (!loaded) {
+            return true;
+        }
+        final Long expiresAt = revokedTokens.get(hash(accessToken));
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    public void revoke(final String accessToken, final long expiry) {
+        final long tokenHash = hash(accessToken);
+        final long expiresAt = System.currentTimeMillis() + expiry;
+        put(tokenHash, expiresAt);
+        logoutAccessTokenChannel.publish(tokenHash, expiresAt);
+    }
+
+    private void put(final long tokenHash, final long expiresAt) {
+        revokedTokens.merge(tokenHash, expiresAt, Math::max);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    /**
+     * Pub/Sub 메시지가 유실된 경우를 대비해 주기적으로 Redis 와 다시 맞춘다.
+     */
+    @Scheduled(fixedDelayString = "${auth.logout-token.near-cache.reload-interval:60000}",
+            initialDelayString = "${auth.logout-token.near-cache.reload-interval:60000}")
+    public void reload() {
+        try {
+            final long now = System.currentTimeMillis();
+            for (LogoutAccessToken logoutAccessToken : logoutAccessTokenRepository.findAll()) {
+                if (logoutAccessToken == null || logoutAccessToken.getExpiry() == null) {
+                    continue;
+                }
+                put(hash(logoutAccessToken.getId()), now + logoutAccessToken.getExpiry());
+            }
+            revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+            loaded = true;
+        } catch (RuntimeException e) {
+            log.warn("로그아웃 토큰 near-cache 적재에 실패하여 Redis 조회로 대체합니다.", e);
+        }
+    }
+
+    private long hash(final String accessToken) {
+        return ByteBuffer.wrap(TokenDigest.of(accessToken)).getLong();
+    }
+}
@@ -0,0 +1,62 @@
+package com.salmalteam.salmal.infra.auth;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.function.BiConsumer;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "auth.logout-token.channel", havingValue = "redis", matchIfMissing = true)
+public class RedisLogoutAccessTokenChannel implements LogoutAccessTokenChannel {
+
+    private static final ChannelTopic TOPIC = new ChannelTopic("logoutAccessToken:revoked");
+    private static final String DELIMITER = ":";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    public RedisLogoutAccessTokenChannel(final StringRedisTemplate stringRedisTemplate,
+                                         final RedisConnectionFactory redisConnectionFactory) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = new RedisMessageListenerContainer();
+        this.listenerContainer.setConnectionFactory(redisConnectionFactory);
+        this.listenerContainer.afterPropertiesSet();
+        this.listenerContainer.start();
+    }
+
+    @Override
+    public void publish(final long tokenHash, final long expiresAt) {
+        try {
+            stringRedisTemplate.convertAndSend(TOPIC.getTopic(), tokenHash + DELIMITER + expiresAt);
+        } catch (RuntimeException e) {
+            // 전파에 실패해도 다른 서버는 주기적인 재동기화로 따라잡는다.
+            log.warn("로그아웃 토큰 전파에 실패했습니다.", e);
+        }
+    }
+
+    @Override
+    public void subscribe(final BiConsumer<Long, Long> listener) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            final String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            final String[] values = body.split(DELIMITER);
+            try {
+                listener.accept(Long.parseLong(values[0]), Long.parseLong(values[1]));
+            } catch (RuntimeException e) {
+                log.warn("잘못된 로그아웃 토큰 메시지입니다. message={}", body);
+            }
+        }, TOPIC);
+    }
+
+    @PreDestroy
+    public void close() throws Exception {
+        listenerContainer.destroy();
+    }
+}
@@ -14,6 +14,7 @@ public class TokenRepositoryImpl implements TokenRepository {
 
     private final RefreshTokenRepository refreshTokenRepository;
     private final LogoutAccessTokenRepository logoutAccessTokenRepository;
+    private final LogoutAccessTokenNearCache logoutAccessTokenNearCache;
 
     @Override
     public void saveRefreshToken(final RefreshToken refreshToken) {
@@ -23,6 +24,7 @@ public class TokenRepositoryImpl implements TokenRepository {
     @Override
     public void saveLogoutAccessToken(final LogoutAccessToken logoutAccessToken) {
         logoutAccessTokenRepository.save(logoutAccessToken);
+        logoutAccessTokenNearCache.revoke(logoutAccessToken.getId(), logoutAccessToken.getExpiry());
     }
 
     @Override
@@ -32,6 +34,9 @@ public class TokenRepositoryImpl implements TokenRepository {
 
     @Override
     public boolean existsLogoutAccessTokenById(final String logoutAccessToken) {
+        if (!logoutAccessTokenNearCache.mightBeRevoked(logoutAccessToken)) {
+            return false;
+        }
         return logoutAccessTokenRepository.existsById(logoutAccessToken);
     }
 
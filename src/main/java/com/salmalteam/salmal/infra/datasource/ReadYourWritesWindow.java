@@ -0,0 +1,55 @@
+package com.salmalteam.salmal.infra.datasource;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 쓰기 트랜잭션을 실행한 회원의 조회를 일정 시간 동안 프라이머리로 보내기 위해 회원별 만료 시각을 기록한다.
+ * 기간이 0 이하면 아무것도 기록하지 않는다.
+ */
+public class ReadYourWritesWindow {
+
+    private final ConcurrentHashMap<Long, Long> expiresAt = new ConcurrentHashMap<>();
+    private final long windowMillis;
+    private final LongSupplier clock;
+
+    ReadYourWritesWindow(final long windowMillis, final LongSupplier clock) {
+        this.windowMillis = windowMillis;
+        this.clock = clock;
+    }
+
+    public static ReadYourWritesWindow of(final long windowMillis) {
+        return new ReadYourWritesWindow(windowMillis, System::currentTimeMillis);
+    }
+
+    public static ReadYourWritesWindow disabled() {
+        return of(0);
+    }
+
+    public void recordWrite(final Long memberId) {
+        if (windowMillis <= 0 || memberId == null) {
+            return;
+        }
+        expiresAt.put(memberId, clock.getAsLong() + windowMillis);
+    }
+
+    public boolean isWithinWindow(final Long memberId) {
+        if (memberId == null) {
+            return false;
+        }
+        final Long expiry = expiresAt.get(memberId);
+        if (expiry == null) {
+            return false;
+        }
+        if (expiry <= clock.getAsLong()) {
+            expiresAt.remove(memberId, expiry);
+            return false;
+        }
+        return true;
+    }
+
+    public void evictExpired() {
+        final long now = clock.getAsLong();
+        expiresAt.values().removeIf(expiry -> expiry <= now);
+    }
+}
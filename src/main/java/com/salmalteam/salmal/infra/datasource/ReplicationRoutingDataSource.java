@@ -0,0 +1,171 @@
+package com.salmalteam.salmal.infra.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션은 레플리카로, 나머지는 프라이머리로 커넥션을 연결한다.
+ * 트랜잭션 속성이 정해진 뒤에 커넥션을 얻어야 하므로 LazyConnectionDataSourceProxy 로 감싸서 사용해야 한다.
+ *
+ * 레플리카는 라운드 로빈으로 고르고, 주기적으로 복제 지연을 확인해서 허용 범위를 넘거나 연결할 수 없는 레플리카는 제외한다.
+ * 사용할 수 있는 레플리카가 없거나 read-your-writes 기간 안의 회원이면 프라이머리에서 조회한다.
+ */
+@Slf4j
+public class ReplicationRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    private static final List<String> LAG_COLUMNS = List.of("Seconds_Behind_Source", "Seconds_Behind_Master");
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final String lagQuery;
+    private final long maxLagMillis;
+    private final ReadYourWritesWindow readYourWritesWindow;
+    private final Supplier<Long> currentMemberId;
+    private final AtomicInteger counter = new AtomicInteger();
+
+    public ReplicationRoutingDataSource(final DataSource primary,
+                                        final List<DataSource> replicas,
+                                        final String lagQuery,
+                                        final long maxLagMillis,
+                                        final ReadYourWritesWindow readYourWritesWindow,
+                                        final Supplier<Long> currentMemberId) {
+        this.primary = primary;
+        this.replicas = new ArrayList<>();
+        for (int i = 0; i < replicas.size(); i++) {
+            this.replicas.add(new Replica("replica-" + (i + 1), replicas.get(i)));
+        }
+        this.lagQuery = lagQuery == null ? "" : lagQuery.trim();
+        this.maxLagMillis = maxLagMillis;
+        this.readYourWritesWindow = readYourWritesWindow;
+        this.currentMemberId = currentMemberId;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection route(final ConnectionOpener opener) throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                readYourWritesWindow.recordWrite(currentMemberId.get());
+            }
+            return opener.open(primary);
+        }
+        if (readYourWritesWindow.isWithinWindow(currentMemberId.get())) {
+            return opener.open(primary);
+        }
+
+        final int start = Math.floorMod(counter.getAndIncrement(), Math.max(replicas.size(), 1));
+        for (int i = 0; i < replicas.size(); i++) {
+            final Replica replica = replicas.get((start + i) % replicas.size());
+            if (!replica.available) {
+                continue;
+            }
+            try {
+                return opener.open(replica.dataSource);
+            } catch (SQLException e) {
+                // 다음 확인 주기에 복구되면 다시 사용한다.
+                replica.available = false;
+                log.warn("레플리카에 연결할 수 없어 제외합니다. replica={}", replica.name, e);
+            }
+        }
+        return opener.open(primary);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.check-interval:5000}")
+    public void checkReplicas() {
+        replicas.forEach(this::check);
+        readYourWritesWindow.evictExpired();
+    }
+
+    private void check(final Replica replica) {
+        boolean available;
+        try (Connection connection = replica.dataSource.getConnection()) {
+            available = isLagAcceptable(connection);
+        } catch (SQLException e) {
+            available = false;
+        }
+        if (replica.available != available) {
+            log.warn("레플리카 상태가 바뀌었습니다. replica={}, available={}", replica.name, available);
+        }
+        replica.available = available;
+    }
+
+    /**
+     * 지연 조회 쿼리가 없으면 연결만 확인한다.
+     * 결과에 MySQL 의 SHOW REPLICA STATUS 지연 컬럼이 있으면 그 값을, 없으면 첫 번째 컬럼을 지연 초로 본다.
+     */
+    private boolean isLagAcceptable(final Connection connection) throws SQLException {
+        if (lagQuery.isEmpty()) {
+            return connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            if (!resultSet.next()) {
+                return false;
+            }
+            final long lagSeconds = resultSet.getLong(findLagColumn(resultSet.getMetaData()));
+            return !resultSet.wasNull() && lagSeconds * 1000 <= maxLagMillis;
+        }
+    }
+
+    private int findLagColumn(final ResultSetMetaData metaData) throws SQLException {
+        for (int column = 1; column <= metaData.getColumnCount(); column++) {
+            if (LAG_COLUMNS.contains(metaData.getColumnLabel(column))) {
+                return column;
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * 레플리카 커넥션 풀은 빈으로 등록되지 않으므로 여기서 닫는다.
+     */
+    @Override
+    public void close() throws IOException {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof Closeable) {
+                ((Closeable) replica.dataSource).close();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionOpener {
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+
+    private static class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean available = true;
+
+        private Replica(final String name, final DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.salmalteam.salmal.infra.image;
+
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * JPEG 의 EXIF Orientation 태그를 읽어 이미지를 바로 세운다.
+ * ImageIO 는 이 태그를 무시하므로, 휴대폰에서 세로로 찍은 사진은 축소본이 눕혀진 채로 만들어진다.
+ */
+final class ExifOrientation {
+
+    static final int NORMAL = 1;
+
+    private static final int SOI = 0xFFD8;
+    private static final int SOS = 0xFFDA;
+    private static final int EOI = 0xFFD9;
+    private static final int APP1 = 0xFFE1;
+    private static final int ORIENTATION_TAG = 0x0112;
+    private static final byte[] EXIF_HEADER = "Exif\0\0".getBytes(StandardCharsets.US_ASCII);
+    private static final int IFD_ENTRY_SIZE = 12;
+
+    private ExifOrientation() {
+    }
+
+    /**
+     * 이미지 데이터(SOS) 이전의 APP1 세그먼트만 읽는다. JPEG 이 아니거나 태그가 없으면 NORMAL 이다.
+     */
+    static int read(final InputStream inputStream) throws IOException {
+        final DataInputStream data = new DataInputStream(inputStream);
+        try {
+            if (data.readUnsignedShort() != SOI) {
+                return NORMAL;
+            }
+            while (true) {
+                final int marker = data.readUnsignedShort();
+                if ((marker & 0xFF00) != 0xFF00 || marker == SOS || marker == EOI) {
+                    return NORMAL;
+                }
+                final int length = data.readUnsignedShort() - 2;
+                if (length < 0) {
+                    return NORMAL;
+                }
+                final byte[] segment = new byte[length];
+                data.readFully(segment);
+                if (marker == APP1 && isExif(segment)) {
+                    return parseOrientation(segment);
+                }
+            }
+        } catch (EOFException e) {
+            return NORMAL;
+        }
+    }
+
+    private static boolean isExif(final byte[] segment) {
+        if (segment.length < EXIF_HEADER.length) {
+            return false;
+        }
+        for (int i = 0; i < EXIF_HEADER.length; i++) {
+            if (segment[i] != EXIF_HEADER[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * TIFF 헤더의 바이트 순서(II/MM)를 따라 IFD0 에서 Orientation 태그를 찾는다.
+     */
+    private static int parseOrientation(final byte[] segment) {
+        final int tiffStart = EXIF_HEADER.length;
+        final ByteBuffer tiff = ByteBuffer.wrap(segment);
+        try {
+            tiff.order(segment[tiffStart] == 'I' ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+            final int ifdStart = tiffStart + tiff.getInt(tiffStart + 4);
+            final int entryCount = Short.toUnsignedInt(tiff.getShort(ifdStart));
+            for (int i = 0; i < entryCount; i++) {
+                final int entryStart = ifdStart + 2 + i * IFD_ENTRY_SIZE;
+                if (Short.toUnsignedInt(tiff.getShort(entryStart)) == ORIENTATION_TAG) {
+                    final int orientation = Short.toUnsignedInt(tiff.getShort(entryStart + 8));
+                    return orientation >= 1 && orientation <= 8 ? orientation : NORMAL;
+                }
+            }
+        } catch (IndexOutOfBoundsException e) {
+            return NORMAL;
+        }
+        return NORMAL;
+    }
+
+    /**
+     * 2~8 은 좌우 반전, 회전 또는 둘의 조합이다. 5~8 은 가로와 세로가 바뀐다.
+     */
+    static BufferedImage apply(final BufferedImage image, final int orientation) {
+        final int width = image.getWidth();
+        final int height = image.getHeight();
+        final AffineTransform transform;
+        switch (orientation) {
+            case 2:
+                transform = new AffineTransform(-1, 0, 0, 1, width, 0);
+                break;
+            case 3:
+                transform = new AffineTransform(-1, 0, 0, -1, width, height);
+                break;
+            case 4:
+                transform = new AffineTransform(1, 0, 0, -1, 0, height);
+                break;
+            case 5:
+                transform = new AffineTransform(0, 1, 1, 0, 0, 0);
+                break;
+            case 6:
+                transform = new AffineTransform(0, 1, -1, 0, height, 0);
+                break;
+            case 7:
+                transform = new AffineTransform(0, -1, -1, 0, height, width);
+                break;
+            case 8:
+                transform = new AffineTransform(0, -1, 1, 0, 0, width);
+                break;
+            default:
+                return image;
+        }
+
+        final boolean swapped = orientation >= 5;
+        final int type = image.getType() == BufferedImage.TYPE_CUSTOM ? BufferedImage.TYPE_INT_ARGB : image.getType();
+        final BufferedImage oriented = new BufferedImage(swapped ? height : width, swapped ? width : height, type);
+        final Graphics2D graphics = oriented.createGraphics();
+        try {
+            graphics.drawImage(image, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return oriented;
+    }
+}
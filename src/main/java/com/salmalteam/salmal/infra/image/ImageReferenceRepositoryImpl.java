@@ -0,0 +1,40 @@
+package com.salmalteam.salmal.infra.image;
+
+import com.salmalteam.salmal.domain.image.ImageReferenceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 투표 이미지와 프로필 이미지 중 숨김 처리되지 않은 데이터가 참조하는 이미지 URL 을 조회한다.
+ */
+@Repository
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class ImageReferenceRepositoryImpl implements ImageReferenceRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public void forEachReferencedImageUrl(final Consumer<String> consumer) {
+        final RowCallbackHandler handler = rs -> consumer.accept(rs.getString("image_url"));
+        jdbcTemplate.query("select image_url from vote where deleted = false and image_url is not null", handler);
+        jdbcTemplate.query("select image_url from member where deleted = false", handler);
+    }
+
+    @Override
+    public List<String> findReferencedImageUrls(final List<String> imageUrls) {
+        if (imageUrls.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.queryForList("select image_url from vote where deleted = false and image_url in (:imageUrls) " +
+                        "union select image_url from member where deleted = false and image_url in (:imageUrls)",
+                Map.of("imageUrls", imageUrls), String.class);
+    }
+}
@@ -0,0 +1,110 @@
+package com.salmalteam.salmal.infra.image;
+
+import com.salmalteam.salmal.domain.image.ImageFile;
+import com.salmalteam.salmal.domain.image.ImageVariant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 업로드할 이미지의 축소본(JPEG)을 만든다.
+ * ImageIO 로 읽을 수 없는 형식(HEIF 등)은 축소본 없이 원본만 업로드한다.
+ * 축소본에는 EXIF 가 남지 않으므로 Orientation 태그대로 회전한 뒤 축소한다.
+ */
+@Slf4j
+@Component
+public class ImageResizer {
+
+    private static final String JPEG = "jpeg";
+
+    private final float quality;
+
+    public ImageResizer(@Value("${image.variant.quality:0.85}") final float quality) {
+        this.quality = quality;
+    }
+
+    public Map<ImageVariant, byte[]> resize(final ImageFile imageFile) {
+        final BufferedImage original;
+        try (InputStream inputStream = imageFile.getInputStream()) {
+            original = ImageIO.read(inputStream);
+        } catch (IOException e) {
+            log.warn("축소 이미지를 만들기 위해 원본 이미지를 읽는데 실패했습니다.", e);
+            return Collections.emptyMap();
+        }
+        if (original == null) {
+            return Collections.emptyMap();
+        }
+        final BufferedImage oriented = ExifOrientation.apply(original, readOrientation(imageFile));
+
+        final Map<ImageVariant, byte[]> variants = new EnumMap<>(ImageVariant.class);
+        try {
+            for (ImageVariant imageVariant : ImageVariant.values()) {
+                variants.put(imageVariant, writeJpeg(scale(oriented, imageVariant.getWidth())));
+            }
+        } catch (IOException e) {
+            log.warn("축소 이미지 생성에 실패했습니다.", e);
+            return Collections.emptyMap();
+        }
+        return variants;
+    }
+
+    private int readOrientation(final ImageFile imageFile) {
+        try (InputStream inputStream = imageFile.getInputStream()) {
+            return ExifOrientation.read(inputStream);
+        } catch (IOException e) {
+            log.warn("원본 이미지의 EXIF 방향 정보를 읽는데 실패했습니다.", e);
+            return ExifOrientation.NORMAL;
+        }
+    }
+
+    /**
+     * 원본보다 크게 늘리지 않으며, 투명 배경은 흰색으로 채운다.
+     */
+    private BufferedImage scale(final BufferedImage original, final int maxWidth) {
+        final int width = Math.min(maxWidth, original.getWidth());
+        final int height = Math.max(1, (int) Math.round((double) original.getHeight() * width / original.getWidth()));
+
+        final BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        final Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(original, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    private byte[] writeJpeg(final BufferedImage image) throws IOException {
+        final ImageWriter writer = ImageIO.getImageWritersByFormatName(JPEG).next();
+        final ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(quality);
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            writer.setOutput(imageOutputStream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,57 @@
+package com.salmalteam.salmal.infra.lock;
+
+import com.salmalteam.salmal.domain.lock.JobLockRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 잠금 행의 조건부 UPDATE/INSERT 로 잠금을 잡는다. 영향 받은 행이 있을 때만 잠금을 잡은 것으로 본다.
+ * 서버마다 다른 ID 로 잠금을 잡으므로 같은 서버는 잠금을 다시 잡아서 기간을 늘릴 수 있다.
+ */
+@Repository
+@Transactional
+@RequiredArgsConstructor
+public class JobLockRepositoryImpl implements JobLockRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final String owner = UUID.randomUUID().toString();
+
+    @Override
+    public boolean acquire(final String name, final Duration leaseTime) {
+        final LocalDateTime now = LocalDateTime.now();
+        final MapSqlParameterSource params = params(name, now)
+                .addValue("lockedUntil", now.plus(leaseTime));
+        final int updated = jdbcTemplate.update("update job_lock set locked_until = :lockedUntil, locked_by = :owner " +
+                "where name = :name and (locked_until <= :now or locked_by = :owner)", params);
+        if (updated > 0) {
+            return true;
+        }
+        try {
+            return jdbcTemplate.update("insert into job_lock (name, locked_until, locked_by) values (:name, :lockedUntil, :owner)",
+                    params) > 0;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void release(final String name) {
+        jdbcTemplate.update("update job_lock set locked_until = :now where name = :name and locked_by = :owner",
+                params(name, LocalDateTime.now()));
+    }
+
+    private MapSqlParameterSource params(final String name, final LocalDateTime now) {
+        return new MapSqlParameterSource()
+                .addValue("name", name)
+                .addValue("owner", owner)
+                .addValue("now", now);
+    }
+}
@@ -0,0 +1,163 @@
+package com.salmalteam.salmal.infra.member;
+
+import com.salmalteam.salmal.domain.TimeOrderedIdGenerator;
+import com.salmalteam.salmal.domain.member.activity.MemberActivityBackfillRepository;
+import com.salmalteam.salmal.domain.member.activity.MemberActivityType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 활동 기록 이전에 저장된 평가/북마크를 활동 기록으로 옮긴다.
+ * 진행 상황은 member_activity_backfill 에 옮긴 묶음과 같은 트랜잭션으로 저장하고, 모두 옮기면 완료로 표시한다.
+ * 같은 투표에 대한 활동이 이미 기록되어 있으면 옮기지 않으므로 여러 번 실행해도 된다.
+ */
+@Repository
+@Transactional
+@RequiredArgsConstructor
+public class MemberActivityBackfillRepositoryImpl implements MemberActivityBackfillRepository {
+
+    private static final String FIND_PROGRESS = "select cursor_id, last_activity_id, completed from member_activity_backfill " +
+            "where activity_type = :activityType for update";
+
+    private static final String CREATE_PROGRESS = "insert into member_activity_backfill (activity_type, cursor_id, last_activity_id, completed) " +
+            "values (:activityType, 0, 0, false)";
+
+    private static final String UPDATE_PROGRESS = "update member_activity_backfill " +
+            "set cursor_id = :cursorId, last_activity_id = :lastActivityId, completed = :completed " +
+            "where activity_type = :activityType";
+
+    private static final String INSERT = "insert into member_activity (id, member_id, vote_id, activity_type, active, created_at) " +
+            "select ?, ?, ?, ?, true, ? from dual " +
+            "where not exists (select 1 from member_activity a where a.member_id = ? and a.vote_id = ? and a.activity_type in (?, ?))";
+
+    // 활동 ID 의 마지막 비트로 원본 테이블을 구분하고, 나머지 자리는 원본 테이블마다 이전에 만든 ID 보다 크게 만들어서 겹치지 않게 한다.
+    private static final long ACTIVITY_ID_STEP = 2;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 마지막으로 옮긴 위치 이후의 원본 행을 size 개씩 옮기고, 더 옮길 행이 남아 있을 수 있으면 true 를 반환한다.
+     * 활동 ID 는 원본의 생성 시각으로 만들어서 이후에 기록된 활동보다 항상 앞에 정렬된다.
+     */
+    @Override
+    public boolean backfill(final MemberActivityType activityType, final int size) {
+        final Progress progress = findProgress(activityType);
+        if (progress.completed) {
+            return false;
+        }
+        final List<Source> sources = jdbcTemplate.query(selectSql(activityType),
+                Map.of("cursorId", progress.cursorId, "size", size),
+                (rs, rowNum) -> new Source(rs.getLong("id"), rs.getLong("member_id"), rs.getLong("vote_id"),
+                        rs.getTimestamp("created_at").toLocalDateTime()));
+        if (sources.isEmpty()) {
+            updateProgress(activityType, progress.cursorId, progress.lastActivityId, true);
+            return false;
+        }
+
+        final long sourceBit = activityType == MemberActivityType.EVALUATION ? 0 : 1;
+        final long[] activityIds = new long[sources.size()];
+        long lastActivityId = progress.lastActivityId;
+        for (int i = 0; i < sources.size(); i++) {
+            final long epochMillis = sources.get(i).createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            lastActivityId = Math.max(TimeOrderedIdGenerator.idAt(epochMillis, 0), lastActivityId + ACTIVITY_ID_STEP);
+            activityIds[i] = lastActivityId | sourceBit;
+        }
+
+        final List<MemberActivityType> relatedTypes = activityType.related();
+        jdbcTemplate.getJdbcTemplate().batchUpdate(INSERT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(final PreparedStatement ps, final int i) throws SQLException {
+                final Source source = sources.get(i);
+                ps.setLong(1, activityIds[i]);
+                ps.setLong(2, source.memberId);
+                ps.setLong(3, source.voteId);
+                ps.setString(4, activityType.name());
+                ps.setTimestamp(5, Timestamp.valueOf(source.createdAt));
+                ps.setLong(6, source.memberId);
+                ps.setLong(7, source.voteId);
+                ps.setString(8, relatedTypes.get(0).name());
+                ps.setString(9, relatedTypes.get(1).name());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return sources.size();
+            }
+        });
+        updateProgress(activityType, sources.get(sources.size() - 1).id, lastActivityId, false);
+        return true;
+    }
+
+    private Progress findProgress(final MemberActivityType activityType) {
+        final Map<String, String> params = Map.of("activityType", activityType.name());
+        final List<Progress> progresses = jdbcTemplate.query(FIND_PROGRESS, params,
+                (rs, rowNum) -> new Progress(rs.getLong("cursor_id"), rs.getLong("last_activity_id"), rs.getBoolean("completed")));
+        if (!progresses.isEmpty()) {
+            return progresses.get(0);
+        }
+        jdbcTemplate.update(CREATE_PROGRESS, params);
+        return new Progress(0L, 0L, false);
+    }
+
+    private void updateProgress(final MemberActivityType activityType, final long cursorId, final long lastActivityId,
+                                final boolean completed) {
+        jdbcTemplate.update(UPDATE_PROGRESS, new MapSqlParameterSource()
+                .addValue("activityType", activityType.name())
+                .addValue("cursorId", cursorId)
+                .addValue("lastActivityId", lastActivityId)
+                .addValue("completed", completed));
+    }
+
+    private static String selectSql(final MemberActivityType activityType) {
+        switch (activityType) {
+            case EVALUATION:
+                return "select id, evaluator_id as member_id, vote_id, created_at from vote_evaluation " +
+                        "where id > :cursorId order by id limit :size";
+            case BOOKMARK:
+                return "select id, bookmarker_id as member_id, vote_id, created_at from vote_bookmark " +
+                        "where id > :cursorId order by id limit :size";
+            default:
+                throw new IllegalArgumentException("옮길 수 없는 활동 타입입니다. activityType=" + activityType);
+        }
+    }
+
+    private static class Progress {
+
+        private final long cursorId;
+        private final long lastActivityId;
+        private final boolean completed;
+
+        private Progress(final long cursorId, final long lastActivityId, final boolean completed) {
+            this.cursorId = cursorId;
+            this.lastActivityId = lastActivityId;
+            this.completed = completed;
+        }
+    }
+
+    private static class Source {
+
+        private final long id;
+        private final long memberId;
+        private final long voteId;
+        private final LocalDateTime createdAt;
+
+        private Source(final long id, final long memberId, final long voteId, final LocalDateTime createdAt) {
+            this.id = id;
+            this.memberId = memberId;
+            this.voteId = voteId;
+            this.createdAt = createdAt;
+        }
+    }
+}
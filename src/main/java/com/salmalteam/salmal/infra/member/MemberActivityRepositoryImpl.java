@@ -0,0 +1,57 @@
+package com.salmalteam.salmal.infra.member;
+
+import com.salmalteam.salmal.domain.TimeOrderedIdGenerator;
+import com.salmalteam.salmal.domain.member.activity.MemberActivityRepository;
+import com.salmalteam.salmal.domain.member.activity.MemberActivityType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 활동 기록은 영속성 컨텍스트를 거치지 않고 JDBC 로 바로 저장해서, 평가/북마크 트랜잭션의 엔티티를 건드리지 않는다.
+ * ID 는 Hibernate 의 생성기와 같은 방식으로 만들고, member_activity 의 ID 는 이 저장소에서만 만든다.
+ */
+@Repository
+@Transactional
+public class MemberActivityRepositoryImpl implements MemberActivityRepository {
+
+    private static final String DEACTIVATE = "update member_activity set active = false " +
+            "where member_id = :memberId and vote_id = :voteId and activity_type in (:relatedTypes) and active = true";
+
+    private static final String INSERT = "insert into member_activity (id, member_id, vote_id, activity_type, active, created_at) " +
+            "values (:id, :memberId, :voteId, :activityType, true, :now)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TimeOrderedIdGenerator idGenerator;
+
+    public MemberActivityRepositoryImpl(final NamedParameterJdbcTemplate jdbcTemplate,
+                                        @Value("${spring.jpa.properties.id.node-id:}") final String nodeId) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.idGenerator = TimeOrderedIdGenerator.of(nodeId);
+    }
+
+    /**
+     * 같은 투표에 대한 이전 활동을 비활성화하고 새 활동을 기록한다.
+     */
+    @Override
+    public void record(final Long memberId, final Long voteId, final MemberActivityType activityType) {
+        final List<String> relatedTypes = activityType.related().stream()
+                .map(MemberActivityType::name)
+                .collect(Collectors.toList());
+        final MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", idGenerator.nextId())
+                .addValue("memberId", memberId)
+                .addValue("voteId", voteId)
+                .addValue("activityType", activityType.name())
+                .addValue("relatedTypes", relatedTypes)
+                .addValue("now", LocalDateTime.now());
+        jdbcTemplate.update(DEACTIVATE, params);
+        jdbcTemplate.update(INSERT, params);
+    }
+}
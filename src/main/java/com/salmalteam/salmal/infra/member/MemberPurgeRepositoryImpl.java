@@ -0,0 +1,230 @@
+package com.salmalteam.salmal.infra.member;
+
+import com.salmalteam.salmal.domain.member.MemberImage;
+import com.salmalteam.salmal.domain.member.purge.MemberPurgeRepository;
+import com.salmalteam.salmal.domain.vote.VoteEvaluationCountDelta;
+import com.salmalteam.salmal.domain.vote.VoteStatisticsRepository;
+import com.salmalteam.salmal.domain.vote.evaluation.VoteEvaluationType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 탈퇴 회원의 데이터를 ID 묶음 단위로 삭제한다.
+ * 카운터 보정과 삭제를 같은 트랜잭션에서 실행하므로, 중단 후 다시 실행해도 카운터가 두 번 줄어들지 않는다.
+ */
+@Repository
+@Transactional
+@RequiredArgsConstructor
+public class MemberPurgeRepositoryImpl implements MemberPurgeRepository {
+
+    private static final String DECREASE_LIKE_COUNT = "update comment set like_count = like_count - ? where id = ?";
+    private static final String DECREASE_REPLY_COUNT = "update comment set reply_count = reply_count - ? where id = ?";
+    private static final String DECREASE_COMMENT_COUNT = "update vote set comment_count = comment_count - ? where id = ?";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final VoteStatisticsRepository voteStatisticsRepository;
+
+    @Override
+    public List<Long> hideVotesByMemberId(final Long memberId) {
+        final List<Long> voteIds = jdbcTemplate.queryForList("select id from vote where member_id = :memberId and deleted = false",
+                Map.of("memberId", memberId), Long.class);
+        if (!voteIds.isEmpty()) {
+            jdbcTemplate.update("update vote set deleted = true where id in (:voteIds)", Map.of("voteIds", voteIds));
+        }
+        return voteIds;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findVoteIdsByMemberId(final Long memberId, final int limit) {
+        return jdbcTemplate.queryForList("select id from vote where member_id = :memberId limit :limit",
+                Map.of("memberId", memberId, "limit", limit), Long.class);
+    }
+
+    @Override
+    public int deleteVoteEvaluations(final Long memberId, final int limit) {
+        final List<Evaluation> evaluations = jdbcTemplate.query(
+                "select id, vote_id, vote_evaluation_type from vote_evaluation where evaluator_id = :memberId limit :limit",
+                Map.of("memberId", memberId, "limit", limit),
+                (rs, rowNum) -> new Evaluation(rs.getLong("id"), rs.getLong("vote_id"),
+                        VoteEvaluationType.valueOf(rs.getString("vote_evaluation_type"))));
+        if (evaluations.isEmpty()) {
+            return 0;
+        }
+
+        final Map<Long, List<Evaluation>> evaluationsByVote = evaluations.stream()
+                .collect(Collectors.groupingBy(evaluation -> evaluation.voteId));
+        final List<VoteEvaluationCountDelta> deltas = new ArrayList<>(evaluationsByVote.size());
+        evaluationsByVote.forEach((voteId, voteEvaluations) -> {
+            final int likes = (int) voteEvaluations.stream().filter(Evaluation::isLike).count();
+            deltas.add(VoteEvaluationCountDelta.of(voteId, -likes, -(voteEvaluations.size() - likes)));
+        });
+        voteStatisticsRepository.updateEvaluationStatistics(deltas);
+
+        return deleteByIds("vote_evaluation", evaluations.stream().map(evaluation -> evaluation.id).collect(Collectors.toList()));
+    }
+
+    @Override
+    public int deleteVoteBookmarks(final Long memberId, final int limit) {
+        return deleteByIds("vote_bookmark", findIds("vote_bookmark", "bookmarker_id", memberId, limit));
+    }
+
+    @Override
+    public int deleteVoteReports(final Long memberId, final int limit) {
+        return deleteByIds("vote_report", findIds("vote_report", "reporter_id", memberId, limit));
+    }
+
+    @Override
+    public int deleteCommentLikes(final Long memberId, final int limit) {
+        final List<IdAndParentId> likes = findIdAndParentIds(
+                "select id, review_id as parent_id from comment_like where liker_id = :memberId limit :limit", memberId, limit);
+        decreaseCounts(DECREASE_LIKE_COUNT, likes);
+        return deleteByIds("comment_like", ids(likes));
+    }
+
+    @Override
+    public int deleteCommentReports(final Long memberId, final int limit) {
+        return deleteByIds("comment_report", findIds("comment_report", "reporter_id", memberId, limit));
+    }
+
+    @Override
+    public int deleteReplies(final Long memberId, final int limit) {
+        final List<IdAndParentId> replies = findIdAndParentIds(
+                "select id, parent_comment_id as parent_id from comment where commenter_id = :memberId and comment_type = 'REPLY' limit :limit",
+                memberId, limit);
+        decreaseCounts(DECREASE_REPLY_COUNT, replies);
+        return deleteCommentRows(ids(replies));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findCommentIdsByMemberId(final Long memberId, final int limit) {
+        return jdbcTemplate.queryForList(
+                "select id from comment where commenter_id = :memberId and comment_type = 'COMMENT' limit :limit",
+                Map.of("memberId", memberId, "limit", limit), Long.class);
+    }
+
+    /**
+     * 답글이 남아 있지 않은 댓글만 전달해야 한다.
+     */
+    @Override
+    public int deleteComments(final List<Long> commentIds) {
+        if (commentIds.isEmpty()) {
+            return 0;
+        }
+        final List<IdAndParentId> comments = jdbcTemplate.query(
+                "select id, vote_id as parent_id from comment where id in (:commentIds)",
+                Map.of("commentIds", commentIds),
+                (rs, rowNum) -> new IdAndParentId(rs.getLong("id"), rs.getLong("parent_id")));
+        decreaseCounts(DECREASE_COMMENT_COUNT, comments);
+        return deleteCommentRows(ids(comments));
+    }
+
+    @Override
+    public int deleteMemberBlocks(final Long memberId, final int limit) {
+        final List<Long> ids = jdbcTemplate.queryForList(
+                "select id from member_blocked where blocker_id = :memberId or target__id = :memberId limit :limit",
+                Map.of("memberId", memberId, "limit", limit), Long.class);
+        return deleteByIds("member_blocked", ids);
+    }
+
+    @Override
+    public int deleteMemberActivities(final Long memberId, final int limit) {
+        return deleteByIds("member_activity", findIds("member_activity", "member_id", memberId, limit));
+    }
+
+    /**
+     * 기본 이미지가 아닌 프로필 이미지는 같은 트랜잭션에서 삭제 대상으로 기록한다.
+     */
+    @Override
+    public void deleteMember(final Long memberId) {
+        final Map<String, Object> params = Map.of("memberId", memberId, "now", LocalDateTime.now(),
+                "defaultImageUrl", MemberImage.getMemberImageUrl());
+        jdbcTemplate.update("insert into orphan_image (image_url, attempts, next_attempt_at, created_at) " +
+                "select image_url, 0, :now, :now from member where id = :memberId and image_url <> :defaultImageUrl", params);
+        jdbcTemplate.update("delete from member_stats where member_id = :memberId", params);
+        jdbcTemplate.update("delete from member where id = :memberId", params);
+    }
+
+    private List<Long> findIds(final String table, final String memberColumn, final Long memberId, final int limit) {
+        return jdbcTemplate.queryForList("select id from " + table + " where " + memberColumn + " = :memberId limit :limit",
+                Map.of("memberId", memberId, "limit", limit), Long.class);
+    }
+
+    private List<IdAndParentId> findIdAndParentIds(final String sql, final Long memberId, final int limit) {
+        return jdbcTemplate.query(sql, Map.of("memberId", memberId, "limit", limit),
+                (rs, rowNum) -> new IdAndParentId(rs.getLong("id"), rs.getLong("parent_id")));
+    }
+
+    private void decreaseCounts(final String sql, final List<IdAndParentId> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        final Map<Long, Integer> counts = new HashMap<>();
+        rows.forEach(row -> counts.merge(row.parentId, 1, Integer::sum));
+        final List<Map.Entry<Long, Integer>> entries = new ArrayList<>(counts.entrySet());
+        jdbcTemplate.getJdbcTemplate().batchUpdate(sql, entries, entries.size(), (ps, entry) -> {
+            ps.setInt(1, entry.getValue());
+            ps.setLong(2, entry.getKey());
+        });
+    }
+
+    private int deleteCommentRows(final List<Long> commentIds) {
+        if (commentIds.isEmpty()) {
+            return 0;
+        }
+        final MapSqlParameterSource params = new MapSqlParameterSource("commentIds", commentIds);
+        jdbcTemplate.update("delete from comment_like where review_id in (:commentIds)", params);
+        jdbcTemplate.update("delete from comment_report where comment_id in (:commentIds)", params);
+        return jdbcTemplate.update("delete from comment where id in (:commentIds)", params);
+    }
+
+    private int deleteByIds(final String table, final List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update("delete from " + table + " where id in (:ids)", Map.of("ids", ids));
+    }
+
+    private static List<Long> ids(final List<IdAndParentId> rows) {
+        return rows.stream().map(row -> row.id).collect(Collectors.toList());
+    }
+
+    private static class IdAndParentId {
+
+        private final long id;
+        private final long parentId;
+
+        private IdAndParentId(final long id, final long parentId) {
+            this.id = id;
+            this.parentId = parentId;
+        }
+    }
+
+    private static class Evaluation {
+
+        private final long id;
+        private final long voteId;
+        private final VoteEvaluationType type;
+
+        private Evaluation(final long id, final long voteId, final VoteEvaluationType type) {
+            this.id = id;
+            this.voteId = voteId;
+            this.type = type;
+        }
+
+        private boolean isLike() {
+            return type == VoteEvaluationType.LIKE;
+        }
+    }
+}
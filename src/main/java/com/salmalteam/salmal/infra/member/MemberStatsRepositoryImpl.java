@@ -0,0 +1,124 @@
+package com.salmalteam.salmal.infra.member;
+
+import com.salmalteam.salmal.domain.member.stats.MemberStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회원 통계의 증감은 원본 데이터 저장과 같은 트랜잭션에서 실행한다.
+ * 보정은 회원 ID 범위 단위로 원본 테이블을 다시 집계해서 덮어쓴다.
+ */
+@Repository
+@Transactional
+@RequiredArgsConstructor
+public class MemberStatsRepositoryImpl implements MemberStatsRepository {
+
+    private static final String REMOVE_VOTE = "update member_stats " +
+            "set vote_count = vote_count - 1, " +
+            "received_like_count = received_like_count - (select like_count from vote where id = :voteId), " +
+            "received_dislike_count = received_dislike_count - (select dislike_count from vote where id = :voteId) " +
+            "where member_id = (select member_id from vote where id = :voteId)";
+
+    private static final String REMOVE_REPLIES = "update member_stats " +
+            "set comment_count = comment_count - (select count(*) from comment c " +
+            "where c.parent_comment_id = :parentCommentId and c.commenter_id = member_stats.member_id) " +
+            "where member_id in (select commenter_id from comment where parent_comment_id = :parentCommentId)";
+
+    private static final String INSERT_MISSING = "insert into member_stats " +
+            "(member_id, received_like_count, received_dislike_count, vote_count, evaluation_count, bookmark_count, comment_count) " +
+            "select m.id, 0, 0, 0, 0, 0, 0 from member m " +
+            "where m.id > :fromMemberId and m.id <= :toMemberId and m.deleted = false " +
+            "and not exists (select 1 from member_stats s where s.member_id = m.id)";
+
+    private static final String RECOUNT = "update member_stats " +
+            "set vote_count = (select count(*) from vote v where v.member_id = member_stats.member_id and v.deleted = false), " +
+            "received_like_count = (select coalesce(sum(v.like_count), 0) from vote v where v.member_id = member_stats.member_id and v.deleted = false), " +
+            "received_dislike_count = (select coalesce(sum(v.dislike_count), 0) from vote v where v.member_id = member_stats.member_id and v.deleted = false), " +
+            "evaluation_count = (select count(*) from vote_evaluation e where e.evaluator_id = member_stats.member_id), " +
+            "bookmark_count = (select count(*) from vote_bookmark b where b.bookmarker_id = member_stats.member_id), " +
+            "comment_count = (select count(*) from comment c where c.commenter_id = member_stats.member_id) " +
+            "where member_id > :fromMemberId and member_id <= :toMemberId";
+
+    private static final String DELETE_ORPHANS = "delete from member_stats " +
+            "where member_id > :fromMemberId and member_id <= :toMemberId " +
+            "and not exists (select 1 from member m where m.id = member_stats.member_id and m.deleted = false)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public void create(final Long memberId) {
+        jdbcTemplate.update("insert into member_stats " +
+                        "(member_id, received_like_count, received_dislike_count, vote_count, evaluation_count, bookmark_count, comment_count) " +
+                        "values (:memberId, 0, 0, 0, 0, 0, 0)",
+                Map.of("memberId", memberId));
+    }
+
+    @Override
+    public void addVoteCount(final Long memberId, final int delta) {
+        add("vote_count", memberId, delta);
+    }
+
+    @Override
+    public void addEvaluationCount(final Long memberId, final int delta) {
+        add("evaluation_count", memberId, delta);
+    }
+
+    @Override
+    public void addBookmarkCount(final Long memberId, final int delta) {
+        add("bookmark_count", memberId, delta);
+    }
+
+    @Override
+    public void addCommentCount(final Long memberId, final int delta) {
+        add("comment_count", memberId, delta);
+    }
+
+    private void add(final String column, final Long memberId, final int delta) {
+        jdbcTemplate.update("update member_stats set " + column + " = " + column + " + :delta where member_id = :memberId",
+                Map.of("memberId", memberId, "delta", delta));
+    }
+
+    /**
+     * 삭제되는 투표가 작성자에게 더해 준 투표 수와 받은 좋아요/싫어요 수를 뺀다.
+     * 투표가 숨김 처리된 이후에 반영되는 평가 통계는 작성자 통계에 더해지지 않는다.
+     */
+    @Override
+    public void removeVote(final Long voteId) {
+        jdbcTemplate.update(REMOVE_VOTE, Map.of("voteId", voteId));
+    }
+
+    /**
+     * 답글이 삭제되기 전에 호출해야 한다.
+     */
+    @Override
+    public void removeReplies(final Long parentCommentId) {
+        jdbcTemplate.update(REMOVE_REPLIES, Map.of("parentCommentId", parentCommentId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findMemberIds(final Long cursorId, final int size) {
+        return jdbcTemplate.queryForList("select id from member where id > :cursorId order by id limit :size",
+                Map.of("cursorId", cursorId, "size", size), Long.class);
+    }
+
+    /**
+     * fromMemberId 초과, toMemberId 이하 범위의 회원 통계를 다시 집계한다.
+     * 통계가 없는 회원은 추가하고, 탈퇴한 회원의 통계는 삭제한다.
+     */
+    @Override
+    public void reconcile(final Long fromMemberId, final Long toMemberId) {
+        final MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("fromMemberId", fromMemberId)
+                .addValue("toMemberId", toMemberId);
+        jdbcTemplate.update(INSERT_MISSING, params);
+        jdbcTemplate.update(RECOUNT, params);
+        jdbcTemplate.update(DELETE_ORPHANS, params);
+    }
+}
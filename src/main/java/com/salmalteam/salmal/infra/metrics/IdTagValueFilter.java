@@ -0,0 +1,35 @@
+package com.salmalteam.salmal.infra.metrics;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.config.MeterFilter;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 숫자나 UUID 로만 이루어진 태그 값을 {id} 로 바꾼다.
+ * 회원 ID 같은 값이 실수로 태그에 들어가도 스크랩 결과에 노출되거나 시계열이 끝없이 늘어나지 않도록 막는다.
+ */
+public class IdTagValueFilter implements MeterFilter {
+
+    static final String MASKED_VALUE = "{id}";
+    private static final Pattern ID = Pattern.compile(
+            "\\d+|[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+
+    @Override
+    public Meter.Id map(final Meter.Id id) {
+        final List<Tag> tags = id.getTags();
+        if (tags.stream().noneMatch(IdTagValueFilter::isId)) {
+            return id;
+        }
+        return id.replaceTags(tags.stream()
+                .map(tag -> isId(tag) ? Tag.of(tag.getKey(), MASKED_VALUE) : tag)
+                .collect(Collectors.toList()));
+    }
+
+    private static boolean isId(final Tag tag) {
+        return ID.matcher(tag.getValue()).matches();
+    }
+}
@@ -0,0 +1,62 @@
+package com.salmalteam.salmal.infra.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 컨트롤러, 커스텀 조회 쿼리, S3 업로드, 토큰 Redis 호출의 지연 시간을 기록한다.
+ * 태그는 클래스와 메서드 이름만 사용하고 인자 값(회원 ID 등)은 태그로 남기지 않는다.
+ */
+@Aspect
+@Component
+public class LatencyTimingAspect {
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private final MeterRegistry meterRegistry;
+
+    public LatencyTimingAspect(final ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+    }
+
+    @Around("execution(public * com.salmalteam.salmal.presentation..*Controller.*(..))")
+    public Object timeController(final ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("salmal.controller", joinPoint);
+    }
+
+    @Around("execution(public * com.salmalteam.salmal.domain..*RepositoryCustomImpl.*(..))")
+    public Object timeRepository(final ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("salmal.repository", joinPoint);
+    }
+
+    @Around("execution(* com.salmalteam.salmal.application.ImageUploader.uploadImage(..)) " +
+            "|| execution(* com.salmalteam.salmal.domain.auth.TokenRepository.*(..))")
+    public Object timeExternalCall(final ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("salmal.external", joinPoint);
+    }
+
+    private Object time(final String name, final ProceedingJoinPoint joinPoint) throws Throwable {
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(name)
+                    .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("exception", exception)
+                    .publishPercentiles(PERCENTILES)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.salmalteam.salmal.infra.query;
+
+/**
+ * 현재 스레드에서 실행되는 SQL 을 세는 범위를 정한다.
+ * start 와 stop 사이에 QueryCountingDataSource 를 거쳐 실행된 SQL 만 기록하고, 범위 밖(스케줄러 등)은 세지 않는다.
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<QueryStatistics> CURRENT = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    public static QueryStatistics start() {
+        final QueryStatistics statistics = new QueryStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    public static QueryStatistics stop() {
+        final QueryStatistics statistics = CURRENT.get();
+        CURRENT.remove();
+        return statistics;
+    }
+
+    static void record(final String sql, final long elapsedNanos) {
+        final QueryStatistics statistics = CURRENT.get();
+        if (statistics != null && sql != null) {
+            statistics.record(sql, elapsedNanos);
+        }
+    }
+}
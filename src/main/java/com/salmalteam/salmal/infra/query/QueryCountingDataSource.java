@@ -0,0 +1,126 @@
+package com.salmalteam.salmal.infra.query;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 커넥션과 Statement 를 감싸서 실행된 SQL 과 실행 시간을 QueryCounter 에 기록한다.
+ * JPA 뿐 아니라 JdbcTemplate 으로 실행하는 쿼리도 세기 위해 Hibernate StatementInspector 대신 DataSource 에서 센다.
+ */
+public class QueryCountingDataSource extends DelegatingDataSource {
+
+    public QueryCountingDataSource(final DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private static Connection wrap(final Connection connection) {
+        return (Connection) Proxy.newProxyInstance(QueryCountingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(final Object target, final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    /**
+     * 커넥션 풀과 트랜잭션 매니저가 커넥션을 비교할 수 있도록 프록시 자신을 기준으로 비교한다.
+     */
+    private static boolean isIdentityMethod(final Method method) {
+        return method.getName().equals("equals") || method.getName().equals("hashCode");
+    }
+
+    private static Object invokeIdentity(final Object proxy, final Method method, final Object[] args) {
+        if (method.getName().equals("equals")) {
+            return proxy == args[0];
+        }
+        return System.identityHashCode(proxy);
+    }
+
+    private static class ConnectionHandler implements InvocationHandler {
+
+        private final Connection connection;
+
+        private ConnectionHandler(final Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            if (isIdentityMethod(method)) {
+                return invokeIdentity(proxy, method, args);
+            }
+            final Object result = QueryCountingDataSource.invoke(connection, method, args);
+            switch (method.getName()) {
+                case "createStatement":
+                    return wrap(Statement.class, (Statement) result, null);
+                case "prepareStatement":
+                    return wrap(PreparedStatement.class, (Statement) result, (String) args[0]);
+                case "prepareCall":
+                    return wrap(CallableStatement.class, (Statement) result, (String) args[0]);
+                default:
+                    return result;
+            }
+        }
+
+        private static Object wrap(final Class<? extends Statement> type, final Statement statement, final String sql) {
+            return Proxy.newProxyInstance(QueryCountingDataSource.class.getClassLoader(),
+                    new Class<?>[]{type}, new StatementHandler(statement, sql));
+        }
+    }
+
+    /**
+     * PreparedStatement 는 생성할 때의 SQL 을, Statement 는 execute 에 전달된 SQL 을 기록한다.
+     * executeBatch 는 묶음 전체를 한 번의 실행으로 센다.
+     */
+    private static class StatementHandler implements InvocationHandler {
+
+        private final Statement statement;
+        private final String sql;
+
+        private StatementHandler(final Statement statement, final String sql) {
+            this.statement = statement;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            if (isIdentityMethod(method)) {
+                return invokeIdentity(proxy, method, args);
+            }
+            if (!method.getName().startsWith("execute")) {
+                return QueryCountingDataSource.invoke(statement, method, args);
+            }
+            final long startedAt = System.nanoTime();
+            try {
+                return QueryCountingDataSource.invoke(statement, method, args);
+            } finally {
+                final String executedSql = sql != null ? sql : args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : null;
+                QueryCounter.record(executedSql, System.nanoTime() - startedAt);
+            }
+        }
+    }
+}
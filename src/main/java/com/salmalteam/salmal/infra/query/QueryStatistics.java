@@ -0,0 +1,46 @@
+package com.salmalteam.salmal.infra.query;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 한 요청에서 실행된 SQL 문 수, JDBC 실행 시간, 정규화한 SQL 별 실행 횟수
+ * 요청 스레드에서만 기록하므로 동기화하지 않는다.
+ */
+public class QueryStatistics {
+
+    private final Map<String, Integer> fingerprintCounts = new HashMap<>();
+    private int statementCount;
+    private long jdbcTimeNanos;
+
+    void record(final String sql, final long elapsedNanos) {
+        statementCount++;
+        jdbcTimeNanos += elapsedNanos;
+        fingerprintCounts.merge(SqlFingerprint.of(sql), 1, Integer::sum);
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getJdbcTimeNanos() {
+        return jdbcTimeNanos;
+    }
+
+    public int getMaxRepeatCount() {
+        return fingerprintCounts.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+    }
+
+    /**
+     * threshold 번 이상 실행된 SQL 을 실행 횟수 내림차순으로 반환한다. N+1 이 의심되는 쿼리
+     */
+    public Map<String, Integer> getRepeatedStatements(final int threshold) {
+        final Map<String, Integer> repeated = new LinkedHashMap<>();
+        fingerprintCounts.entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(entry -> repeated.put(entry.getKey(), entry.getValue()));
+        return repeated;
+    }
+}
@@ -0,0 +1,25 @@
+package com.salmalteam.salmal.infra.query;
+
+import java.util.regex.Pattern;
+
+/**
+ * 바인딩 값과 리터럴만 다른 SQL 을 같은 SQL 로 보기 위해 정규화한다.
+ */
+public final class SqlFingerprint {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlFingerprint() {
+    }
+
+    public static String of(final String sql) {
+        String fingerprint = STRING_LITERAL.matcher(sql).replaceAll("?");
+        fingerprint = NUMBER_LITERAL.matcher(fingerprint).replaceAll("?");
+        fingerprint = IN_LIST.matcher(fingerprint).replaceAll("(?)");
+        fingerprint = WHITESPACE.matcher(fingerprint).replaceAll(" ");
+        return fingerprint.trim().toLowerCase();
+    }
+}
@@ -2,49 +2,146 @@ package com.salmalteam.salmal.infra.s3;
 
 import com.amazonaws.SdkClientException;
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.salmalteam.salmal.application.ImageStorage;
 import com.salmalteam.salmal.application.ImageUploader;
 import com.salmalteam.salmal.domain.image.ImageFile;
+import com.salmalteam.salmal.domain.image.ImageVariant;
+import com.salmalteam.salmal.domain.image.StoredImage;
 import com.salmalteam.salmal.exception.image.ImageException;
 import com.salmalteam.salmal.exception.image.ImageExceptionType;
+import com.salmalteam.salmal.infra.image.ImageResizer;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.util.UUID;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Component
-public class S3Client implements ImageUploader {
+public class S3Client implements ImageUploader, ImageStorage {
+
+    private static final String VARIANT_CONTENT_TYPE = "image/jpeg";
+    /**
+     * 한 번의 다중 객체 삭제 요청으로 삭제할 수 있는 최대 객체 수
+     */
+    private static final int MAX_DELETE_KEYS = 1000;
+    private static final String SLASH = "/";
 
     private final AmazonS3 amazonS3;
+    private final ImageResizer imageResizer;
     private final String bucketName;
     private final String bucketPath;
 
     public S3Client(final AmazonS3 amazonS3,
+                    final ImageResizer imageResizer,
                     @Value("${cloud.aws.s3.bucket-name}") final String bucketName,
                     @Value("${cloud.aws.s3.bucket-path}") final String bucketPath) {
         this.amazonS3 = amazonS3;
+        this.imageResizer = imageResizer;
         this.bucketName = bucketName;
         this.bucketPath = bucketPath;
     }
 
+    /**
+     * 축소 이미지를 만들 수 있으면 원본을 original 경로에 올리고 축소 이미지를 함께 업로드한다.
+     */
     @Override
     public String uploadImage(final ImageFile imageFile) {
-        final ObjectMetadata objectMetadata = getMetaData(imageFile);
-        final String fullImageName = imageFile.getFullImageName();
+        final Map<ImageVariant, byte[]> variants = imageResizer.resize(imageFile);
+        final String fullImageName = variants.isEmpty()
+                ? imageFile.getFullImageName()
+                : ImageVariant.toOriginalName(imageFile.getFullImageName());
+
+        try (InputStream inputStream = imageFile.getInputStream()) {
+            putObject(fullImageName, inputStream, getMetaData(imageFile.getSize(), imageFile.getContentType()));
+        } catch (IOException e) {
+            log.warn("업로드한 원본 이미지 파일을 닫는데 실패했습니다.", e);
+        }
+        variants.forEach((imageVariant, content) -> putObject(imageVariant.resolve(fullImageName),
+                new ByteArrayInputStream(content), getMetaData((long) content.length, VARIANT_CONTENT_TYPE)));
+
+        return bucketPath.concat(fullImageName);
+    }
+
+    /**
+     * 원본 이미지이면 축소 이미지도 함께 삭제한다. 이 버킷의 이미지가 아니면 삭제된 것으로 본다.
+     */
+    @Override
+    public List<String> deleteImages(final List<String> imageUrls) {
+        final Map<String, String> imageUrlsByKey = new LinkedHashMap<>();
+        for (String imageUrl : imageUrls) {
+            if (imageUrl == null || !imageUrl.startsWith(bucketPath)) {
+                continue;
+            }
+            final String key = imageUrl.substring(bucketPath.length());
+            imageUrlsByKey.put(key, imageUrl);
+            for (ImageVariant imageVariant : ImageVariant.values()) {
+                imageUrlsByKey.put(imageVariant.resolve(key), imageUrl);
+            }
+        }
 
+        final List<String> keys = new ArrayList<>(imageUrlsByKey.keySet());
+        final Set<String> failedImageUrls = new LinkedHashSet<>();
+        for (int from = 0; from < keys.size(); from += MAX_DELETE_KEYS) {
+            final List<String> chunk = keys.subList(from, Math.min(from + MAX_DELETE_KEYS, keys.size()));
+            try {
+                amazonS3.deleteObjects(new DeleteObjectsRequest(bucketName)
+                        .withKeys(chunk.toArray(new String[0]))
+                        .withQuiet(true));
+            } catch (MultiObjectDeleteException e) {
+                e.getErrors().forEach(error -> failedImageUrls.add(imageUrlsByKey.get(error.getKey())));
+            } catch (SdkClientException e) {
+                chunk.forEach(key -> failedImageUrls.add(imageUrlsByKey.get(key)));
+            }
+        }
+        return new ArrayList<>(failedImageUrls);
+    }
+
+    @Override
+    public void scanImages(final String path, final Consumer<List<StoredImage>> pageConsumer) {
+        final ListObjectsV2Request request = new ListObjectsV2Request()
+                .withBucketName(bucketName)
+                .withPrefix(path + SLASH);
+        ListObjectsV2Result result;
+        do {
+            result = amazonS3.listObjectsV2(request);
+            pageConsumer.accept(result.getObjectSummaries().stream()
+                    .map(summary -> StoredImage.of(bucketPath.concat(summary.getKey()),
+                            LocalDateTime.ofInstant(summary.getLastModified().toInstant(), ZoneId.systemDefault())))
+                    .collect(Collectors.toList()));
+            request.setContinuationToken(result.getNextContinuationToken());
+        } while (result.isTruncated());
+    }
+
+    private void putObject(final String imageName, final InputStream inputStream, final ObjectMetadata objectMetadata){
         try{
-            amazonS3.putObject(bucketName, fullImageName, imageFile.getInputStream(), objectMetadata);
+            amazonS3.putObject(bucketName, imageName, inputStream, objectMetadata);
         }catch(SdkClientException e){
             throw new ImageException(ImageExceptionType.IMAGE_FILE_UPLOAD_FAILED);
         }
-
-        return bucketPath.concat(fullImageName);
     }
 
-    private ObjectMetadata getMetaData(final ImageFile imageFile){
+    private ObjectMetadata getMetaData(final Long contentLength, final String contentType){
         final ObjectMetadata objectMetadata = new ObjectMetadata();
-        objectMetadata.setContentLength(imageFile.getSize());
-        objectMetadata.setContentType(imageFile.getContentType());
+        objectMetadata.setContentLength(contentLength);
+        objectMetadata.setContentType(contentType);
         return objectMetadata;
     }
 }
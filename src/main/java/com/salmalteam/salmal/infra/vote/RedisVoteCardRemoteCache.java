@@ -0,0 +1,87 @@
+package com.salmalteam.salmal.infra.vote;
+
+import com.salmalteam.salmal.application.vote.VoteCardRemoteCache;
+import com.salmalteam.salmal.domain.vote.VoteAuthor;
+import com.salmalteam.salmal.domain.vote.VoteCard;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Component
+@ConditionalOnProperty(name = "vote.card-cache.redis.enabled", havingValue = "true")
+public class RedisVoteCardRemoteCache implements VoteCardRemoteCache {
+
+    private static final String VOTE_CARD_KEY_PREFIX = "voteCard:";
+    private static final String VOTE_AUTHOR_KEY_PREFIX = "voteAuthor:";
+
+    private final RedisTemplate<Object, Object> redisTemplate;
+    private final Duration timeToLive;
+
+    public RedisVoteCardRemoteCache(@Qualifier("redisTemplate") final RedisTemplate<Object, Object> redisTemplate,
+                                    @Value("${vote.card-cache.redis.time-to-live:PT1H}") final Duration timeToLive) {
+        this.redisTemplate = redisTemplate;
+        this.timeToLive = timeToLive;
+    }
+
+    @Override
+    public Map<Long, VoteCard> getVoteCards(final Collection<Long> voteIds) {
+        return multiGet(VOTE_CARD_KEY_PREFIX, voteIds, VoteCard.class);
+    }
+
+    @Override
+    public void putVoteCards(final Collection<VoteCard> voteCards) {
+        voteCards.forEach(voteCard -> redisTemplate.opsForValue()
+                .set(VOTE_CARD_KEY_PREFIX + voteCard.getVoteId(), voteCard, timeToLive));
+    }
+
+    @Override
+    public void evictVoteCard(final Long voteId) {
+        redisTemplate.delete(VOTE_CARD_KEY_PREFIX + voteId);
+    }
+
+    @Override
+    public Map<Long, VoteAuthor> getVoteAuthors(final Collection<Long> memberIds) {
+        return multiGet(VOTE_AUTHOR_KEY_PREFIX, memberIds, VoteAuthor.class);
+    }
+
+    @Override
+    public void putVoteAuthors(final Collection<VoteAuthor> voteAuthors) {
+        voteAuthors.forEach(voteAuthor -> redisTemplate.opsForValue()
+                .set(VOTE_AUTHOR_KEY_PREFIX + voteAuthor.getMemberId(), voteAuthor, timeToLive));
+    }
+
+    @Override
+    public void evictVoteAuthor(final Long memberId) {
+        redisTemplate.delete(VOTE_AUTHOR_KEY_PREFIX + memberId);
+    }
+
+    private <T> Map<Long, T> multiGet(final String keyPrefix, final Collection<Long> ids, final Class<T> type) {
+        final List<Long> idList = new ArrayList<>(ids);
+        final List<Object> keys = idList.stream()
+                .map(id -> keyPrefix + id)
+                .collect(Collectors.toList());
+        final List<Object> values = redisTemplate.opsForValue().multiGet(keys);
+
+        final Map<Long, T> found = new HashMap<>();
+        if (values == null) {
+            return found;
+        }
+        for (int i = 0; i < idList.size(); i++) {
+            final Object value = values.get(i);
+            if (type.isInstance(value)) {
+                found.put(idList.get(i), type.cast(value));
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,100 @@
+package com.salmalteam.salmal.infra.vote;
+
+import com.salmalteam.salmal.domain.vote.VoteDeletionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 투표와 하위 데이터를 영속성 컨텍스트를 거치지 않고 ID 묶음 단위로 삭제한다.
+ * 메서드마다 트랜잭션이 분리되므로 한 번에 잡는 락과 언두 로그가 묶음 크기로 제한된다.
+ */
+@Repository
+@Transactional
+@RequiredArgsConstructor
+public class VoteDeletionRepositoryImpl implements VoteDeletionRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findDeletedVoteIds(final int limit) {
+        return jdbcTemplate.queryForList("select id from vote where deleted = true order by id limit :limit",
+                Map.of("limit", limit), Long.class);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findCommentIdsByVoteId(final Long voteId, final int limit) {
+        return jdbcTemplate.queryForList("select id from comment where vote_id = :voteId limit :limit",
+                Map.of("voteId", voteId, "limit", limit), Long.class);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findReplyIdsByParentCommentIds(final List<Long> parentCommentIds, final int limit) {
+        if (parentCommentIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.queryForList("select id from comment where parent_comment_id in (:parentCommentIds) limit :limit",
+                Map.of("parentCommentIds", parentCommentIds, "limit", limit), Long.class);
+    }
+
+    /**
+     * 답글이 남아 있지 않은 댓글만 전달해야 한다.
+     */
+    @Override
+    public void deleteComments(final List<Long> commentIds) {
+        if (commentIds.isEmpty()) {
+            return;
+        }
+        final MapSqlParameterSource params = new MapSqlParameterSource("commentIds", commentIds);
+        jdbcTemplate.update("delete from comment_like where review_id in (:commentIds)", params);
+        jdbcTemplate.update("delete from comment_report where comment_id in (:commentIds)", params);
+        jdbcTemplate.update("delete from comment where id in (:commentIds)", params);
+    }
+
+    @Override
+    public int deleteEvaluationsByVoteId(final Long voteId, final int limit) {
+        return deleteByVoteId("vote_evaluation", voteId, limit);
+    }
+
+    @Override
+    public int deleteBookmarksByVoteId(final Long voteId, final int limit) {
+        return deleteByVoteId("vote_bookmark", voteId, limit);
+    }
+
+    @Override
+    public int deleteReportsByVoteId(final Long voteId, final int limit) {
+        return deleteByVoteId("vote_report", voteId, limit);
+    }
+
+    /**
+     * 투표 이미지는 같은 트랜잭션에서 삭제 대상으로 기록한다.
+     */
+    @Override
+    public void deleteVote(final Long voteId) {
+        final Map<String, Object> params = Map.of("voteId", voteId, "now", LocalDateTime.now());
+        jdbcTemplate.update("insert into orphan_image (image_url, attempts, next_attempt_at, created_at) " +
+                "select image_url, 0, :now, :now from vote where id = :voteId and image_url is not null", params);
+        jdbcTemplate.update("delete from vote where id = :voteId", params);
+    }
+
+    /**
+     * 삭제할 행을 먼저 PK 로 골라낸 뒤 PK 로 삭제하여 vote_id 인덱스 범위 락을 피한다.
+     */
+    private int deleteByVoteId(final String table, final Long voteId, final int limit) {
+        final List<Long> ids = jdbcTemplate.queryForList("select id from " + table + " where vote_id = :voteId limit :limit",
+                Map.of("voteId", voteId, "limit", limit), Long.class);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update("delete from " + table + " where id in (:ids)", Map.of("ids", ids));
+    }
+}
@@ -0,0 +1,75 @@
+package com.salmalteam.salmal.infra.vote;
+
+import com.salmalteam.salmal.domain.vote.evaluation.VoteEvaluationType;
+import com.salmalteam.salmal.domain.vote.evaluation.VoteEvaluationWriteRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 투표 평가/평가 취소를 회원, 투표 엔티티 조회 없이 (evaluator_id, vote_id) 유니크 키로 바로 처리한다.
+ * 이전 평가 타입은 조건부 UPDATE/DELETE 의 영향 받은 행 수로 판단하므로 별도로 조회하지 않는다.
+ */
+@Repository
+@Transactional
+@RequiredArgsConstructor
+public class VoteEvaluationWriteRepositoryImpl implements VoteEvaluationWriteRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 삭제되지 않은 투표에 다른 타입으로 평가한 기록이 있을 때만 타입을 바꾸고 true 를 반환한다.
+     * 처음 평가한 시각은 그대로 둔다.
+     */
+    @Override
+    public boolean changeType(final Long evaluatorId, final Long voteId, final VoteEvaluationType voteEvaluationType) {
+        return jdbcTemplate.update("update vote_evaluation set vote_evaluation_type = :type " +
+                        "where evaluator_id = :evaluatorId and vote_id = :voteId and vote_evaluation_type <> :type " +
+                        "and exists (select 1 from vote v where v.id = :voteId and v.deleted = false)",
+                params(evaluatorId, voteId, voteEvaluationType)) > 0;
+    }
+
+    /**
+     * 삭제되지 않은 투표와 회원이 있을 때만 저장하고, 둘 중 하나라도 없으면 false 를 반환한다.
+     * 이미 평가했다면 유니크 키 위반으로 DuplicateKeyException 이 발생하고, 호출하는 쪽에서 이어서 처리할 수 있도록
+     * 트랜잭션을 롤백 대상으로 표시하지 않는다.
+     */
+    @Override
+    @Transactional(noRollbackFor = DuplicateKeyException.class)
+    public boolean insert(final Long evaluatorId, final Long voteId, final VoteEvaluationType voteEvaluationType) {
+        return jdbcTemplate.update("insert into vote_evaluation (evaluator_id, vote_id, vote_evaluation_type, created_at) " +
+                        "select m.id, v.id, :type, :now from vote v join member m on m.id = :evaluatorId and m.deleted = false " +
+                        "where v.id = :voteId and v.deleted = false",
+                params(evaluatorId, voteId, voteEvaluationType)) > 0;
+    }
+
+    /**
+     * 타입마다 조건부 DELETE 를 실행해서 삭제된 평가의 타입을 반환한다.
+     */
+    @Override
+    public Optional<VoteEvaluationType> delete(final Long evaluatorId, final Long voteId) {
+        for (VoteEvaluationType voteEvaluationType : VoteEvaluationType.values()) {
+            final int deleted = jdbcTemplate.update("delete from vote_evaluation " +
+                            "where evaluator_id = :evaluatorId and vote_id = :voteId and vote_evaluation_type = :type",
+                    params(evaluatorId, voteId, voteEvaluationType));
+            if (deleted > 0) {
+                return Optional.of(voteEvaluationType);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private MapSqlParameterSource params(final Long evaluatorId, final Long voteId, final VoteEvaluationType voteEvaluationType) {
+        return new MapSqlParameterSource()
+                .addValue("evaluatorId", evaluatorId)
+                .addValue("voteId", voteId)
+                .addValue("type", voteEvaluationType.name())
+                .addValue("now", LocalDateTime.now());
+    }
+}
@@ -0,0 +1,90 @@
+package com.salmalteam.salmal.infra.vote;
+
+import com.salmalteam.salmal.domain.vote.VoteEvaluationCountDelta;
+import com.salmalteam.salmal.domain.vote.VoteStatisticsRepository;
+import com.salmalteam.salmal.domain.vote.VoteViewCountDelta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+@Transactional
+@RequiredArgsConstructor
+public class VoteStatisticsRepositoryImpl implements VoteStatisticsRepository {
+
+    /**
+     * MySQL 은 SET 절을 왼쪽부터 반영하므로 비율을 개수보다 먼저 계산한다.
+     */
+    private static final String UPDATE_EVALUATION_STATISTICS = "update vote " +
+            "set like_ratio = case when evaluation_count + ? <= 0 then 0 else (like_count + ?) * 1.0 / (evaluation_count + ?) end, " +
+            "dislike_ratio = case when evaluation_count + ? <= 0 then 0 else (dislike_count + ?) * 1.0 / (evaluation_count + ?) end, " +
+            "like_count = like_count + ?, " +
+            "dislike_count = dislike_count + ?, " +
+            "evaluation_count = evaluation_count + ? " +
+            "where id = ?";
+
+    /**
+     * 숨김 처리된 투표의 평가 통계는 작성자 통계에 더하지 않는다. (MemberStatsRepository#removeVote)
+     */
+    private static final String UPDATE_AUTHOR_STATISTICS = "update member_stats " +
+            "set received_like_count = received_like_count + ?, " +
+            "received_dislike_count = received_dislike_count + ? " +
+            "where member_id = (select member_id from vote where id = ? and deleted = false)";
+
+    /**
+     * 고유 조회자 수는 서버별 추정치이므로 더 큰 값만 반영한다.
+     */
+    private static final String UPDATE_VIEW_COUNTS = "update vote " +
+            "set view_count = view_count + ?, " +
+            "unique_view_count = greatest(unique_view_count, ?) " +
+            "where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void updateEvaluationStatistics(final List<VoteEvaluationCountDelta> voteEvaluationCountDeltas) {
+        if (voteEvaluationCountDeltas.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(UPDATE_EVALUATION_STATISTICS, voteEvaluationCountDeltas, voteEvaluationCountDeltas.size(),
+                (ps, delta) -> {
+                    final int evaluationDelta = delta.getEvaluationDelta();
+                    ps.setInt(1, evaluationDelta);
+                    ps.setInt(2, delta.getLikeDelta());
+                    ps.setInt(3, evaluationDelta);
+                    ps.setInt(4, evaluationDelta);
+                    ps.setInt(5, delta.getDislikeDelta());
+                    ps.setInt(6, evaluationDelta);
+                    ps.setInt(7, delta.getLikeDelta());
+                    ps.setInt(8, delta.getDislikeDelta());
+                    ps.setInt(9, evaluationDelta);
+                    ps.setLong(10, delta.getVoteId());
+                });
+
+        // 작성자가 받은 좋아요/싫어요 수도 같은 트랜잭션에서 반영한다.
+        jdbcTemplate.batchUpdate(UPDATE_AUTHOR_STATISTICS, voteEvaluationCountDeltas, voteEvaluationCountDeltas.size(),
+                (ps, delta) -> {
+                    ps.setInt(1, delta.getLikeDelta());
+                    ps.setInt(2, delta.getDislikeDelta());
+                    ps.setLong(3, delta.getVoteId());
+                });
+    }
+
+    @Override
+    public void updateViewCounts(final List<VoteViewCountDelta> voteViewCountDeltas) {
+        if (voteViewCountDeltas.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(UPDATE_VIEW_COUNTS, voteViewCountDeltas, voteViewCountDeltas.size(),
+                (ps, delta) -> {
+                    ps.setInt(1, delta.getViewDelta());
+                    ps.setInt(2, delta.getUniqueViewerEstimate());
+                    ps.setLong(3, delta.getVoteId());
+                });
+    }
+}
@@ -2,12 +2,14 @@ package com.salmalteam.salmal.presentation;
 
 import com.salmalteam.salmal.application.auth.TokenExtractor;
 import com.salmalteam.salmal.application.auth.TokenProvider;
+import com.salmalteam.salmal.infra.auth.dto.MemberPayLoad;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.MethodParameter;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
@@ -25,9 +27,16 @@ public class AuthArgumentResolver implements HandlerMethodArgumentResolver {
     @Override
     public Object resolveArgument(final MethodParameter parameter, final ModelAndViewContainer mavContainer,
                                   final NativeWebRequest webRequest, final WebDataBinderFactory binderFactory) {
+        final Object memberPayLoad = webRequest.getAttribute(AuthInterceptor.MEMBER_PAYLOAD_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if(memberPayLoad != null) return memberPayLoad;
+
+        // @Login 이 없는 요청은 인터셉터에서 토큰을 검증하지 않으므로 직접 파싱한다.
         final String authorizationHeader = webRequest.getHeader(HttpHeaders.AUTHORIZATION);
         if(authorizationHeader == null) return null;
         final String accessToken = tokenExtractor.extractAccessTokenFromHeader(authorizationHeader);
-        return tokenProvider.getPayLoad(accessToken);
+        final MemberPayLoad parsedPayLoad = tokenProvider.getPayLoad(accessToken);
+        // 레플리카 라우팅에서 요청한 회원을 알 수 있도록 요청 속성에 남긴다.
+        webRequest.setAttribute(AuthInterceptor.MEMBER_PAYLOAD_ATTRIBUTE, parsedPayLoad, RequestAttributes.SCOPE_REQUEST);
+        return parsedPayLoad;
     }
 }
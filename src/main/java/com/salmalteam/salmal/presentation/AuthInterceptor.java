@@ -18,6 +18,11 @@ import javax.servlet.http.HttpServletResponse;
 @RequiredArgsConstructor
 public class AuthInterceptor implements HandlerInterceptor {
 
+    /**
+     * 인터셉터에서 검증한 회원 정보를 AuthArgumentResolver 가 다시 파싱하지 않도록 요청 속성으로 넘긴다.
+     */
+    public static final String MEMBER_PAYLOAD_ATTRIBUTE = AuthInterceptor.class.getName() + ".MEMBER_PAYLOAD";
+
     private final TokenProvider tokenProvider;
     private final TokenExtractor tokenExtractor;
     private final TokenRepository tokenRepository;
@@ -35,7 +40,7 @@ public class AuthInterceptor implements HandlerInterceptor {
             final String authorizationHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
             final String accessToken = tokenExtractor.extractAccessTokenFromHeader(authorizationHeader);
             validateNotLoggedOutAccessToken(accessToken);
-            validateAccessToken(accessToken);
+            request.setAttribute(MEMBER_PAYLOAD_ATTRIBUTE, tokenProvider.parseAccessToken(accessToken));
             return true;
         }
 
@@ -55,13 +60,6 @@ public class AuthInterceptor implements HandlerInterceptor {
         return request.getHeader(HttpHeaders.AUTHORIZATION) != null;
     }
 
-    private void validateAccessToken(final String accessToken){
-
-        if(!tokenProvider.isValidAccessToken(accessToken)){
-            throw new AuthException(AuthExceptionType.NOT_VALID_ACCESS_TOKEN);
-        }
-    }
-
     private void validateTokenRequired(final Object handler) {
         final Login loginAnnotation = getLoginAnnotation(handler);
         if(loginAnnotation != null){
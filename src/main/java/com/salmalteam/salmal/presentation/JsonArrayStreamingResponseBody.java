@@ -0,0 +1,48 @@
+package com.salmalteam.salmal.presentation;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.salmalteam.salmal.application.KeysetChunkReader;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 목록을 일정 크기씩 조회하는 즉시 JSON 배열의 원소로 응답에 써서, 목록 크기와 관계없이 메모리 사용량을 일정하게 유지한다.
+ */
+public class JsonArrayStreamingResponseBody<T> implements StreamingResponseBody {
+
+    private static final int CHUNK_SIZE = 100;
+
+    private final ObjectMapper objectMapper;
+    private final KeysetChunkReader<T> keysetChunkReader;
+
+    private JsonArrayStreamingResponseBody(final ObjectMapper objectMapper, final KeysetChunkReader<T> keysetChunkReader) {
+        this.objectMapper = objectMapper;
+        this.keysetChunkReader = keysetChunkReader;
+    }
+
+    public static <T> ResponseEntity<StreamingResponseBody> ok(final ObjectMapper objectMapper, final KeysetChunkReader<T> keysetChunkReader) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new JsonArrayStreamingResponseBody<>(objectMapper, keysetChunkReader));
+    }
+
+    @Override
+    public void writeTo(final OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+            keysetChunkReader.forEachChunk(CHUNK_SIZE, chunk -> {
+                for (T element : chunk) {
+                    generator.writeObject(element);
+                }
+                generator.flush();
+            });
+            generator.writeEndArray();
+        }
+    }
+}
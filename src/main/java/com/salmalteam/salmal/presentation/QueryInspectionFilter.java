@@ -0,0 +1,148 @@
+package com.salmalteam.salmal.presentation;
+
+import com.salmalteam.salmal.infra.query.QueryCounter;
+import com.salmalteam.salmal.infra.query.QueryStatistics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 실행된 SQL 문 수와 JDBC 실행 시간을 메트릭으로 남기고, 같은 SQL 이 반복되면 N+1 로 의심하여 로그를 남긴다.
+ * prod 가 아닌 환경에서는 응답 헤더로도 내려준다.
+ */
+@Slf4j
+@Component
+public class QueryInspectionFilter extends OncePerRequestFilter {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    public static final String QUERY_TIME_HEADER = "X-Query-Time-Ms";
+    public static final String QUERY_MAX_REPEAT_HEADER = "X-Query-Max-Repeat";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final boolean exposeHeaders;
+    private final int repeatThreshold;
+
+    public QueryInspectionFilter(final ObjectProvider<MeterRegistry> meterRegistry,
+                                 final Environment environment,
+                                 @Value("${query.inspection.repeat-threshold:5}") final int repeatThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.exposeHeaders = !environment.acceptsProfiles(Profiles.of("prod"));
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
+                                    final FilterChain filterChain) throws ServletException, IOException {
+        final QueryStatistics statistics = QueryCounter.start();
+        try {
+            filterChain.doFilter(request, exposeHeaders ? new HeaderWritingResponse(response, statistics) : response);
+        } finally {
+            QueryCounter.stop();
+            if (exposeHeaders && !response.isCommitted()) {
+                writeHeaders(response, statistics);
+            }
+            record(request, statistics);
+        }
+    }
+
+    private void record(final HttpServletRequest request, final QueryStatistics statistics) {
+        final String uri = getUriPattern(request);
+        final Map<String, Integer> repeatedStatements = statistics.getRepeatedStatements(repeatThreshold);
+        if (!repeatedStatements.isEmpty()) {
+            log.warn("같은 SQL 이 반복 실행되었습니다. N+1 여부를 확인해주세요. {} {} statements={}",
+                    request.getMethod(), uri, repeatedStatements);
+        }
+
+        final MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            return;
+        }
+        final Tags tags = Tags.of("method", request.getMethod(), "uri", uri);
+        DistributionSummary.builder("http.server.requests.queries")
+                .description("요청당 실행된 SQL 문 수")
+                .tags(tags)
+                .register(registry)
+                .record(statistics.getStatementCount());
+        Timer.builder("http.server.requests.jdbc")
+                .description("요청당 JDBC 실행 시간")
+                .tags(tags)
+                .register(registry)
+                .record(statistics.getJdbcTimeNanos(), TimeUnit.NANOSECONDS);
+        if (!repeatedStatements.isEmpty()) {
+            registry.counter("http.server.requests.repeated-queries", tags).increment();
+        }
+    }
+
+    /**
+     * 메트릭 태그 수가 늘어나지 않도록 실제 경로 대신 매핑된 패턴을 사용한다.
+     */
+    private static String getUriPattern(final HttpServletRequest request) {
+        final Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? "UNKNOWN" : pattern.toString();
+    }
+
+    private static void writeHeaders(final HttpServletResponse response, final QueryStatistics statistics) {
+        response.setHeader(QUERY_COUNT_HEADER, String.valueOf(statistics.getStatementCount()));
+        response.setHeader(QUERY_TIME_HEADER, String.valueOf(TimeUnit.NANOSECONDS.toMillis(statistics.getJdbcTimeNanos())));
+        response.setHeader(QUERY_MAX_REPEAT_HEADER, String.valueOf(statistics.getMaxRepeatCount()));
+    }
+
+    /**
+     * 본문을 쓰기 시작하면 헤더를 보낼 수 없으므로 본문을 쓰기 직전까지의 통계로 헤더를 채운다.
+     */
+    private static class HeaderWritingResponse extends HttpServletResponseWrapper {
+
+        private final QueryStatistics statistics;
+        private boolean headersWritten;
+
+        private HeaderWritingResponse(final HttpServletResponse response, final QueryStatistics statistics) {
+            super(response);
+            this.statistics = statistics;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeadersOnce();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeadersOnce();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeadersOnce();
+            super.flushBuffer();
+        }
+
+        private void writeHeadersOnce() {
+            if (!headersWritten && !isCommitted()) {
+                writeHeaders((HttpServletResponse) getResponse(), statistics);
+                headersWritten = true;
+            }
+        }
+    }
+}
@@ -1,20 +1,22 @@
 package com.salmalteam.salmal.presentation.comment;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.salmalteam.salmal.application.comment.CommentService;
 import com.salmalteam.salmal.dto.request.comment.CommentReplyCreateRequest;
 import com.salmalteam.salmal.dto.request.comment.ReplyPageRequest;
 import com.salmalteam.salmal.dto.request.vote.VoteCommentUpdateRequest;
 import com.salmalteam.salmal.dto.response.comment.ReplyPageResponse;
-import com.salmalteam.salmal.dto.response.comment.ReplyResponse;
 import com.salmalteam.salmal.infra.auth.dto.MemberPayLoad;
+import com.salmalteam.salmal.presentation.JsonArrayStreamingResponseBody;
 import com.salmalteam.salmal.presentation.Login;
 import com.salmalteam.salmal.presentation.LoginMember;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
-import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -22,6 +24,8 @@ import java.util.List;
 public class CommentController {
 
     private final CommentService commentService;
+    private final ObjectMapper objectMapper;
+
     @PutMapping("/{comment-id}")
     @ResponseStatus(HttpStatus.OK)
     @Login
@@ -84,12 +88,11 @@ public class CommentController {
     }
 
     @GetMapping("/{comment-id}/replies/all")
-    @ResponseStatus(HttpStatus.OK)
     @Login
-    public List<ReplyResponse> searchAllReplies(@LoginMember final MemberPayLoad memberPayLoad,
-                                                @PathVariable(name = "comment-id") final Long commentId){
+    public ResponseEntity<StreamingResponseBody> searchAllReplies(@LoginMember final MemberPayLoad memberPayLoad,
+                                                                  @PathVariable(name = "comment-id") final Long commentId){
 
-        return commentService.searchAllReplies(memberPayLoad, commentId);
+        return JsonArrayStreamingResponseBody.ok(objectMapper, commentService.searchAllReplies(memberPayLoad, commentId));
     }
 
 
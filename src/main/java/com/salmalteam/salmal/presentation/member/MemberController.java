@@ -31,8 +31,9 @@ public class MemberController {
     @GetMapping("/{member-id}")
     @ResponseStatus(HttpStatus.OK)
     @Login
-    public MyPageResponse findMyPage(@PathVariable("member-id") final Long memberId) {
-        return memberService.findMyPage(memberId);
+    public MyPageResponse findMyPage(@LoginMember MemberPayLoad memberPayLoad,
+                                     @PathVariable("member-id") final Long memberId) {
+        return memberService.findMyPage(memberPayLoad, memberId);
     }
 
     @PutMapping("/{member-id}")
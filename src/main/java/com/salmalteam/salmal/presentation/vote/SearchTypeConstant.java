@@ -7,7 +7,8 @@ import java.util.Arrays;
 
 public enum SearchTypeConstant {
     BEST,
-    HOME;
+    HOME,
+    TRENDING;
     public static SearchTypeConstant from(final String searchType){
         return Arrays.stream(values())
                 .filter(it -> it.name().equalsIgnoreCase(searchType))
@@ -1,23 +1,25 @@
 package com.salmalteam.salmal.presentation.vote;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.salmalteam.salmal.application.vote.VoteService;
 import com.salmalteam.salmal.domain.vote.evaluation.VoteEvaluationType;
 import com.salmalteam.salmal.dto.request.comment.CommentPageRequest;
 import com.salmalteam.salmal.dto.request.vote.*;
 import com.salmalteam.salmal.dto.response.comment.CommentPageResponse;
-import com.salmalteam.salmal.dto.response.comment.CommentResponse;
 import com.salmalteam.salmal.dto.response.vote.VotePageResponse;
 import com.salmalteam.salmal.dto.response.vote.VoteResponse;
 import com.salmalteam.salmal.infra.auth.dto.MemberPayLoad;
+import com.salmalteam.salmal.presentation.JsonArrayStreamingResponseBody;
 import com.salmalteam.salmal.presentation.Login;
 import com.salmalteam.salmal.presentation.LoginMember;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
-import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -25,6 +27,7 @@ import java.util.List;
 public class VoteController {
 
     private final VoteService voteService;
+    private final ObjectMapper objectMapper;
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     @Login
@@ -97,13 +100,13 @@ public class VoteController {
 
     /**
      * iOS 요청 사항 : 댓글 전체 목록 조회 API
+     * 댓글 수와 관계없이 일정한 크기씩 조회하여 JSON 배열로 이어서 응답한다.
      */
     @GetMapping("/{vote-id}/comments/all")
-    @ResponseStatus(HttpStatus.OK)
     @Login
-    public List<CommentResponse> searchAllComments(@LoginMember final MemberPayLoad memberPayLoad,
-                                                   @PathVariable(name = "vote-id") final Long voteId){
-        return voteService.searchAllComments(voteId, memberPayLoad);
+    public ResponseEntity<StreamingResponseBody> searchAllComments(@LoginMember final MemberPayLoad memberPayLoad,
+                                                                   @PathVariable(name = "vote-id") final Long voteId){
+        return JsonArrayStreamingResponseBody.ok(objectMapper, voteService.searchAllComments(voteId, memberPayLoad));
     }
 
     @GetMapping("/{vote-id}")
@@ -0,0 +1,180 @@
+package com.salmalteam.salmal.application;
+
+import com.salmalteam.salmal.domain.image.ImageReferenceRepository;
+import com.salmalteam.salmal.domain.image.OrphanImage;
+import com.salmalteam.salmal.domain.image.OrphanImageRepository;
+import com.salmalteam.salmal.domain.member.MemberImage;
+import com.salmalteam.salmal.infra.s3.S3Client;
+import com.salmalteam.salmal.support.EntityIdManipulator;
+import com.salmalteam.salmal.support.FakeAmazonS3;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ImageGarbageCollectorTest {
+
+    private static final String BUCKET_PATH = "https://bucket.s3.amazonaws.com/";
+    private static final Date OLD = Date.from(Instant.now().minus(2, ChronoUnit.DAYS));
+
+    @Mock
+    OrphanImageRepository orphanImageRepository;
+    @Mock
+    ImageReferenceRepository imageReferenceRepository;
+
+    FakeAmazonS3 amazonS3;
+    ImageGarbageCollector imageGarbageCollector;
+
+    @BeforeEach
+    void setUp() {
+        amazonS3 = new FakeAmazonS3();
+        final S3Client s3Client = new S3Client(amazonS3, null, "bucket", BUCKET_PATH);
+        imageGarbageCollector = new ImageGarbageCollector(orphanImageRepository, imageReferenceRepository, s3Client,
+                TransactionOperations.withoutTransaction(), BUCKET_PATH, "vote", "member", 1000, 60_000, 86_400_000);
+    }
+
+    @Nested
+    class 고아_이미지_삭제_테스트 {
+
+        @Test
+        void 원본과_축소_이미지를_한_번의_요청으로_삭제한다() {
+            // given
+            storeWithVariants("vote/uuid1/original/a.png");
+            amazonS3.putObject("vote/uuid2/b.png", OLD);
+            given(orphanImageRepository.findTop100ByNextAttemptAtLessThanEqualOrderByIdAsc(any()))
+                    .willReturn(List.of(orphanImage(1L, "vote/uuid1/original/a.png"), orphanImage(2L, "vote/uuid2/b.png")));
+
+            // when
+            imageGarbageCollector.deleteOrphanImages();
+
+            // then
+            Assertions.assertAll(
+                    () -> assertThat(amazonS3.getKeys()).isEmpty(),
+                    () -> assertThat(amazonS3.getDeleteRequestCount()).isEqualTo(1),
+                    () -> verify(orphanImageRepository).deleteAllByIdIn(List.of(1L, 2L))
+            );
+        }
+
+        @Test
+        void 다시_참조되는_이미지는_삭제하지_않는다() {
+            // given
+            amazonS3.putObject("member/uuid1/a.png", OLD);
+            given(orphanImageRepository.findTop100ByNextAttemptAtLessThanEqualOrderByIdAsc(any()))
+                    .willReturn(List.of(orphanImage(1L, "member/uuid1/a.png")));
+            given(imageReferenceRepository.findReferencedImageUrls(anyList()))
+                    .willReturn(List.of(BUCKET_PATH + "member/uuid1/a.png"));
+
+            // when
+            imageGarbageCollector.deleteOrphanImages();
+
+            // then
+            Assertions.assertAll(
+                    () -> assertThat(amazonS3.getKeys()).containsExactly("member/uuid1/a.png"),
+                    () -> verify(orphanImageRepository).deleteAllByIdIn(List.of(1L))
+            );
+        }
+
+        @Test
+        void 삭제에_실패한_이미지는_나중에_다시_시도한다() {
+            // given
+            amazonS3.putObject("vote/uuid1/a.png", OLD);
+            amazonS3.failToDelete("vote/uuid1/a.png");
+            final OrphanImage orphanImage = orphanImage(1L, "vote/uuid1/a.png");
+            given(orphanImageRepository.findTop100ByNextAttemptAtLessThanEqualOrderByIdAsc(any()))
+                    .willReturn(List.of(orphanImage));
+
+            // when
+            imageGarbageCollector.deleteOrphanImages();
+
+            // then
+            Assertions.assertAll(
+                    () -> assertThat(orphanImage.getAttempts()).isEqualTo(1),
+                    () -> assertThat(orphanImage.getNextAttemptAt()).isAfter(LocalDateTime.now()),
+                    () -> verify(orphanImageRepository, never()).deleteAllByIdIn(anyList()),
+                    () -> verify(orphanImageRepository).saveAll(List.of(orphanImage))
+            );
+        }
+
+        @Test
+        void 기본_프로필_이미지는_삭제_대상으로_기록하지_않는다() {
+            // when
+            imageGarbageCollector.collect(MemberImage.getMemberImageUrl());
+
+            // then
+            verify(orphanImageRepository, never()).save(any());
+        }
+    }
+
+    @Nested
+    class 이미지_대사_테스트 {
+
+        @Test
+        void 참조되지_않는_오래된_이미지만_삭제_대상으로_기록한다() {
+            // given
+            storeWithVariants("vote/referenced/original/a.png");
+            storeWithVariants("vote/orphan/original/b.png");
+            amazonS3.putObject("vote/recent/c.png", new Date());
+            amazonS3.putObject("member/default.JPG", OLD);
+            willAnswer(invocation -> {
+                final Consumer<String> consumer = invocation.getArgument(0);
+                consumer.accept(BUCKET_PATH + "vote/referenced/original/a.png");
+                return null;
+            }).given(imageReferenceRepository).forEachReferencedImageUrl(any());
+
+            // when
+            imageGarbageCollector.reconcile();
+
+            // then
+            assertThat(captureSavedImageUrls()).containsExactlyInAnyOrder(
+                    BUCKET_PATH + "vote/orphan/original/b.png",
+                    BUCKET_PATH + "vote/orphan/160w/b.jpg",
+                    BUCKET_PATH + "vote/orphan/480w/b.jpg",
+                    BUCKET_PATH + "vote/orphan/1080w/b.jpg"
+            );
+        }
+    }
+
+    private void storeWithVariants(final String originalKey) {
+        amazonS3.putObject(originalKey, OLD);
+        amazonS3.putObject(originalKey.replace("original/", "160w/").replace(".png", ".jpg"), OLD);
+        amazonS3.putObject(originalKey.replace("original/", "480w/").replace(".png", ".jpg"), OLD);
+        amazonS3.putObject(originalKey.replace("original/", "1080w/").replace(".png", ".jpg"), OLD);
+    }
+
+    private static OrphanImage orphanImage(final Long id, final String key) {
+        final OrphanImage orphanImage = OrphanImage.of(BUCKET_PATH + key);
+        EntityIdManipulator.setId(orphanImage, id);
+        return orphanImage;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> captureSavedImageUrls() {
+        final ArgumentCaptor<Iterable<OrphanImage>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(orphanImageRepository).saveAll(captor.capture());
+        return ((List<OrphanImage>) captor.getValue()).stream()
+                .map(OrphanImage::getImageUrl)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,186 @@
+package com.salmalteam.salmal.application;
+
+import com.salmalteam.salmal.domain.image.ImageFile;
+import com.salmalteam.salmal.domain.image.ImageStatus;
+import com.salmalteam.salmal.domain.member.Member;
+import com.salmalteam.salmal.domain.vote.Vote;
+import com.salmalteam.salmal.exception.image.ImageException;
+import com.salmalteam.salmal.exception.image.ImageExceptionType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class ImageUploadPipelineTest {
+
+    FakeImageUploader imageUploader = new FakeImageUploader();
+    PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    ImageUploadPipeline imageUploadPipeline = new ImageUploadPipeline(imageUploader, transactionManager, 1, 10);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Nested
+    class 이미지_업로드_테스트 {
+
+        @Test
+        void 업로드가_끝나면_업로드된_이미지_URL_을_전달한다() throws Exception {
+            // given
+            final ImageFile imageFile = createImageFile();
+            final AtomicReference<String> uploadedImageUrl = new AtomicReference<>();
+
+            // when
+            imageUploadPipeline.uploadAfterCommit(imageFile, uploadedImageUrl::set, () -> {
+            });
+            imageUploadPipeline.shutdown();
+
+            // then
+            assertThat(imageUploader.uploadedImageFiles).containsExactly(imageFile);
+            assertThat(uploadedImageUrl.get()).isEqualTo(FakeImageUploader.IMAGE_URL);
+            assertThatThrownBy(imageFile::getInputStream).isInstanceOf(ImageException.class);
+        }
+
+        @Test
+        void 업로드에_실패하면_실패를_전달한다() throws Exception {
+            // given
+            imageUploader.fail = true;
+            final AtomicBoolean uploaded = new AtomicBoolean();
+            final AtomicBoolean failed = new AtomicBoolean();
+
+            // when
+            imageUploadPipeline.uploadAfterCommit(createImageFile(), imageUrl -> uploaded.set(true), () -> failed.set(true));
+            imageUploadPipeline.shutdown();
+
+            // then
+            assertThat(uploaded).isFalse();
+            assertThat(failed).isTrue();
+        }
+
+        @Test
+        void 트랜잭션이_커밋되기_전에는_업로드하지_않는다() throws Exception {
+            // given
+            TransactionSynchronizationManager.initSynchronization();
+
+            // when
+            imageUploadPipeline.uploadAfterCommit(createImageFile(), imageUrl -> {
+            });
+
+            // then
+            assertThat(imageUploader.uploadedImageFiles).isEmpty();
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            imageUploadPipeline.shutdown();
+            assertThat(imageUploader.uploadedImageFiles).hasSize(1);
+        }
+
+        @Test
+        void 트랜잭션이_롤백되면_업로드하지_않고_임시_파일을_삭제한다() throws Exception {
+            // given
+            TransactionSynchronizationManager.initSynchronization();
+            final ImageFile imageFile = createImageFile();
+
+            // when
+            imageUploadPipeline.uploadAfterCommit(imageFile, imageUrl -> {
+            });
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            imageUploadPipeline.shutdown();
+
+            // then
+            assertThat(imageUploader.uploadedImageFiles).isEmpty();
+            assertThatThrownBy(imageFile::getInputStream)
+                    .isInstanceOf(ImageException.class)
+                    .hasFieldOrPropertyWithValue("exceptionType", ImageExceptionType.IMAGE_FILE_READ_FAILED);
+        }
+
+        @Test
+        void 업로드_결과는_새로운_트랜잭션에서_반영한다() throws Exception {
+            // given
+            final ArgumentCaptor<TransactionDefinition> definitionCaptor = ArgumentCaptor.forClass(TransactionDefinition.class);
+
+            // when
+            imageUploadPipeline.uploadAfterCommit(createImageFile(), imageUrl -> {
+            });
+            imageUploadPipeline.shutdown();
+
+            // then
+            verify(transactionManager, atLeastOnce()).getTransaction(definitionCaptor.capture());
+            assertThat(definitionCaptor.getAllValues()).extracting(TransactionDefinition::getPropagationBehavior)
+                    .containsOnly(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        }
+
+        @Test
+        void 대기열이_가득_차면_업로드하지_못한_이미지는_실패_상태가_된다() throws Exception {
+            // given
+            final ImageUploadPipeline fullPipeline = new ImageUploadPipeline(imageUploader, transactionManager, 1, 1);
+            imageUploader.release = new CountDownLatch(1);
+            final Member member = Member.of("pro1", "닉네임1", "kakao", true);
+            final List<Vote> votes = List.of(Vote.ofPendingImage(member), Vote.ofPendingImage(member), Vote.ofPendingImage(member));
+
+            // when
+            for (Vote vote : votes) {
+                fullPipeline.uploadAfterCommit(createImageFile(), vote::completeImageUpload, vote::failImageUpload);
+            }
+            imageUploader.release.countDown();
+            fullPipeline.shutdown();
+
+            // then
+            assertThat(votes).extracting(vote -> vote.getVoteImage().getImageStatus())
+                    .containsExactly(ImageStatus.UPLOADED, ImageStatus.UPLOADED, ImageStatus.FAILED);
+        }
+    }
+
+    private ImageFile createImageFile() throws IOException {
+        final String fileName = "testImage.jpg";
+        final FileInputStream fileInputStream = new FileInputStream("src/test/resources/testImages/" + fileName);
+        return ImageFile.of(new MockMultipartFile("imageFile", fileName, "image/jpeg", fileInputStream), "vote");
+    }
+
+    private static class FakeImageUploader implements ImageUploader {
+
+        private static final String IMAGE_URL = "https://fake-bucket/vote/testImage.jpg";
+
+        private final List<ImageFile> uploadedImageFiles = new CopyOnWriteArrayList<>();
+        private volatile boolean fail = false;
+        private volatile CountDownLatch release = new CountDownLatch(0);
+
+        @Override
+        public String uploadImage(final ImageFile imageFile) {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (fail) {
+                throw new ImageException(ImageExceptionType.IMAGE_FILE_UPLOAD_FAILED);
+            }
+            uploadedImageFiles.add(imageFile);
+            return IMAGE_URL;
+        }
+    }
+}
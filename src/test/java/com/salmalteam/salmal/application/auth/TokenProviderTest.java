@@ -1,12 +1,15 @@
 package com.salmalteam.salmal.application.auth;
 
+import com.salmalteam.salmal.exception.auth.AuthException;
 import com.salmalteam.salmal.infra.auth.JwtProvider;
+import com.salmalteam.salmal.infra.auth.dto.MemberPayLoad;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -70,5 +73,63 @@ public class TokenProviderTest {
                     () ->  assertTrue(refreshTokenExpiry >= REFRESH_TOKEN_EXPIRY - 10000 && accessTokenExpiry <= REFRESH_TOKEN_EXPIRY + 10000)
             );
         }
+
+        @Test
+        void 검증한_접근_토큰도_남은_유효기간을_반환한다(){
+
+            // given
+            final Long longAccessTokenExpiry = 3_600_000L;
+            final TokenProvider longLivedTokenProvider = new JwtProvider(longAccessTokenExpiry, REFRESH_TOKEN_EXPIRY, SECRET_KEY);
+            final String accessToken = longLivedTokenProvider.createAccessToken(32L);
+            longLivedTokenProvider.parseAccessToken(accessToken);
+
+            // when
+            final Long accessTokenExpiry = longLivedTokenProvider.getTokenExpiry(accessToken);
+
+            // then
+            assertTrue(accessTokenExpiry >= longAccessTokenExpiry - 10000 && accessTokenExpiry <= longAccessTokenExpiry);
+        }
+    }
+
+    @Nested
+    class 접근_토큰_파싱_테스트{
+
+        @Test
+        void 유효한_접근_토큰이면_회원_정보를_반환한다(){
+            // given
+            final Long id = 32L;
+            final String accessToken = tokenProvider.createAccessToken(id);
+
+            // when
+            final MemberPayLoad first = tokenProvider.parseAccessToken(accessToken);
+            final MemberPayLoad second = tokenProvider.parseAccessToken(accessToken);
+
+            // then
+            assertAll(
+                    () -> assertThat(first.getId()).isEqualTo(id),
+                    () -> assertThat(second.getId()).isEqualTo(id)
+            );
+        }
+
+        @Test
+        void 재발급_토큰이면_예외를_발생시킨다(){
+            // given
+            final String refreshToken = tokenProvider.createRefreshToken(32L);
+
+            // when & then
+            assertThatThrownBy(() -> tokenProvider.parseAccessToken(refreshToken))
+                    .isInstanceOf(AuthException.class);
+        }
+
+        @Test
+        void 서명이_다른_접근_토큰이면_예외를_발생시킨다(){
+            // given
+            final TokenProvider otherTokenProvider = new JwtProvider(ACCESS_TOKEN_EXPIRY, REFRESH_TOKEN_EXPIRY, "O".repeat(32));
+            final String accessToken = otherTokenProvider.createAccessToken(32L);
+
+            // when & then
+            assertThatThrownBy(() -> tokenProvider.parseAccessToken(accessToken))
+                    .isInstanceOf(AuthException.class);
+        }
     }
 }
@@ -1,13 +1,19 @@
 package com.salmalteam.salmal.application.comment;
 
+import com.salmalteam.salmal.application.member.BlockedMemberCache;
+import com.salmalteam.salmal.application.member.BlockedMemberIds;
 import com.salmalteam.salmal.application.member.MemberService;
 import com.salmalteam.salmal.domain.comment.Comment;
 import com.salmalteam.salmal.domain.comment.like.CommentLikeRepository;
 import com.salmalteam.salmal.domain.comment.report.CommentReportRepository;
 import com.salmalteam.salmal.domain.member.Member;
+import com.salmalteam.salmal.domain.member.stats.MemberStatsRepository;
 import com.salmalteam.salmal.domain.comment.CommentRepository;
 import com.salmalteam.salmal.domain.vote.Vote;
+import com.salmalteam.salmal.dto.request.comment.CommentPageRequest;
 import com.salmalteam.salmal.dto.request.vote.VoteCommentUpdateRequest;
+import com.salmalteam.salmal.dto.response.comment.CommentPageResponse;
+import com.salmalteam.salmal.dto.response.comment.CommentResponse;
 import com.salmalteam.salmal.exception.comment.CommentException;
 import com.salmalteam.salmal.exception.comment.like.CommentLikeException;
 import com.salmalteam.salmal.exception.comment.report.CommentReportException;
@@ -21,11 +27,17 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
@@ -42,6 +54,12 @@ class CommentServiceTest {
     CommentLikeRepository commentLikeRepository;
     @Mock
     CommentReportRepository commentReportRepository;
+    @Mock
+    BlockedMemberCache blockedMemberCache;
+    @Mock
+    CommentPageCache commentPageCache;
+    @Mock
+    MemberStatsRepository memberStatsRepository;
 
     @Nested
     class 댓글_수정_테스트{
@@ -201,4 +219,78 @@ class CommentServiceTest {
 
 
     }
-}
\ No newline at end of file
+
+    @Nested
+    class 댓글_목록_조회_테스트{
+
+        @Test
+        void 차단한_회원의_댓글을_제외하고_페이지를_채운다(){
+            // given
+            final Long memberId = 1L;
+            final Long voteId = 1L;
+            final Long blockedMemberId = 2L;
+            final MemberPayLoad memberPayLoad = MemberPayLoad.from(memberId);
+            final CommentPageRequest commentPageRequest = CommentPageRequest.of(null, 2);
+
+            given(blockedMemberCache.get(memberId)).willReturn(BlockedMemberIds.of(List.of(blockedMemberId)));
+            given(commentRepository.searchAllList(eq(voteId), eq(memberId), isNull(), eq(6))).willReturn(List.of(
+                    createCommentResponse(10L, blockedMemberId),
+                    createCommentResponse(9L, blockedMemberId),
+                    createCommentResponse(8L, 3L),
+                    createCommentResponse(7L, blockedMemberId),
+                    createCommentResponse(6L, blockedMemberId),
+                    createCommentResponse(5L, blockedMemberId)
+            ));
+            given(commentRepository.searchAllList(eq(voteId), eq(memberId), eq(5L), eq(6))).willReturn(List.of(
+                    createCommentResponse(4L, 3L),
+                    createCommentResponse(3L, 3L)
+            ));
+
+            // when
+            final CommentPageResponse commentPageResponse = commentService.searchList(voteId, memberPayLoad, commentPageRequest);
+
+            // then
+            assertAll(
+                    () -> assertThat(commentPageResponse.isHasNext()).isTrue(),
+                    () -> assertThat(commentPageResponse.getComments())
+                            .extracting(CommentResponse::getId)
+                            .containsExactly(8L, 4L)
+            );
+        }
+
+        @Test
+        void 차단한_회원이_없으면_공유_댓글_페이지에_좋아요_여부만_더한다(){
+            // given
+            final Long memberId = 1L;
+            final Long voteId = 1L;
+            final MemberPayLoad memberPayLoad = MemberPayLoad.from(memberId);
+            final CommentPageRequest commentPageRequest = CommentPageRequest.of(null, 2);
+            final CommentPageResponse sharedCommentPage = CommentPageResponse.of(true, List.of(
+                    createCommentResponse(10L, 2L),
+                    createCommentResponse(9L, 3L)
+            ));
+            given(blockedMemberCache.get(memberId)).willReturn(BlockedMemberIds.empty());
+            given(commentPageCache.get(eq(voteId), eq(commentPageRequest))).willReturn(sharedCommentPage);
+            given(commentLikeRepository.findCommentIdsByLikerIdAndCommentIdIn(eq(memberId), eq(List.of(10L, 9L))))
+                    .willReturn(List.of(9L));
+
+            // when
+            final CommentPageResponse commentPageResponse = commentService.searchList(voteId, memberPayLoad, commentPageRequest);
+
+            // then
+            assertAll(
+                    () -> assertThat(commentPageResponse.isHasNext()).isTrue(),
+                    () -> assertThat(commentPageResponse.getComments())
+                            .extracting(CommentResponse::getId, CommentResponse::isLiked)
+                            .containsExactly(tuple(10L, false), tuple(9L, true)),
+                    () -> assertThat(sharedCommentPage.getComments())
+                            .extracting(CommentResponse::isLiked)
+                            .containsOnly(false)
+            );
+        }
+
+        private CommentResponse createCommentResponse(final Long commentId, final Long commenterId){
+            return new CommentResponse(commentId, commenterId, "닉네임", "imageUrl", false, 0, 0, "댓글", LocalDateTime.now(), LocalDateTime.now());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.salmalteam.salmal.application.member;
+
+import com.salmalteam.salmal.domain.lock.JobLockRepository;
+import com.salmalteam.salmal.domain.member.activity.MemberActivityBackfillRepository;
+import com.salmalteam.salmal.domain.member.activity.MemberActivityType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MemberActivityBackfillTest {
+
+    @Mock
+    MemberActivityBackfillRepository memberActivityBackfillRepository;
+    @Mock
+    JobLockRepository jobLockRepository;
+
+    MemberActivityBackfill memberActivityBackfill;
+
+    @BeforeEach
+    void setUp() {
+        memberActivityBackfill = new MemberActivityBackfill(memberActivityBackfillRepository, jobLockRepository, true, 100, 60_000);
+    }
+
+    @Test
+    void 다른_서버가_옮기는_중이면_옮기지_않는다() {
+        // given
+        given(jobLockRepository.acquire(eq(MemberActivityBackfill.LOCK_NAME), any())).willReturn(false);
+
+        // when
+        memberActivityBackfill.backfill();
+
+        // then
+        verify(memberActivityBackfillRepository, never()).backfill(any(), anyInt());
+    }
+
+    @Test
+    void 모두_옮긴_뒤에는_다시_실행하지_않는다() {
+        // given
+        given(jobLockRepository.acquire(eq(MemberActivityBackfill.LOCK_NAME), any())).willReturn(true);
+        given(memberActivityBackfillRepository.backfill(eq(MemberActivityType.EVALUATION), anyInt())).willReturn(true, false);
+        given(memberActivityBackfillRepository.backfill(eq(MemberActivityType.BOOKMARK), anyInt())).willReturn(false);
+
+        // when
+        memberActivityBackfill.backfill();
+        memberActivityBackfill.backfill();
+
+        // then
+        verify(memberActivityBackfillRepository, times(2)).backfill(eq(MemberActivityType.EVALUATION), anyInt());
+        verify(memberActivityBackfillRepository, times(1)).backfill(eq(MemberActivityType.BOOKMARK), anyInt());
+        verify(jobLockRepository, times(1)).release(MemberActivityBackfill.LOCK_NAME);
+    }
+
+    @Test
+    void 옮기는_중에_잠금을_빼앗기면_멈추고_다음_주기에_이어서_옮긴다() {
+        // given
+        given(jobLockRepository.acquire(eq(MemberActivityBackfill.LOCK_NAME), any())).willReturn(true, true, false, true);
+        given(memberActivityBackfillRepository.backfill(eq(MemberActivityType.EVALUATION), anyInt())).willReturn(true, false);
+
+        // when
+        memberActivityBackfill.backfill();
+        memberActivityBackfill.backfill();
+
+        // then
+        verify(memberActivityBackfillRepository, times(2)).backfill(eq(MemberActivityType.EVALUATION), anyInt());
+    }
+}
@@ -0,0 +1,136 @@
+package com.salmalteam.salmal.application.member;
+
+import com.salmalteam.salmal.application.vote.VoteDeletionPipeline;
+import com.salmalteam.salmal.domain.comment.Comment;
+import com.salmalteam.salmal.domain.comment.like.CommentLike;
+import com.salmalteam.salmal.domain.comment.report.CommentReport;
+import com.salmalteam.salmal.domain.member.Member;
+import com.salmalteam.salmal.domain.member.block.MemberBlocked;
+import com.salmalteam.salmal.domain.member.purge.MemberPurgeJobRepository;
+import com.salmalteam.salmal.domain.vote.Vote;
+import com.salmalteam.salmal.domain.vote.bookmark.VoteBookMark;
+import com.salmalteam.salmal.domain.vote.evaluation.VoteEvaluation;
+import com.salmalteam.salmal.domain.vote.evaluation.VoteEvaluationType;
+import com.salmalteam.salmal.domain.vote.report.VoteReport;
+import com.salmalteam.salmal.infra.member.MemberPurgeRepositoryImpl;
+import com.salmalteam.salmal.infra.vote.VoteDeletionRepositoryImpl;
+import com.salmalteam.salmal.infra.vote.VoteStatisticsRepositoryImpl;
+import com.salmalteam.salmal.support.RepositoryTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionOperations;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DirtiesContext
+class MemberPurgePipelineTest extends RepositoryTest {
+
+    @Autowired
+    MemberPurgeJobRepository memberPurgeJobRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    EntityManager em;
+
+    MemberPurgePipeline memberPurgePipeline;
+
+    @BeforeEach
+    void setUp() {
+        final NamedParameterJdbcTemplate namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        final VoteDeletionRepositoryImpl voteDeletionRepository = new VoteDeletionRepositoryImpl(namedParameterJdbcTemplate);
+        memberPurgePipeline = new MemberPurgePipeline(memberPurgeJobRepository,
+                new MemberPurgeRepositoryImpl(namedParameterJdbcTemplate, new VoteStatisticsRepositoryImpl(jdbcTemplate)),
+                voteDeletionRepository, new VoteDeletionPipeline(voteDeletionRepository, 1),
+                TransactionOperations.withoutTransaction(), 1);
+    }
+
+    @Nested
+    class 회원_정리_테스트 {
+
+        @Test
+        void 탈퇴_회원의_데이터를_삭제하고_다른_회원_데이터의_카운터를_보정한다() {
+            // given
+            final Member leaving = Member.of("pro1", "닉네임1", "kakao", true);
+            final Member other = Member.of("pro2", "닉네임2", "kakao", true);
+            em.persist(leaving);
+            em.persist(other);
+
+            final Vote leavingVote = Vote.of("imageUrl", leaving);
+            final Vote otherVote = Vote.of("imageUrl", other);
+            em.persist(leavingVote);
+            em.persist(otherVote);
+            em.persist(Comment.of("탈퇴 회원 투표의 댓글", leavingVote, other));
+            em.persist(VoteEvaluation.of(leavingVote, other, VoteEvaluationType.LIKE));
+
+            em.persist(VoteEvaluation.of(otherVote, leaving, VoteEvaluationType.LIKE));
+            em.persist(VoteEvaluation.of(otherVote, other, VoteEvaluationType.DISLIKE));
+            em.persist(VoteBookMark.of(leaving, otherVote));
+            em.persist(VoteReport.of(otherVote, leaving));
+
+            final Comment leavingComment = Comment.of("탈퇴 회원 댓글", otherVote, leaving);
+            final Comment otherComment = Comment.of("다른 회원 댓글", otherVote, other);
+            em.persist(leavingComment);
+            em.persist(otherComment);
+            final Comment otherReplyToLeaving = Comment.ofReply("답글", leavingComment, other);
+            em.persist(otherReplyToLeaving);
+            em.persist(CommentLike.of(otherReplyToLeaving, other));
+            em.persist(Comment.ofReply("탈퇴 회원 답글", otherComment, leaving));
+            em.persist(Comment.ofReply("다른 회원 답글", otherComment, other));
+            em.persist(CommentLike.of(otherComment, leaving));
+            em.persist(CommentLike.of(otherComment, other));
+            em.persist(CommentReport.of(otherComment, leaving));
+
+            em.persist(MemberBlocked.of(leaving, other));
+            em.persist(MemberBlocked.of(other, leaving));
+            em.flush();
+            em.clear();
+
+            jdbcTemplate.update("update vote set comment_count = 2, evaluation_count = 2, like_count = 1, dislike_count = 1 where id = ?", otherVote.getId());
+            jdbcTemplate.update("update comment set reply_count = 2, like_count = 2 where id = ?", otherComment.getId());
+
+            // when
+            final List<Long> hiddenVoteIds = memberPurgePipeline.start(leaving.getId());
+            final Long jobId = memberPurgeJobRepository.findTop100ByOrderByIdAsc().get(0).getId();
+            memberPurgePipeline.purge(jobId);
+            em.flush();
+
+            // then
+            Assertions.assertAll(
+                    () -> assertThat(hiddenVoteIds).containsExactly(leavingVote.getId()),
+                    () -> assertThat(count("member")).isEqualTo(1),
+                    () -> assertThat(count("member_purge_job")).isZero(),
+                    () -> assertThat(count("member_blocked")).isZero(),
+                    () -> assertThat(count("vote")).isEqualTo(1),
+                    () -> assertThat(count("vote_evaluation")).isEqualTo(1),
+                    () -> assertThat(count("vote_bookmark")).isZero(),
+                    () -> assertThat(count("vote_report")).isZero(),
+                    () -> assertThat(count("comment")).isEqualTo(2),
+                    () -> assertThat(count("comment_like")).isEqualTo(1),
+                    () -> assertThat(count("comment_report")).isZero(),
+                    () -> assertThat(jdbcTemplate.queryForMap("select comment_count, evaluation_count, like_count, dislike_count from vote where id = ?", otherVote.getId()))
+                            .containsEntry("COMMENT_COUNT", 1)
+                            .containsEntry("EVALUATION_COUNT", 1)
+                            .containsEntry("LIKE_COUNT", 0)
+                            .containsEntry("DISLIKE_COUNT", 1),
+                    () -> assertThat(jdbcTemplate.queryForMap("select reply_count, like_count from comment where id = ?", otherComment.getId()))
+                            .containsEntry("REPLY_COUNT", 1)
+                            .containsEntry("LIKE_COUNT", 1)
+            );
+        }
+    }
+
+    private int count(final String table) {
+        return jdbcTemplate.queryForObject("select count(*) from " + table, Integer.class);
+    }
+}
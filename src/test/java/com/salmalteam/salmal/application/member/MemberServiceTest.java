@@ -7,6 +7,7 @@ import com.salmalteam.salmal.dto.request.auth.SignUpRequest;
 import com.salmalteam.salmal.dto.request.member.MemberImageUpdateRequest;
 import com.salmalteam.salmal.dto.request.member.MyPageUpdateRequest;
 import com.salmalteam.salmal.dto.request.member.block.MemberBlockedPageRequest;
+import com.salmalteam.salmal.dto.response.member.MyPageResponse;
 import com.salmalteam.salmal.exception.member.MemberException;
 import com.salmalteam.salmal.exception.member.MemberExceptionType;
 import com.salmalteam.salmal.exception.member.block.MemberBlockedException;
@@ -22,13 +23,16 @@ import org.springframework.mock.web.MockMultipartFile;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.lang.reflect.Field;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.anyOf;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -41,6 +45,8 @@ class MemberServiceTest {
     MemberRepository memberRepository;
     @Mock
     MemberBlockedRepository memberBlockedRepository;
+    @Mock
+    BlockedMemberCache blockedMemberCache;
 
     @Nested
     class 회원_저장_테스트{
@@ -93,12 +99,47 @@ class MemberServiceTest {
         void 마이페이지를_조회할_회원이_존재하지_않으면_예외가_발생한다(){
             // given
             final Long memberId = 1L;
-            given(memberRepository.existsById(eq(memberId))).willReturn(false);
+            given(memberRepository.searchMyPage(eq(memberId))).willReturn(null);
 
             // when & then
-            assertThatThrownBy(() -> memberService.findMyPage(memberId))
+            assertThatThrownBy(() -> memberService.findMyPage(MemberPayLoad.from(2L), memberId))
                     .isInstanceOf(MemberException.class);
         }
+
+        @Test
+        void 조회하는_회원이_마이페이지_주인을_차단했다면_차단_여부가_참이다(){
+            // given
+            final Long viewerId = 1L;
+            final Long memberId = 2L;
+            given(memberRepository.searchMyPage(eq(memberId))).willReturn(myPage(memberId));
+            given(blockedMemberCache.get(eq(viewerId))).willReturn(BlockedMemberIds.of(List.of(memberId)));
+
+            // when
+            final MyPageResponse myPageResponse = memberService.findMyPage(MemberPayLoad.from(viewerId), memberId);
+
+            // then
+            assertThat(myPageResponse.isBlocked()).isTrue();
+        }
+
+        @Test
+        void 마이페이지_주인만_조회하는_회원을_차단했다면_차단_여부가_거짓이다(){
+            // given
+            final Long viewerId = 1L;
+            final Long memberId = 2L;
+            given(memberRepository.searchMyPage(eq(memberId))).willReturn(myPage(memberId));
+            given(blockedMemberCache.get(eq(viewerId))).willReturn(BlockedMemberIds.empty());
+
+            // when
+            final MyPageResponse myPageResponse = memberService.findMyPage(MemberPayLoad.from(viewerId), memberId);
+
+            // then
+            assertThat(myPageResponse.isBlocked()).isFalse();
+            verify(blockedMemberCache, never()).get(eq(memberId));
+        }
+
+        private MyPageResponse myPage(final Long memberId) {
+            return new MyPageResponse(memberId, "imageUrl", "닉네임", "소개", 0, 0, 0, 0, 0, 0);
+        }
     }
 
     @Nested
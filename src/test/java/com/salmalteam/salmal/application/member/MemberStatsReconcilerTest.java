@@ -0,0 +1,78 @@
+package com.salmalteam.salmal.application.member;
+
+import com.salmalteam.salmal.domain.lock.JobLockRepository;
+import com.salmalteam.salmal.domain.member.stats.MemberStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MemberStatsReconcilerTest {
+
+    @Mock
+    MemberStatsRepository memberStatsRepository;
+    @Mock
+    JobLockRepository jobLockRepository;
+
+    MemberStatsReconciler memberStatsReconciler;
+
+    @BeforeEach
+    void setUp() {
+        memberStatsReconciler = new MemberStatsReconciler(memberStatsRepository, jobLockRepository, 2, 60_000);
+    }
+
+    @Test
+    void 다른_서버가_보정_중이면_보정하지_않는다() {
+        // given
+        given(jobLockRepository.acquire(eq(MemberStatsReconciler.LOCK_NAME), any())).willReturn(false);
+
+        // when
+        memberStatsReconciler.reconcile();
+
+        // then
+        verify(memberStatsRepository, never()).reconcile(anyLong(), anyLong());
+        verify(jobLockRepository, never()).release(any());
+    }
+
+    @Test
+    void 범위마다_잠금을_연장하면서_보정하고_끝나면_잠금을_해제한다() {
+        // given
+        given(jobLockRepository.acquire(eq(MemberStatsReconciler.LOCK_NAME), any())).willReturn(true);
+        given(memberStatsRepository.findMemberIds(eq(0L), anyInt())).willReturn(List.of(1L, 2L));
+        given(memberStatsRepository.findMemberIds(eq(2L), anyInt())).willReturn(List.of(3L));
+
+        // when
+        memberStatsReconciler.reconcile();
+
+        // then
+        verify(memberStatsRepository).reconcile(0L, 2L);
+        verify(memberStatsRepository).reconcile(2L, Long.MAX_VALUE);
+        verify(jobLockRepository).release(MemberStatsReconciler.LOCK_NAME);
+    }
+
+    @Test
+    void 보정_중에_잠금을_빼앗기면_멈춘다() {
+        // given
+        given(jobLockRepository.acquire(eq(MemberStatsReconciler.LOCK_NAME), any())).willReturn(true, true, false);
+        given(memberStatsRepository.findMemberIds(eq(0L), anyInt())).willReturn(List.of(1L, 2L));
+
+        // when
+        memberStatsReconciler.reconcile();
+
+        // then
+        verify(memberStatsRepository).reconcile(0L, 2L);
+        verify(memberStatsRepository, never()).reconcile(2L, Long.MAX_VALUE);
+    }
+}
@@ -0,0 +1,106 @@
+package com.salmalteam.salmal.application.vote;
+
+import com.salmalteam.salmal.domain.vote.VoteRepository;
+import com.salmalteam.salmal.domain.vote.evaluation.MemberVoteEvaluation;
+import com.salmalteam.salmal.domain.vote.evaluation.VoteEvaluationRepository;
+import com.salmalteam.salmal.domain.vote.evaluation.VoteEvaluationType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class HomeFeedIndexTest {
+
+    private static final List<Long> VOTE_IDS = LongStream.rangeClosed(1, 30).boxed().collect(Collectors.toList());
+
+    @Mock
+    VoteRepository voteRepository;
+    @Mock
+    VoteEvaluationRepository voteEvaluationRepository;
+
+    HomeFeedIndex homeFeedIndex;
+
+    @BeforeEach
+    void setUp() {
+        homeFeedIndex = new HomeFeedIndex(voteRepository, voteEvaluationRepository, new SeenVoteFilter(100, 60_000), 1L);
+        given(voteRepository.findAllVisibleIds()).willReturn(VOTE_IDS);
+        lenient().when(voteEvaluationRepository.findAllByEvaluatorIdAndVoteIdIn(anyLong(), any())).thenReturn(List.of());
+    }
+
+    @Nested
+    class 홈_피드_조회_테스트 {
+
+        @Test
+        void 커서를_이어서_조회하면_모든_투표를_한_번씩_조회한다() {
+            // given
+            final List<Long> served = new ArrayList<>();
+            Long cursorId = null;
+
+            // when
+            while (true) {
+                final List<Long> voteIds = homeFeedIndex.searchVoteIds(1L, cursorId, 8);
+                final List<Long> page = voteIds.subList(0, Math.min(8, voteIds.size()));
+                served.addAll(page);
+                if (voteIds.size() <= 8) {
+                    break;
+                }
+                cursorId = page.get(page.size() - 1);
+            }
+
+            // then
+            assertThat(served).containsExactlyInAnyOrderElementsOf(VOTE_IDS);
+        }
+
+        @Test
+        void 회원마다_다른_순서로_조회한다() {
+            // when
+            final List<Long> first = homeFeedIndex.searchVoteIds(1L, null, 8);
+            final List<Long> second = homeFeedIndex.searchVoteIds(2L, null, 8);
+
+            // then
+            assertThat(first).isNotEqualTo(second);
+        }
+
+        @Test
+        void 이미_조회한_투표는_다시_조회하지_않는다() {
+            // given
+            final List<Long> firstPage = homeFeedIndex.searchVoteIds(1L, null, 8).subList(0, 8);
+
+            // when
+            final List<Long> refreshed = homeFeedIndex.searchVoteIds(1L, null, 8);
+
+            // then
+            assertThat(refreshed).doesNotContainAnyElementsOf(firstPage);
+        }
+
+        @Test
+        void 평가한_투표는_조회하지_않는다() {
+            // given
+            final List<Long> expected = homeFeedIndex.searchVoteIds(3L, null, 29);
+            final Long evaluatedVoteId = expected.get(0);
+            homeFeedIndex = new HomeFeedIndex(voteRepository, voteEvaluationRepository, new SeenVoteFilter(100, 60_000), 1L);
+            given(voteEvaluationRepository.findAllByEvaluatorIdAndVoteIdIn(anyLong(), any()))
+                    .willReturn(List.of(new MemberVoteEvaluation(evaluatedVoteId, VoteEvaluationType.LIKE)));
+
+            // when
+            final List<Long> voteIds = homeFeedIndex.searchVoteIds(3L, null, 29);
+
+            // then
+            assertThat(voteIds).hasSize(29).doesNotContain(evaluatedVoteId);
+        }
+    }
+}
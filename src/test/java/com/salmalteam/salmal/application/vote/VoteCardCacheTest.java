@@ -0,0 +1,187 @@
+package com.salmalteam.salmal.application.vote;
+
+import com.salmalteam.salmal.application.member.MemberProfileUpdateEvent;
+import com.salmalteam.salmal.domain.vote.VoteAuthor;
+import com.salmalteam.salmal.domain.vote.VoteCounter;
+import com.salmalteam.salmal.domain.vote.VoteRepository;
+import com.salmalteam.salmal.dto.response.vote.VoteResponse;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class VoteCardCacheTest {
+
+    @Mock
+    VoteRepository voteRepository;
+
+    VoteCardCache voteCardCache;
+
+    @BeforeEach
+    void setUp() {
+        voteCardCache = new VoteCardCache(voteRepository, Optional.empty(), 100, 60_000, 60_000, 1_000);
+        given(voteRepository.searchListByIds(eq(List.of(1L, 2L)))).willReturn(List.of(
+                createVoteResponse(1L, 10L, "닉네임A"),
+                createVoteResponse(2L, 20L, "닉네임B")
+        ));
+    }
+
+    @Nested
+    class 캐시_조회_테스트 {
+
+        @Test
+        void 캐시에_있는_투표는_다시_조회하지_않는다() {
+            // given
+            voteCardCache.getVoteResponses(List.of(1L, 2L));
+
+            // when
+            final List<VoteResponse> voteResponses = voteCardCache.getVoteResponses(List.of(2L, 1L));
+
+            // then
+            verify(voteRepository, times(1)).searchListByIds(eq(List.of(1L, 2L)));
+            Assertions.assertAll(
+                    () -> assertThat(voteResponses).extracting(VoteResponse::getId).containsExactly(2L, 1L),
+                    () -> assertThat(voteResponses.get(0).getNickName()).isEqualTo("닉네임B")
+            );
+        }
+    }
+
+    @Nested
+    class 동시_조회_테스트 {
+
+        @Test
+        void 같은_투표를_동시에_조회하면_DB_조회는_한_번만_실행한다() throws Exception {
+            // given
+            final int requestCount = 8;
+            final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            final CountDownLatch release = new CountDownLatch(1);
+            voteCardCache.bindTo(registry);
+            voteCardCache.getVoteResponses(List.of(1L, 2L));
+            voteCardCache.handleVoteCounterChangeEvent(VoteCounterChangeEvent.of(1L));
+            given(voteRepository.searchVoteCounters(eq(List.of(1L)))).willAnswer(invocation -> {
+                release.await(5, TimeUnit.SECONDS);
+                return List.of(new VoteCounter(1L, 5, 0, 0, 0, BigDecimal.ZERO, BigDecimal.ZERO));
+            });
+            final ExecutorService executorService = Executors.newFixedThreadPool(requestCount);
+
+            // when
+            final List<Future<List<VoteResponse>>> futures = new ArrayList<>();
+            for (int i = 0; i < requestCount; i++) {
+                futures.add(executorService.submit(() -> voteCardCache.getVoteResponses(List.of(1L, 2L))));
+            }
+            final FunctionCounter joins = registry.get("vote.card.cache.loads")
+                    .tags("cache", "counter", "result", "join")
+                    .functionCounter();
+            final long deadline = System.currentTimeMillis() + 5_000;
+            while (joins.count() < requestCount - 1 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+            final List<List<VoteResponse>> results = new ArrayList<>();
+            for (Future<List<VoteResponse>> future : futures) {
+                results.add(future.get(5, TimeUnit.SECONDS));
+            }
+            executorService.shutdown();
+
+            // then
+            verify(voteRepository, times(1)).searchVoteCounters(eq(List.of(1L)));
+            assertThat(results).allSatisfy(voteResponses ->
+                    assertThat(voteResponses.get(0).getCommentCount()).isEqualTo(5));
+        }
+
+        @Test
+        void 조회_중에_통계가_변경되면_조회한_통계를_캐시에_저장하지_않는다() throws Exception {
+            // given
+            final CountDownLatch loading = new CountDownLatch(1);
+            final CountDownLatch evicted = new CountDownLatch(1);
+            voteCardCache.getVoteResponses(List.of(1L, 2L));
+            voteCardCache.handleVoteCounterChangeEvent(VoteCounterChangeEvent.of(1L));
+            given(voteRepository.searchVoteCounters(eq(List.of(1L))))
+                    .willAnswer(invocation -> {
+                        loading.countDown();
+                        evicted.await(5, TimeUnit.SECONDS);
+                        return List.of(new VoteCounter(1L, 5, 0, 0, 0, BigDecimal.ZERO, BigDecimal.ZERO));
+                    })
+                    .willReturn(List.of(new VoteCounter(1L, 7, 0, 0, 0, BigDecimal.ZERO, BigDecimal.ZERO)));
+            final ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+            // when
+            final Future<List<VoteResponse>> staleLoad = executorService.submit(() -> voteCardCache.getVoteResponses(List.of(1L, 2L)));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            voteCardCache.handleVoteCounterChangeEvent(VoteCounterChangeEvent.of(1L));
+            evicted.countDown();
+            staleLoad.get(5, TimeUnit.SECONDS);
+            executorService.shutdown();
+            final List<VoteResponse> voteResponses = voteCardCache.getVoteResponses(List.of(1L, 2L));
+
+            // then
+            verify(voteRepository, times(2)).searchVoteCounters(eq(List.of(1L)));
+            assertThat(voteResponses.get(0).getCommentCount()).isEqualTo(7);
+        }
+    }
+
+    @Nested
+    class 캐시_무효화_테스트 {
+
+        @Test
+        void 통계가_변경되면_통계만_다시_조회한다() {
+            // given
+            voteCardCache.getVoteResponses(List.of(1L, 2L));
+            given(voteRepository.searchVoteCounters(eq(List.of(1L))))
+                    .willReturn(List.of(new VoteCounter(1L, 5, 0, 0, 0, BigDecimal.ZERO, BigDecimal.ZERO)));
+
+            // when
+            voteCardCache.handleVoteCounterChangeEvent(VoteCounterChangeEvent.of(1L));
+            final List<VoteResponse> voteResponses = voteCardCache.getVoteResponses(List.of(1L, 2L));
+
+            // then
+            verify(voteRepository, times(1)).searchListByIds(eq(List.of(1L, 2L)));
+            assertThat(voteResponses.get(0).getCommentCount()).isEqualTo(5);
+        }
+
+        @Test
+        void 회원_정보가_변경되면_작성자_정보만_다시_조회한다() {
+            // given
+            voteCardCache.getVoteResponses(List.of(1L, 2L));
+            given(voteRepository.searchVoteAuthors(eq(List.of(10L))))
+                    .willReturn(List.of(new VoteAuthor(10L, "변경된닉네임", "memberImageUrl")));
+
+            // when
+            voteCardCache.handleMemberProfileUpdateEvent(MemberProfileUpdateEvent.of(10L));
+            final List<VoteResponse> voteResponses = voteCardCache.getVoteResponses(List.of(1L, 2L));
+
+            // then
+            verify(voteRepository, never()).searchVoteCounters(eq(List.of(1L)));
+            assertThat(voteResponses.get(0).getNickName()).isEqualTo("변경된닉네임");
+        }
+    }
+
+    private VoteResponse createVoteResponse(final Long voteId, final Long memberId, final String nickName) {
+        return new VoteResponse(voteId, memberId, "imageUrl", nickName, "memberImageUrl",
+                0, 0, 0, 0, BigDecimal.ZERO, BigDecimal.ZERO, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,175 @@
+package com.salmalteam.salmal.application.vote;
+
+import com.salmalteam.salmal.domain.vote.VoteEvaluationCountDelta;
+import com.salmalteam.salmal.domain.vote.VoteStatisticsRepository;
+import com.salmalteam.salmal.domain.vote.evaluation.VoteEvaluationType;
+import com.salmalteam.salmal.dto.response.vote.VoteResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class VoteEvaluationCountAggregatorTest {
+
+    @Mock
+    VoteStatisticsRepository voteStatisticsRepository;
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+    @Captor
+    ArgumentCaptor<List<VoteEvaluationCountDelta>> deltasCaptor;
+
+    VoteEvaluationCountAggregator voteEvaluationCountAggregator;
+
+    @BeforeEach
+    void setUp() {
+        voteEvaluationCountAggregator = new VoteEvaluationCountAggregator(voteStatisticsRepository, eventPublisher);
+    }
+
+    @Nested
+    class 통계_반영_테스트 {
+
+        @Test
+        void 투표별로_누적된_증감량을_한번에_반영한다() {
+            // given
+            voteEvaluationCountAggregator.increase(1L, VoteEvaluationType.LIKE);
+            voteEvaluationCountAggregator.increase(1L, VoteEvaluationType.LIKE);
+            voteEvaluationCountAggregator.increase(1L, VoteEvaluationType.DISLIKE);
+            voteEvaluationCountAggregator.decrease(2L, VoteEvaluationType.DISLIKE);
+
+            // when
+            voteEvaluationCountAggregator.flush();
+
+            // then
+            final List<VoteEvaluationCountDelta> deltas = captureFlushedDeltas();
+            final VoteEvaluationCountDelta deltaA = findDelta(deltas, 1L);
+            final VoteEvaluationCountDelta deltaB = findDelta(deltas, 2L);
+            Assertions.assertAll(
+                    () -> assertThat(deltas).hasSize(2),
+                    () -> assertThat(deltaA.getLikeDelta()).isEqualTo(2),
+                    () -> assertThat(deltaA.getDislikeDelta()).isEqualTo(1),
+                    () -> assertThat(deltaB.getEvaluationDelta()).isEqualTo(-1)
+            );
+        }
+
+        @Test
+        void 서로_상쇄된_증감량은_반영하지_않는다() {
+            // given
+            voteEvaluationCountAggregator.increase(1L, VoteEvaluationType.LIKE);
+            voteEvaluationCountAggregator.decrease(1L, VoteEvaluationType.LIKE);
+
+            // when
+            voteEvaluationCountAggregator.flush();
+
+            // then
+            verify(voteStatisticsRepository, never()).updateEvaluationStatistics(anyList());
+        }
+
+        @Test
+        void 반영에_실패하면_다음_주기에_다시_반영한다() {
+            // given
+            voteEvaluationCountAggregator.increase(1L, VoteEvaluationType.LIKE);
+            willThrow(new IllegalStateException()).willDoNothing()
+                    .given(voteStatisticsRepository).updateEvaluationStatistics(anyList());
+            voteEvaluationCountAggregator.flush();
+
+            // when
+            voteEvaluationCountAggregator.flush();
+
+            // then
+            verify(voteStatisticsRepository, times(2)).updateEvaluationStatistics(deltasCaptor.capture());
+            assertThat(deltasCaptor.getValue().get(0).getLikeDelta()).isEqualTo(1);
+        }
+
+        @Test
+        void 동시에_누적된_증감량을_유실하지_않는다() throws InterruptedException {
+            // given
+            final int threadCount = 8;
+            final int countPerThread = 1000;
+            final ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+            final CountDownLatch latch = new CountDownLatch(threadCount);
+
+            // when
+            for (int i = 0; i < threadCount; i++) {
+                executorService.submit(() -> {
+                    for (int j = 0; j < countPerThread; j++) {
+                        voteEvaluationCountAggregator.increase(1L, VoteEvaluationType.LIKE);
+                        if (j % 100 == 0) {
+                            voteEvaluationCountAggregator.flush();
+                        }
+                    }
+                    latch.countDown();
+                });
+            }
+            latch.await(10, TimeUnit.SECONDS);
+            executorService.shutdown();
+            voteEvaluationCountAggregator.flush();
+
+            // then
+            verify(voteStatisticsRepository, atLeastOnce()).updateEvaluationStatistics(deltasCaptor.capture());
+            final int total = deltasCaptor.getAllValues().stream()
+                    .flatMap(List::stream)
+                    .mapToInt(VoteEvaluationCountDelta::getLikeDelta)
+                    .sum();
+            assertThat(total).isEqualTo(threadCount * countPerThread);
+        }
+    }
+
+    @Nested
+    class 조회_병합_테스트 {
+
+        @Test
+        void 반영되지_않은_증감량을_조회_결과에_합친다() {
+            // given
+            final VoteResponse voteResponse = new VoteResponse(1L, 1L, "imageUrl", "닉네임", "memberImageUrl",
+                    0, 1, 0, 1, BigDecimal.ONE, BigDecimal.ZERO, LocalDateTime.now(), false, null);
+            voteEvaluationCountAggregator.increase(1L, VoteEvaluationType.DISLIKE);
+            voteEvaluationCountAggregator.increase(1L, VoteEvaluationType.DISLIKE);
+
+            // when
+            final VoteResponse mergedVoteResponse = voteEvaluationCountAggregator.merge(voteResponse);
+
+            // then
+            Assertions.assertAll(
+                    () -> assertThat(mergedVoteResponse.getTotalEvaluationCnt()).isEqualTo(3),
+                    () -> assertThat(mergedVoteResponse.getDisLikeCount()).isEqualTo(2),
+                    () -> assertThat(mergedVoteResponse.getLikeRatio()).isEqualByComparingTo(BigDecimal.valueOf(0.33)),
+                    () -> assertThat(mergedVoteResponse.getDisLikeRatio()).isEqualByComparingTo(BigDecimal.valueOf(0.67))
+            );
+        }
+    }
+
+    private List<VoteEvaluationCountDelta> captureFlushedDeltas() {
+        verify(voteStatisticsRepository, times(1)).updateEvaluationStatistics(deltasCaptor.capture());
+        return deltasCaptor.getValue();
+    }
+
+    private VoteEvaluationCountDelta findDelta(final List<VoteEvaluationCountDelta> deltas, final Long voteId) {
+        return deltas.stream()
+                .filter(delta -> delta.getVoteId().equals(voteId))
+                .findFirst()
+                .orElseThrow();
+    }
+}
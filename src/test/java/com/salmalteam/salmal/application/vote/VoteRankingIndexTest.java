@@ -0,0 +1,170 @@
+package com.salmalteam.salmal.application.vote;
+
+import com.salmalteam.salmal.domain.vote.VoteLikeCount;
+import com.salmalteam.salmal.domain.vote.VoteRepository;
+import com.salmalteam.salmal.domain.vote.VoteStatisticsRepository;
+import com.salmalteam.salmal.domain.vote.evaluation.VoteEvaluationType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.spy;
+
+@ExtendWith(MockitoExtension.class)
+class VoteRankingIndexTest {
+
+    @Mock
+    VoteRepository voteRepository;
+    @Mock
+    VoteEvaluationCountAggregator voteEvaluationCountAggregator;
+    @Mock
+    VoteStatisticsRepository voteStatisticsRepository;
+
+    VoteRankingIndex voteRankingIndex;
+
+    @BeforeEach
+    void setUp() {
+        voteRankingIndex = new VoteRankingIndex(voteRepository, voteEvaluationCountAggregator);
+        given(voteRepository.findAllLikeCounts()).willReturn(List.of(
+                new VoteLikeCount(1L, 3),
+                new VoteLikeCount(2L, 5),
+                new VoteLikeCount(3L, 3),
+                new VoteLikeCount(4L, 0)
+        ));
+        // 실제 VoteEvaluationCountAggregator 로 재적재하는 테스트에서는 사용하지 않는다.
+        lenient().when(voteEvaluationCountAggregator.withFlushPaused(any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+        lenient().when(voteEvaluationCountAggregator.getPendingLikeCounts()).thenReturn(PendingLikeCounts.of(Map.of(4L, 1), Map.of(4L, 1L)));
+    }
+
+    @Nested
+    class 랭킹_조회_테스트 {
+
+        @Test
+        void 좋아요_수_내림차순_투표_ID_내림차순으로_조회한다() {
+            // when
+            final List<Long> voteIds = voteRankingIndex.searchVoteIds(null, null, 3);
+
+            // then
+            assertThat(voteIds).containsExactly(2L, 3L, 1L, 4L);
+        }
+
+        @Test
+        void 걸러진_투표를_제외하고_부족한_만큼_더_조회한다() {
+            // when
+            final List<Long> voteIds = voteRankingIndex.searchVoteIds(null, null, 0,
+                    candidates -> candidates.stream().filter(voteId -> voteId != 2L).collect(Collectors.toList()));
+
+            // then
+            assertThat(voteIds).containsExactly(3L);
+        }
+
+        @Test
+        void 커서_이후의_투표만_조회한다() {
+            // when
+            final List<Long> voteIds = voteRankingIndex.searchVoteIds(3L, 3, 8);
+
+            // then
+            assertThat(voteIds).containsExactly(1L, 4L);
+        }
+    }
+
+    @Nested
+    class 랭킹_갱신_테스트 {
+
+        @Test
+        void 좋아요_수가_변경되면_순위가_갱신된다() {
+            // given
+            voteRankingIndex.searchVoteIds(null, null, 8);
+
+            // when
+            voteRankingIndex.handleVoteEvaluationCountChangeEvent(VoteEvaluationCountChangeEvent.of(4L, VoteEvaluationType.LIKE, 5, 2L));
+            voteRankingIndex.handleVoteEvaluationCountChangeEvent(VoteEvaluationCountChangeEvent.of(2L, VoteEvaluationType.DISLIKE, 1, 3L));
+
+            // then
+            assertThat(voteRankingIndex.searchVoteIds(null, null, 8)).containsExactly(4L, 2L, 3L, 1L);
+        }
+
+        @Test
+        void 등록되거나_삭제된_투표가_반영된다() {
+            // given
+            voteRankingIndex.searchVoteIds(null, null, 8);
+
+            // when
+            voteRankingIndex.handleVoteRegisterEvent(VoteRegisterEvent.of(5L));
+            voteRankingIndex.handleVoteDeleteEvent(VoteDeleteEvent.of(2L));
+
+            // then
+            assertThat(voteRankingIndex.searchVoteIds(null, null, 8)).containsExactly(3L, 1L, 4L, 5L);
+        }
+
+        @Test
+        void 재적재하는_동안_들어온_변경은_적재한_값에_포함되지_않은_것만_새_랭킹에_반영한다() {
+            // given
+            voteRankingIndex.searchVoteIds(null, null, 8);
+            given(voteRepository.findAllLikeCounts()).willAnswer(invocation -> {
+                // 4번 투표의 1번 변경은 적재한 값에 포함되어 있고, 1번 투표의 변경과 등록/삭제는 포함되어 있지 않다.
+                voteRankingIndex.handleVoteEvaluationCountChangeEvent(VoteEvaluationCountChangeEvent.of(4L, VoteEvaluationType.LIKE, 1, 1L));
+                voteRankingIndex.handleVoteEvaluationCountChangeEvent(VoteEvaluationCountChangeEvent.of(1L, VoteEvaluationType.LIKE, 3, 2L));
+                voteRankingIndex.handleVoteRegisterEvent(VoteRegisterEvent.of(5L));
+                voteRankingIndex.handleVoteDeleteEvent(VoteDeleteEvent.of(3L));
+                return List.of(
+                        new VoteLikeCount(1L, 3),
+                        new VoteLikeCount(2L, 5),
+                        new VoteLikeCount(3L, 3),
+                        new VoteLikeCount(4L, 0)
+                );
+            });
+
+            // when
+            voteRankingIndex.rebuild();
+
+            // then
+            assertThat(voteRankingIndex.searchVoteIds(null, null, 8)).containsExactly(1L, 2L, 4L, 5L);
+        }
+
+        @Test
+        void 재적재를_시작한_뒤_DB_에_반영된_변경은_다시_반영하지_않는다() {
+            // given
+            final VoteRankingIndex[] index = new VoteRankingIndex[1];
+            final VoteEvaluationCountAggregator aggregator = spy(new VoteEvaluationCountAggregator(voteStatisticsRepository, event -> {
+                if (event instanceof VoteEvaluationCountChangeEvent) {
+                    index[0].handleVoteEvaluationCountChangeEvent((VoteEvaluationCountChangeEvent) event);
+                }
+            }));
+            index[0] = new VoteRankingIndex(voteRepository, aggregator);
+            index[0].searchVoteIds(null, null, 8);
+
+            // 재적재를 시작한 뒤 반영을 멈추기 전에 4번 투표의 좋아요가 기록되고 DB 에 반영된다.
+            doAnswer(invocation -> {
+                aggregator.increase(4L, VoteEvaluationType.LIKE);
+                aggregator.flush();
+                return invocation.callRealMethod();
+            }).when(aggregator).withFlushPaused(any());
+            given(voteRepository.findAllLikeCounts()).willReturn(List.of(
+                    new VoteLikeCount(1L, 3),
+                    new VoteLikeCount(2L, 5),
+                    new VoteLikeCount(3L, 3),
+                    new VoteLikeCount(4L, 4)
+            ));
+
+            // when
+            index[0].rebuild();
+
+            // then
+            assertThat(index[0].searchVoteIds(null, null, 8)).containsExactly(2L, 4L, 3L, 1L);
+        }
+    }
+}
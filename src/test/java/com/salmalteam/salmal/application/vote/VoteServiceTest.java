@@ -1,37 +1,58 @@
 package com.salmalteam.salmal.application.vote;
 
-import com.salmalteam.salmal.application.ImageUploader;
+import com.salmalteam.salmal.application.ImageUploadPipeline;
+import com.salmalteam.salmal.application.member.BlockedMemberCache;
+import com.salmalteam.salmal.application.member.BlockedMemberIds;
 import com.salmalteam.salmal.application.member.MemberService;
 import com.salmalteam.salmal.domain.member.Member;
+import com.salmalteam.salmal.domain.member.activity.MemberActivityRepository;
+import com.salmalteam.salmal.domain.member.activity.MemberActivityType;
+import com.salmalteam.salmal.domain.member.stats.MemberStatsRepository;
 import com.salmalteam.salmal.domain.vote.Vote;
 import com.salmalteam.salmal.domain.vote.VoteRepository;
 import com.salmalteam.salmal.domain.vote.bookmark.VoteBookMarkRepository;
+import com.salmalteam.salmal.domain.vote.evaluation.MemberVoteEvaluation;
 import com.salmalteam.salmal.domain.vote.evaluation.VoteEvaluationRepository;
 import com.salmalteam.salmal.domain.vote.evaluation.VoteEvaluationType;
+import com.salmalteam.salmal.domain.vote.evaluation.VoteEvaluationWriteRepository;
 import com.salmalteam.salmal.domain.vote.report.VoteReportRepository;
+import com.salmalteam.salmal.dto.request.comment.CommentPageRequest;
 import com.salmalteam.salmal.dto.request.vote.VoteCommentCreateRequest;
 import com.salmalteam.salmal.dto.request.vote.VoteCreateRequest;
+import com.salmalteam.salmal.dto.request.vote.VotePageRequest;
+import com.salmalteam.salmal.dto.response.vote.VotePageResponse;
+import com.salmalteam.salmal.dto.response.vote.VoteResponse;
 import com.salmalteam.salmal.exception.member.MemberException;
 import com.salmalteam.salmal.exception.member.MemberExceptionType;
 import com.salmalteam.salmal.exception.vote.VoteException;
 import com.salmalteam.salmal.exception.vote.bookmark.VoteBookmarkException;
 import com.salmalteam.salmal.infra.auth.dto.MemberPayLoad;
+import com.salmalteam.salmal.presentation.vote.SearchTypeConstant;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.mock.web.MockMultipartFile;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -44,20 +65,40 @@ class VoteServiceTest {
     MemberService memberService;
     @Mock
     VoteRepository voteRepository;
+    @Mock
+    MemberStatsRepository memberStatsRepository;
+    @Mock
+    MemberActivityRepository memberActivityRepository;
 
     @Mock
     VoteBookMarkRepository voteBookMarkRepository;
     @Mock
     VoteEvaluationRepository voteEvaluationRepository;
     @Mock
+    VoteEvaluationWriteRepository voteEvaluationWriteRepository;
+    @Mock
     VoteReportRepository voteReportRepository;
     @Mock
-    ImageUploader imageUploader;
+    ImageUploadPipeline imageUploadPipeline;
+    @Mock
+    VoteEvaluationCountAggregator voteEvaluationCountAggregator;
+    @Mock
+    VoteRankingIndex voteRankingIndex;
+    @Mock
+    HomeFeedIndex homeFeedIndex;
+    @Mock
+    BlockedMemberCache blockedMemberCache;
+    @Mock
+    VoteCardCache voteCardCache;
+    @Mock
+    VoteViewCountBuffer voteViewCountBuffer;
+    @Mock
+    ApplicationEventPublisher eventPublisher;
 
     @Nested
     class 투표_업로드_테스트 {
         @Test
-        void 이미지_업로더를_통해_업로드후_요청에_해당하는_회원을_찾은_뒤_저장한다() throws IOException {
+        void 요청에_해당하는_회원을_찾아_업로드_대기_상태로_저장한_뒤_이미지_업로드를_요청한다() throws IOException {
             // given
             final Long memberId = 1L;
             final String name = "imageFile";
@@ -73,9 +114,9 @@ class VoteServiceTest {
             voteService.register(memberPayLoad, voteCreateRequest);
 
             // then
-            verify(imageUploader, times(1)).uploadImage(any());
             verify(memberService, times(1)).findMemberById(any());
             verify(voteRepository, times(1)).save(any());
+            verify(imageUploadPipeline, times(1)).uploadAfterCommit(any(), any(), any());
         }
     }
 
@@ -90,7 +131,6 @@ class VoteServiceTest {
             final Long voteId = 1L;
             final String voteEvaluationTypeStr = "LIKE";
             final VoteEvaluationType voteEvaluationType = VoteEvaluationType.from(voteEvaluationTypeStr);
-            given(memberService.findMemberById(eq(memberId))).willReturn(Member.of("LLLLLLL", "닉네임", "KAKAO", true));
             given(voteRepository.findById(eq(voteId))).willReturn(Optional.empty());
 
             // when & then
@@ -107,14 +147,48 @@ class VoteServiceTest {
             final String voteEvaluationTypeStr = "LIKE";
             final VoteEvaluationType voteEvaluationType = VoteEvaluationType.from(voteEvaluationTypeStr);
 
-            given(memberService.findMemberById(eq(memberId))).willReturn(Member.of("LLLLLLL", "닉네임", "KAKAO", true));
-            given(voteRepository.findById(eq(voteId))).willReturn(Optional.ofNullable(Vote.of("imageUrl", Member.of("LLLLLLL", "닉네임", "KAKAO", true))));
-            given(voteEvaluationRepository.existsByEvaluatorAndVoteAndVoteEvaluationType(any(), any(), any())).willReturn(true);
+            given(voteEvaluationWriteRepository.insert(eq(memberId), eq(voteId), eq(voteEvaluationType)))
+                    .willThrow(new DuplicateKeyException("uk_vote_evaluation_evaluator_vote"));
 
             // when & then
             assertThatThrownBy(() -> voteService.evaluate(memberPayLoad, voteId, voteEvaluationType))
                     .isInstanceOf(VoteException.class);
         }
+
+        @Test
+        void 기존_평가가_있다면_기존_평가_타입의_통계를_감소시키고_새로운_평가_타입의_통계를_증가시킨다() {
+            // given
+            final Long memberId = 1L;
+            final MemberPayLoad memberPayLoad = MemberPayLoad.from(memberId);
+            final Long voteId = 1L;
+            given(voteEvaluationWriteRepository.changeType(eq(memberId), eq(voteId), eq(VoteEvaluationType.LIKE))).willReturn(true);
+
+            // when
+            voteService.evaluate(memberPayLoad, voteId, VoteEvaluationType.LIKE);
+
+            // then
+            verify(voteEvaluationCountAggregator, times(1)).change(eq(voteId), eq(VoteEvaluationType.DISLIKE), eq(VoteEvaluationType.LIKE));
+            verify(voteEvaluationWriteRepository, never()).insert(any(), any(), any());
+        }
+
+        @Test
+        void 동시에_들어온_다른_타입의_첫_평가에_밀리면_타입을_바꾼다() {
+            // given
+            final Long memberId = 1L;
+            final MemberPayLoad memberPayLoad = MemberPayLoad.from(memberId);
+            final Long voteId = 1L;
+            given(voteEvaluationWriteRepository.changeType(eq(memberId), eq(voteId), eq(VoteEvaluationType.LIKE)))
+                    .willReturn(false, true);
+            given(voteEvaluationWriteRepository.insert(eq(memberId), eq(voteId), eq(VoteEvaluationType.LIKE)))
+                    .willThrow(new DuplicateKeyException("uk_vote_evaluation_evaluator_vote"));
+
+            // when
+            voteService.evaluate(memberPayLoad, voteId, VoteEvaluationType.LIKE);
+
+            // then
+            verify(voteEvaluationCountAggregator, times(1)).change(eq(voteId), eq(VoteEvaluationType.DISLIKE), eq(VoteEvaluationType.LIKE));
+            verify(voteEvaluationCountAggregator, never()).increase(any(), any());
+        }
     }
 
     @Nested
@@ -268,12 +342,63 @@ class VoteServiceTest {
             final MemberPayLoad memberPayLoad = MemberPayLoad.from(memberId);
             final Long voteId = 1L;
 
-            given(voteRepository.existsById(eq(voteId))).willReturn(false);
+            given(voteCardCache.getVoteResponses(eq(List.of(voteId)))).willReturn(List.of());
 
             // when & then
             assertThatThrownBy(() -> voteService.search(memberPayLoad, voteId))
                     .isInstanceOf(VoteException.class);
         }
+
+        @Test
+        void 조회한_투표의_조회_수를_버퍼에_기록한다(){
+            // given
+            final Long memberId = 1L;
+            final MemberPayLoad memberPayLoad = MemberPayLoad.from(memberId);
+            final Long voteId = 1L;
+            final VoteResponse voteResponse = new VoteResponse(voteId, 3L, "imageUrl", "닉네임", "memberImageUrl", 0, 0, 0, 0, BigDecimal.ZERO, BigDecimal.ZERO, LocalDateTime.now());
+            given(voteCardCache.getVoteResponses(eq(List.of(voteId)))).willReturn(List.of(voteResponse));
+
+            // when
+            voteService.search(memberPayLoad, voteId);
+
+            // then
+            verify(voteViewCountBuffer).record(voteId, memberId);
+        }
+    }
+
+    @Nested
+    class 투표_목록_조회_테스트{
+        @Test
+        void 공유_투표_목록에_조회한_회원의_북마크와_평가_상태를_합친다(){
+            // given
+            final Long memberId = 1L;
+            final MemberPayLoad memberPayLoad = MemberPayLoad.from(memberId);
+            final VotePageRequest votePageRequest = new VotePageRequest(null, null, 2, "HOME");
+            final List<VoteResponse> sharedVoteResponses = List.of(
+                    new VoteResponse(2L, 3L, "imageUrl", "닉네임", "memberImageUrl", 0, 0, 1, 1, BigDecimal.ZERO, BigDecimal.ONE, LocalDateTime.now()),
+                    new VoteResponse(1L, 3L, "imageUrl", "닉네임", "memberImageUrl", 0, 0, 0, 0, BigDecimal.ZERO, BigDecimal.ZERO, LocalDateTime.now())
+            );
+            given(blockedMemberCache.get(memberId)).willReturn(BlockedMemberIds.empty());
+            given(homeFeedIndex.searchVoteIds(eq(memberId), isNull(), eq(2), any())).willReturn(List.of(2L, 1L, 0L));
+            given(voteCardCache.getVoteResponses(eq(List.of(2L, 1L)))).willReturn(sharedVoteResponses);
+            given(voteBookMarkRepository.findVoteIdsByBookmakerIdAndVoteIdIn(eq(memberId), eq(List.of(2L, 1L)))).willReturn(List.of(1L));
+            given(voteEvaluationRepository.findAllByEvaluatorIdAndVoteIdIn(eq(memberId), eq(List.of(2L, 1L))))
+                    .willReturn(List.of(new MemberVoteEvaluation(2L, VoteEvaluationType.DISLIKE)));
+
+            // when
+            final VotePageResponse votePageResponse = voteService.searchList(memberPayLoad, votePageRequest, SearchTypeConstant.HOME);
+
+            // then
+            final List<VoteResponse> votes = votePageResponse.getVotes();
+            Assertions.assertAll(
+                    () -> assertThat(votePageResponse.isHasNext()).isTrue(),
+                    () -> assertThat(votes.get(0).isBookmarked()).isFalse(),
+                    () -> assertThat(votes.get(0).getStatus()).isEqualTo("DISLIKE"),
+                    () -> assertThat(votes.get(1).isBookmarked()).isTrue(),
+                    () -> assertThat(votes.get(1).getStatus()).isEqualTo("NONE"),
+                    () -> assertThat(sharedVoteResponses.get(1).isBookmarked()).isFalse()
+            );
+        }
     }
 
     @Nested
@@ -287,7 +412,7 @@ class VoteServiceTest {
             given(voteRepository.existsById(any())).willReturn(false);
 
             // when & then 
-            assertThatThrownBy(() -> voteService.search(memberPayLoad, voteId))
+            assertThatThrownBy(() -> voteService.searchComments(voteId, memberPayLoad, CommentPageRequest.of(null, null)))
                     .isInstanceOf(VoteException.class);
         }
     }
@@ -301,11 +426,29 @@ class VoteServiceTest {
             final MemberPayLoad memberPayLoad = MemberPayLoad.from(memberId);
             final Long voteId = 1L;
 
+            given(voteEvaluationWriteRepository.delete(eq(memberId), eq(voteId))).willReturn(Optional.empty());
+
             // when & then
             assertThatThrownBy(() -> voteService.cancelEvaluation(memberPayLoad, voteId))
                     .isInstanceOf(VoteException.class);
 
-            verify(memberService, times(1)).findMemberById(any());
+            verify(voteEvaluationCountAggregator, never()).decrease(any(), any());
+        }
+
+        @Test
+        void 평가를_취소하면_취소_기록을_남긴다(){
+            // given
+            final Long memberId = 1L;
+            final MemberPayLoad memberPayLoad = MemberPayLoad.from(memberId);
+            final Long voteId = 1L;
+
+            given(voteEvaluationWriteRepository.delete(eq(memberId), eq(voteId))).willReturn(Optional.of(VoteEvaluationType.LIKE));
+
+            // when
+            voteService.cancelEvaluation(memberPayLoad, voteId);
+
+            // then
+            verify(memberActivityRepository).record(memberId, voteId, MemberActivityType.EVALUATION_CANCEL);
         }
     }
 
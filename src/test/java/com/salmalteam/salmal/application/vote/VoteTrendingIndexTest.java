@@ -0,0 +1,127 @@
+package com.salmalteam.salmal.application.vote;
+
+import com.salmalteam.salmal.domain.comment.CommentRepository;
+import com.salmalteam.salmal.domain.vote.VoteActivityCount;
+import com.salmalteam.salmal.domain.vote.evaluation.VoteEvaluationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class VoteTrendingIndexTest {
+
+    private static final long HALF_LIFE = 6 * 60 * 60 * 1000L;
+    private static final long LOOKBACK = 48 * 60 * 60 * 1000L;
+
+    @Mock
+    VoteEvaluationRepository voteEvaluationRepository;
+    @Mock
+    CommentRepository commentRepository;
+
+    VoteTrendingIndex voteTrendingIndex;
+    List<Activity> evaluations;
+    List<Activity> comments;
+    LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        voteTrendingIndex = new VoteTrendingIndex(voteEvaluationRepository, commentRepository, HALF_LIFE, LOOKBACK);
+        evaluations = new ArrayList<>();
+        comments = new ArrayList<>();
+        now = LocalDateTime.of(2023, 9, 1, 12, 0);
+        given(voteEvaluationRepository.countByVoteBetween(any(), any()))
+                .willAnswer(invocation -> count(evaluations, invocation.getArgument(0), invocation.getArgument(1)));
+        given(commentRepository.countByVoteBetween(any(), any()))
+                .willAnswer(invocation -> count(comments, invocation.getArgument(0), invocation.getArgument(1)));
+    }
+
+    @Nested
+    class 점수_계산_테스트 {
+
+        @Test
+        void 오래된_활동보다_최근_활동의_점수가_높다() {
+            // given
+            addEvaluations(1L, now.minusHours(30), 20);
+            addEvaluations(2L, now.minusHours(1), 5);
+            addEvaluations(3L, now.minusHours(2), 1);
+            comments.add(new Activity(3L, now.minusHours(2)));
+
+            // when
+            voteTrendingIndex.rescore(now);
+
+            // then
+            assertThat(voteTrendingIndex.searchVoteIds(null, 8, UnaryOperator.identity()))
+                    .containsExactly(2L, 3L, 1L);
+        }
+
+        @Test
+        void 직전_계산_이후의_활동만_더한다() {
+            // given
+            addEvaluations(1L, now.minusHours(1), 3);
+            addEvaluations(2L, now.minusHours(1), 2);
+            voteTrendingIndex.rescore(now);
+            addEvaluations(2L, now.plusMinutes(1), 2);
+
+            // when
+            voteTrendingIndex.rescore(now.plusMinutes(2));
+
+            // then
+            assertThat(voteTrendingIndex.searchVoteIds(null, 8, UnaryOperator.identity()))
+                    .containsExactly(2L, 1L);
+        }
+
+        @Test
+        void 커서_다음_순위부터_조회한다() {
+            // given
+            addEvaluations(1L, now.minusHours(1), 3);
+            addEvaluations(2L, now.minusHours(1), 2);
+            addEvaluations(3L, now.minusHours(1), 1);
+            voteTrendingIndex.rescore(now);
+
+            // when
+            final List<Long> voteIds = voteTrendingIndex.searchVoteIds(1L, 1, UnaryOperator.identity());
+
+            // then
+            assertThat(voteIds).containsExactly(2L, 3L);
+        }
+    }
+
+    private void addEvaluations(final Long voteId, final LocalDateTime createdAt, final int count) {
+        for (int i = 0; i < count; i++) {
+            evaluations.add(new Activity(voteId, createdAt));
+        }
+    }
+
+    private static List<VoteActivityCount> count(final List<Activity> activities, final LocalDateTime from, final LocalDateTime to) {
+        final Map<Long, Long> counts = activities.stream()
+                .filter(activity -> activity.createdAt.isAfter(from) && !activity.createdAt.isAfter(to))
+                .collect(Collectors.groupingBy(activity -> activity.voteId, Collectors.counting()));
+        return counts.entrySet().stream()
+                .map(entry -> new VoteActivityCount(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    private static class Activity {
+        private final Long voteId;
+        private final LocalDateTime createdAt;
+
+        private Activity(final Long voteId, final LocalDateTime createdAt) {
+            this.voteId = voteId;
+            this.createdAt = createdAt;
+        }
+    }
+}
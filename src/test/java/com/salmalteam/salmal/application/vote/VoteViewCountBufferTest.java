@@ -0,0 +1,101 @@
+package com.salmalteam.salmal.application.vote;
+
+import com.salmalteam.salmal.domain.vote.VoteStatisticsRepository;
+import com.salmalteam.salmal.domain.vote.VoteViewCountDelta;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class VoteViewCountBufferTest {
+
+    @Mock
+    VoteStatisticsRepository voteStatisticsRepository;
+
+    VoteViewCountBuffer voteViewCountBuffer;
+
+    @BeforeEach
+    void setUp() {
+        voteViewCountBuffer = new VoteViewCountBuffer(voteStatisticsRepository, 3_600_000);
+    }
+
+    @Nested
+    class 조회_수_반영_테스트 {
+
+        @Test
+        void 투표별로_누적된_조회_수와_고유_조회자_수를_한번에_반영한다() {
+            // given
+            for (long memberId = 1; memberId <= 5_000; memberId++) {
+                voteViewCountBuffer.record(1L, memberId);
+                voteViewCountBuffer.record(1L, memberId);
+            }
+            voteViewCountBuffer.record(2L, 1L);
+
+            // when
+            voteViewCountBuffer.flush();
+
+            // then
+            final Map<Long, VoteViewCountDelta> deltas = captureDeltas(1).stream()
+                    .collect(Collectors.toMap(VoteViewCountDelta::getVoteId, Function.identity()));
+            Assertions.assertAll(
+                    () -> assertThat(deltas.get(1L).getViewDelta()).isEqualTo(10_000),
+                    () -> assertThat((double) deltas.get(1L).getUniqueViewerEstimate()).isCloseTo(5_000, within(5_000 * 0.1)),
+                    () -> assertThat(deltas.get(2L).getViewDelta()).isEqualTo(1),
+                    () -> assertThat(deltas.get(2L).getUniqueViewerEstimate()).isEqualTo(1)
+            );
+        }
+
+        @Test
+        void 반영할_조회_수가_없으면_쿼리를_실행하지_않는다() {
+            // when
+            voteViewCountBuffer.flush();
+
+            // then
+            verify(voteStatisticsRepository, never()).updateViewCounts(anyList());
+        }
+
+        @Test
+        void 반영에_실패하면_다음_주기에_다시_반영한다() {
+            // given
+            voteViewCountBuffer.record(1L, 1L);
+            willThrow(new IllegalStateException()).willDoNothing().given(voteStatisticsRepository).updateViewCounts(anyList());
+            voteViewCountBuffer.flush();
+
+            // when
+            voteViewCountBuffer.flushOnShutdown();
+
+            // then
+            final List<List<VoteViewCountDelta>> calls = captureAllDeltas(2);
+            assertThat(calls.get(1)).extracting(VoteViewCountDelta::getViewDelta).containsExactly(1);
+        }
+    }
+
+    private List<VoteViewCountDelta> captureDeltas(final int times) {
+        return captureAllDeltas(times).get(0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<VoteViewCountDelta>> captureAllDeltas(final int times) {
+        final ArgumentCaptor<List<VoteViewCountDelta>> captor = ArgumentCaptor.forClass(List.class);
+        verify(voteStatisticsRepository, times(times)).updateViewCounts(captor.capture());
+        return captor.getAllValues();
+    }
+}
@@ -0,0 +1,140 @@
+package com.salmalteam.salmal.domain;
+
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimeOrderedIdGeneratorTest {
+
+    private static final long NOW = TimeOrderedIdGenerator.EPOCH + 1_000_000L;
+
+    @Nested
+    class ID_생성_테스트 {
+
+        @Test
+        void 같은_시각에_생성해도_ID_가_계속_증가한다() {
+            // given
+            final TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(() -> NOW, 3);
+
+            // when
+            final List<Long> ids = LongStream.range(0, 1_000)
+                    .map(i -> generator.nextId())
+                    .boxed()
+                    .collect(Collectors.toList());
+
+            // then
+            assertThat(ids).isSorted().doesNotHaveDuplicates();
+        }
+
+        @Test
+        void 시계가_뒤로_가도_ID_가_감소하지_않는다() {
+            // given
+            final AtomicLong clock = new AtomicLong(NOW);
+            final TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(clock::get, 3);
+            final long before = generator.nextId();
+            clock.set(NOW - 10_000);
+
+            // when
+            final long after = generator.nextId();
+
+            // then
+            assertThat(after).isGreaterThan(before);
+        }
+
+        @Test
+        void 노드가_다르면_같은_시각에도_ID_가_겹치지_않는다() {
+            // given
+            final TimeOrderedIdGenerator first = new TimeOrderedIdGenerator(() -> NOW, 1);
+            final TimeOrderedIdGenerator second = new TimeOrderedIdGenerator(() -> NOW, 2);
+
+            // when & then
+            assertThat(first.nextId()).isNotEqualTo(second.nextId());
+        }
+
+        @Test
+        void 여러_스레드에서_생성해도_ID_가_중복되지_않는다() {
+            // given
+            final TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(System::currentTimeMillis, 0);
+            final Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+            // when
+            IntStream.range(0, 100_000).parallel().forEach(i -> ids.add(generator.nextId()));
+
+            // then
+            assertThat(ids).hasSize(100_000);
+        }
+
+        @Test
+        void JSON_숫자로_표현할_수_있는_범위를_넘지_않는다() {
+            // given
+            final long year2090 = TimeOrderedIdGenerator.EPOCH + 67L * 365 * 24 * 60 * 60 * 1000;
+            final TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(() -> year2090, TimeOrderedIdGenerator.MAX_NODE_ID);
+
+            // when & then
+            assertThat(generator.nextId()).isLessThanOrEqualTo((1L << 53) - 1);
+        }
+
+        @Test
+        void 지난_시각으로_만든_ID_는_이후에_생성한_ID_보다_작다() {
+            // given
+            final TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(() -> NOW, 0);
+
+            // when
+            final long pastId = TimeOrderedIdGenerator.idAt(NOW - 1, -1L);
+
+            // then
+            assertThat(pastId).isLessThan(generator.nextId());
+        }
+
+        @Test
+        void 노드_ID_가_범위를_벗어나면_예외를_발생시킨다() {
+            assertThatThrownBy(() -> new TimeOrderedIdGenerator(() -> NOW, TimeOrderedIdGenerator.MAX_NODE_ID + 1))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    class 노드_ID_설정_테스트 {
+
+        @Test
+        void 설정한_노드_ID_로_ID_를_생성한다() {
+            // given
+            final StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder()
+                    .applySetting(TimeOrderedIdGenerator.NODE_ID_SETTING, "3")
+                    .build();
+            final TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator();
+
+            // when
+            generator.configure(null, new Properties(), serviceRegistry);
+
+            // then
+            assertThat((generator.nextId() >> TimeOrderedIdGenerator.SEQUENCE_BITS) & TimeOrderedIdGenerator.MAX_NODE_ID).isEqualTo(3);
+            StandardServiceRegistryBuilder.destroy(serviceRegistry);
+        }
+
+        @Test
+        void 노드_ID_를_설정하지_않으면_예외를_발생시킨다() {
+            // given
+            final StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder().build();
+            final TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator();
+
+            // when & then
+            assertThatThrownBy(() -> generator.configure(null, new Properties(), serviceRegistry))
+                    .isInstanceOf(IllegalStateException.class);
+            StandardServiceRegistryBuilder.destroy(serviceRegistry);
+        }
+    }
+}
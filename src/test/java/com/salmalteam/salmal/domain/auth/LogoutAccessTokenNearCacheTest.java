@@ -0,0 +1,102 @@
+package com.salmalteam.salmal.domain.auth;
+
+import com.salmalteam.salmal.infra.auth.LocalLogoutAccessTokenChannel;
+import com.salmalteam.salmal.infra.auth.LogoutAccessTokenNearCache;
+import com.salmalteam.salmal.infra.auth.LogoutAccessTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class LogoutAccessTokenNearCacheTest {
+
+    @Mock
+    LogoutAccessTokenRepository logoutAccessTokenRepository;
+
+    LocalLogoutAccessTokenChannel logoutAccessTokenChannel;
+    LogoutAccessTokenNearCache logoutAccessTokenNearCache;
+
+    private static final String TOKEN = "A".repeat(30);
+    private static final String OTHER_TOKEN = "B".repeat(30);
+
+    @BeforeEach
+    void setUp() {
+        logoutAccessTokenChannel = new LocalLogoutAccessTokenChannel();
+        logoutAccessTokenNearCache = new LogoutAccessTokenNearCache(logoutAccessTokenRepository, logoutAccessTokenChannel);
+    }
+
+    @Nested
+    class 로그아웃_여부_확인_테스트 {
+
+        @Test
+        void 적재_전에는_모든_토큰을_Redis_에서_확인하도록_한다() {
+            // when & then
+            assertThat(logoutAccessTokenNearCache.mightBeRevoked(TOKEN)).isTrue();
+        }
+
+        @Test
+        void 적재_이후_로그아웃되지_않은_토큰은_Redis_조회_없이_판단한다() {
+            // given
+            given(logoutAccessTokenRepository.findAll()).willReturn(List.of(LogoutAccessToken.of(TOKEN, 1000L)));
+
+            // when
+            logoutAccessTokenNearCache.load();
+
+            // then
+            assertThat(logoutAccessTokenNearCache.mightBeRevoked(TOKEN)).isTrue();
+            assertThat(logoutAccessTokenNearCache.mightBeRevoked(OTHER_TOKEN)).isFalse();
+        }
+
+        @Test
+        void 적재에_실패하면_계속_Redis_에서_확인하도록_한다() {
+            // given
+            given(logoutAccessTokenRepository.findAll()).willThrow(new IllegalStateException());
+
+            // when
+            logoutAccessTokenNearCache.load();
+
+            // then
+            assertThat(logoutAccessTokenNearCache.mightBeRevoked(OTHER_TOKEN)).isTrue();
+        }
+
+        @Test
+        void 만료된_토큰은_로그아웃되지_않은_것으로_판단한다() {
+            // given
+            given(logoutAccessTokenRepository.findAll()).willReturn(List.of());
+            logoutAccessTokenNearCache.load();
+
+            // when
+            logoutAccessTokenNearCache.revoke(TOKEN, -1L);
+
+            // then
+            assertThat(logoutAccessTokenNearCache.mightBeRevoked(TOKEN)).isFalse();
+        }
+    }
+
+    @Nested
+    class 로그아웃_전파_테스트 {
+
+        @Test
+        void 다른_서버에서_로그아웃한_토큰도_채널을_통해_반영된다() {
+            // given
+            given(logoutAccessTokenRepository.findAll()).willReturn(List.of());
+            final LogoutAccessTokenNearCache otherServer = new LogoutAccessTokenNearCache(logoutAccessTokenRepository, logoutAccessTokenChannel);
+            logoutAccessTokenNearCache.load();
+            otherServer.load();
+
+            // when
+            otherServer.revoke(TOKEN, 1000L);
+
+            // then
+            assertThat(logoutAccessTokenNearCache.mightBeRevoked(TOKEN)).isTrue();
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.salmalteam.salmal.domain.auth;
 
+import com.salmalteam.salmal.infra.auth.LocalLogoutAccessTokenChannel;
+import com.salmalteam.salmal.infra.auth.LogoutAccessTokenNearCache;
 import com.salmalteam.salmal.infra.auth.LogoutAccessTokenRepository;
 import com.salmalteam.salmal.infra.auth.RefreshTokenRepository;
 import com.salmalteam.salmal.infra.auth.TokenRepositoryImpl;
@@ -24,7 +26,8 @@ class TokenRepositoryTest {
     private static final String TOKEN = "A".repeat(30);
     @BeforeEach
     void setUp(){
-        tokenRepository = new TokenRepositoryImpl(refreshTokenRepository, logoutAccessTokenRepository);
+        tokenRepository = new TokenRepositoryImpl(refreshTokenRepository, logoutAccessTokenRepository,
+                new LogoutAccessTokenNearCache(logoutAccessTokenRepository, new LocalLogoutAccessTokenChannel()));
         refreshTokenRepository.deleteAll();
         logoutAccessTokenRepository.deleteAll();
     }
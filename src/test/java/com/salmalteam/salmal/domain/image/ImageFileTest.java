@@ -9,7 +9,11 @@ import org.springframework.mock.web.MockMultipartFile;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 
 class ImageFileTest {
@@ -79,6 +83,29 @@ class ImageFileTest {
                 .hasFieldOrPropertyWithValue("exceptionType", ImageExceptionType.NOT_IMAGE_FILE);
     }
 
+    @Test
+    void 업로드할_내용은_임시_파일에서_읽고_폐기하면_더_이상_읽을_수_없다() throws Exception{
+        // given
+        final String fileName = "testImage.jpg";
+        final Path filePath = Path.of("src/test/resources/testImages/" + fileName);
+        final MockMultipartFile multipartFile = new MockMultipartFile("image", fileName, "image/jpeg", Files.readAllBytes(filePath));
+        final ImageFile imageFile = ImageFile.of(multipartFile, "vote");
+
+        // when
+        final byte[] content;
+        try (InputStream inputStream = imageFile.getInputStream()) {
+            content = inputStream.readAllBytes();
+        }
+        imageFile.discard();
+
+        // then
+        assertThat(content).isEqualTo(Files.readAllBytes(filePath));
+        assertThat(imageFile.getSize()).isEqualTo(Files.size(filePath));
+        assertThatThrownBy(imageFile::getInputStream)
+                .isInstanceOf(ImageException.class)
+                .hasFieldOrPropertyWithValue("exceptionType", ImageExceptionType.IMAGE_FILE_READ_FAILED);
+    }
+
 
 
 }
\ No newline at end of file
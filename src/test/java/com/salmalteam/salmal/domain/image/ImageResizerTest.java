@@ -0,0 +1,90 @@
+package com.salmalteam.salmal.domain.image;
+
+import com.salmalteam.salmal.infra.image.ImageResizer;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageResizerTest {
+
+    ImageResizer imageResizer = new ImageResizer(0.85f);
+
+    @Test
+    void 너비별_축소_이미지를_만들고_원본보다_크게_늘리지_않는다() throws IOException {
+        // given
+        final String fileName = "testImage.jpg";
+        final BufferedImage original = ImageIO.read(new FileInputStream("src/test/resources/testImages/" + fileName));
+        final ImageFile imageFile = ImageFile.of(new MockMultipartFile("imageFile", fileName, "image/jpeg",
+                new FileInputStream("src/test/resources/testImages/" + fileName)), "vote");
+
+        // when
+        final Map<ImageVariant, byte[]> variants = imageResizer.resize(imageFile);
+
+        // then
+        assertThat(variants).containsOnlyKeys(ImageVariant.values());
+        for (Map.Entry<ImageVariant, byte[]> variant : variants.entrySet()) {
+            final BufferedImage resized = ImageIO.read(new ByteArrayInputStream(variant.getValue()));
+            assertThat(resized.getWidth()).isEqualTo(Math.min(variant.getKey().getWidth(), original.getWidth()));
+        }
+    }
+
+    @Test
+    void EXIF_방향_정보가_있으면_회전한_뒤_축소한다() throws IOException {
+        // given : 왼쪽 절반이 빨간색인 40x20 이미지를 시계 방향으로 90도 돌려 보도록(Orientation 6) 기록한다.
+        final ImageFile imageFile = ImageFile.of(new MockMultipartFile("imageFile", "rotated.jpg", "image/jpeg",
+                createJpegWithOrientation(40, 20, 6)), "vote");
+
+        // when
+        final Map<ImageVariant, byte[]> variants = imageResizer.resize(imageFile);
+
+        // then
+        final BufferedImage resized = ImageIO.read(new ByteArrayInputStream(variants.get(ImageVariant.SMALL)));
+        assertThat(resized.getWidth()).isEqualTo(20);
+        assertThat(resized.getHeight()).isEqualTo(40);
+        final Color top = new Color(resized.getRGB(10, 5));
+        final Color bottom = new Color(resized.getRGB(10, 35));
+        assertThat(top.getRed()).isGreaterThan(top.getBlue());
+        assertThat(bottom.getBlue()).isGreaterThan(bottom.getRed());
+    }
+
+    /**
+     * SOI 바로 뒤에 Orientation 태그 하나만 가진 APP1(EXIF) 세그먼트를 넣는다.
+     */
+    private byte[] createJpegWithOrientation(final int width, final int height, final int orientation) throws IOException {
+        final BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        final Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.RED);
+        graphics.fillRect(0, 0, width / 2, height);
+        graphics.setColor(Color.BLUE);
+        graphics.fillRect(width / 2, 0, width - width / 2, height);
+        graphics.dispose();
+        final ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpeg", jpeg);
+        final byte[] jpegBytes = jpeg.toByteArray();
+
+        final byte[] exif = {
+                'E', 'x', 'i', 'f', 0, 0,
+                'M', 'M', 0, 42, 0, 0, 0, 8,
+                0, 1,
+                0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, (byte) orientation, 0, 0,
+                0, 0, 0, 0
+        };
+        final ByteArrayOutputStream withExif = new ByteArrayOutputStream();
+        withExif.write(jpegBytes, 0, 2);
+        withExif.write(new byte[]{(byte) 0xFF, (byte) 0xE1, 0, (byte) (exif.length + 2)});
+        withExif.write(exif);
+        withExif.write(jpegBytes, 2, jpegBytes.length - 2);
+        return withExif.toByteArray();
+    }
+}
@@ -0,0 +1,41 @@
+package com.salmalteam.salmal.domain.image;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageVariantTest {
+
+    @Test
+    void 원본_이미지는_original_경로에_저장한다() {
+        // given
+        final String fullImageName = "vote/uuid/image.png";
+
+        // when
+        final String originalName = ImageVariant.toOriginalName(fullImageName);
+
+        // then
+        assertThat(originalName).isEqualTo("vote/uuid/original/image.png");
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"SMALL,https://bucket/vote/uuid/160w/image.jpg", "LARGE,https://bucket/vote/uuid/1080w/image.jpg"})
+    void 원본_URL_로부터_축소_이미지_URL_을_만든다(final ImageVariant imageVariant, final String expected) {
+        // given
+        final String originalUrl = "https://bucket/vote/uuid/original/image.png";
+
+        // when & then
+        assertThat(imageVariant.resolve(originalUrl)).isEqualTo(expected);
+    }
+
+    @Test
+    void 축소_이미지가_없는_URL_은_그대로_반환한다() {
+        // given
+        final String imageUrl = "https://salmal-image.s3.ap-northeast-2.amazonaws.com/member/default.JPG";
+
+        // when & then
+        assertThat(ImageVariant.SMALL.resolve(imageUrl)).isEqualTo(imageUrl);
+    }
+}
@@ -0,0 +1,92 @@
+package com.salmalteam.salmal.domain.lock;
+
+import com.salmalteam.salmal.infra.lock.JobLockRepositoryImpl;
+import com.salmalteam.salmal.support.RepositoryTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobLockRepositoryTest extends RepositoryTest {
+
+    private static final String LOCK_NAME = "job";
+    private static final Duration LEASE_TIME = Duration.ofMinutes(5);
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    JobLockRepository server;
+    JobLockRepository otherServer;
+
+    @BeforeEach
+    void setUp() {
+        server = new JobLockRepositoryImpl(new NamedParameterJdbcTemplate(jdbcTemplate));
+        otherServer = new JobLockRepositoryImpl(new NamedParameterJdbcTemplate(jdbcTemplate));
+    }
+
+    @Nested
+    class 잠금_획득_테스트 {
+
+        @Test
+        void 다른_서버가_잡은_잠금은_잡을_수_없다() {
+            // given
+            server.acquire(LOCK_NAME, LEASE_TIME);
+
+            // when & then
+            assertThat(otherServer.acquire(LOCK_NAME, LEASE_TIME)).isFalse();
+        }
+
+        @Test
+        void 잠금을_잡은_서버는_다시_잡아서_기간을_늘릴_수_있다() {
+            // given
+            server.acquire(LOCK_NAME, LEASE_TIME);
+
+            // when & then
+            assertThat(server.acquire(LOCK_NAME, LEASE_TIME)).isTrue();
+        }
+
+        @Test
+        void 기간이_지난_잠금은_다른_서버가_잡을_수_있다() {
+            // given
+            server.acquire(LOCK_NAME, Duration.ZERO);
+
+            // when & then
+            assertThat(otherServer.acquire(LOCK_NAME, LEASE_TIME)).isTrue();
+            assertThat(server.acquire(LOCK_NAME, LEASE_TIME)).isFalse();
+        }
+    }
+
+    @Nested
+    class 잠금_해제_테스트 {
+
+        @Test
+        void 해제한_잠금은_다른_서버가_잡을_수_있다() {
+            // given
+            server.acquire(LOCK_NAME, LEASE_TIME);
+
+            // when
+            server.release(LOCK_NAME);
+
+            // then
+            assertThat(otherServer.acquire(LOCK_NAME, LEASE_TIME)).isTrue();
+        }
+
+        @Test
+        void 다른_서버가_잡은_잠금은_해제하지_않는다() {
+            // given
+            server.acquire(LOCK_NAME, LEASE_TIME);
+
+            // when
+            otherServer.release(LOCK_NAME);
+
+            // then
+            assertThat(otherServer.acquire(LOCK_NAME, LEASE_TIME)).isFalse();
+        }
+    }
+}
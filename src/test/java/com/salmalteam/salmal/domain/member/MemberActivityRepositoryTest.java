@@ -0,0 +1,261 @@
+package com.salmalteam.salmal.domain.member;
+
+import com.salmalteam.salmal.domain.member.activity.MemberActivityBackfillRepository;
+import com.salmalteam.salmal.domain.member.activity.MemberActivityRepository;
+import com.salmalteam.salmal.domain.member.activity.MemberActivityType;
+import com.salmalteam.salmal.domain.vote.Vote;
+import com.salmalteam.salmal.domain.vote.VoteRepository;
+import com.salmalteam.salmal.domain.vote.evaluation.VoteEvaluation;
+import com.salmalteam.salmal.domain.vote.evaluation.VoteEvaluationRepository;
+import com.salmalteam.salmal.domain.vote.evaluation.VoteEvaluationType;
+import com.salmalteam.salmal.dto.request.member.vote.MemberEvaluationVotePageRequest;
+import com.salmalteam.salmal.dto.request.member.vote.MemberVotePageRequest;
+import com.salmalteam.salmal.dto.response.member.vote.MemberEvaluationVotePageResponse;
+import com.salmalteam.salmal.dto.response.member.vote.MemberEvaluationVoteResponse;
+import com.salmalteam.salmal.dto.response.member.vote.MemberVotePageResponse;
+import com.salmalteam.salmal.dto.response.member.vote.MemberVoteResponse;
+import com.salmalteam.salmal.infra.member.MemberActivityBackfillRepositoryImpl;
+import com.salmalteam.salmal.infra.member.MemberActivityRepositoryImpl;
+import com.salmalteam.salmal.support.RepositoryTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberActivityRepositoryTest extends RepositoryTest {
+
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    VoteRepository voteRepository;
+    @Autowired
+    VoteEvaluationRepository voteEvaluationRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    @Autowired
+    EntityManager em;
+
+    MemberActivityRepository memberActivityRepository;
+    Member member;
+    Vote voteA;
+    Vote voteB;
+    Vote voteC;
+
+    @BeforeEach
+    void setUp() {
+        memberActivityRepository = new MemberActivityRepositoryImpl(namedParameterJdbcTemplate, "0");
+        member = memberRepository.save(Member.of("pro1", "닉네임1", "kakao", true));
+        voteA = voteRepository.save(Vote.of("imageUrl", member));
+        voteB = voteRepository.save(Vote.of("imageUrl", member));
+        voteC = voteRepository.save(Vote.of("imageUrl", member));
+        em.flush();
+    }
+
+    @Nested
+    class 평가_목록_조회_테스트 {
+
+        @Test
+        void 최근에_평가한_순서로_조회한다() {
+            // given
+            record(voteA, MemberActivityType.EVALUATION);
+            record(voteB, MemberActivityType.EVALUATION);
+            record(voteA, MemberActivityType.EVALUATION);
+
+            // when
+            final MemberEvaluationVotePageResponse response = voteRepository.searchMemberEvaluationVoteList(member.getId(),
+                    MemberEvaluationVotePageRequest.of(null, 8));
+
+            // then
+            assertThat(voteIds(response)).containsExactly(voteA.getId(), voteB.getId());
+        }
+
+        @Test
+        void 커서_활동보다_먼저_평가한_투표만_조회한다() {
+            // given
+            record(voteA, MemberActivityType.EVALUATION);
+            record(voteB, MemberActivityType.EVALUATION);
+            record(voteC, MemberActivityType.EVALUATION);
+            final Long cursorId = lastActivityId(voteRepository.searchMemberEvaluationVoteList(member.getId(),
+                    MemberEvaluationVotePageRequest.of(null, 1)));
+
+            // when
+            final MemberEvaluationVotePageResponse response = voteRepository.searchMemberEvaluationVoteList(member.getId(),
+                    MemberEvaluationVotePageRequest.of(cursorId, 1));
+
+            // then
+            Assertions.assertAll(
+                    () -> assertThat(voteIds(response)).containsExactly(voteB.getId()),
+                    () -> assertThat(response.isHasNext()).isTrue()
+            );
+        }
+
+        @Test
+        void 커서_투표를_다시_평가해도_다음_페이지에_이전_페이지의_투표가_반복되지_않는다() {
+            // given
+            record(voteA, MemberActivityType.EVALUATION);
+            record(voteB, MemberActivityType.EVALUATION);
+            record(voteC, MemberActivityType.EVALUATION);
+            final Long cursorId = lastActivityId(voteRepository.searchMemberEvaluationVoteList(member.getId(),
+                    MemberEvaluationVotePageRequest.of(null, 1)));
+            record(voteC, MemberActivityType.EVALUATION_CANCEL);
+            record(voteC, MemberActivityType.EVALUATION);
+
+            // when
+            final MemberEvaluationVotePageResponse response = voteRepository.searchMemberEvaluationVoteList(member.getId(),
+                    MemberEvaluationVotePageRequest.of(cursorId, 8));
+
+            // then
+            assertThat(voteIds(response)).containsExactly(voteB.getId(), voteA.getId());
+        }
+
+        @Test
+        void 평가를_취소한_투표는_조회하지_않는다() {
+            // given
+            record(voteA, MemberActivityType.EVALUATION);
+            record(voteB, MemberActivityType.EVALUATION);
+            record(voteA, MemberActivityType.EVALUATION_CANCEL);
+
+            // when
+            final MemberEvaluationVotePageResponse response = voteRepository.searchMemberEvaluationVoteList(member.getId(),
+                    MemberEvaluationVotePageRequest.of(null, 8));
+
+            // then
+            assertThat(voteIds(response)).containsExactly(voteB.getId());
+        }
+    }
+
+    @Nested
+    class 활동_기록_이전_테스트 {
+
+        @Test
+        void 이미_활동이_기록된_투표는_옮기지_않는다() {
+            // given
+            saveEvaluation(voteA);
+            record(voteA, MemberActivityType.EVALUATION);
+
+            // when
+            backfillRepository().backfill(MemberActivityType.EVALUATION, 100);
+
+            // then
+            assertThat(countActivities()).isEqualTo(1);
+        }
+
+        @Test
+        void 옮긴_기록은_이후에_기록한_활동보다_뒤에_조회한다() {
+            // given
+            saveEvaluation(voteA);
+            jdbcTemplate.update("update vote_evaluation set created_at = ?", LocalDateTime.now().minusDays(1));
+            record(voteB, MemberActivityType.EVALUATION);
+
+            // when
+            backfillRepository().backfill(MemberActivityType.EVALUATION, 100);
+
+            // then
+            final MemberEvaluationVotePageResponse response = voteRepository.searchMemberEvaluationVoteList(member.getId(),
+                    MemberEvaluationVotePageRequest.of(null, 8));
+            assertThat(voteIds(response)).containsExactly(voteB.getId(), voteA.getId());
+        }
+
+        @Test
+        void 진행_상황을_저장해서_다시_실행해도_마지막으로_옮긴_위치부터_이어서_옮긴다() {
+            // given
+            saveEvaluation(voteA);
+            saveEvaluation(voteB);
+
+            // when
+            final boolean first = backfillRepository().backfill(MemberActivityType.EVALUATION, 1);
+            final boolean second = backfillRepository().backfill(MemberActivityType.EVALUATION, 1);
+            final boolean third = backfillRepository().backfill(MemberActivityType.EVALUATION, 1);
+
+            // then
+            Assertions.assertAll(
+                    () -> assertThat(List.of(first, second, third)).containsExactly(true, true, false),
+                    () -> assertThat(countActivities()).isEqualTo(2)
+            );
+        }
+
+        @Test
+        void 완료한_뒤에는_더_이상_옮기지_않는다() {
+            // given
+            backfillRepository().backfill(MemberActivityType.EVALUATION, 100);
+            saveEvaluation(voteA);
+
+            // when
+            final boolean backfilled = backfillRepository().backfill(MemberActivityType.EVALUATION, 100);
+
+            // then
+            Assertions.assertAll(
+                    () -> assertThat(backfilled).isFalse(),
+                    () -> assertThat(countActivities()).isZero()
+            );
+        }
+
+        @Test
+        void 같은_시각에_저장된_원본도_ID_가_겹치지_않게_옮긴다() {
+            // given
+            final Member other = memberRepository.save(Member.of("pro2", "닉네임2", "kakao", true));
+            final VoteEvaluation first = saveEvaluation(voteA);
+            voteEvaluationRepository.save(VoteEvaluation.of(voteA, other, VoteEvaluationType.LIKE));
+            em.flush();
+            jdbcTemplate.update("update vote_evaluation set id = ? where evaluator_id = ?", first.getId() + 2048, other.getId());
+            jdbcTemplate.update("update vote_evaluation set created_at = ?", LocalDateTime.now().minusDays(1));
+
+            // when
+            backfillRepository().backfill(MemberActivityType.EVALUATION, 100);
+
+            // then
+            final Integer count = jdbcTemplate.queryForObject("select count(distinct id) from member_activity", Integer.class);
+            assertThat(count).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void 작성한_투표_목록은_커서_이전_투표만_조회한다() {
+        // when
+        final MemberVotePageResponse response = voteRepository.searchMemberVoteList(member.getId(),
+                MemberVotePageRequest.of(voteC.getId(), 8));
+
+        // then
+        assertThat(response.getVotes().stream().map(MemberVoteResponse::getId).collect(Collectors.toList()))
+                .containsExactly(voteB.getId(), voteA.getId());
+    }
+
+    private void record(final Vote vote, final MemberActivityType activityType) {
+        memberActivityRepository.record(member.getId(), vote.getId(), activityType);
+    }
+
+    private VoteEvaluation saveEvaluation(final Vote vote) {
+        final VoteEvaluation voteEvaluation = voteEvaluationRepository.save(VoteEvaluation.of(vote, member, VoteEvaluationType.LIKE));
+        em.flush();
+        return voteEvaluation;
+    }
+
+    private MemberActivityBackfillRepository backfillRepository() {
+        return new MemberActivityBackfillRepositoryImpl(namedParameterJdbcTemplate);
+    }
+
+    private Integer countActivities() {
+        return jdbcTemplate.queryForObject("select count(*) from member_activity where member_id = ?", Integer.class, member.getId());
+    }
+
+    private static List<Long> voteIds(final MemberEvaluationVotePageResponse response) {
+        return response.getVotes().stream().map(MemberEvaluationVoteResponse::getId).collect(Collectors.toList());
+    }
+
+    private static Long lastActivityId(final MemberEvaluationVotePageResponse response) {
+        final List<MemberEvaluationVoteResponse> votes = response.getVotes();
+        return votes.get(votes.size() - 1).getActivityId();
+    }
+}
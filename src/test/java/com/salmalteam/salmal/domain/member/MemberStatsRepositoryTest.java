@@ -0,0 +1,152 @@
+package com.salmalteam.salmal.domain.member;
+
+import com.salmalteam.salmal.domain.comment.Comment;
+import com.salmalteam.salmal.domain.comment.CommentRepository;
+import com.salmalteam.salmal.domain.member.stats.MemberStatsRepository;
+import com.salmalteam.salmal.domain.vote.Vote;
+import com.salmalteam.salmal.domain.vote.VoteEvaluationCountDelta;
+import com.salmalteam.salmal.domain.vote.VoteRepository;
+import com.salmalteam.salmal.domain.vote.bookmark.VoteBookMark;
+import com.salmalteam.salmal.domain.vote.bookmark.VoteBookMarkRepository;
+import com.salmalteam.salmal.domain.vote.evaluation.VoteEvaluation;
+import com.salmalteam.salmal.domain.vote.evaluation.VoteEvaluationRepository;
+import com.salmalteam.salmal.domain.vote.evaluation.VoteEvaluationType;
+import com.salmalteam.salmal.dto.response.member.MyPageResponse;
+import com.salmalteam.salmal.infra.member.MemberStatsRepositoryImpl;
+import com.salmalteam.salmal.infra.vote.VoteStatisticsRepositoryImpl;
+import com.salmalteam.salmal.support.RepositoryTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberStatsRepositoryTest extends RepositoryTest {
+
+    @Autowired
+    MemberRepository memberRepository;
+    @Autowired
+    VoteRepository voteRepository;
+    @Autowired
+    VoteEvaluationRepository voteEvaluationRepository;
+    @Autowired
+    VoteBookMarkRepository voteBookMarkRepository;
+    @Autowired
+    CommentRepository commentRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    @Autowired
+    EntityManager em;
+
+    MemberStatsRepository memberStatsRepository;
+    Member writer;
+    Member evaluator;
+    Vote vote;
+
+    @BeforeEach
+    void setUp() {
+        memberStatsRepository = new MemberStatsRepositoryImpl(namedParameterJdbcTemplate);
+        writer = memberRepository.save(Member.of("pro1", "작성자", "kakao", true));
+        evaluator = memberRepository.save(Member.of("pro2", "평가자", "kakao", true));
+        vote = voteRepository.save(Vote.of("imageUrl", writer));
+        em.flush();
+    }
+
+    @Nested
+    class 통계_증감_테스트 {
+
+        @Test
+        void 평가_통계를_반영하면_작성자가_받은_좋아요_싫어요_수도_반영한다() {
+            // given
+            memberStatsRepository.create(writer.getId());
+
+            // when
+            new VoteStatisticsRepositoryImpl(jdbcTemplate).updateEvaluationStatistics(List.of(
+                    VoteEvaluationCountDelta.of(vote.getId(), 3, 1)
+            ));
+
+            // then
+            final MyPageResponse myPageResponse = memberRepository.searchMyPage(writer.getId());
+            Assertions.assertAll(
+                    () -> assertThat(myPageResponse.getLikeCount()).isEqualTo(3),
+                    () -> assertThat(myPageResponse.getDisLikeCount()).isEqualTo(1)
+            );
+        }
+
+        @Test
+        void 투표를_삭제하면_작성자의_투표_수와_받은_좋아요_수를_뺀다() {
+            // given
+            memberStatsRepository.create(writer.getId());
+            memberStatsRepository.addVoteCount(writer.getId(), 1);
+            new VoteStatisticsRepositoryImpl(jdbcTemplate).updateEvaluationStatistics(List.of(
+                    VoteEvaluationCountDelta.of(vote.getId(), 2, 0)
+            ));
+
+            // when
+            memberStatsRepository.removeVote(vote.getId());
+
+            // then
+            final MyPageResponse myPageResponse = memberRepository.searchMyPage(writer.getId());
+            Assertions.assertAll(
+                    () -> assertThat(myPageResponse.getVoteCount()).isEqualTo(0),
+                    () -> assertThat(myPageResponse.getLikeCount()).isEqualTo(0)
+            );
+        }
+    }
+
+    @Nested
+    class 통계_보정_테스트 {
+
+        @Test
+        void 원본_테이블을_다시_집계해서_통계를_덮어쓴다() {
+            // given
+            voteEvaluationRepository.save(VoteEvaluation.of(vote, evaluator, VoteEvaluationType.LIKE));
+            voteBookMarkRepository.save(VoteBookMark.of(evaluator, vote));
+            final Comment comment = commentRepository.save(Comment.of("댓글", vote, evaluator));
+            commentRepository.save(Comment.ofReply("답글", comment, writer));
+            em.flush();
+            jdbcTemplate.update("update vote set like_count = 1, evaluation_count = 1 where id = ?", vote.getId());
+            memberStatsRepository.create(evaluator.getId());
+            memberStatsRepository.addCommentCount(evaluator.getId(), 5);
+
+            // when
+            memberStatsRepository.reconcile(0L, Long.MAX_VALUE);
+
+            // then
+            final MyPageResponse writerPage = memberRepository.searchMyPage(writer.getId());
+            final MyPageResponse evaluatorPage = memberRepository.searchMyPage(evaluator.getId());
+            Assertions.assertAll(
+                    () -> assertThat(writerPage.getVoteCount()).isEqualTo(1),
+                    () -> assertThat(writerPage.getLikeCount()).isEqualTo(1),
+                    () -> assertThat(writerPage.getCommentCount()).isEqualTo(1),
+                    () -> assertThat(evaluatorPage.getEvaluationCount()).isEqualTo(1),
+                    () -> assertThat(evaluatorPage.getBookmarkCount()).isEqualTo(1),
+                    () -> assertThat(evaluatorPage.getCommentCount()).isEqualTo(1)
+            );
+        }
+
+        @Test
+        void 탈퇴한_회원의_통계는_삭제한다() {
+            // given
+            memberStatsRepository.create(evaluator.getId());
+            jdbcTemplate.update("update member set deleted = true where id = ?", evaluator.getId());
+
+            // when
+            memberStatsRepository.reconcile(0L, Long.MAX_VALUE);
+
+            // then
+            final Integer count = jdbcTemplate.queryForObject("select count(*) from member_stats where member_id = ?",
+                    Integer.class, evaluator.getId());
+            assertThat(count).isZero();
+        }
+    }
+}
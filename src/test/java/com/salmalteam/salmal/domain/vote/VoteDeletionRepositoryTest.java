@@ -0,0 +1,122 @@
+package com.salmalteam.salmal.domain.vote;
+
+import com.salmalteam.salmal.application.vote.VoteDeletionPipeline;
+import com.salmalteam.salmal.domain.comment.Comment;
+import com.salmalteam.salmal.domain.comment.like.CommentLike;
+import com.salmalteam.salmal.domain.comment.report.CommentReport;
+import com.salmalteam.salmal.domain.member.Member;
+import com.salmalteam.salmal.domain.vote.bookmark.VoteBookMark;
+import com.salmalteam.salmal.domain.vote.evaluation.VoteEvaluation;
+import com.salmalteam.salmal.domain.vote.evaluation.VoteEvaluationType;
+import com.salmalteam.salmal.domain.vote.report.VoteReport;
+import com.salmalteam.salmal.infra.vote.VoteDeletionRepositoryImpl;
+import com.salmalteam.salmal.support.RepositoryTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import javax.persistence.EntityManager;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DirtiesContext
+class VoteDeletionRepositoryTest extends RepositoryTest {
+
+    @Autowired
+    VoteRepository voteRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    EntityManager em;
+
+    VoteDeletionRepository voteDeletionRepository;
+    Member writer;
+    Member member;
+
+    @BeforeEach
+    void setUp() {
+        voteDeletionRepository = new VoteDeletionRepositoryImpl(new NamedParameterJdbcTemplate(jdbcTemplate));
+        writer = Member.of("pro1", "닉네임1", "kakao", true);
+        member = Member.of("pro2", "닉네임2", "kakao", true);
+        em.persist(writer);
+        em.persist(member);
+    }
+
+    @Nested
+    class 투표_숨김_테스트 {
+
+        @Test
+        void 삭제_요청된_투표는_조회되지_않는다() {
+            // given
+            final Vote vote = Vote.of("imageUrl", writer);
+            em.persist(vote);
+            vote.delete();
+            em.flush();
+            em.clear();
+
+            // when & then
+            Assertions.assertAll(
+                    () -> assertThat(voteRepository.findById(vote.getId())).isEmpty(),
+                    () -> assertThat(voteRepository.existsById(vote.getId())).isFalse(),
+                    () -> assertThat(voteRepository.findAllVisibleIds()).doesNotContain(vote.getId()),
+                    () -> assertThat(voteDeletionRepository.findDeletedVoteIds(10)).containsExactly(vote.getId())
+            );
+        }
+    }
+
+    @Nested
+    class 투표_삭제_테스트 {
+
+        @Test
+        void 투표와_하위_데이터를_묶음_단위로_모두_삭제한다() {
+            // given
+            final Vote vote = Vote.of("imageUrl", writer);
+            final Vote otherVote = Vote.of("imageUrl", member);
+            em.persist(vote);
+            em.persist(otherVote);
+            for (int i = 0; i < 3; i++) {
+                final Comment comment = Comment.of("댓글", vote, member);
+                final Comment reply = Comment.ofReply("답글", comment, writer);
+                em.persist(comment);
+                em.persist(reply);
+                em.persist(CommentLike.of(comment, writer));
+                em.persist(CommentLike.of(reply, member));
+                em.persist(CommentReport.of(reply, member));
+            }
+            em.persist(VoteEvaluation.of(vote, member, VoteEvaluationType.LIKE));
+            em.persist(VoteEvaluation.of(vote, writer, VoteEvaluationType.DISLIKE));
+            em.persist(VoteBookMark.of(member, vote));
+            em.persist(VoteReport.of(vote, member));
+            em.persist(Comment.of("다른 투표 댓글", otherVote, writer));
+            em.persist(VoteEvaluation.of(otherVote, writer, VoteEvaluationType.LIKE));
+            em.flush();
+            em.clear();
+
+            final VoteDeletionPipeline voteDeletionPipeline = new VoteDeletionPipeline(voteDeletionRepository, 2);
+
+            // when
+            voteDeletionPipeline.purge(vote.getId());
+
+            // then
+            Assertions.assertAll(
+                    () -> assertThat(count("vote")).isEqualTo(1),
+                    () -> assertThat(count("comment")).isEqualTo(1),
+                    () -> assertThat(count("comment_like")).isZero(),
+                    () -> assertThat(count("comment_report")).isZero(),
+                    () -> assertThat(count("vote_evaluation")).isEqualTo(1),
+                    () -> assertThat(count("vote_bookmark")).isZero(),
+                    () -> assertThat(count("vote_report")).isZero()
+            );
+        }
+    }
+
+    private int count(final String table) {
+        return jdbcTemplate.queryForObject("select count(*) from " + table, Integer.class);
+    }
+}
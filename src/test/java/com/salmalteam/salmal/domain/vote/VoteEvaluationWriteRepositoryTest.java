@@ -0,0 +1,168 @@
+package com.salmalteam.salmal.domain.vote;
+
+import com.salmalteam.salmal.domain.member.Member;
+import com.salmalteam.salmal.domain.vote.evaluation.VoteEvaluationType;
+import com.salmalteam.salmal.domain.vote.evaluation.VoteEvaluationWriteRepository;
+import com.salmalteam.salmal.infra.vote.VoteEvaluationWriteRepositoryImpl;
+import com.salmalteam.salmal.support.QueryBudget;
+import com.salmalteam.salmal.support.RepositoryTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DirtiesContext
+class VoteEvaluationWriteRepositoryTest extends RepositoryTest {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    EntityManager em;
+
+    VoteEvaluationWriteRepository voteEvaluationWriteRepository;
+    Member member;
+    Vote vote;
+
+    @BeforeEach
+    void setUp() {
+        voteEvaluationWriteRepository = new VoteEvaluationWriteRepositoryImpl(new NamedParameterJdbcTemplate(jdbcTemplate));
+        member = Member.of("pro1", "닉네임1", "kakao", true);
+        vote = Vote.of("imageUrl", member);
+        em.persist(member);
+        em.persist(vote);
+        em.flush();
+    }
+
+    @Nested
+    class 투표_평가_테스트 {
+
+        @Test
+        @QueryBudget(3)
+        void 평가한_적이_없다면_타입을_바꾸지_않고_저장한다() {
+            // when
+            final boolean changed = voteEvaluationWriteRepository.changeType(member.getId(), vote.getId(), VoteEvaluationType.LIKE);
+            final boolean inserted = voteEvaluationWriteRepository.insert(member.getId(), vote.getId(), VoteEvaluationType.LIKE);
+
+            // then
+            Assertions.assertAll(
+                    () -> assertThat(changed).isFalse(),
+                    () -> assertThat(inserted).isTrue(),
+                    () -> assertThat(findEvaluationType()).isEqualTo("LIKE")
+            );
+        }
+
+        @Test
+        @QueryBudget(4)
+        void 다른_타입으로_평가했다면_타입만_바꾼다() {
+            // given
+            voteEvaluationWriteRepository.insert(member.getId(), vote.getId(), VoteEvaluationType.DISLIKE);
+
+            // when
+            final boolean changed = voteEvaluationWriteRepository.changeType(member.getId(), vote.getId(), VoteEvaluationType.LIKE);
+
+            // then
+            Assertions.assertAll(
+                    () -> assertThat(changed).isTrue(),
+                    () -> assertThat(findEvaluationType()).isEqualTo("LIKE"),
+                    () -> assertThat(countEvaluations()).isEqualTo(1)
+            );
+        }
+
+        @Test
+        void 같은_타입으로_평가했다면_유니크_키_위반_예외가_발생한다() {
+            // given
+            voteEvaluationWriteRepository.insert(member.getId(), vote.getId(), VoteEvaluationType.LIKE);
+
+            // when & then
+            assertThat(voteEvaluationWriteRepository.changeType(member.getId(), vote.getId(), VoteEvaluationType.LIKE)).isFalse();
+            assertThatThrownBy(() -> voteEvaluationWriteRepository.insert(member.getId(), vote.getId(), VoteEvaluationType.LIKE))
+                    .isInstanceOf(DuplicateKeyException.class);
+        }
+
+        @Test
+        void 타입을_바꿔도_처음_평가한_시각은_그대로_둔다() {
+            // given
+            voteEvaluationWriteRepository.insert(member.getId(), vote.getId(), VoteEvaluationType.DISLIKE);
+            final LocalDateTime createdAt = findCreatedAt();
+
+            // when
+            voteEvaluationWriteRepository.changeType(member.getId(), vote.getId(), VoteEvaluationType.LIKE);
+
+            // then
+            assertThat(findCreatedAt()).isEqualTo(createdAt);
+        }
+
+        @Test
+        void 삭제된_투표의_평가는_타입을_바꾸지_않는다() {
+            // given
+            voteEvaluationWriteRepository.insert(member.getId(), vote.getId(), VoteEvaluationType.DISLIKE);
+            vote.delete();
+            em.flush();
+
+            // when
+            final boolean changed = voteEvaluationWriteRepository.changeType(member.getId(), vote.getId(), VoteEvaluationType.LIKE);
+
+            // then
+            Assertions.assertAll(
+                    () -> assertThat(changed).isFalse(),
+                    () -> assertThat(findEvaluationType()).isEqualTo("DISLIKE")
+            );
+        }
+
+        @Test
+        void 삭제된_투표는_평가하지_않는다() {
+            // given
+            vote.delete();
+            em.flush();
+
+            // when
+            final boolean inserted = voteEvaluationWriteRepository.insert(member.getId(), vote.getId(), VoteEvaluationType.LIKE);
+
+            // then
+            Assertions.assertAll(
+                    () -> assertThat(inserted).isFalse(),
+                    () -> assertThat(countEvaluations()).isZero()
+            );
+        }
+    }
+
+    @Nested
+    class 투표_평가_취소_테스트 {
+
+        @Test
+        void 삭제한_평가의_타입을_반환한다() {
+            // given
+            voteEvaluationWriteRepository.insert(member.getId(), vote.getId(), VoteEvaluationType.DISLIKE);
+
+            // when & then
+            assertThat(voteEvaluationWriteRepository.delete(member.getId(), vote.getId())).contains(VoteEvaluationType.DISLIKE);
+            assertThat(voteEvaluationWriteRepository.delete(member.getId(), vote.getId())).isEmpty();
+        }
+    }
+
+    private String findEvaluationType() {
+        return jdbcTemplate.queryForObject("select vote_evaluation_type from vote_evaluation where evaluator_id = ? and vote_id = ?",
+                String.class, member.getId(), vote.getId());
+    }
+
+    private LocalDateTime findCreatedAt() {
+        return jdbcTemplate.queryForObject("select created_at from vote_evaluation where evaluator_id = ? and vote_id = ?",
+                LocalDateTime.class, member.getId(), vote.getId());
+    }
+
+    private Integer countEvaluations() {
+        return jdbcTemplate.queryForObject("select count(*) from vote_evaluation", Integer.class);
+    }
+}
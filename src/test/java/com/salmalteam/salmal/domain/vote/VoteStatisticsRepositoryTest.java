@@ -0,0 +1,74 @@
+package com.salmalteam.salmal.domain.vote;
+
+import com.salmalteam.salmal.domain.member.Member;
+import com.salmalteam.salmal.domain.member.MemberRepository;
+import com.salmalteam.salmal.infra.vote.VoteStatisticsRepositoryImpl;
+import com.salmalteam.salmal.support.RepositoryTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VoteStatisticsRepositoryTest extends RepositoryTest {
+
+    @Autowired
+    VoteRepository voteRepository;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    EntityManager em;
+
+    VoteStatisticsRepository voteStatisticsRepository;
+
+    @BeforeEach
+    void setUp() {
+        voteStatisticsRepository = new VoteStatisticsRepositoryImpl(jdbcTemplate);
+    }
+
+    @Test
+    void 여러_투표의_평가_증감량을_한번에_반영하고_비율을_다시_계산한다() {
+        // given
+        final Member member = Member.of("pro", "닉네임1", "kakao", true);
+        final Vote voteA = Vote.of("imageUrl", member);
+        final Vote voteB = Vote.of("imageUrl", member);
+        memberRepository.save(member);
+        voteRepository.save(voteA);
+        voteRepository.save(voteB);
+        em.flush();
+
+        // when
+        voteStatisticsRepository.updateEvaluationStatistics(List.of(
+                VoteEvaluationCountDelta.of(voteA.getId(), 2, 1),
+                VoteEvaluationCountDelta.of(voteB.getId(), 1, 0)
+        ));
+        voteStatisticsRepository.updateEvaluationStatistics(List.of(
+                VoteEvaluationCountDelta.of(voteB.getId(), -1, 0)
+        ));
+        em.clear();
+
+        // then
+        final Vote findVoteA = voteRepository.findById(voteA.getId()).orElseThrow();
+        final Vote findVoteB = voteRepository.findById(voteB.getId()).orElseThrow();
+        Assertions.assertAll(
+                () -> assertThat(findVoteA.getEvaluationCount()).isEqualTo(3),
+                () -> assertThat(findVoteA.getLikeCount()).isEqualTo(2),
+                () -> assertThat(findVoteA.getDislikeCount()).isEqualTo(1),
+                () -> assertThat(findVoteA.getLikeRatio()).isEqualByComparingTo(BigDecimal.valueOf(0.67)),
+                () -> assertThat(findVoteA.getDislikeRatio()).isEqualByComparingTo(BigDecimal.valueOf(0.33)),
+                () -> assertThat(findVoteB.getEvaluationCount()).isEqualTo(0),
+                () -> assertThat(findVoteB.getLikeRatio()).isEqualByComparingTo(BigDecimal.ZERO)
+        );
+    }
+}
@@ -0,0 +1,158 @@
+package com.salmalteam.salmal.infra.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicationRoutingDataSourceTest {
+
+    private static final String LAG_QUERY = "select lag_seconds from replica_lag";
+
+    DataSource primary;
+    DataSource replicaA;
+    DataSource replicaB;
+    AtomicLong currentMemberId;
+
+    @BeforeEach
+    void setUp() {
+        primary = createDatabase("primary");
+        replicaA = createDatabase("replica-a");
+        replicaB = createDatabase("replica-b");
+        currentMemberId = new AtomicLong();
+    }
+
+    @Nested
+    class 커넥션_라우팅_테스트 {
+
+        @Test
+        void 읽기_전용_트랜잭션은_레플리카에서_조회한다() {
+            // given
+            final Routing routing = new Routing(List.of(replicaA), ReadYourWritesWindow.disabled());
+
+            // when & then
+            assertThat(routing.read()).isEqualTo("replica-a");
+        }
+
+        @Test
+        void 쓰기_트랜잭션은_프라이머리를_사용한다() {
+            // given
+            final Routing routing = new Routing(List.of(replicaA), ReadYourWritesWindow.disabled());
+
+            // when & then
+            assertThat(routing.write()).isEqualTo("primary");
+        }
+
+        @Test
+        void 레플리카가_여러_개면_번갈아_사용한다() {
+            // given
+            final Routing routing = new Routing(List.of(replicaA, replicaB), ReadYourWritesWindow.disabled());
+
+            // when
+            final Set<String> names = new HashSet<>();
+            for (int i = 0; i < 4; i++) {
+                names.add(routing.read());
+            }
+
+            // then
+            assertThat(names).containsExactlyInAnyOrder("replica-a", "replica-b");
+        }
+
+        @Test
+        void 복제_지연이_허용_범위를_넘은_레플리카는_제외한다() {
+            // given
+            new JdbcTemplate(replicaA).update("update replica_lag set lag_seconds = 10");
+            final Routing routing = new Routing(List.of(replicaA, replicaB), ReadYourWritesWindow.disabled());
+
+            // when
+            routing.dataSource.checkReplicas();
+
+            // then
+            assertThat(List.of(routing.read(), routing.read(), routing.read())).containsOnly("replica-b");
+        }
+
+        @Test
+        void 사용할_수_있는_레플리카가_없으면_프라이머리에서_조회한다() {
+            // given
+            final DriverManagerDataSource unreachable = new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";IFEXISTS=TRUE", "sa", "");
+            final Routing routing = new Routing(List.of(unreachable), ReadYourWritesWindow.disabled());
+
+            // when & then
+            assertThat(routing.read()).isEqualTo("primary");
+        }
+
+        @Test
+        void 쓰기_직후의_회원은_기간_동안_프라이머리에서_조회한다() {
+            // given
+            final AtomicLong clock = new AtomicLong();
+            final Routing routing = new Routing(List.of(replicaA), new ReadYourWritesWindow(1_000, clock::get));
+            currentMemberId.set(1L);
+            routing.write();
+
+            // when
+            final String writer = routing.read();
+            currentMemberId.set(2L);
+            final String otherMember = routing.read();
+            currentMemberId.set(1L);
+            clock.set(1_000);
+            final String writerAfterWindow = routing.read();
+
+            // then
+            assertThat(List.of(writer, otherMember, writerAfterWindow)).containsExactly("primary", "replica-a", "replica-a");
+        }
+    }
+
+    private class Routing {
+
+        private final ReplicationRoutingDataSource dataSource;
+        private final JdbcTemplate jdbcTemplate;
+        private final TransactionTemplate readOnlyTransaction;
+        private final TransactionTemplate writeTransaction;
+
+        private Routing(final List<DataSource> replicas, final ReadYourWritesWindow readYourWritesWindow) {
+            this.dataSource = new ReplicationRoutingDataSource(primary, replicas, LAG_QUERY, 5_000, readYourWritesWindow,
+                    () -> currentMemberId.get() == 0 ? null : currentMemberId.get());
+            final LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(dataSource);
+            final DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(proxy);
+            this.jdbcTemplate = new JdbcTemplate(proxy);
+            this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+            this.readOnlyTransaction.setReadOnly(true);
+            this.writeTransaction = new TransactionTemplate(transactionManager);
+        }
+
+        private String read() {
+            return readOnlyTransaction.execute(status -> jdbcTemplate.queryForObject("select name from node", String.class));
+        }
+
+        private String write() {
+            return writeTransaction.execute(status -> {
+                jdbcTemplate.update("update node set written = written + 1");
+                return jdbcTemplate.queryForObject("select name from node", String.class);
+            });
+        }
+    }
+
+    private static DataSource createDatabase(final String name) {
+        final DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table node (name varchar(20), written int)");
+        jdbcTemplate.update("insert into node values (?, 0)", name);
+        jdbcTemplate.execute("create table replica_lag (lag_seconds bigint)");
+        jdbcTemplate.update("insert into replica_lag values (0)");
+        return dataSource;
+    }
+}
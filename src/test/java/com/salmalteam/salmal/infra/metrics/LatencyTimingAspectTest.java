@@ -0,0 +1,90 @@
+package com.salmalteam.salmal.infra.metrics;
+
+import com.salmalteam.salmal.application.ImageUploader;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LatencyTimingAspectTest {
+
+    SimpleMeterRegistry meterRegistry;
+    LatencyTimingAspect latencyTimingAspect;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        meterRegistry.config().meterFilter(new IdTagValueFilter());
+        final StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        latencyTimingAspect = new LatencyTimingAspect(beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    @Nested
+    class 지연_시간_기록_테스트 {
+
+        @Test
+        void 클래스와_메서드_이름으로_지연_시간을_기록한다() {
+            // given
+            final ImageUploader imageUploader = proxy(imageFile -> "https://bucket/vote/1.jpg");
+
+            // when
+            imageUploader.uploadImage(null);
+
+            // then
+            final Timer timer = meterRegistry.get("salmal.external")
+                    .tag("method", "uploadImage")
+                    .tag("exception", "none")
+                    .timer();
+            Assertions.assertAll(
+                    () -> assertThat(timer.count()).isEqualTo(1),
+                    () -> assertThat(timer.getId().getTags()).extracting("key")
+                            .containsExactlyInAnyOrder("class", "method", "exception")
+            );
+        }
+
+        @Test
+        void 예외가_발생하면_예외_이름을_태그로_남긴다() {
+            // given
+            final ImageUploader imageUploader = proxy(imageFile -> {
+                throw new IllegalStateException();
+            });
+
+            // when
+            assertThatThrownBy(() -> imageUploader.uploadImage(null)).isInstanceOf(IllegalStateException.class);
+
+            // then
+            assertThat(meterRegistry.get("salmal.external").tag("exception", "IllegalStateException").timer().count())
+                    .isEqualTo(1);
+        }
+    }
+
+    @Nested
+    class 태그_값_필터_테스트 {
+
+        @Test
+        void ID_형태의_태그_값은_가린다() {
+            // when
+            meterRegistry.counter("vote.views", "memberId", "12345", "type", "LIKE").increment();
+
+            // then
+            assertThat(meterRegistry.get("vote.views").counter().getId().getTag("memberId")).isEqualTo(IdTagValueFilter.MASKED_VALUE);
+            assertThat(meterRegistry.get("vote.views").counter().getId().getTag("type")).isEqualTo("LIKE");
+        }
+    }
+
+    private ImageUploader proxy(final ImageUploader target) {
+        final AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.addInterface(ImageUploader.class);
+        proxyFactory.addAspect(latencyTimingAspect);
+        return proxyFactory.getProxy();
+    }
+}
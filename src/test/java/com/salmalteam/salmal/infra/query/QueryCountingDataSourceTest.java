@@ -0,0 +1,81 @@
+package com.salmalteam.salmal.infra.query;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryCountingDataSourceTest {
+
+    JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new QueryCountingDataSource(
+                new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "")));
+        jdbcTemplate.execute("create table comment_like (id bigint, review_id bigint)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        QueryCounter.stop();
+    }
+
+    @Nested
+    class SQL_기록_테스트 {
+
+        @Test
+        void 범위_안에서_실행된_SQL_문_수와_실행_시간을_기록한다() {
+            // given
+            final QueryStatistics statistics = QueryCounter.start();
+
+            // when
+            jdbcTemplate.update("insert into comment_like values (?, ?)", 1L, 1L);
+            jdbcTemplate.queryForObject("select count(*) from comment_like", Integer.class);
+
+            // then
+            Assertions.assertAll(
+                    () -> assertThat(statistics.getStatementCount()).isEqualTo(2),
+                    () -> assertThat(statistics.getJdbcTimeNanos()).isPositive()
+            );
+        }
+
+        @Test
+        void 바인딩_값만_다른_SQL_은_같은_SQL_로_센다() {
+            // given
+            final QueryStatistics statistics = QueryCounter.start();
+
+            // when
+            for (long reviewId = 1; reviewId <= 5; reviewId++) {
+                jdbcTemplate.queryForList("select id from comment_like where review_id = " + reviewId);
+                jdbcTemplate.queryForList("select id from comment_like where review_id in (" + reviewId + ", " + (reviewId + 1) + ")");
+            }
+            jdbcTemplate.queryForList("select id from comment_like where id = ?", 1L);
+
+            // then
+            assertThat(statistics.getRepeatedStatements(5)).containsOnlyKeys(
+                    "select id from comment_like where review_id = ?",
+                    "select id from comment_like where review_id in (?)"
+            );
+        }
+
+        @Test
+        void 범위_밖에서_실행된_SQL_은_기록하지_않는다() {
+            // given
+            jdbcTemplate.queryForObject("select count(*) from comment_like", Integer.class);
+
+            // when
+            final QueryStatistics statistics = QueryCounter.start();
+
+            // then
+            assertThat(statistics.getStatementCount()).isZero();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.salmalteam.salmal.presentation.comment;
 
+import com.salmalteam.salmal.application.KeysetChunkReader;
 import com.salmalteam.salmal.dto.request.comment.CommentReplyCreateRequest;
 import com.salmalteam.salmal.dto.request.vote.VoteCommentUpdateRequest;
 import com.salmalteam.salmal.dto.response.comment.ReplyPageResponse;
@@ -11,7 +12,9 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders;
 import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
 import java.nio.charset.StandardCharsets;
@@ -354,15 +357,20 @@ class CommentControllerTest extends PresentationTest {
             final ReplyResponse replyResponse2 = new ReplyResponse(12L, 22L, "소나무", "imageUrl", false, 13, "인정합니다!", LocalDateTime.now(), LocalDateTime.now());
             final ReplyResponse replyResponse3 = new ReplyResponse(13L, 53L, "버드나무", "imageUrl", true, 20, "인정합니다!", LocalDateTime.now(), LocalDateTime.now());
 
-            given(commentService.searchAllReplies( any(), any())).willReturn(List.of(replyResponse1, replyResponse2, replyResponse3));
+            given(commentService.searchAllReplies( any(), any())).willReturn(KeysetChunkReader.of(
+                    (cursorId, size) -> List.of(replyResponse1, replyResponse2, replyResponse3), ReplyResponse::getId));
             mockingForAuthorization();
 
             // when
-            final ResultActions resultActions = mockMvc.perform(RestDocumentationRequestBuilders.get(BASE_URL + URL, commentId)
+            final MvcResult mvcResult = mockMvc.perform(RestDocumentationRequestBuilders.get(BASE_URL + URL, commentId)
                             .header(HttpHeaders.AUTHORIZATION, ACCESS_TOKEN)
                             .characterEncoding(StandardCharsets.UTF_8)
                             .contentType(MediaType.APPLICATION_JSON))
-                    .andExpect(MockMvcResultMatchers.status().isOk());
+                    .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                    .andReturn();
+            final ResultActions resultActions = mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(mvcResult))
+                    .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(3));
 
             // then
             resultActions.andDo(restDocs.document(
@@ -48,9 +48,9 @@ class MemberControllerTest extends PresentationTest {
         void 마이페이지_조회_성공() throws Exception {
             // given
             final Long memberId = 1L;
-            final MyPageResponse myPageResponse = new MyPageResponse(1L, "imageUrl", "사과나무", "안녕하세요!", 11, 8, false);
+            final MyPageResponse myPageResponse = new MyPageResponse(1L, "imageUrl", "사과나무", "안녕하세요!", 11, 8, 3, 20, 5, 12, false);
 
-            given(memberService.findMyPage(eq(memberId))).willReturn(myPageResponse);
+            given(memberService.findMyPage(any(), eq(memberId))).willReturn(myPageResponse);
             mockingForAuthorization();
 
             // when
@@ -75,6 +75,10 @@ class MemberControllerTest extends PresentationTest {
                             fieldWithPath("introduction").type(JsonFieldType.STRING).description("한 줄 소개"),
                             fieldWithPath("likeCount").type(JsonFieldType.NUMBER).description("총 받은 좋아요 수"),
                             fieldWithPath("disLikeCount").type(JsonFieldType.NUMBER).description("총 받은 싫어요 수"),
+                            fieldWithPath("voteCount").type(JsonFieldType.NUMBER).description("작성한 투표 수"),
+                            fieldWithPath("evaluationCount").type(JsonFieldType.NUMBER).description("평가한 투표 수"),
+                            fieldWithPath("bookmarkCount").type(JsonFieldType.NUMBER).description("북마크한 투표 수"),
+                            fieldWithPath("commentCount").type(JsonFieldType.NUMBER).description("작성한 댓글 수"),
                             fieldWithPath("blocked").type(JsonFieldType.BOOLEAN).description("차단 여부")
                     )
             ));
@@ -359,6 +363,7 @@ class MemberControllerTest extends PresentationTest {
                             responseFields(beneathPath("blockedMembers").withSubsectionId("blockedMembers"),
                                     fieldWithPath("id").type(JsonFieldType.NUMBER).description("회원 ID"),
                                     fieldWithPath("imageUrl").type(JsonFieldType.STRING).description("프로필 이미지 URL"),
+                                    subsectionWithPath("imageVariants").type(JsonFieldType.OBJECT).description("프로필 이미지 축소본 URL (small: 160px, medium: 480px, large: 1080px)"),
                                     fieldWithPath("nickName").type(JsonFieldType.STRING).description("닉네임"),
                                     fieldWithPath("blockedDate").type(JsonFieldType.STRING).description("차단일")
                             )
@@ -427,6 +432,7 @@ class MemberControllerTest extends PresentationTest {
                             responseFields(beneathPath("votes").withSubsectionId("votes"),
                                     fieldWithPath("id").type(JsonFieldType.NUMBER).description("투표 ID"),
                                     fieldWithPath("imageUrl").type(JsonFieldType.STRING).description("투표 이미지 URL"),
+                                    subsectionWithPath("imageVariants").type(JsonFieldType.OBJECT).description("투표 이미지 축소본 URL (small: 160px, medium: 480px, large: 1080px)"),
                                     fieldWithPath("createdDate").type(JsonFieldType.STRING).description("생성일")
                             )
                     )
@@ -461,8 +467,8 @@ class MemberControllerTest extends PresentationTest {
 
             mockingForAuthorization();
 
-            MemberEvaluationVoteResponse memberEvaluationVoteResponse1 = new MemberEvaluationVoteResponse(4L, "imageUrl", LocalDateTime.now());
-            MemberEvaluationVoteResponse memberEvaluationVoteResponse2 = new MemberEvaluationVoteResponse(2L, "imageUrl", LocalDateTime.now());
+            MemberEvaluationVoteResponse memberEvaluationVoteResponse1 = new MemberEvaluationVoteResponse(4L, "imageUrl", LocalDateTime.now(), 12L);
+            MemberEvaluationVoteResponse memberEvaluationVoteResponse2 = new MemberEvaluationVoteResponse(2L, "imageUrl", LocalDateTime.now(), 11L);
 
             MemberEvaluationVotePageResponse memberEvaluationVotePageResponse = MemberEvaluationVotePageResponse.of(true, List.of(memberEvaluationVoteResponse1, memberEvaluationVoteResponse2));
             given(memberService.searchMemberEvaluatedVotes(any(), any(), any())).willReturn(memberEvaluationVotePageResponse);
@@ -485,7 +491,7 @@ class MemberControllerTest extends PresentationTest {
                             parameterWithName("member-id").description("평가 목록을 조회할 회원 ID")
                     ),
                     requestParameters(
-                            parameterWithName("cursor-id").optional().description("이전 마지막 조회 결과 투표 ID (첫 페이지 조회 시 입력 X)"),
+                            parameterWithName("cursor-id").optional().description("이전 마지막 조회 결과 활동 ID(activityId) (첫 페이지 조회 시 입력 X)"),
                             parameterWithName("size").optional().description("검색할 ROW 수")
                     ),
                     responseFields(
@@ -496,7 +502,9 @@ class MemberControllerTest extends PresentationTest {
                             responseFields(beneathPath("votes").withSubsectionId("votes"),
                                     fieldWithPath("id").type(JsonFieldType.NUMBER).description("투표 ID"),
                                     fieldWithPath("imageUrl").type(JsonFieldType.STRING).description("투표 이미지 URL"),
-                                    fieldWithPath("createdDate").type(JsonFieldType.STRING).description("평가 생성일")
+                                    subsectionWithPath("imageVariants").type(JsonFieldType.OBJECT).description("투표 이미지 축소본 URL (small: 160px, medium: 480px, large: 1080px)"),
+                                    fieldWithPath("createdDate").type(JsonFieldType.STRING).description("평가 생성일"),
+                                    fieldWithPath("activityId").type(JsonFieldType.NUMBER).description("평가 활동 ID (다음 페이지 조회 시 cursor-id 로 사용)")
                             )
                     )
             );
@@ -518,8 +526,8 @@ class MemberControllerTest extends PresentationTest {
 
             mockingForAuthorization();
 
-            MemberBookmarkVoteResponse memberBookmarkVoteResponse1 = new MemberBookmarkVoteResponse(40L, "imageUrl", LocalDateTime.now());
-            MemberBookmarkVoteResponse memberBookmarkVoteResponse2 = new MemberBookmarkVoteResponse(24L, "imageUrl", LocalDateTime.now());
+            MemberBookmarkVoteResponse memberBookmarkVoteResponse1 = new MemberBookmarkVoteResponse(40L, "imageUrl", LocalDateTime.now(), 12L);
+            MemberBookmarkVoteResponse memberBookmarkVoteResponse2 = new MemberBookmarkVoteResponse(24L, "imageUrl", LocalDateTime.now(), 11L);
 
             MemberBookmarkVotePageResponse memberBookmarkVotePageResponse = MemberBookmarkVotePageResponse.of(true, List.of(memberBookmarkVoteResponse1, memberBookmarkVoteResponse2));
             given(memberService.searchMemberBookmarkedVotes(any(), any(), any())).willReturn(memberBookmarkVotePageResponse);
@@ -542,7 +550,7 @@ class MemberControllerTest extends PresentationTest {
                             parameterWithName("member-id").description("북마크 목록을 조회할 회원 ID")
                     ),
                     requestParameters(
-                            parameterWithName("cursor-id").optional().description("이전 마지막 조회 결과 투표 ID (첫 페이지 조회 시 입력 X)"),
+                            parameterWithName("cursor-id").optional().description("이전 마지막 조회 결과 활동 ID(activityId) (첫 페이지 조회 시 입력 X)"),
                             parameterWithName("size").optional().description("검색할 ROW 수")
                     ),
                     responseFields(
@@ -553,7 +561,9 @@ class MemberControllerTest extends PresentationTest {
                             responseFields(beneathPath("votes").withSubsectionId("votes"),
                                     fieldWithPath("id").type(JsonFieldType.NUMBER).description("투표 ID"),
                                     fieldWithPath("imageUrl").type(JsonFieldType.STRING).description("투표 이미지 URL"),
-                                    fieldWithPath("createdDate").type(JsonFieldType.STRING).description("북마크 생성일")
+                                    subsectionWithPath("imageVariants").type(JsonFieldType.OBJECT).description("투표 이미지 축소본 URL (small: 160px, medium: 480px, large: 1080px)"),
+                                    fieldWithPath("createdDate").type(JsonFieldType.STRING).description("북마크 생성일"),
+                                    fieldWithPath("activityId").type(JsonFieldType.NUMBER).description("북마크 활동 ID (다음 페이지 조회 시 cursor-id 로 사용)")
                             )
                     )
             );
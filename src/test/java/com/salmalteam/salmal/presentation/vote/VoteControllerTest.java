@@ -1,5 +1,6 @@
 package com.salmalteam.salmal.presentation.vote;
 
+import com.salmalteam.salmal.application.KeysetChunkReader;
 import com.salmalteam.salmal.dto.request.vote.VoteCommentCreateRequest;
 import com.salmalteam.salmal.dto.request.vote.VoteEvaluateRequest;
 import com.salmalteam.salmal.dto.response.comment.CommentPageResponse;
@@ -16,7 +17,9 @@ import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders;
 import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
 import java.io.FileInputStream;
@@ -445,8 +448,10 @@ class VoteControllerTest extends PresentationTest {
                             fieldWithPath("id").type(JsonFieldType.NUMBER).description("투표 ID"),
                             fieldWithPath("memberId").type(JsonFieldType.NUMBER).description("투표 작성자 ID"),
                             fieldWithPath("imageUrl").type(JsonFieldType.STRING).description("투표 이미지 URL"),
+                            subsectionWithPath("imageVariants").type(JsonFieldType.OBJECT).description("투표 이미지 축소본 URL (small: 160px, medium: 480px, large: 1080px)"),
                             fieldWithPath("nickName").type(JsonFieldType.STRING).description("투표 작성자 닉네임"),
                             fieldWithPath("memberImageUrl").type(JsonFieldType.STRING).description("투표 작성자 이미지 URL"),
+                            subsectionWithPath("memberImageVariants").type(JsonFieldType.OBJECT).description("투표 작성자 이미지 축소본 URL (small: 160px, medium: 480px, large: 1080px)"),
                             fieldWithPath("commentCount").type(JsonFieldType.NUMBER).description("댓글 개수"),
                             fieldWithPath("likeCount").type(JsonFieldType.NUMBER).description("좋아요 개수"),
                             fieldWithPath("disLikeCount").type(JsonFieldType.NUMBER).description("싫어요 개수"),
@@ -514,7 +519,7 @@ class VoteControllerTest extends PresentationTest {
                             parameterWithName("cursorId").optional().description("이전 마지막 검색 결과 투표 ID (첫 페이지 조회 시 입력 X)"),
                             parameterWithName("cursorLikes").optional().description("이전 마지막 검색 결과 좋아요 개수 (첫 페이지 조회 시 입력 X)"),
                             parameterWithName("size").optional().description("검색할 ROW 수"),
-                            parameterWithName("searchType").description("검색 타입 (BEST, HOME)")
+                            parameterWithName("searchType").description("검색 타입 (BEST, HOME, TRENDING)")
                     ),
                     responseFields(
                             fieldWithPath("hasNext").type(JsonFieldType.BOOLEAN).description("다음 페이지 존재 여부 "),
@@ -525,8 +530,10 @@ class VoteControllerTest extends PresentationTest {
                                     fieldWithPath("id").type(JsonFieldType.NUMBER).description("투표 ID"),
                                     fieldWithPath("memberId").type(JsonFieldType.NUMBER).description("투표 작성자 ID"),
                                     fieldWithPath("imageUrl").type(JsonFieldType.STRING).description("투표 이미지 URL"),
+                                    subsectionWithPath("imageVariants").type(JsonFieldType.OBJECT).description("투표 이미지 축소본 URL (small: 160px, medium: 480px, large: 1080px)"),
                                     fieldWithPath("nickName").type(JsonFieldType.STRING).description("투표 작성자 닉네임"),
                                     fieldWithPath("memberImageUrl").type(JsonFieldType.STRING).description("투표 작성자 이미지 URL"),
+                                    subsectionWithPath("memberImageVariants").type(JsonFieldType.OBJECT).description("투표 작성자 이미지 축소본 URL (small: 160px, medium: 480px, large: 1080px)"),
                                     fieldWithPath("commentCount").type(JsonFieldType.NUMBER).description("댓글 개수"),
                                     fieldWithPath("likeCount").type(JsonFieldType.NUMBER).description("좋아요 개수"),
                                     fieldWithPath("disLikeCount").type(JsonFieldType.NUMBER).description("싫어요 개수"),
@@ -644,16 +651,21 @@ class VoteControllerTest extends PresentationTest {
             final CommentResponse commentResponse2 = new CommentResponse(4L, 2L, "느티나무", memberImageURL, false, 31, 10, "강추 강추!", LocalDateTime.now(), LocalDateTime.now());
             final CommentResponse commentResponse3 = new CommentResponse(3L, 3L, "포도나무", memberImageURL, false, 22, 24, "좋네요", LocalDateTime.now(), LocalDateTime.now());
 
-            given(voteService.searchAllComments(any(), any())).willReturn(List.of(commentResponse1, commentResponse2, commentResponse3));
+            given(voteService.searchAllComments(any(), any())).willReturn(KeysetChunkReader.of(
+                    (cursorId, size) -> List.of(commentResponse1, commentResponse2, commentResponse3), CommentResponse::getId));
 
             mockingForAuthorization();
 
             // when
-            final ResultActions resultActions = mockMvc.perform(RestDocumentationRequestBuilders.get(BASE_URL + URL, voteId)
+            final MvcResult mvcResult = mockMvc.perform(RestDocumentationRequestBuilders.get(BASE_URL + URL, voteId)
                             .header(HttpHeaders.AUTHORIZATION, ACCESS_TOKEN)
                             .characterEncoding(StandardCharsets.UTF_8)
                             .contentType(MediaType.APPLICATION_JSON))
-                    .andExpect(MockMvcResultMatchers.status().isOk());
+                    .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                    .andReturn();
+            final ResultActions resultActions = mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(mvcResult))
+                    .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(3));
 
             // then
             resultActions.andDo(restDocs.document(
@@ -0,0 +1,108 @@
+package com.salmalteam.salmal.support;
+
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsResult;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 단일 버킷만 다루는 메모리 기반 AmazonS3
+ * 업로드, 다중 객체 삭제, 목록 조회만 지원한다.
+ */
+public class FakeAmazonS3 extends AbstractAmazonS3 {
+
+    private static final int DEFAULT_MAX_KEYS = 1000;
+
+    private final TreeMap<String, Date> objects = new TreeMap<>();
+    private final Set<String> undeletableKeys = new HashSet<>();
+    private final AtomicInteger deleteRequestCount = new AtomicInteger();
+
+    public void putObject(final String key, final Date lastModified) {
+        objects.put(key, lastModified);
+    }
+
+    public void failToDelete(final String key) {
+        undeletableKeys.add(key);
+    }
+
+    public Set<String> getKeys() {
+        return objects.keySet();
+    }
+
+    public int getDeleteRequestCount() {
+        return deleteRequestCount.get();
+    }
+
+    @Override
+    public PutObjectResult putObject(final String bucketName, final String key, final InputStream input, final ObjectMetadata metadata) {
+        objects.put(key, new Date());
+        return new PutObjectResult();
+    }
+
+    @Override
+    public DeleteObjectsResult deleteObjects(final DeleteObjectsRequest deleteObjectsRequest) {
+        deleteRequestCount.incrementAndGet();
+        final List<DeleteObjectsResult.DeletedObject> deletedObjects = new ArrayList<>();
+        final List<MultiObjectDeleteException.DeleteError> errors = new ArrayList<>();
+        for (DeleteObjectsRequest.KeyVersion keyVersion : deleteObjectsRequest.getKeys()) {
+            final String key = keyVersion.getKey();
+            if (undeletableKeys.contains(key)) {
+                final MultiObjectDeleteException.DeleteError error = new MultiObjectDeleteException.DeleteError();
+                error.setKey(key);
+                error.setCode("AccessDenied");
+                errors.add(error);
+                continue;
+            }
+            objects.remove(key);
+            final DeleteObjectsResult.DeletedObject deletedObject = new DeleteObjectsResult.DeletedObject();
+            deletedObject.setKey(key);
+            deletedObjects.add(deletedObject);
+        }
+        if (!errors.isEmpty()) {
+            throw new MultiObjectDeleteException(errors, deletedObjects);
+        }
+        return new DeleteObjectsResult(deleteObjectsRequest.getQuiet() ? List.of() : deletedObjects);
+    }
+
+    @Override
+    public ListObjectsV2Result listObjectsV2(final ListObjectsV2Request listObjectsV2Request) {
+        final String prefix = listObjectsV2Request.getPrefix() == null ? "" : listObjectsV2Request.getPrefix();
+        final int maxKeys = listObjectsV2Request.getMaxKeys() == null ? DEFAULT_MAX_KEYS : listObjectsV2Request.getMaxKeys();
+        final String continuationToken = listObjectsV2Request.getContinuationToken();
+        final Map<String, Date> candidates = continuationToken == null
+                ? objects.tailMap(prefix, true)
+                : objects.tailMap(continuationToken, false);
+
+        final ListObjectsV2Result result = new ListObjectsV2Result();
+        for (Map.Entry<String, Date> entry : candidates.entrySet()) {
+            if (!entry.getKey().startsWith(prefix)) {
+                break;
+            }
+            if (result.getObjectSummaries().size() == maxKeys) {
+                result.setTruncated(true);
+                result.setNextContinuationToken(result.getObjectSummaries().get(maxKeys - 1).getKey());
+                break;
+            }
+            final S3ObjectSummary summary = new S3ObjectSummary();
+            summary.setKey(entry.getKey());
+            summary.setLastModified(entry.getValue());
+            result.getObjectSummaries().add(summary);
+        }
+        return result;
+    }
+}
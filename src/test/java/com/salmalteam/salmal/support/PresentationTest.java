@@ -10,6 +10,7 @@ import com.salmalteam.salmal.application.member.MemberService;
 import com.salmalteam.salmal.application.vote.VoteService;
 import com.salmalteam.salmal.config.RestDocsConfig;
 import com.salmalteam.salmal.domain.auth.TokenRepository;
+import com.salmalteam.salmal.infra.auth.dto.MemberPayLoad;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -79,7 +80,7 @@ public class PresentationTest {
     }
 
     protected void mockingForAuthorization(){
-        given(tokenProvider.isValidAccessToken(any())).willReturn(true);
+        given(tokenProvider.parseAccessToken(any())).willReturn(MemberPayLoad.from(1L));
         given(tokenRepository.existsLogoutAccessTokenById(any())).willReturn(false);
     }
 }
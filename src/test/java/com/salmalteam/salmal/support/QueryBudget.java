@@ -0,0 +1,22 @@
+package com.salmalteam.salmal.support;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트 메서드 본문에서 실행되는 SQL 문 수가 value 를 넘거나,
+ * 같은 SQL 이 maxRepeat 번을 넘게 반복되면 테스트를 실패시킨다. (@BeforeEach 는 세지 않는다)
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryBudgetExtension.class)
+public @interface QueryBudget {
+
+    int value();
+
+    int maxRepeat() default 3;
+}
@@ -0,0 +1,46 @@
+package com.salmalteam.salmal.support;
+
+import com.salmalteam.salmal.infra.query.QueryCounter;
+import com.salmalteam.salmal.infra.query.QueryStatistics;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.util.Map;
+
+/**
+ * QueryCountingDataSource 로 감싼 DataSource 를 사용하는 테스트에서만 동작한다. (RepositoryTest 는 설정되어 있다)
+ */
+public class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(final ExtensionContext context) {
+        QueryCounter.start();
+    }
+
+    @Override
+    public void afterTestExecution(final ExtensionContext context) {
+        final QueryStatistics statistics = QueryCounter.stop();
+        final QueryBudget budget = findBudget(context);
+        if (statistics == null || budget == null || context.getExecutionException().isPresent()) {
+            return;
+        }
+
+        if (statistics.getStatementCount() > budget.value()) {
+            throw new AssertionError(String.format("SQL 실행 수가 허용치를 넘었습니다. budget=%d, actual=%d, statements=%s",
+                    budget.value(), statistics.getStatementCount(), statistics.getRepeatedStatements(1)));
+        }
+        final Map<String, Integer> repeated = statistics.getRepeatedStatements(budget.maxRepeat() + 1);
+        if (!repeated.isEmpty()) {
+            throw new AssertionError(String.format("같은 SQL 이 %d 번을 넘게 반복되었습니다. (N+1 의심) statements=%s",
+                    budget.maxRepeat(), repeated));
+        }
+    }
+
+    private static QueryBudget findBudget(final ExtensionContext context) {
+        return AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), QueryBudget.class)
+                .or(() -> context.getTestClass().flatMap(testClass -> AnnotationSupport.findAnnotation(testClass, QueryBudget.class)))
+                .orElse(null);
+    }
+}
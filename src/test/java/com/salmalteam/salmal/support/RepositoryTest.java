@@ -1,12 +1,13 @@
 package com.salmalteam.salmal.support;
 
 import com.salmalteam.salmal.config.JpaConfig;
+import com.salmalteam.salmal.config.QueryInspectionConfig;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
-@Import(JpaConfig.class)
+@Import({JpaConfig.class, QueryInspectionConfig.class})
 public class RepositoryTest {
 }